@@ -55,12 +55,21 @@ public class DeploymentOptionsConverter {
     if (json.getValue("isolationGroup") instanceof String) {
       obj.setIsolationGroup((String)json.getValue("isolationGroup"));
     }
+    if (json.getValue("maxWorkerExecuteTime") instanceof Number) {
+      obj.setMaxWorkerExecuteTime(((Number)json.getValue("maxWorkerExecuteTime")).longValue());
+    }
     if (json.getValue("multiThreaded") instanceof Boolean) {
       obj.setMultiThreaded((Boolean)json.getValue("multiThreaded"));
     }
     if (json.getValue("worker") instanceof Boolean) {
       obj.setWorker((Boolean)json.getValue("worker"));
     }
+    if (json.getValue("workerPoolName") instanceof String) {
+      obj.setWorkerPoolName((String)json.getValue("workerPoolName"));
+    }
+    if (json.getValue("workerPoolSize") instanceof Number) {
+      obj.setWorkerPoolSize(((Number)json.getValue("workerPoolSize")).intValue());
+    }
   }
 
   public static void toJson(DeploymentOptions obj, JsonObject json) {
@@ -86,7 +95,12 @@ public class DeploymentOptionsConverter {
     if (obj.getIsolationGroup() != null) {
       json.put("isolationGroup", obj.getIsolationGroup());
     }
+    json.put("maxWorkerExecuteTime", obj.getMaxWorkerExecuteTime());
     json.put("multiThreaded", obj.isMultiThreaded());
     json.put("worker", obj.isWorker());
+    if (obj.getWorkerPoolName() != null) {
+      json.put("workerPoolName", obj.getWorkerPoolName());
+    }
+    json.put("workerPoolSize", obj.getWorkerPoolSize());
   }
 }
\ No newline at end of file
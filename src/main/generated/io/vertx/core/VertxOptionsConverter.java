@@ -30,6 +30,15 @@ public class VertxOptionsConverter {
     if (json.getValue("blockedThreadCheckInterval") instanceof Number) {
       obj.setBlockedThreadCheckInterval(((Number)json.getValue("blockedThreadCheckInterval")).longValue());
     }
+    if (json.getValue("blockedThreadSamplingInterval") instanceof Number) {
+      obj.setBlockedThreadSamplingInterval(((Number)json.getValue("blockedThreadSamplingInterval")).longValue());
+    }
+    if (json.getValue("clusterBinaryJson") instanceof Boolean) {
+      obj.setClusterBinaryJson((Boolean)json.getValue("clusterBinaryJson"));
+    }
+    if (json.getValue("clusterConnectionCredits") instanceof Number) {
+      obj.setClusterConnectionCredits(((Number)json.getValue("clusterConnectionCredits")).intValue());
+    }
     if (json.getValue("clusterHost") instanceof String) {
       obj.setClusterHost((String)json.getValue("clusterHost"));
     }
@@ -48,6 +57,18 @@ public class VertxOptionsConverter {
     if (json.getValue("clusterPublicPort") instanceof Number) {
       obj.setClusterPublicPort(((Number)json.getValue("clusterPublicPort")).intValue());
     }
+    if (json.getValue("clusterSubscriptionCacheSize") instanceof Number) {
+      obj.setClusterSubscriptionCacheSize(((Number)json.getValue("clusterSubscriptionCacheSize")).intValue());
+    }
+    if (json.getValue("clusterSymbolTableSize") instanceof Number) {
+      obj.setClusterSymbolTableSize(((Number)json.getValue("clusterSymbolTableSize")).intValue());
+    }
+    if (json.getValue("clusterWriteLingerBytes") instanceof Number) {
+      obj.setClusterWriteLingerBytes(((Number)json.getValue("clusterWriteLingerBytes")).intValue());
+    }
+    if (json.getValue("clusterWriteLingerTime") instanceof Number) {
+      obj.setClusterWriteLingerTime(((Number)json.getValue("clusterWriteLingerTime")).longValue());
+    }
     if (json.getValue("clustered") instanceof Boolean) {
       obj.setClustered((Boolean)json.getValue("clustered"));
     }
@@ -60,6 +81,9 @@ public class VertxOptionsConverter {
     if (json.getValue("haGroup") instanceof String) {
       obj.setHAGroup((String)json.getValue("haGroup"));
     }
+    if (json.getValue("handlerSelectionPolicy") instanceof String) {
+      obj.setHandlerSelectionPolicy(io.vertx.core.eventbus.HandlerSelectionPolicy.valueOf((String)json.getValue("handlerSelectionPolicy")));
+    }
     if (json.getValue("internalBlockingPoolSize") instanceof Number) {
       obj.setInternalBlockingPoolSize(((Number)json.getValue("internalBlockingPoolSize")).intValue());
     }
@@ -72,12 +96,24 @@ public class VertxOptionsConverter {
     if (json.getValue("metricsOptions") instanceof JsonObject) {
       obj.setMetricsOptions(new io.vertx.core.metrics.MetricsOptions((JsonObject)json.getValue("metricsOptions")));
     }
+    if (json.getValue("preferNativeTransport") instanceof Boolean) {
+      obj.setPreferNativeTransport((Boolean)json.getValue("preferNativeTransport"));
+    }
     if (json.getValue("quorumSize") instanceof Number) {
       obj.setQuorumSize(((Number)json.getValue("quorumSize")).intValue());
     }
+    if (json.getValue("timerWheelSize") instanceof Number) {
+      obj.setTimerWheelSize(((Number)json.getValue("timerWheelSize")).intValue());
+    }
+    if (json.getValue("timerWheelTick") instanceof Number) {
+      obj.setTimerWheelTick(((Number)json.getValue("timerWheelTick")).longValue());
+    }
     if (json.getValue("warningExceptionTime") instanceof Number) {
       obj.setWarningExceptionTime(((Number)json.getValue("warningExceptionTime")).longValue());
     }
+    if (json.getValue("workerBatchSize") instanceof Number) {
+      obj.setWorkerBatchSize(((Number)json.getValue("workerBatchSize")).intValue());
+    }
     if (json.getValue("workerPoolSize") instanceof Number) {
       obj.setWorkerPoolSize(((Number)json.getValue("workerPoolSize")).intValue());
     }
@@ -85,6 +121,9 @@ public class VertxOptionsConverter {
 
   public static void toJson(VertxOptions obj, JsonObject json) {
     json.put("blockedThreadCheckInterval", obj.getBlockedThreadCheckInterval());
+    json.put("blockedThreadSamplingInterval", obj.getBlockedThreadSamplingInterval());
+    json.put("clusterBinaryJson", obj.isClusterBinaryJson());
+    json.put("clusterConnectionCredits", obj.getClusterConnectionCredits());
     if (obj.getClusterHost() != null) {
       json.put("clusterHost", obj.getClusterHost());
     }
@@ -95,20 +134,31 @@ public class VertxOptionsConverter {
       json.put("clusterPublicHost", obj.getClusterPublicHost());
     }
     json.put("clusterPublicPort", obj.getClusterPublicPort());
+    json.put("clusterSubscriptionCacheSize", obj.getClusterSubscriptionCacheSize());
+    json.put("clusterSymbolTableSize", obj.getClusterSymbolTableSize());
+    json.put("clusterWriteLingerBytes", obj.getClusterWriteLingerBytes());
+    json.put("clusterWriteLingerTime", obj.getClusterWriteLingerTime());
     json.put("clustered", obj.isClustered());
     json.put("eventLoopPoolSize", obj.getEventLoopPoolSize());
     json.put("haEnabled", obj.isHAEnabled());
     if (obj.getHAGroup() != null) {
       json.put("haGroup", obj.getHAGroup());
     }
+    if (obj.getHandlerSelectionPolicy() != null) {
+      json.put("handlerSelectionPolicy", obj.getHandlerSelectionPolicy().name());
+    }
     json.put("internalBlockingPoolSize", obj.getInternalBlockingPoolSize());
     json.put("maxEventLoopExecuteTime", obj.getMaxEventLoopExecuteTime());
     json.put("maxWorkerExecuteTime", obj.getMaxWorkerExecuteTime());
     if (obj.getMetricsOptions() != null) {
       json.put("metricsOptions", obj.getMetricsOptions().toJson());
     }
+    json.put("preferNativeTransport", obj.getPreferNativeTransport());
     json.put("quorumSize", obj.getQuorumSize());
+    json.put("timerWheelSize", obj.getTimerWheelSize());
+    json.put("timerWheelTick", obj.getTimerWheelTick());
     json.put("warningExceptionTime", obj.getWarningExceptionTime());
+    json.put("workerBatchSize", obj.getWorkerBatchSize());
     json.put("workerPoolSize", obj.getWorkerPoolSize());
   }
 }
\ No newline at end of file
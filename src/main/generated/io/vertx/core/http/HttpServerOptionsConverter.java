@@ -27,9 +27,33 @@ import io.vertx.core.json.JsonArray;
 public class HttpServerOptionsConverter {
 
   public static void fromJson(JsonObject json, HttpServerOptions obj) {
+    if (json.getValue("compressionContentSizeThreshold") instanceof Number) {
+      obj.setCompressionContentSizeThreshold(((Number)json.getValue("compressionContentSizeThreshold")).intValue());
+    }
+    if (json.getValue("compressionExcludedContentTypes") instanceof JsonArray) {
+      json.getJsonArray("compressionExcludedContentTypes").forEach(item -> {
+        if (item instanceof String)
+          obj.addCompressionExcludedContentType((String)item);
+      });
+    }
+    if (json.getValue("compressionIncludedContentTypes") instanceof JsonArray) {
+      json.getJsonArray("compressionIncludedContentTypes").forEach(item -> {
+        if (item instanceof String)
+          obj.addCompressionIncludedContentType((String)item);
+      });
+    }
+    if (json.getValue("compressionLevel") instanceof Number) {
+      obj.setCompressionLevel(((Number)json.getValue("compressionLevel")).intValue());
+    }
     if (json.getValue("compressionSupported") instanceof Boolean) {
       obj.setCompressionSupported((Boolean)json.getValue("compressionSupported"));
     }
+    if (json.getValue("dateHeader") instanceof Boolean) {
+      obj.setDateHeader((Boolean)json.getValue("dateHeader"));
+    }
+    if (json.getValue("fileCacheTimeout") instanceof Number) {
+      obj.setFileCacheTimeout(((Number)json.getValue("fileCacheTimeout")).intValue());
+    }
     if (json.getValue("handle100ContinueAutomatically") instanceof Boolean) {
       obj.setHandle100ContinueAutomatically((Boolean)json.getValue("handle100ContinueAutomatically"));
     }
@@ -45,18 +69,49 @@ public class HttpServerOptionsConverter {
     if (json.getValue("maxWebsocketFrameSize") instanceof Number) {
       obj.setMaxWebsocketFrameSize(((Number)json.getValue("maxWebsocketFrameSize")).intValue());
     }
+    if (json.getValue("precompressedEncodings") instanceof JsonArray) {
+      json.getJsonArray("precompressedEncodings").forEach(item -> {
+        if (item instanceof String)
+          obj.addPrecompressedEncoding((String)item);
+      });
+    }
     if (json.getValue("websocketSubProtocols") instanceof String) {
       obj.setWebsocketSubProtocols((String)json.getValue("websocketSubProtocols"));
     }
   }
 
   public static void toJson(HttpServerOptions obj, JsonObject json) {
+    json.put("compressionContentSizeThreshold", obj.getCompressionContentSizeThreshold());
+    if (obj.getCompressionExcludedContentTypes() != null) {
+      json.put("compressionExcludedContentTypes", new JsonArray(
+          obj.getCompressionExcludedContentTypes().
+              stream().
+              map(item -> item).
+              collect(java.util.stream.Collectors.toList())));
+    }
+    if (obj.getCompressionIncludedContentTypes() != null) {
+      json.put("compressionIncludedContentTypes", new JsonArray(
+          obj.getCompressionIncludedContentTypes().
+              stream().
+              map(item -> item).
+              collect(java.util.stream.Collectors.toList())));
+    }
+    json.put("compressionLevel", obj.getCompressionLevel());
     json.put("compressionSupported", obj.isCompressionSupported());
+    json.put("dateHeader", obj.isDateHeader());
+    json.put("fileCacheTimeout", obj.getFileCacheTimeout());
     json.put("handle100ContinueAutomatically", obj.isHandle100ContinueAutomatically());
     json.put("maxChunkSize", obj.getMaxChunkSize());
     json.put("maxHeaderSize", obj.getMaxHeaderSize());
     json.put("maxInitialLineLength", obj.getMaxInitialLineLength());
     json.put("maxWebsocketFrameSize", obj.getMaxWebsocketFrameSize());
+    if (obj.getPrecompressedEncodings() != null) {
+      json.put("precompressedEncodings", new JsonArray(
+          obj.getPrecompressedEncodings().
+              stream().
+              map(item -> item).
+              collect(java.util.stream.Collectors.toList())));
+    }
     if (obj.getWebsocketSubProtocols() != null) {
       json.put("websocketSubProtocols", obj.getWebsocketSubProtocols());
     }
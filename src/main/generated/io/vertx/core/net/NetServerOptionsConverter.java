@@ -36,6 +36,9 @@ public class NetServerOptionsConverter {
     if (json.getValue("clientAuthRequired") instanceof Boolean) {
       obj.setClientAuthRequired((Boolean)json.getValue("clientAuthRequired"));
     }
+    if (json.getValue("eventLoopBalancingPolicy") instanceof String) {
+      obj.setEventLoopBalancingPolicy(io.vertx.core.net.EventLoopBalancingPolicy.valueOf((String)json.getValue("eventLoopBalancingPolicy")));
+    }
     if (json.getValue("host") instanceof String) {
       obj.setHost((String)json.getValue("host"));
     }
@@ -50,6 +53,9 @@ public class NetServerOptionsConverter {
       json.put("clientAuth", obj.getClientAuth().name());
     }
     json.put("clientAuthRequired", obj.isClientAuthRequired());
+    if (obj.getEventLoopBalancingPolicy() != null) {
+      json.put("eventLoopBalancingPolicy", obj.getEventLoopBalancingPolicy().name());
+    }
     if (obj.getHost() != null) {
       json.put("host", obj.getHost());
     }
@@ -69,6 +69,12 @@ public class TCPSSLOptionsConverter {
     if (json.getValue("ssl") instanceof Boolean) {
       obj.setSsl((Boolean)json.getValue("ssl"));
     }
+    if (json.getValue("tcpCork") instanceof Boolean) {
+      obj.setTcpCork((Boolean)json.getValue("tcpCork"));
+    }
+    if (json.getValue("tcpFastOpen") instanceof Boolean) {
+      obj.setTcpFastOpen((Boolean)json.getValue("tcpFastOpen"));
+    }
     if (json.getValue("tcpKeepAlive") instanceof Boolean) {
       obj.setTcpKeepAlive((Boolean)json.getValue("tcpKeepAlive"));
     }
@@ -108,6 +114,8 @@ public class TCPSSLOptionsConverter {
     json.put("idleTimeout", obj.getIdleTimeout());
     json.put("soLinger", obj.getSoLinger());
     json.put("ssl", obj.isSsl());
+    json.put("tcpCork", obj.isTcpCork());
+    json.put("tcpFastOpen", obj.isTcpFastOpen());
     json.put("tcpKeepAlive", obj.isTcpKeepAlive());
     json.put("tcpNoDelay", obj.isTcpNoDelay());
     json.put("usePooledBuffers", obj.isUsePooledBuffers());
@@ -21,6 +21,7 @@ import io.vertx.codegen.annotations.Nullable;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.impl.ContextImpl;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
 
 import java.util.List;
 
@@ -130,6 +131,24 @@ public interface Context {
    */
   <T> void executeBlocking(Handler<Future<T>> blockingCodeHandler, Handler<AsyncResult<T>> resultHandler);
 
+  /**
+   * Safely execute a sequence of blocking actions on the worker pool, at most {@code maxConcurrency} actions are executed
+   * at the same time.
+   * <p>
+   * The actions are pulled from {@code blockingCodeHandlers} when the stream handler is set and the results are
+   * delivered to the returned stream on the context as the actions complete, a failed action is delivered to the
+   * stream exception handler. Pausing the stream buffers the completed results and stops starting new actions once
+   * {@code maxConcurrency} results are buffered, so a slow consumer bounds the work done on its behalf. The end
+   * handler is called when all the actions have completed and their results have been delivered.
+   *
+   * @param blockingCodeHandlers  the handlers representing the blocking code to run
+   * @param maxConcurrency  the maximum number of actions executed or with a result waiting to be delivered
+   * @param <T> the type of the results
+   * @return the stream of results
+   */
+  @GenIgnore
+  <T> ReadStream<T> executeBlockingStream(Iterable<Handler<Future<T>>> blockingCodeHandlers, int maxConcurrency);
+
   /**
    * If the context is associated with a Verticle deployment, this returns the deployment ID of that deployment.
    *
@@ -38,6 +38,9 @@ public class DeploymentOptions {
   public static final String DEFAULT_ISOLATION_GROUP = null;
   public static final boolean DEFAULT_HA = false;
   public static final int DEFAULT_INSTANCES = 1;
+  public static final String DEFAULT_WORKER_POOL_NAME = null;
+  public static final int DEFAULT_WORKER_POOL_SIZE = VertxOptions.DEFAULT_WORKER_POOL_SIZE;
+  public static final long DEFAULT_MAX_WORKER_EXECUTE_TIME = VertxOptions.DEFAULT_MAX_WORKER_EXECUTE_TIME;
 
   private JsonObject config;
   private boolean worker;
@@ -47,6 +50,9 @@ public class DeploymentOptions {
   private List<String> extraClasspath;
   private int instances;
   private List<String> isolatedClasses;
+  private String workerPoolName;
+  private int workerPoolSize;
+  private long maxWorkerExecuteTime;
 
   /**
    * Default constructor
@@ -58,6 +64,9 @@ public class DeploymentOptions {
     this.isolationGroup = DEFAULT_ISOLATION_GROUP;
     this.ha = DEFAULT_HA;
     this.instances = DEFAULT_INSTANCES;
+    this.workerPoolName = DEFAULT_WORKER_POOL_NAME;
+    this.workerPoolSize = DEFAULT_WORKER_POOL_SIZE;
+    this.maxWorkerExecuteTime = DEFAULT_MAX_WORKER_EXECUTE_TIME;
   }
 
   /**
@@ -74,6 +83,9 @@ public class DeploymentOptions {
     this.extraClasspath = other.getExtraClasspath() == null ? null : new ArrayList<>(other.getExtraClasspath());
     this.instances = other.instances;
     this.isolatedClasses = other.getIsolatedClasses() == null ? null : new ArrayList<>(other.getIsolatedClasses());
+    this.workerPoolName = other.workerPoolName;
+    this.workerPoolSize = other.workerPoolSize;
+    this.maxWorkerExecuteTime = other.maxWorkerExecuteTime;
   }
 
   /**
@@ -106,6 +118,9 @@ public class DeploymentOptions {
     if (arrIsolated != null) {
       this.isolatedClasses = arrIsolated.getList();
     }
+    this.workerPoolName = json.getString("workerPoolName", DEFAULT_WORKER_POOL_NAME);
+    this.workerPoolSize = json.getInteger("workerPoolSize", DEFAULT_WORKER_POOL_SIZE);
+    this.maxWorkerExecuteTime = json.getLong("maxWorkerExecuteTime", DEFAULT_MAX_WORKER_EXECUTE_TIME);
   }
 
   /**
@@ -274,6 +289,83 @@ public class DeploymentOptions {
     return this;
   }
 
+  /**
+   * @return the worker pool name
+   */
+  public String getWorkerPoolName() {
+    return workerPoolName;
+  }
+
+  /**
+   * Set the worker pool name to use for this verticle. When no name is set, the Vert.x worker pool will be used,
+   * when a name is set, the verticle will use a named worker pool.
+   * <p>
+   * The named worker pool is shared with the deployments and the {@link WorkerExecutor} using the same name, it is
+   * created on first use and closed when its last user is undeployed or closed.
+   *
+   * @param workerPoolName the worker pool name
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DeploymentOptions setWorkerPoolName(String workerPoolName) {
+    this.workerPoolName = workerPoolName;
+    return this;
+  }
+
+  /**
+   * Get the maximum number of worker threads to be used by the worker pool when the verticle is deployed
+   * with a {@link #setWorkerPoolName}. When the verticle does not use a named worker pool, this option
+   * has no effect.
+   * <p>
+   * Worker threads are used for running blocking code and worker verticles.
+   *
+   * @return the maximum number of worker threads
+   */
+  public int getWorkerPoolSize() {
+    return workerPoolSize;
+  }
+
+  /**
+   * Set the maximum number of worker threads to be used by the named worker pool.
+   *
+   * @param workerPoolSize the number of threads
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DeploymentOptions setWorkerPoolSize(int workerPoolSize) {
+    if (workerPoolSize < 1) {
+      throw new IllegalArgumentException("workerPoolSize must be > 0");
+    }
+    this.workerPoolSize = workerPoolSize;
+    return this;
+  }
+
+  /**
+   * Get the value of max worker execute time, in ns.
+   * <p>
+   * Vert.x will automatically log a warning if it detects that worker threads haven't returned within this time.
+   * <p>
+   * This can be used to detect where the user is blocking a worker thread for too long. Although worker threads
+   * can be blocked longer than event loop threads, they shouldn't be blocked for long periods of time.
+   *
+   * @return The value of max worker execute time, in ns.
+   */
+  public long getMaxWorkerExecuteTime() {
+    return maxWorkerExecuteTime;
+  }
+
+  /**
+   * Sets the value of max worker execute time, in ns.
+   *
+   * @param maxWorkerExecuteTime the value of max worker execute time, in ns.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DeploymentOptions setMaxWorkerExecuteTime(long maxWorkerExecuteTime) {
+    if (maxWorkerExecuteTime < 1) {
+      throw new IllegalArgumentException("maxWorkerExecuteTime must be > 0");
+    }
+    this.maxWorkerExecuteTime = maxWorkerExecuteTime;
+    return this;
+  }
+
   /**
    * Convert this to JSON
    *
@@ -291,6 +383,9 @@ public class DeploymentOptions {
       json.put("instances", instances);
     }
     if (isolatedClasses != null) json.put("isolatedClasses", new JsonArray(isolatedClasses));
+    if (workerPoolName != null) json.put("workerPoolName", workerPoolName);
+    if (workerPoolSize != DEFAULT_WORKER_POOL_SIZE) json.put("workerPoolSize", workerPoolSize);
+    if (maxWorkerExecuteTime != DEFAULT_MAX_WORKER_EXECUTE_TIME) json.put("maxWorkerExecuteTime", maxWorkerExecuteTime);
     return json;
   }
 
@@ -305,11 +400,15 @@ public class DeploymentOptions {
     if (multiThreaded != that.multiThreaded) return false;
     if (ha != that.ha) return false;
     if (instances != that.instances) return false;
+    if (workerPoolSize != that.workerPoolSize) return false;
+    if (maxWorkerExecuteTime != that.maxWorkerExecuteTime) return false;
     if (config != null ? !config.equals(that.config) : that.config != null) return false;
     if (isolationGroup != null ? !isolationGroup.equals(that.isolationGroup) : that.isolationGroup != null)
       return false;
     if (extraClasspath != null ? !extraClasspath.equals(that.extraClasspath) : that.extraClasspath != null)
       return false;
+    if (workerPoolName != null ? !workerPoolName.equals(that.workerPoolName) : that.workerPoolName != null)
+      return false;
     return !(isolatedClasses != null ? !isolatedClasses.equals(that.isolatedClasses) : that.isolatedClasses != null);
 
   }
@@ -324,6 +423,9 @@ public class DeploymentOptions {
     result = 31 * result + (extraClasspath != null ? extraClasspath.hashCode() : 0);
     result = 31 * result + instances;
     result = 31 * result + (isolatedClasses != null ? isolatedClasses.hashCode() : 0);
+    result = 31 * result + (workerPoolName != null ? workerPoolName.hashCode() : 0);
+    result = 31 * result + workerPoolSize;
+    result = 31 * result + (int) (maxWorkerExecuteTime ^ (maxWorkerExecuteTime >>> 32));
     return result;
   }
 }
@@ -442,6 +442,12 @@ public interface Vertx extends Measured {
    */
   boolean isClustered();
 
+  /**
+   * @return whether the native transport is used
+   */
+  @CacheReturn
+  boolean isNativeTransportEnabled();
+
   /**
    * Safely execute some blocking code.
    * <p>
@@ -471,6 +477,53 @@ public interface Vertx extends Measured {
    */
   <T> void executeBlocking(Handler<Future<T>> blockingCodeHandler, Handler<AsyncResult<T>> resultHandler);
 
+  /**
+   * Safely execute a sequence of blocking actions on the worker pool, at most {@code maxConcurrency} actions are executed
+   * at the same time.
+   * <p>
+   * The actions are pulled from {@code blockingCodeHandlers} when the stream handler is set and the results are delivered
+   * to the returned stream on the original context (e.g. on the original event loop of the caller) as the actions
+   * complete, a failed action is delivered to the stream exception handler. Pausing the stream buffers the completed
+   * results and stops starting new actions once {@code maxConcurrency} results are buffered, so a slow consumer bounds
+   * the work done on its behalf. The end handler is called when all the actions have completed and their results have
+   * been delivered.
+   *
+   * @param blockingCodeHandlers  the handlers representing the blocking code to run
+   * @param maxConcurrency  the maximum number of actions executed or with a result waiting to be delivered
+   * @param <T> the type of the results
+   * @return the stream of results
+   */
+  @GenIgnore
+  <T> ReadStream<T> executeBlockingStream(Iterable<Handler<Future<T>>> blockingCodeHandlers, int maxConcurrency);
+
+  /**
+   * Like {@link #createSharedWorkerExecutor(String, int)} but with the {@link VertxOptions#setWorkerPoolSize} {@code poolSize}.
+   */
+  WorkerExecutor createSharedWorkerExecutor(String name);
+
+  /**
+   * Like {@link #createSharedWorkerExecutor(String, int, long)} but with the {@link VertxOptions#setMaxWorkerExecuteTime} {@code maxExecuteTime}.
+   */
+  WorkerExecutor createSharedWorkerExecutor(String name, int poolSize);
+
+  /**
+   * Create a named worker executor, the executor should be closed when it's not needed anymore to release
+   * resources.<p/>
+   *
+   * This method can be called mutiple times with the same {@code name}. Executors with the same name will share
+   * the same worker pool. The worker pool size and max execute time are set when the worker pool is created and
+   * won't change after.<p>
+   *
+   * The worker pool is released when all the {@link WorkerExecutor} sharing the same name are closed. An executor
+   * created from a context is closed when the context is closed, e.g. when the verticle is undeployed.
+   *
+   * @param name the name of the worker executor
+   * @param poolSize the size of the pool
+   * @param maxExecuteTime the value of max worker execute time, in ns
+   * @return the named worker executor
+   */
+  WorkerExecutor createSharedWorkerExecutor(String name, int poolSize, long maxExecuteTime);
+
   /**
    * Return the Netty EventLoopGroup used by Vert.x
    *
@@ -17,6 +17,7 @@
 package io.vertx.core;
 
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.eventbus.HandlerSelectionPolicy;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.metrics.MetricsOptions;
 import io.vertx.core.spi.cluster.ClusterManager;
@@ -111,6 +112,66 @@ public class VertxOptions {
    */
   public static final boolean DEFAULT_HA_ENABLED = false;
 
+  /**
+   * The default value of prefer native transport = false
+   */
+  public static final boolean DEFAULT_PREFER_NATIVE_TRANSPORT = false;
+
+  /**
+   * The default value of timer wheel tick = 1 ms
+   */
+  public static final long DEFAULT_TIMER_WHEEL_TICK = 1;
+
+  /**
+   * The default value of timer wheel size = 512
+   */
+  public static final int DEFAULT_TIMER_WHEEL_SIZE = 512;
+
+  /**
+   * The default value of worker batch size = 128
+   */
+  public static final int DEFAULT_WORKER_BATCH_SIZE = 128;
+
+  /**
+   * The default value of the blocked thread sampling interval = 0 (sampling disabled)
+   */
+  public static final long DEFAULT_BLOCKED_THREAD_SAMPLING_INTERVAL = 0;
+
+  /**
+   * The default value of cluster write linger time, in ms = 0 (flush each batch when it is encoded)
+   */
+  public static final long DEFAULT_CLUSTER_WRITE_LINGER_TIME = 0;
+
+  /**
+   * The default value of cluster write linger bytes = 65536
+   */
+  public static final int DEFAULT_CLUSTER_WRITE_LINGER_BYTES = 64 * 1024;
+
+  /**
+   * The default size of the cluster symbol table = 0 (disabled)
+   */
+  public static final int DEFAULT_CLUSTER_SYMBOL_TABLE_SIZE = 0;
+
+  /**
+   * The default size of the cluster subscription cache = 0 (disabled)
+   */
+  public static final int DEFAULT_CLUSTER_SUBSCRIPTION_CACHE_SIZE = 0;
+
+  /**
+   * The default value of whether the JSON bodies are sent to the cluster in the binary encoding = false
+   */
+  public static final boolean DEFAULT_CLUSTER_BINARY_JSON = false;
+
+  /**
+   * The default event bus handler selection policy = ROUND_ROBIN
+   */
+  public static final HandlerSelectionPolicy DEFAULT_HANDLER_SELECTION_POLICY = HandlerSelectionPolicy.ROUND_ROBIN;
+
+  /**
+   * The default number of cluster connection credits = 0 (disabled)
+   */
+  public static final int DEFAULT_CLUSTER_CONNECTION_CREDITS = 0;
+
   /**
    * The default value of warning exception time 5000000000 ns (5 seconds)
    * If a thread is blocked longer than this threshold, the warning log
@@ -137,6 +198,18 @@ public class VertxOptions {
   private String haGroup = DEFAULT_HA_GROUP;
   private MetricsOptions metrics = new MetricsOptions();
   private long warningExceptionTime = DEFAULT_WARNING_EXECPTION_TIME;
+  private boolean preferNativeTransport = DEFAULT_PREFER_NATIVE_TRANSPORT;
+  private long timerWheelTick = DEFAULT_TIMER_WHEEL_TICK;
+  private int timerWheelSize = DEFAULT_TIMER_WHEEL_SIZE;
+  private int workerBatchSize = DEFAULT_WORKER_BATCH_SIZE;
+  private long blockedThreadSamplingInterval = DEFAULT_BLOCKED_THREAD_SAMPLING_INTERVAL;
+  private long clusterWriteLingerTime = DEFAULT_CLUSTER_WRITE_LINGER_TIME;
+  private int clusterWriteLingerBytes = DEFAULT_CLUSTER_WRITE_LINGER_BYTES;
+  private int clusterSymbolTableSize = DEFAULT_CLUSTER_SYMBOL_TABLE_SIZE;
+  private int clusterSubscriptionCacheSize = DEFAULT_CLUSTER_SUBSCRIPTION_CACHE_SIZE;
+  private boolean clusterBinaryJson = DEFAULT_CLUSTER_BINARY_JSON;
+  private HandlerSelectionPolicy handlerSelectionPolicy = DEFAULT_HANDLER_SELECTION_POLICY;
+  private int clusterConnectionCredits = DEFAULT_CLUSTER_CONNECTION_CREDITS;
 
   /**
    * Default constructor
@@ -169,6 +242,18 @@ public class VertxOptions {
     this.haGroup = other.getHAGroup();
     this.metrics = other.getMetricsOptions() != null ? new MetricsOptions(other.getMetricsOptions()) : null;
     this.warningExceptionTime = other.warningExceptionTime;
+    this.preferNativeTransport = other.preferNativeTransport;
+    this.timerWheelTick = other.timerWheelTick;
+    this.timerWheelSize = other.timerWheelSize;
+    this.workerBatchSize = other.workerBatchSize;
+    this.blockedThreadSamplingInterval = other.blockedThreadSamplingInterval;
+    this.clusterWriteLingerTime = other.clusterWriteLingerTime;
+    this.clusterWriteLingerBytes = other.clusterWriteLingerBytes;
+    this.clusterSymbolTableSize = other.clusterSymbolTableSize;
+    this.clusterSubscriptionCacheSize = other.clusterSubscriptionCacheSize;
+    this.clusterBinaryJson = other.clusterBinaryJson;
+    this.handlerSelectionPolicy = other.handlerSelectionPolicy;
+    this.clusterConnectionCredits = other.clusterConnectionCredits;
   }
 
   /**
@@ -385,6 +470,194 @@ public class VertxOptions {
     return this;
   }
 
+  /**
+   * Get the value of cluster write linger time, in ms.
+   * <p>
+   * Messages sent to another node are encoded in batches by the event loop of the connection to that node, a
+   * batch is flushed to the connection when it is older than the linger time or when it reaches
+   * {@link #getClusterWriteLingerBytes()}. The value {@code 0} flushes each batch as soon as it is encoded.
+   *
+   * @return the value of cluster write linger time
+   */
+  public long getClusterWriteLingerTime() {
+    return clusterWriteLingerTime;
+  }
+
+  /**
+   * Set the value of cluster write linger time, in ms.
+   *
+   * @param clusterWriteLingerTime the value of cluster write linger time, in ms.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setClusterWriteLingerTime(long clusterWriteLingerTime) {
+    if (clusterWriteLingerTime < 0) {
+      throw new IllegalArgumentException("clusterWriteLingerTime must be >= 0");
+    }
+    this.clusterWriteLingerTime = clusterWriteLingerTime;
+    return this;
+  }
+
+  /**
+   * Get the value of cluster write linger bytes.
+   * <p>
+   * A batch of messages sent to another node is flushed to the connection as soon as its size reaches this
+   * value, even when it is younger than the {@link #getClusterWriteLingerTime() linger time}.
+   *
+   * @return the value of cluster write linger bytes
+   */
+  public int getClusterWriteLingerBytes() {
+    return clusterWriteLingerBytes;
+  }
+
+  /**
+   * Set the value of cluster write linger bytes.
+   *
+   * @param clusterWriteLingerBytes the value of cluster write linger bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setClusterWriteLingerBytes(int clusterWriteLingerBytes) {
+    if (clusterWriteLingerBytes < 1) {
+      throw new IllegalArgumentException("clusterWriteLingerBytes must be > 0");
+    }
+    this.clusterWriteLingerBytes = clusterWriteLingerBytes;
+    return this;
+  }
+
+  /**
+   * Get the size of the cluster symbol table.
+   * <p>
+   * When the size is greater than {@code 0}, a node negotiates a symbol table on each connection to another node:
+   * after its first use an address, a codec name or a sender host is sent as an integer instead of a string. The
+   * least recently used symbols are replaced when the table is full. The value {@code 0} disables the symbol table.
+   *
+   * @return the size of the cluster symbol table
+   */
+  public int getClusterSymbolTableSize() {
+    return clusterSymbolTableSize;
+  }
+
+  /**
+   * Set the size of the cluster symbol table.
+   *
+   * @param clusterSymbolTableSize the size of the cluster symbol table, {@code 0} to disable it
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setClusterSymbolTableSize(int clusterSymbolTableSize) {
+    if (clusterSymbolTableSize < 0) {
+      throw new IllegalArgumentException("clusterSymbolTableSize must be >= 0");
+    }
+    this.clusterSymbolTableSize = clusterSymbolTableSize;
+    return this;
+  }
+
+  /**
+   * Get the size of the cluster subscription cache.
+   * <p>
+   * When the size is greater than {@code 0} and the cluster manager notifies the subscription changes, the clustered
+   * event bus caches the cluster subscriptions of up to this number of addresses instead of looking them up for
+   * each message sent or published. The cache is invalidated by the subscription changes and the cluster membership
+   * changes. The value {@code 0} disables the cache.
+   *
+   * @return the size of the cluster subscription cache
+   */
+  public int getClusterSubscriptionCacheSize() {
+    return clusterSubscriptionCacheSize;
+  }
+
+  /**
+   * Set the size of the cluster subscription cache.
+   *
+   * @param clusterSubscriptionCacheSize the size of the cluster subscription cache, {@code 0} to disable it
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setClusterSubscriptionCacheSize(int clusterSubscriptionCacheSize) {
+    if (clusterSubscriptionCacheSize < 0) {
+      throw new IllegalArgumentException("clusterSubscriptionCacheSize must be >= 0");
+    }
+    this.clusterSubscriptionCacheSize = clusterSubscriptionCacheSize;
+    return this;
+  }
+
+  /**
+   * Whether the JSON objects and arrays sent to the other nodes of the cluster without a codec name use the compact
+   * binary encoding of the {@code jsonobject-binary} and {@code jsonarray-binary} codecs instead of JSON text.
+   * <p>
+   * All the nodes of the cluster must be able to decode the binary encoding.
+   *
+   * @return true if the binary encoding is used
+   */
+  public boolean isClusterBinaryJson() {
+    return clusterBinaryJson;
+  }
+
+  /**
+   * Set whether the JSON objects and arrays sent to the other nodes of the cluster use the binary encoding by default.
+   *
+   * @param clusterBinaryJson true to use the binary encoding
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setClusterBinaryJson(boolean clusterBinaryJson) {
+    this.clusterBinaryJson = clusterBinaryJson;
+    return this;
+  }
+
+  /**
+   * Get the policy choosing the local handler of a message sent point to point when several handlers are registered
+   * on its address.
+   *
+   * @return the handler selection policy
+   */
+  public HandlerSelectionPolicy getHandlerSelectionPolicy() {
+    return handlerSelectionPolicy;
+  }
+
+  /**
+   * Set the policy choosing the local handler of a message sent point to point when several handlers are registered
+   * on its address.
+   *
+   * @param handlerSelectionPolicy the handler selection policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setHandlerSelectionPolicy(HandlerSelectionPolicy handlerSelectionPolicy) {
+    if (handlerSelectionPolicy == null) {
+      throw new NullPointerException("handlerSelectionPolicy");
+    }
+    this.handlerSelectionPolicy = handlerSelectionPolicy;
+    return this;
+  }
+
+  /**
+   * Get the number of cluster connection credits.
+   * <p>
+   * When the value is greater than {@code 0}, a node requests flow control on each connection to another node. The
+   * receiving node grants the credits of its own setting, then grants a credit back for each message once its
+   * handlers have consumed or discarded it, so a node with paused or slow consumers stops the senders instead of
+   * buffering and dropping their messages. The messages sent without credit wait on the connection and the message
+   * producers to their address report a full write queue, beyond one window of waiting messages the messages are
+   * rejected with {@link io.vertx.core.eventbus.ReplyFailure#OVERLOADED}. The value {@code 0} disables the flow
+   * control, all the nodes of the cluster must support it when it is enabled.
+   *
+   * @return the number of cluster connection credits
+   */
+  public int getClusterConnectionCredits() {
+    return clusterConnectionCredits;
+  }
+
+  /**
+   * Set the number of cluster connection credits.
+   *
+   * @param clusterConnectionCredits the number of messages another node can send on its connection before waiting
+   *                                 for credits, {@code 0} to disable the flow control
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setClusterConnectionCredits(int clusterConnectionCredits) {
+    if (clusterConnectionCredits < 0) {
+      throw new IllegalArgumentException("clusterConnectionCredits must be >= 0");
+    }
+    this.clusterConnectionCredits = clusterConnectionCredits;
+    return this;
+  }
+
   /**
    * Get the value of blocked thread check period, in ms.
    * <p>
@@ -410,6 +683,33 @@ public class VertxOptions {
     return this;
   }
 
+  /**
+   * Get the value of blocked thread sampling interval, in ms.
+   * <p>
+   * When this value is greater than zero, the stack of an event loop thread executing for longer than its max
+   * execute time is sampled at this interval, the samples are aggregated by call site to find which handlers
+   * block the event loops most often. A value of zero disables sampling.
+   *
+   * @return the value of blocked thread sampling interval, in ms.
+   */
+  public long getBlockedThreadSamplingInterval() {
+    return blockedThreadSamplingInterval;
+  }
+
+  /**
+   * Sets the value of blocked thread sampling interval, in ms, {@code 0} disables sampling.
+   *
+   * @param blockedThreadSamplingInterval  the value of blocked thread sampling interval, in ms.
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setBlockedThreadSamplingInterval(long blockedThreadSamplingInterval) {
+    if (blockedThreadSamplingInterval < 0) {
+      throw new IllegalArgumentException("blockedThreadSamplingInterval must be >= 0");
+    }
+    this.blockedThreadSamplingInterval = blockedThreadSamplingInterval;
+    return this;
+  }
+
   /**
    * Get the value of max event loop execute time, in ns.
    * <p>
@@ -625,6 +925,111 @@ public class VertxOptions {
     return this;
   }
 
+  /**
+   * @return whether to prefer the native transport to the JDK transport
+   */
+  public boolean getPreferNativeTransport() {
+    return preferNativeTransport;
+  }
+
+  /**
+   * Set whether to prefer the native transport to the JDK transport.
+   * <p>
+   * The native transport uses the Linux epoll event loops and channels, it requires the
+   * {@code netty-transport-native-epoll} jar on the classpath. When the native transport is not available, Vert.x
+   * falls back to the JDK transport. Use {@link Vertx#isNativeTransportEnabled()} to know which transport is
+   * actually used.
+   *
+   * @param preferNativeTransport {@code true} to prefer the native transport
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setPreferNativeTransport(boolean preferNativeTransport) {
+    this.preferNativeTransport = preferNativeTransport;
+    return this;
+  }
+
+  /**
+   * Get the duration of a tick of the timer wheels, in ms.
+   *
+   * @return the timer wheel tick
+   */
+  public long getTimerWheelTick() {
+    return timerWheelTick;
+  }
+
+  /**
+   * Set the duration of a tick of the timer wheels, in ms.
+   * <p>
+   * Each event loop schedules its timers in a hashed wheel, timers fire at tick granularity, a timer never fires
+   * before its delay has elapsed. The event loop only wakes up at the tick of its next timer.
+   *
+   * @param timerWheelTick the timer wheel tick
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setTimerWheelTick(long timerWheelTick) {
+    if (timerWheelTick < 1) {
+      throw new IllegalArgumentException("timerWheelTick must be > 0");
+    }
+    this.timerWheelTick = timerWheelTick;
+    return this;
+  }
+
+  /**
+   * Get the number of buckets of the timer wheels.
+   *
+   * @return the timer wheel size
+   */
+  public int getTimerWheelSize() {
+    return timerWheelSize;
+  }
+
+  /**
+   * Set the number of buckets of the timer wheels, it is rounded up to the next power of two.
+   * <p>
+   * One rotation of a wheel covers {@code timerWheelSize * timerWheelTick} ms, timers with a longer delay
+   * share their bucket with the timers of the next rotations.
+   *
+   * @param timerWheelSize the timer wheel size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setTimerWheelSize(int timerWheelSize) {
+    if (timerWheelSize < 1) {
+      throw new IllegalArgumentException("timerWheelSize must be > 0");
+    }
+    if (timerWheelSize > 1 << 30) {
+      throw new IllegalArgumentException("timerWheelSize must be <= 2^30");
+    }
+    this.timerWheelSize = timerWheelSize;
+    return this;
+  }
+
+  /**
+   * Get the maximum number of tasks of a context run in a row by a worker or internal blocking thread.
+   *
+   * @return the worker batch size
+   */
+  public int getWorkerBatchSize() {
+    return workerBatchSize;
+  }
+
+  /**
+   * Set the maximum number of tasks of a context run in a row by a worker or internal blocking thread.
+   * <p>
+   * Tasks of a context are executed in order, once a context has run this number of tasks it yields the thread
+   * and its remaining tasks are queued behind the tasks of the other contexts sharing the pool, so a busy context
+   * cannot starve the others.
+   *
+   * @param workerBatchSize the worker batch size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setWorkerBatchSize(int workerBatchSize) {
+    if (workerBatchSize < 1) {
+      throw new IllegalArgumentException("workerBatchSize must be > 0");
+    }
+    this.workerBatchSize = workerBatchSize;
+    return this;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -646,12 +1051,24 @@ public class VertxOptions {
     if (haEnabled != that.haEnabled) return false;
     if (quorumSize != that.quorumSize) return false;
     if (warningExceptionTime != that.warningExceptionTime) return false;
+    if (preferNativeTransport != that.preferNativeTransport) return false;
+    if (timerWheelTick != that.timerWheelTick) return false;
+    if (timerWheelSize != that.timerWheelSize) return false;
+    if (workerBatchSize != that.workerBatchSize) return false;
+    if (blockedThreadSamplingInterval != that.blockedThreadSamplingInterval) return false;
+    if (clusterWriteLingerTime != that.clusterWriteLingerTime) return false;
+    if (clusterWriteLingerBytes != that.clusterWriteLingerBytes) return false;
+    if (clusterSymbolTableSize != that.clusterSymbolTableSize) return false;
+    if (clusterSubscriptionCacheSize != that.clusterSubscriptionCacheSize) return false;
+    if (clusterBinaryJson != that.clusterBinaryJson) return false;
+    if (clusterConnectionCredits != that.clusterConnectionCredits) return false;
     if (clusterHost != null ? !clusterHost.equals(that.clusterHost) : that.clusterHost != null) return false;
     if (clusterPublicHost != null ? !clusterPublicHost.equals(that.clusterPublicHost) : that.clusterPublicHost != null)
       return false;
     if (clusterManager != null ? !clusterManager.equals(that.clusterManager) : that.clusterManager != null)
       return false;
     if (haGroup != null ? !haGroup.equals(that.haGroup) : that.haGroup != null) return false;
+    if (handlerSelectionPolicy != null ? !handlerSelectionPolicy.equals(that.handlerSelectionPolicy) : that.handlerSelectionPolicy != null) return false;
     return !(metrics != null ? !metrics.equals(that.metrics) : that.metrics != null);
 
   }
@@ -677,6 +1094,18 @@ public class VertxOptions {
     result = 31 * result + (haGroup != null ? haGroup.hashCode() : 0);
     result = 31 * result + (metrics != null ? metrics.hashCode() : 0);
     result = 31 * result + (int) (warningExceptionTime ^ (warningExceptionTime >>> 32));
+    result = 31 * result + (preferNativeTransport ? 1 : 0);
+    result = 31 * result + (int) (timerWheelTick ^ (timerWheelTick >>> 32));
+    result = 31 * result + timerWheelSize;
+    result = 31 * result + workerBatchSize;
+    result = 31 * result + (int) (blockedThreadSamplingInterval ^ (blockedThreadSamplingInterval >>> 32));
+    result = 31 * result + (int) (clusterWriteLingerTime ^ (clusterWriteLingerTime >>> 32));
+    result = 31 * result + clusterWriteLingerBytes;
+    result = 31 * result + clusterSymbolTableSize;
+    result = 31 * result + clusterSubscriptionCacheSize;
+    result = 31 * result + (clusterBinaryJson ? 1 : 0);
+    result = 31 * result + (handlerSelectionPolicy != null ? handlerSelectionPolicy.hashCode() : 0);
+    result = 31 * result + clusterConnectionCredits;
     return result;
   }
 
@@ -702,6 +1131,18 @@ public class VertxOptions {
       ", haGroup='" + haGroup + '\'' +
       ", metrics=" + metrics +
       ", warningExceptionTime=" + warningExceptionTime +
+      ", preferNativeTransport=" + preferNativeTransport +
+      ", timerWheelTick=" + timerWheelTick +
+      ", timerWheelSize=" + timerWheelSize +
+      ", workerBatchSize=" + workerBatchSize +
+      ", blockedThreadSamplingInterval=" + blockedThreadSamplingInterval +
+      ", clusterWriteLingerTime=" + clusterWriteLingerTime +
+      ", clusterWriteLingerBytes=" + clusterWriteLingerBytes +
+      ", clusterSymbolTableSize=" + clusterSymbolTableSize +
+      ", clusterSubscriptionCacheSize=" + clusterSubscriptionCacheSize +
+      ", clusterBinaryJson=" + clusterBinaryJson +
+      ", handlerSelectionPolicy=" + handlerSelectionPolicy +
+      ", clusterConnectionCredits=" + clusterConnectionCredits +
       '}';
   }
 }
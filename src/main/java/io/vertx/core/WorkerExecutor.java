@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core;
+
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.metrics.Measured;
+import io.vertx.core.streams.ReadStream;
+
+/**
+ * An executor for executing blocking code in Vert.x on a named worker pool.
+ * <p>
+ * It provides the same <code>executeBlocking</code> operation than {@link io.vertx.core.Context} and
+ * {@link io.vertx.core.Vertx} but on a separate worker pool, see {@link Vertx#createSharedWorkerExecutor(String)}.
+ */
+@VertxGen
+public interface WorkerExecutor extends Measured {
+
+  /**
+   * Safely execute some blocking code.
+   * <p>
+   * Executes the blocking code in the handler {@code blockingCodeHandler} using a thread from the worker pool.
+   * <p>
+   * When the code is complete the handler {@code resultHandler} will be called with the result on the original context
+   * (i.e. on the original event loop of the caller).
+   * <p>
+   * A {@code Future} instance is passed into {@code blockingCodeHandler}. When the blocking code successfully completes,
+   * the handler should call the {@link Future#complete} or {@link Future#complete(Object)} method, or the {@link Future#fail}
+   * method if it failed.
+   *
+   * @param blockingCodeHandler  handler representing the blocking code to run
+   * @param resultHandler  handler that will be called when the blocking code is complete
+   * @param ordered  if true then if executeBlocking is called several times on the same executor, the executions
+   *                 will be executed serially, not in parallel. if false then they will be no ordering
+   *                 guarantees
+   * @param <T> the type of the result
+   */
+  <T> void executeBlocking(Handler<Future<T>> blockingCodeHandler, boolean ordered, Handler<AsyncResult<T>> resultHandler);
+
+  /**
+   * Like {@link #executeBlocking(Handler, boolean, Handler)} called with ordered = true.
+   */
+  default <T> void executeBlocking(Handler<Future<T>> blockingCodeHandler, Handler<AsyncResult<T>> resultHandler) {
+    executeBlocking(blockingCodeHandler, true, resultHandler);
+  }
+
+  /**
+   * Safely execute a sequence of blocking actions on the worker pool of this executor, at most {@code maxConcurrency}
+   * actions are executed at the same time.
+   * <p>
+   * The actions are pulled from {@code blockingCodeHandlers} when the stream handler is set and the results are delivered
+   * to the returned stream on the original context (i.e. on the original event loop of the caller) as the actions
+   * complete, a failed action is delivered to the stream exception handler. Pausing the stream buffers the completed
+   * results and stops starting new actions once {@code maxConcurrency} results are buffered, so a slow consumer bounds
+   * the work done on its behalf. The end handler is called when all the actions have completed and their results have
+   * been delivered.
+   *
+   * @param blockingCodeHandlers  the handlers representing the blocking code to run
+   * @param maxConcurrency  the maximum number of actions executed or with a result waiting to be delivered
+   * @param <T> the type of the results
+   * @return the stream of results
+   */
+  @GenIgnore
+  <T> ReadStream<T> executeBlockingStream(Iterable<Handler<Future<T>>> blockingCodeHandlers, int maxConcurrency);
+
+  /**
+   * Close the executor.
+   * <p>
+   * The worker pool is released, it is closed when no other executor uses it.
+   */
+  void close();
+
+}
@@ -502,6 +502,19 @@ public interface Buffer extends ClusterSerializable {
    */
   Buffer copy();
 
+  /**
+   * Returns a read-only copy of the entire Buffer, or this Buffer if it is already read-only.<p>
+   * The methods modifying a read-only Buffer throw a {@link java.nio.ReadOnlyBufferException}. A read-only Buffer
+   * can be shared safely, for instance the event bus delivers it to local handlers and the shared data structures
+   * store it without copying it.
+   */
+  Buffer readOnlyCopy();
+
+  /**
+   * Returns true if this Buffer is read-only, see {@link #readOnlyCopy()}.
+   */
+  boolean isReadOnly();
+
   /**
    * Returns a slice of this buffer. Modifying the content
    * of the returned buffer or this buffer affects each other's content
@@ -25,6 +25,7 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
@@ -35,6 +36,7 @@ import java.util.Objects;
 public class BufferImpl implements Buffer {
 
   private ByteBuf buffer;
+  private boolean readOnly;
 
   BufferImpl() {
     this(0);
@@ -348,6 +350,20 @@ public class BufferImpl implements Buffer {
     return new BufferImpl(buffer.copy());
   }
 
+  public Buffer readOnlyCopy() {
+    if (readOnly) {
+      return this;
+    }
+    // The appends are rejected by the unmodifiable byte buf
+    BufferImpl copy = new BufferImpl(Unpooled.unmodifiableBuffer(buffer.copy()));
+    copy.readOnly = true;
+    return copy;
+  }
+
+  public boolean isReadOnly() {
+    return readOnly;
+  }
+
   public Buffer slice() {
     return new BufferImpl(buffer.slice());
   }
@@ -376,6 +392,10 @@ public class BufferImpl implements Buffer {
   }
 
   private void ensureWritable(int pos, int len) {
+    if (readOnly) {
+      // Reject before the writer index is moved
+      throw new ReadOnlyBufferException();
+    }
     int ni = pos + len;
     int cap = buffer.capacity();
     int over = ni - cap;
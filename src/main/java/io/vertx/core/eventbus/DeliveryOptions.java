@@ -41,9 +41,27 @@ public class DeliveryOptions {
    */
   public static final long DEFAULT_TIMEOUT = 30 * 1000;
 
+  /**
+   * The default batch size = 1, the messages are not batched.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 1;
+
+  /**
+   * The default batch delay = 0 ms, a batch is sent at the latest once the current task of the producer is done.
+   */
+  public static final long DEFAULT_BATCH_DELAY = 0;
+
+  /**
+   * The default immutable body = false, the body is copied for each local handler.
+   */
+  public static final boolean DEFAULT_IMMUTABLE_BODY = false;
+
   private long timeout = DEFAULT_TIMEOUT;
   private String codecName;
   private MultiMap headers;
+  private int batchSize = DEFAULT_BATCH_SIZE;
+  private long batchDelay = DEFAULT_BATCH_DELAY;
+  private boolean immutableBody = DEFAULT_IMMUTABLE_BODY;
 
   /**
    * Default constructor
@@ -60,6 +78,9 @@ public class DeliveryOptions {
     this.timeout = other.getSendTimeout();
     this.codecName = other.getCodecName();
     this.headers = other.getHeaders();
+    this.batchSize = other.getBatchSize();
+    this.batchDelay = other.getBatchDelay();
+    this.immutableBody = other.isImmutableBody();
   }
 
   /**
@@ -70,6 +91,9 @@ public class DeliveryOptions {
   public DeliveryOptions(JsonObject json) {
     this.timeout = json.getLong("timeout", DEFAULT_TIMEOUT);
     this.codecName = json.getString("codecName", null);
+    this.batchSize = json.getInteger("batchSize", DEFAULT_BATCH_SIZE);
+    this.batchDelay = json.getLong("batchDelay", DEFAULT_BATCH_DELAY);
+    this.immutableBody = json.getBoolean("immutableBody", DEFAULT_IMMUTABLE_BODY);
     JsonObject hdrs = json.getJsonObject("headers", null);
     if (hdrs != null) {
       headers = new CaseInsensitiveHeaders();
@@ -111,6 +135,9 @@ public class DeliveryOptions {
    * <p>
    * When sending or publishing a message a codec name can be provided. This must correspond with a previously registered
    * message codec. This allows you to send arbitrary objects on the event bus (e.g. POJOs).
+   * <p>
+   * The {@code jsonobject-binary} and {@code jsonarray-binary} codecs are always available, they send JSON objects and
+   * arrays to the other nodes of the cluster in a compact binary encoding instead of JSON text.
    *
    * @return  the codec name
    */
@@ -129,6 +156,83 @@ public class DeliveryOptions {
     return this;
   }
 
+  /**
+   * Get the batch size.
+   * <p>
+   * A {@link MessageProducer} created with a batch size greater than {@code 1} groups up to this number of consecutive
+   * messages written to its address in a batch. The messages of a batch are sent to another node of the cluster in a
+   * single frame and delivered to each handler in a single task, the handlers still receive them one by one.
+   * <p>
+   * The messages sent with a reply handler are not batched. When interceptors are added to the event bus the messages
+   * are not batched either so that the interceptors see each message. All the nodes of the cluster must support the
+   * batches.
+   *
+   * @return  the batch size
+   */
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  /**
+   * Set the batch size.
+   *
+   * @param batchSize  the maximum number of messages of a batch, {@code 1} to disable batching
+   * @return  a reference to this, so the API can be used fluently
+   */
+  public DeliveryOptions setBatchSize(int batchSize) {
+    Arguments.require(batchSize >= 1, "batchSize must be >= 1");
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  /**
+   * Get the batch delay.
+   * <p>
+   * A batch that is not full is sent at the latest after this delay. When the delay is {@code 0} it is sent once the
+   * current task of the producer is done, so only the messages written in the same task are grouped.
+   *
+   * @return  the batch delay, in ms
+   */
+  public long getBatchDelay() {
+    return batchDelay;
+  }
+
+  /**
+   * Set the batch delay.
+   *
+   * @param batchDelay  the maximum delay of a batch, in ms
+   * @return  a reference to this, so the API can be used fluently
+   */
+  public DeliveryOptions setBatchDelay(long batchDelay) {
+    Arguments.require(batchDelay >= 0, "batchDelay must be >= 0");
+    this.batchDelay = batchDelay;
+    return this;
+  }
+
+  /**
+   * Whether the body of the message is immutable.
+   * <p>
+   * The local handlers of a message receive a copy of its JSON object, JSON array or buffer body, unless the body is
+   * {@link io.vertx.core.json.JsonObject#readOnlyCopy() read-only}. When the body is declared immutable, the handlers
+   * share the body instead, the sender and the handlers must not modify it.
+   *
+   * @return true if the body is immutable
+   */
+  public boolean isImmutableBody() {
+    return immutableBody;
+  }
+
+  /**
+   * Set whether the body of the message is immutable and can be shared by the local handlers.
+   *
+   * @param immutableBody true if the body is immutable
+   * @return  a reference to this, so the API can be used fluently
+   */
+  public DeliveryOptions setImmutableBody(boolean immutableBody) {
+    this.immutableBody = immutableBody;
+    return this;
+  }
+
   /**
    * Add a message header.
    * <p>
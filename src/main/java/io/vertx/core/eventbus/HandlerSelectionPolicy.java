@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.eventbus;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * The policy used by the event bus to choose the handler receiving a message sent point to point among the local
+ * handlers registered on its address.
+ */
+@VertxGen
+public enum HandlerSelectionPolicy {
+
+  /**
+   * Choose the handlers in turn.
+   */
+  ROUND_ROBIN,
+
+  /**
+   * Choose a handler running on the event loop of the sender so the message is not handed to another thread,
+   * the handlers of this event loop are chosen in turn, all the handlers are chosen in turn when there is none.
+   */
+  SAME_EVENT_LOOP,
+
+  /**
+   * Choose the handler with the fewest messages delivered but not yet handled.
+   */
+  LEAST_PENDING
+
+}
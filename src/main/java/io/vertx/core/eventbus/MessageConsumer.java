@@ -16,11 +16,14 @@
 
 package io.vertx.core.eventbus;
 
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.streams.ReadStream;
 
+import java.util.List;
+
 /**
  * An event bus consumer object representing a stream of message to an {@link EventBus} address that can
  * be read from.
@@ -43,6 +46,25 @@ public interface MessageConsumer<T> extends ReadStream<Message<T>> {
   @Override
   MessageConsumer<T> handler(Handler<Message<T>> handler);
 
+  /**
+   * Set a handler receiving the messages in batches instead of one by one, replacing the current handler.
+   * <p>
+   * The messages are accumulated and the handler is called with up to {@code maxMessages} messages once
+   * {@code maxMessages} are received or {@code maxDelay} ms after the first message of the batch was received. When
+   * the delay is {@code 0} the batch is handled once the current task of the consumer context is done. The messages
+   * buffered while the consumer is paused are handled in batches when it is resumed.
+   * <p>
+   * The credits of the producers are sent back once per batch. Like {@link #handler(Handler)} this registers the
+   * consumer, a {@code null} handler unregisters it.
+   *
+   * @param maxMessages the maximum number of messages of a batch
+   * @param maxDelay the maximum delay of a batch, in ms
+   * @param handler the batch handler
+   * @return this consumer
+   */
+  @GenIgnore
+  MessageConsumer<T> batchHandler(int maxMessages, long maxDelay, Handler<List<Message<T>>> handler);
+
   @Override
   MessageConsumer<T> pause();
 
@@ -49,9 +49,32 @@ public interface MessageProducer<T> extends WriteStream<T> {
   @Override
   MessageProducer<T> write(T data);
 
+  /**
+   * Set the write queue max size of this producer.
+   * <p>
+   * A sender producer can have up to {@code maxSize} messages not yet handled by the consumers, the messages written
+   * beyond are queued in the producer and {@link #writeQueueFull()} returns {@code true} until the consumers grant
+   * credits back.
+   *
+   * @param maxSize the max size of the write queue
+   * @return a reference to this, so the API can be used fluently
+   */
   @Override
   MessageProducer<T> setWriteQueueMaxSize(int maxSize);
 
+  /**
+   * Set the credit refill threshold of a sender producer.
+   * <p>
+   * The consumers grant the credits of the handled messages back in batches, once they have handled this number of
+   * messages of the producer or when they have no more messages to handle. The threshold never exceeds the
+   * {@link #setWriteQueueMaxSize write queue max size}, by default it is half of it.
+   *
+   * @param threshold the credit refill threshold
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  MessageProducer<T> setCreditRefillThreshold(int threshold);
+
   @Override
   MessageProducer<T> drainHandler(Handler<Void> handler);
 
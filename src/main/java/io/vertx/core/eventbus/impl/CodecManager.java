@@ -34,6 +34,10 @@ public class CodecManager {
   public static final MessageCodec<Byte, Byte> BYTE_MESSAGE_CODEC = new ByteMessageCodec();
   public static final MessageCodec<ReplyException, ReplyException> REPLY_EXCEPTION_MESSAGE_CODEC = new ReplyExceptionMessageCodec();
 
+  // The system codecs that can be selected by name
+  public static final MessageCodec<JsonObject, JsonObject> JSON_OBJECT_BINARY_MESSAGE_CODEC = new JsonObjectBinaryMessageCodec();
+  public static final MessageCodec<JsonArray, JsonArray> JSON_ARRAY_BINARY_MESSAGE_CODEC = new JsonArrayBinaryMessageCodec();
+
   private final MessageCodec[] systemCodecs;
   private final ConcurrentMap<String, MessageCodec> userCodecMap = new ConcurrentHashMap<>();
   private final ConcurrentMap<Class, MessageCodec> defaultCodecMap = new ConcurrentHashMap<>();
@@ -41,13 +45,14 @@ public class CodecManager {
   public CodecManager() {
     this.systemCodecs = codecs(NULL_MESSAGE_CODEC, PING_MESSAGE_CODEC, STRING_MESSAGE_CODEC, BUFFER_MESSAGE_CODEC, JSON_OBJECT_MESSAGE_CODEC, JSON_ARRAY_MESSAGE_CODEC,
       BYTE_ARRAY_MESSAGE_CODEC, INT_MESSAGE_CODEC, LONG_MESSAGE_CODEC, FLOAT_MESSAGE_CODEC, DOUBLE_MESSAGE_CODEC,
-      BOOLEAN_MESSAGE_CODEC, SHORT_MESSAGE_CODEC, CHAR_MESSAGE_CODEC, BYTE_MESSAGE_CODEC, REPLY_EXCEPTION_MESSAGE_CODEC);
+      BOOLEAN_MESSAGE_CODEC, SHORT_MESSAGE_CODEC, CHAR_MESSAGE_CODEC, BYTE_MESSAGE_CODEC, REPLY_EXCEPTION_MESSAGE_CODEC,
+      JSON_OBJECT_BINARY_MESSAGE_CODEC, JSON_ARRAY_BINARY_MESSAGE_CODEC);
   }
 
   public MessageCodec lookupCodec(Object body, String codecName) {
     MessageCodec codec;
     if (codecName != null) {
-      codec = userCodecMap.get(codecName);
+      codec = getCodec(codecName);
       if (codec == null) {
         throw new IllegalArgumentException("No message codec for name: " + codecName);
       }
@@ -91,14 +96,15 @@ public class CodecManager {
   }
 
   public MessageCodec getCodec(String codecName) {
-    return userCodecMap.get(codecName);
+    MessageCodec codec = userCodecMap.get(codecName);
+    return codec != null ? codec : namedSystemCodec(codecName);
   }
 
   public void registerCodec(MessageCodec codec) {
     Objects.requireNonNull(codec, "codec");
     Objects.requireNonNull(codec.name(), "code.name()");
     checkSystemCodec(codec);
-    if (userCodecMap.containsKey(codec.name())) {
+    if (getCodec(codec.name()) != null) {
       throw new IllegalStateException("Already a codec registered with name " + codec.name());
     }
     userCodecMap.put(codec.name(), codec);
@@ -117,7 +123,7 @@ public class CodecManager {
     if (defaultCodecMap.containsKey(clazz)) {
       throw new IllegalStateException("Already a default codec registered for class " + clazz);
     }
-    if (userCodecMap.containsKey(codec.name())) {
+    if (getCodec(codec.name()) != null) {
       throw new IllegalStateException("Already a codec registered with name " + codec.name());
     }
     defaultCodecMap.put(clazz, codec);
@@ -142,6 +148,15 @@ public class CodecManager {
     }
   }
 
+  private MessageCodec namedSystemCodec(String codecName) {
+    if (JSON_OBJECT_BINARY_MESSAGE_CODEC.name().equals(codecName)) {
+      return JSON_OBJECT_BINARY_MESSAGE_CODEC;
+    } else if (JSON_ARRAY_BINARY_MESSAGE_CODEC.name().equals(codecName)) {
+      return JSON_ARRAY_BINARY_MESSAGE_CODEC;
+    }
+    return null;
+  }
+
   private MessageCodec[] codecs(MessageCodec... codecs) {
     MessageCodec[] arr = new MessageCodec[codecs.length];
     for (MessageCodec codec: codecs) {
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.eventbus.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The credit of a message received from another node of the cluster.
+ * <p>
+ * The received message and each copy delivered to a handler hold the credit, the copies release it once their handler
+ * has consumed or discarded them. The credit is returned to the sending node when the last holder releases it.
+ */
+public class DeliveryCredit {
+
+  private final AtomicInteger holders = new AtomicInteger(1);
+  private final Runnable returnTask;
+
+  /**
+   * @param returnTask the task returning the credit, run by the thread releasing the credit last
+   */
+  public DeliveryCredit(Runnable returnTask) {
+    this.returnTask = returnTask;
+  }
+
+  void retain() {
+    holders.incrementAndGet();
+  }
+
+  void release() {
+    if (holders.decrementAndGet() == 0) {
+      returnTask.run();
+    }
+  }
+}
@@ -21,12 +21,15 @@ import io.vertx.core.eventbus.*;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.net.impl.ServerID;
 import io.vertx.core.spi.metrics.EventBusMetrics;
 import io.vertx.core.spi.metrics.MetricsProvider;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -46,12 +49,19 @@ public class EventBusImpl implements EventBus, MetricsProvider {
   protected final VertxInternal vertx;
   protected final EventBusMetrics metrics;
   protected final ConcurrentMap<String, Handlers> handlerMap = new ConcurrentHashMap<>();
+  private final ReplyTable replyTable = new ReplyTable();
   protected final CodecManager codecManager = new CodecManager();
+  private final HandlerSelectionPolicy handlerSelectionPolicy;
   protected volatile boolean started;
 
   public EventBusImpl(VertxInternal vertx) {
+    this(vertx, VertxOptions.DEFAULT_HANDLER_SELECTION_POLICY);
+  }
+
+  public EventBusImpl(VertxInternal vertx, HandlerSelectionPolicy handlerSelectionPolicy) {
     this.vertx = vertx;
     this.metrics = vertx.metricsSPI().createMetrics(this);
+    this.handlerSelectionPolicy = handlerSelectionPolicy;
   }
 
   @Override
@@ -136,7 +146,7 @@ public class EventBusImpl implements EventBus, MetricsProvider {
   public <T> MessageConsumer<T> consumer(String address) {
     checkStarted();
     Objects.requireNonNull(address, "address");
-    return new HandlerRegistration<>(vertx, metrics, this, address, null, false, null, -1);
+    return new HandlerRegistration<>(vertx, metrics, this, address, false);
   }
 
   @Override
@@ -151,7 +161,7 @@ public class EventBusImpl implements EventBus, MetricsProvider {
   public <T> MessageConsumer<T> localConsumer(String address) {
     checkStarted();
     Objects.requireNonNull(address, "address");
-    return new HandlerRegistration<>(vertx, metrics, this, address, null, true, null, -1);
+    return new HandlerRegistration<>(vertx, metrics, this, address, true);
   }
 
   @Override
@@ -190,6 +200,7 @@ public class EventBusImpl implements EventBus, MetricsProvider {
   public void close(Handler<AsyncResult<Void>> completionHandler) {
     checkStarted();
     unregisterAll();
+    replyTable.clear();
     if (metrics != null) {
       metrics.close();
     }
@@ -216,21 +227,20 @@ public class EventBusImpl implements EventBus, MetricsProvider {
     return msg;
   }
 
-  protected <T> void addRegistration(String address, HandlerRegistration<T> registration,
-                                     boolean replyHandler, boolean localOnly) {
-    Objects.requireNonNull(registration.getHandler(), "handler");
-    boolean newAddress = addLocalRegistration(address, registration, replyHandler, localOnly);
-    addRegistration(newAddress, address, replyHandler, localOnly, registration::setResult);
+  protected <T> void addRegistration(String address, HandlerRegistration<T> registration, boolean localOnly) {
+    if (!registration.hasHandler()) {
+      throw new NullPointerException("handler");
+    }
+    boolean newAddress = addLocalRegistration(address, registration, localOnly);
+    addRegistration(newAddress, address, localOnly, registration::setResult);
   }
 
-  protected <T> void addRegistration(boolean newAddress, String address,
-                                     boolean replyHandler, boolean localOnly,
+  protected <T> void addRegistration(boolean newAddress, String address, boolean localOnly,
                                      Handler<AsyncResult<Void>> completionHandler) {
     completionHandler.handle(Future.succeededFuture());
   }
 
-  protected <T> boolean addLocalRegistration(String address, HandlerRegistration<T> registration,
-                                             boolean replyHandler, boolean localOnly) {
+  protected <T> boolean addLocalRegistration(String address, HandlerRegistration<T> registration, boolean localOnly) {
     Objects.requireNonNull(address, "address");
 
     Context context = Vertx.currentContext();
@@ -242,7 +252,7 @@ public class EventBusImpl implements EventBus, MetricsProvider {
 
     boolean newAddress = false;
 
-    HandlerHolder holder = new HandlerHolder<>(metrics, registration, replyHandler, localOnly, context);
+    HandlerHolder holder = new HandlerHolder<>(metrics, registration, localOnly, context);
 
     Handlers handlers = handlerMap.get(address);
     if (handlers == null) {
@@ -304,8 +314,11 @@ public class EventBusImpl implements EventBus, MetricsProvider {
     if (replyMessage.address() == null) {
       throw new IllegalStateException("address not specified");
     } else {
-      HandlerRegistration<T> replyHandlerRegistration = createReplyHandlerRegistration(replyMessage, options, replyHandler);
-      new ReplySendContextImpl<>(replyMessage, options, replyHandlerRegistration, replierMessage).next();
+      if (options != null) {
+        replyMessage.setImmutableBody(options.isImmutableBody());
+      }
+      ReplyHandler<T> replyHandlerEntry = createReplyHandler(replyMessage, options, replyHandler);
+      new ReplySendContextImpl<>(replyMessage, options, replyHandlerEntry, replierMessage).next();
     }
   }
 
@@ -319,19 +332,16 @@ public class EventBusImpl implements EventBus, MetricsProvider {
     deliverMessageLocally(sendContext);
   }
 
-  protected <T> Handler<Message<T>> convertHandler(Handler<AsyncResult<Message<T>>> handler) {
-    return reply -> {
-      Future<Message<T>> result;
-      if (reply.body() instanceof ReplyException) {
-        // This is kind of clunky - but hey-ho
-        ReplyException exception = (ReplyException) reply.body();
-        metrics.replyFailure(reply.address(), exception.failureType());
-        result = Future.failedFuture(exception);
-      } else {
-        result = Future.succeededFuture(reply);
+  protected void sendOrPubBatch(List<MessageImpl> messages) {
+    MessageImpl first = messages.get(0);
+    for (int i = 0; i < messages.size(); i++) {
+      metrics.messageSent(first.address(), !first.send(), true, false);
+    }
+    if (!deliverBatchLocally(messages)) {
+      for (int i = 0; i < messages.size(); i++) {
+        metrics.replyFailure(first.address(), ReplyFailure.NO_HANDLERS);
       }
-      handler.handle(result);
-    };
+    }
   }
 
   protected void callCompletionHandlerAsync(Handler<AsyncResult<Void>> completionHandler) {
@@ -343,14 +353,39 @@ public class EventBusImpl implements EventBus, MetricsProvider {
   protected <T> void deliverMessageLocally(SendContextImpl<T> sendContext) {
     if (!deliverMessageLocally(sendContext.message)) {
       // no handlers
-      metrics.replyFailure(sendContext.message.address, ReplyFailure.NO_HANDLERS);
-      if (sendContext.handlerRegistration != null) {
-        sendContext.handlerRegistration.sendAsyncResultFailure(ReplyFailure.NO_HANDLERS, "No handlers for address "
-                                                               + sendContext.message.address);
-      }
+      deliveryFailure(sendContext, ReplyFailure.NO_HANDLERS, "No handlers for address " + sendContext.message.address);
+    }
+  }
+
+  /**
+   * Report the delivery failure of a message and fail its reply handler, if any.
+   */
+  protected <T> void deliveryFailure(SendContextImpl<T> sendContext, ReplyFailure failure, String msg) {
+    metrics.replyFailure(sendContext.message.address, failure);
+    if (sendContext.replyHandler != null) {
+      sendContext.replyHandler.fail(failure, msg);
     }
   }
 
+  /**
+   * Whether the connections to the other nodes limit the messages with credits, the default implementation returns
+   * false.
+   */
+  protected boolean connectionCreditsEnabled() {
+    return false;
+  }
+
+  /**
+   * Whether the messages sent to some of the nodes wait for them to grant credits, the default implementation returns
+   * false.
+   *
+   * @param targets the nodes a producer sent messages to
+   * @param drainHandler called once the messages no longer wait, on an arbitrary thread, when true is returned
+   */
+  protected boolean isOverloaded(Set<ServerID> targets, Handler<Void> drainHandler) {
+    return false;
+  }
+
   protected boolean isMessageLocal(MessageImpl msg) {
     return true;
   }
@@ -361,7 +396,7 @@ public class EventBusImpl implements EventBus, MetricsProvider {
     if (handlers != null) {
       if (msg.send()) {
         //Choose one
-        HandlerHolder holder = handlers.choose();
+        HandlerHolder holder = chooseHandler(handlers);
         if (holder != null) {
           metrics.messageReceived(msg.address(), !msg.send(), isMessageLocal(msg), 1);
           deliverToHandler(msg, holder);
@@ -375,11 +410,67 @@ public class EventBusImpl implements EventBus, MetricsProvider {
       }
       return true;
     } else {
+      ReplyHandler<?> replyHandler = replyTable.remove(msg.address());
+      if (replyHandler != null) {
+        boolean local = isMessageLocal(msg);
+        metrics.messageReceived(msg.address(), !msg.send(), local, 1);
+        replyHandler.deliver(msg, local);
+        return true;
+      }
       metrics.messageReceived(msg.address(), !msg.send(), isMessageLocal(msg), 0);
       return false;
     }
   }
 
+  /**
+   * Choose the handler of a message sent point to point, the default implementation applies the handler selection
+   * policy of the options.
+   */
+  protected HandlerHolder chooseHandler(Handlers handlers) {
+    return handlers.choose(handlerSelectionPolicy);
+  }
+
+  /**
+   * Deliver a batch of messages to the same address, each handler receives the messages of the batch in a single task.
+   *
+   * @return false when there are no handlers for the address
+   */
+  protected boolean deliverBatchLocally(List<? extends MessageImpl> messages) {
+    MessageImpl first = messages.get(0);
+    String address = first.address();
+    boolean local = isMessageLocal(first);
+    for (MessageImpl msg : messages) {
+      msg.setBus(this);
+    }
+    Handlers handlers = handlerMap.get(address);
+    if (handlers != null) {
+      if (first.send()) {
+        // Choose one for the whole batch
+        HandlerHolder holder = chooseHandler(handlers);
+        if (holder != null) {
+          for (int i = 0; i < messages.size(); i++) {
+            metrics.messageReceived(address, false, local, 1);
+          }
+          deliverToHandler(messages, holder);
+        }
+      } else {
+        // Publish
+        for (int i = 0; i < messages.size(); i++) {
+          metrics.messageReceived(address, true, local, handlers.list.size());
+        }
+        for (HandlerHolder holder: handlers.list) {
+          deliverToHandler(messages, holder);
+        }
+      }
+      return true;
+    } else {
+      for (int i = 0; i < messages.size(); i++) {
+        metrics.messageReceived(address, !first.send(), local, 0);
+      }
+      return false;
+    }
+  }
+
   protected void checkStarted() {
     if (!started) {
       throw new IllegalStateException("Event Bus is not started");
@@ -390,18 +481,15 @@ public class EventBusImpl implements EventBus, MetricsProvider {
     return Long.toString(replySequence.incrementAndGet());
   }
 
-  private <T> HandlerRegistration<T> createReplyHandlerRegistration(MessageImpl message,
-                                                                    DeliveryOptions options,
-                                                                    Handler<AsyncResult<Message<T>>> replyHandler) {
+  private <T> ReplyHandler<T> createReplyHandler(MessageImpl message, DeliveryOptions options,
+                                                 Handler<AsyncResult<Message<T>>> replyHandler) {
     if (replyHandler != null) {
-      long timeout = options.getSendTimeout();
       String replyAddress = generateReplyAddress();
       message.setReplyAddress(replyAddress);
-      Handler<Message<T>> simpleReplyHandler = convertHandler(replyHandler);
-      HandlerRegistration<T> registration =
-        new HandlerRegistration<>(vertx, metrics, this, replyAddress, message.address, true, replyHandler, timeout);
-      registration.handler(simpleReplyHandler);
-      return registration;
+      ReplyHandler<T> handler = new ReplyHandler<>(replyTable, metrics, vertx.getOrCreateContext(), replyAddress,
+        message.address, replyHandler);
+      handler.register(options.getSendTimeout());
+      return handler;
     } else {
       return null;
     }
@@ -410,22 +498,59 @@ public class EventBusImpl implements EventBus, MetricsProvider {
   private <T> void sendOrPubInternal(MessageImpl message, DeliveryOptions options,
                                      Handler<AsyncResult<Message<T>>> replyHandler) {
     checkStarted();
-    HandlerRegistration<T> replyHandlerRegistration = createReplyHandlerRegistration(message, options, replyHandler);
-    SendContextImpl<T> sendContext = new SendContextImpl<>(message, options, replyHandlerRegistration);
+    message.setImmutableBody(options.isImmutableBody());
+    ReplyHandler<T> replyHandlerEntry = createReplyHandler(message, options, replyHandler);
+    SendContextImpl<T> sendContext = new SendContextImpl<>(message, options, replyHandlerEntry);
     sendContext.next();
   }
 
+  /**
+   * Send or publish a message of a producer.
+   *
+   * @param targets the nodes the producer sent messages to, the nodes the message is sent to are added, can be null
+   */
+  <T> void sendFromProducer(String address, boolean send, Object body, DeliveryOptions options,
+                            Handler<AsyncResult<Message<T>>> replyHandler, Set<ServerID> targets) {
+    MessageImpl message = createMessage(send, address, options.getHeaders(), body, options.getCodecName());
+    message.setTargets(targets);
+    sendOrPubInternal(message, options, replyHandler);
+  }
+
+  /**
+   * Send or publish a batch of messages of a producer to the same address.
+   *
+   * @param targets the nodes the producer sent messages to, the nodes the batch is sent to are added, can be null
+   */
+  <T> void sendBatch(String address, boolean send, List<T> bodies, DeliveryOptions options, Set<ServerID> targets) {
+    checkStarted();
+    if (!interceptors.isEmpty()) {
+      // The interceptors see each message
+      for (T body : bodies) {
+        sendFromProducer(address, send, body, options, null, targets);
+      }
+      return;
+    }
+    List<MessageImpl> messages = new ArrayList<>(bodies.size());
+    for (T body : bodies) {
+      MessageImpl message = createMessage(send, address, options.getHeaders(), body, options.getCodecName());
+      message.setImmutableBody(options.isImmutableBody());
+      message.setTargets(targets);
+      messages.add(message);
+    }
+    sendOrPubBatch(messages);
+  }
+
   protected class SendContextImpl<T> implements SendContext<T> {
 
     public final MessageImpl message;
     public final DeliveryOptions options;
-    public final HandlerRegistration<T> handlerRegistration;
+    final ReplyHandler<T> replyHandler;
     public final Iterator<Handler<SendContext>> iter;
 
-    public SendContextImpl(MessageImpl message, DeliveryOptions options, HandlerRegistration<T> handlerRegistration) {
+    SendContextImpl(MessageImpl message, DeliveryOptions options, ReplyHandler<T> replyHandler) {
       this.message = message;
       this.options = options;
-      this.handlerRegistration = handlerRegistration;
+      this.replyHandler = replyHandler;
       this.iter = interceptors.iterator();
     }
 
@@ -458,9 +583,9 @@ public class EventBusImpl implements EventBus, MetricsProvider {
 
     private final MessageImpl replierMessage;
 
-    public ReplySendContextImpl(MessageImpl message, DeliveryOptions options, HandlerRegistration<T> handlerRegistration,
-                                MessageImpl replierMessage) {
-      super(message, options, handlerRegistration);
+    ReplySendContextImpl(MessageImpl message, DeliveryOptions options, ReplyHandler<T> replyHandler,
+                         MessageImpl replierMessage) {
+      super(message, options, replyHandler);
       this.replierMessage = replierMessage;
     }
 
@@ -490,16 +615,50 @@ public class EventBusImpl implements EventBus, MetricsProvider {
     @SuppressWarnings("unchecked")
     Message<T> copied = msg.copyBeforeReceive();
 
+    boolean countPending = handlerSelectionPolicy == HandlerSelectionPolicy.LEAST_PENDING;
+    if (countPending) {
+      holder.scheduled(1);
+    }
     holder.getContext().runOnContext((v) -> {
+      if (countPending) {
+        holder.unscheduled(1);
+      }
       // Need to check handler is still there - the handler might have been removed after the message were sent but
       // before it was received
-      try {
-        if (!holder.isRemoved()) {
-          holder.getHandler().handle(copied);
+      if (!holder.isRemoved()) {
+        holder.getHandler().handle(copied);
+      } else {
+        ((MessageImpl) copied).releaseCredit();
+      }
+    });
+  }
+
+  private <T> void deliverToHandler(List<? extends MessageImpl> messages, HandlerHolder<T> holder) {
+    // Each handler gets fresh copies
+    List<Message<T>> copies = new ArrayList<>(messages.size());
+    for (MessageImpl msg : messages) {
+      @SuppressWarnings("unchecked")
+      Message<T> copied = msg.copyBeforeReceive();
+      copies.add(copied);
+    }
+    boolean countPending = handlerSelectionPolicy == HandlerSelectionPolicy.LEAST_PENDING;
+    if (countPending) {
+      holder.scheduled(copies.size());
+    }
+    holder.getContext().runOnContext((v) -> {
+      if (countPending) {
+        holder.unscheduled(copies.size());
+      }
+      for (Message<T> copied : copies) {
+        // The handler might be removed by one of the messages of the batch
+        if (holder.isRemoved()) {
+          ((MessageImpl) copied).releaseCredit();
+          continue;
         }
-      } finally {
-        if (holder.isReplyHandler()) {
-          holder.getHandler().unregister();
+        try {
+          holder.getHandler().handle(copied);
+        } catch (Exception ignore) {
+          // Logged by the registration, the next messages of the batch are still delivered
         }
       }
     });
@@ -3,6 +3,8 @@ package io.vertx.core.eventbus.impl;
 import io.vertx.core.Context;
 import io.vertx.core.spi.metrics.EventBusMetrics;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
  */
@@ -11,16 +13,15 @@ public class HandlerHolder<T> {
   private final EventBusMetrics metrics;
   private final Context context;
   private final HandlerRegistration<T> handler;
-  private final boolean replyHandler;
   private final boolean localOnly;
   private boolean removed;
+  // Only maintained for the least pending handler selection policy
+  private final AtomicInteger scheduled = new AtomicInteger();
 
-  public HandlerHolder(EventBusMetrics metrics, HandlerRegistration<T> handler, boolean replyHandler, boolean localOnly,
-                       Context context) {
+  public HandlerHolder(EventBusMetrics metrics, HandlerRegistration<T> handler, boolean localOnly, Context context) {
     this.metrics = metrics;
     this.context = context;
     this.handler = handler;
-    this.replyHandler = replyHandler;
     this.localOnly = localOnly;
   }
 
@@ -44,6 +45,22 @@ public class HandlerHolder<T> {
     return removed;
   }
 
+  void scheduled(int count) {
+    scheduled.addAndGet(count);
+  }
+
+  void unscheduled(int count) {
+    scheduled.addAndGet(-count);
+  }
+
+  /**
+   * @return the number of messages delivered to the context of the handler and not yet handled, including the
+   * messages buffered by the registration
+   */
+  int pendingMessages() {
+    return scheduled.get() + handler.pendingMessages();
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -66,10 +83,6 @@ public class HandlerHolder<T> {
     return handler;
   }
 
-  public boolean isReplyHandler() {
-    return replyHandler;
-  }
-
   public boolean isLocalOnly() {
     return localOnly;
   }
@@ -3,8 +3,6 @@ package io.vertx.core.eventbus.impl;
 import io.vertx.core.*;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.MessageConsumer;
-import io.vertx.core.eventbus.ReplyException;
-import io.vertx.core.eventbus.ReplyFailure;
 import io.vertx.core.eventbus.impl.clustered.ClusteredMessage;
 import io.vertx.core.impl.Arguments;
 import io.vertx.core.logging.Logger;
@@ -13,6 +11,10 @@ import io.vertx.core.spi.metrics.EventBusMetrics;
 import io.vertx.core.streams.ReadStream;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
 
@@ -33,10 +35,7 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
   private final EventBusMetrics metrics;
   private final EventBusImpl eventBus;
   private final String address;
-  private final String repliedAddress;
   private final boolean localOnly;
-  private final Handler<AsyncResult<Message<T>>> asyncResultHandler;
-  private long timeoutID = -1;
   private boolean registered;
   private Handler<Message<T>> handler;
   private AsyncResult<Void> result;
@@ -47,30 +46,28 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
   private final Queue<Message<T>> pending = new ArrayDeque<>(8);
   private boolean paused;
   private Object metric;
+  private Handler<List<Message<T>>> batchHandler;
+  private int batchMaxMessages;
+  private long batchMaxDelay;
+  private boolean batchScheduled;
+  private long batchTimerID = -1;
+  private Map<String, Credits> credits;
+  private boolean creditsFlushScheduled;
 
   public HandlerRegistration(Vertx vertx, EventBusMetrics metrics, EventBusImpl eventBus, String address,
-                             String repliedAddress, boolean localOnly,
-                             Handler<AsyncResult<Message<T>>> asyncResultHandler, long timeout) {
+                             boolean localOnly) {
     this.vertx = vertx;
     this.metrics = metrics;
     this.eventBus = eventBus;
     this.address = address;
-    this.repliedAddress = repliedAddress;
     this.localOnly = localOnly;
-    this.asyncResultHandler = asyncResultHandler;
-    if (timeout != -1) {
-      timeoutID = vertx.setTimer(timeout, tid -> {
-        metrics.replyFailure(address, ReplyFailure.TIMEOUT);
-        sendAsyncResultFailure(ReplyFailure.TIMEOUT, "Timed out waiting for a reply");
-      });
-    }
   }
 
   @Override
   public synchronized MessageConsumer<T> setMaxBufferedMessages(int maxBufferedMessages) {
     Arguments.require(maxBufferedMessages >= 0, "Max buffered messages cannot be negative");
     while (pending.size() > maxBufferedMessages) {
-      pending.poll();
+      releaseCredit(pending.poll());
     }
     this.maxBufferedMessages = maxBufferedMessages;
     return this;
@@ -112,15 +109,7 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
     doUnregister(null, callEndHandler);
   }
 
-  public void sendAsyncResultFailure(ReplyFailure failure, String msg) {
-    unregister();
-    asyncResultHandler.handle(Future.failedFuture(new ReplyException(failure, msg)));
-  }
-
   private void doUnregister(Handler<AsyncResult<Void>> completionHandler, boolean callEndHandler) {
-    if (timeoutID != -1) {
-      vertx.cancelTimer(timeoutID);
-    }
     if (endHandler != null && callEndHandler) {
       Handler<Void> theEndHandler = endHandler;
       Handler<AsyncResult<Void>> handler = completionHandler;
@@ -131,6 +120,10 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
         }
       };
     }
+    // The buffered messages received from other nodes must not keep their connections waiting for credits
+    for (Message<T> message : pending) {
+      releaseCredit(message);
+    }
     if (registered) {
       registered = false;
       eventBus.removeRegistration(address, this, completionHandler);
@@ -150,20 +143,23 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
     this.result = result;
     if (completionHandler != null) {
       if (result.succeeded()) {
-        metric = metrics.handlerRegistered(address, repliedAddress);
+        metric = metrics.handlerRegistered(address, null);
       }
       Handler<AsyncResult<Void>> callback = completionHandler;
       vertx.runOnContext(v -> callback.handle(result));
     } else if (result.failed()) {
       log.error("Failed to propagate registration for handler " + handler + " and address " + address);
     } else {
-      metric = metrics.handlerRegistered(address, repliedAddress);
+      metric = metrics.handlerRegistered(address, null);
     }
   }
 
   @Override
   public void handle(Message<T> message) {
     Handler<Message<T>> theHandler = null;
+    Handler<List<Message<T>>> theBatchHandler = null;
+    List<Message<T>> batch = null;
+    boolean removed = false;
     synchronized (this) {
       if (paused) {
         if (pending.size() < maxBufferedMessages) {
@@ -174,31 +170,47 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
           } else {
             log.warn("Discarding message as more than " + maxBufferedMessages + " buffered in paused consumer");
           }
+          releaseCredit(message);
+        }
+      } else if (batchHandler != null) {
+        // The batch is accumulated in the pending queue, it is handled when full or when the batch delay expires
+        pending.add(message);
+        if (pending.size() >= batchMaxMessages) {
+          batch = pollBatch();
+          theBatchHandler = batchHandler;
+        } else {
+          scheduleBatch(batchMaxDelay);
         }
       } else {
         checkNextTick();
-        if (metrics.isEnabled()) {
-          boolean local = true;
-          if (message instanceof ClusteredMessage) {
-            // A bit hacky
-            ClusteredMessage cmsg = (ClusteredMessage)message;
-            if (cmsg.isFromWire()) {
-              local = false;
-            }
-          }
-          metrics.beginHandleMessage(metric, local);
-        }
+        beginHandleMessage(message);
         theHandler = handler;
+        removed = theHandler == null;
       }
     }
     // Handle the message outside the sync block
     // https://bugs.eclipse.org/bugs/show_bug.cgi?id=473714
     if (theHandler != null) {
-      String creditsAddress = message.headers().get(MessageProducerImpl.CREDIT_ADDRESS_HEADER_NAME);
-      if (creditsAddress != null) {
-        eventBus.send(creditsAddress, 1);
-      }
+      consumeCredit(message);
       handleMessage(theHandler, message);
+    } else if (batch != null) {
+      handleBatch(theBatchHandler, batch);
+    } else if (removed) {
+      releaseCredit(message);
+    }
+  }
+
+  private void beginHandleMessage(Message<T> message) {
+    if (metrics.isEnabled()) {
+      boolean local = true;
+      if (message instanceof ClusteredMessage) {
+        // A bit hacky
+        ClusteredMessage cmsg = (ClusteredMessage)message;
+        if (cmsg.isFromWire()) {
+          local = false;
+        }
+      }
+      metrics.beginHandleMessage(metric, local);
     }
   }
 
@@ -213,6 +225,155 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
     }
   }
 
+  private void handleBatch(Handler<List<Message<T>>> theBatchHandler, List<Message<T>> batch) {
+    for (Message<T> message : batch) {
+      consumeCredit(message);
+    }
+    try {
+      theBatchHandler.handle(batch);
+      for (int i = 0; i < batch.size(); i++) {
+        metrics.endHandleMessage(metric, null);
+      }
+    } catch (Exception e) {
+      log.error("Failed to handleMessage", e);
+      for (int i = 0; i < batch.size(); i++) {
+        metrics.endHandleMessage(metric, e);
+      }
+      throw e;
+    }
+  }
+
+  private List<Message<T>> pollBatch() {
+    if (batchTimerID != -1) {
+      // The delay of the next batch starts with its first message
+      vertx.cancelTimer(batchTimerID);
+      batchTimerID = -1;
+      batchScheduled = false;
+    }
+    List<Message<T>> batch = new ArrayList<>(Math.min(pending.size(), batchMaxMessages));
+    while (batch.size() < batchMaxMessages && !pending.isEmpty()) {
+      Message<T> message = pending.poll();
+      beginHandleMessage(message);
+      batch.add(message);
+    }
+    if (!pending.isEmpty()) {
+      // Drain the next chunk
+      scheduleBatch(pending.size() >= batchMaxMessages ? 0 : batchMaxDelay);
+    }
+    return batch;
+  }
+
+  private void scheduleBatch(long delay) {
+    if (batchScheduled) {
+      if (delay > 0 || batchTimerID == -1) {
+        return;
+      }
+      vertx.cancelTimer(batchTimerID);
+    }
+    batchScheduled = true;
+    if (delay > 0) {
+      batchTimerID = vertx.setTimer(delay, tid -> flushBatch());
+    } else {
+      batchTimerID = -1;
+      vertx.runOnContext(v -> flushBatch());
+    }
+  }
+
+  private void flushBatch() {
+    Handler<List<Message<T>>> theBatchHandler;
+    List<Message<T>> batch;
+    synchronized (this) {
+      batchScheduled = false;
+      batchTimerID = -1;
+      if (paused || batchHandler == null || pending.isEmpty()) {
+        return;
+      }
+      batch = pollBatch();
+      theBatchHandler = batchHandler;
+    }
+    handleBatch(theBatchHandler, batch);
+  }
+
+  private static void releaseCredit(Message<?> message) {
+    if (message instanceof MessageImpl) {
+      ((MessageImpl) message).releaseCredit();
+    }
+  }
+
+  /*
+   * The credit of a message received from another node is returned to its connection when the message is consumed.
+   *
+   * The credits of a message sent by a producer are granted back once the refill threshold of the producer is reached
+   * or when the flush task runs. The flush task is queued behind the messages already delivered to the context so
+   * their credits are granted at once, and it ensures the credits held for a producer that stopped sending or that
+   * sends to several consumers are eventually granted.
+   */
+  private void consumeCredit(Message<T> message) {
+    releaseCredit(message);
+    String creditsAddress = message.headers().get(MessageProducerImpl.CREDIT_ADDRESS_HEADER_NAME);
+    if (creditsAddress != null) {
+      int granted = 0;
+      synchronized (this) {
+        if (credits == null) {
+          credits = new HashMap<>();
+        }
+        Credits producerCredits = credits.get(creditsAddress);
+        if (producerCredits == null) {
+          producerCredits = new Credits(creditThreshold(message));
+          credits.put(creditsAddress, producerCredits);
+        }
+        if (++producerCredits.count >= producerCredits.threshold) {
+          granted = producerCredits.count;
+          producerCredits.count = 0;
+        } else if (!creditsFlushScheduled) {
+          creditsFlushScheduled = true;
+          vertx.runOnContext(v -> flushCredits());
+        }
+      }
+      if (granted > 0) {
+        eventBus.send(creditsAddress, granted);
+      }
+    }
+  }
+
+  private int creditThreshold(Message<T> message) {
+    String threshold = message.headers().get(MessageProducerImpl.CREDIT_THRESHOLD_HEADER_NAME);
+    if (threshold != null) {
+      try {
+        return Math.max(1, Integer.parseInt(threshold));
+      } catch (NumberFormatException ignore) {
+      }
+    }
+    // The credits of a producer that does not send its threshold are granted for each message
+    return 1;
+  }
+
+  private void flushCredits() {
+    Map<String, Credits> toGrant;
+    synchronized (this) {
+      creditsFlushScheduled = false;
+      toGrant = credits;
+      credits = null;
+    }
+    if (toGrant != null) {
+      for (Map.Entry<String, Credits> entry : toGrant.entrySet()) {
+        if (entry.getValue().count > 0) {
+          eventBus.send(entry.getKey(), entry.getValue().count);
+        }
+      }
+    }
+  }
+
+  private static class Credits {
+
+    final int threshold;
+    int count;
+
+    Credits(int threshold) {
+      this.threshold = threshold;
+    }
+  }
+
   /*
    * Internal API for testing purposes.
    */
@@ -222,15 +383,42 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
 
   @Override
   public synchronized MessageConsumer<T> handler(Handler<Message<T>> handler) {
+    boolean batching = batchHandler != null;
     this.handler = handler;
-    if (this.handler != null && !registered) {
+    this.batchHandler = null;
+    updateRegistration();
+    if (batching && handler != null) {
+      // Handle the messages of the current batch one by one
+      checkNextTick();
+    }
+    return this;
+  }
+
+  @Override
+  public synchronized MessageConsumer<T> batchHandler(int maxMessages, long maxDelay, Handler<List<Message<T>>> handler) {
+    Arguments.require(maxMessages >= 1, "maxMessages must be >= 1");
+    Arguments.require(maxDelay >= 0, "maxDelay must be >= 0");
+    this.batchMaxMessages = maxMessages;
+    this.batchMaxDelay = maxDelay;
+    this.handler = null;
+    this.batchHandler = handler;
+    updateRegistration();
+    return this;
+  }
+
+  private void updateRegistration() {
+    boolean hasHandler = hasHandler();
+    if (hasHandler && !registered) {
       registered = true;
-      eventBus.addRegistration(address, this, repliedAddress != null, localOnly);
-    } else if (this.handler == null && registered) {
+      eventBus.addRegistration(address, this, localOnly);
+    } else if (!hasHandler && registered) {
       // This will set registered to false
       this.unregister();
     }
-    return this;
+  }
+
+  synchronized boolean hasHandler() {
+    return handler != null || batchHandler != null;
   }
 
   @Override
@@ -278,6 +466,13 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
   }
 
   private void checkNextTick() {
+    if (batchHandler != null) {
+      // The buffered messages are handled in batches
+      if (!pending.isEmpty()) {
+        scheduleBatch(0);
+      }
+      return;
+    }
     // Check if there are more pending messages in the queue that can be processed next time around
     if (!pending.isEmpty()) {
       vertx.runOnContext(v -> {
@@ -291,6 +486,10 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
     }
   }
 
+  synchronized int pendingMessages() {
+    return pending.size();
+  }
+
   public Handler<Message<T>> getHandler() {
     return handler;
   }
@@ -1,5 +1,8 @@
 package io.vertx.core.eventbus.impl;
 
+import io.vertx.core.eventbus.HandlerSelectionPolicy;
+import io.vertx.core.impl.ContextImpl;
+
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -12,6 +15,21 @@ public class Handlers {
   private final AtomicInteger pos = new AtomicInteger(0);
   public final List<HandlerHolder> list = new CopyOnWriteArrayList<>();
 
+  /**
+   * Choose the handler of a message sent point to point according to the {@code policy}.
+   */
+  public HandlerHolder choose(HandlerSelectionPolicy policy) {
+    switch (policy) {
+      case SAME_EVENT_LOOP:
+        HandlerHolder holder = sameEventLoop();
+        return holder != null ? holder : choose();
+      case LEAST_PENDING:
+        return leastPending();
+      default:
+        return choose();
+    }
+  }
+
   public HandlerHolder choose() {
     while (true) {
       int size = list.size();
@@ -30,5 +48,51 @@ public class Handlers {
       }
     }
   }
-}
 
+  private HandlerHolder sameEventLoop() {
+    Object[] holders = list.toArray();
+    int count = 0;
+    for (Object holder : holders) {
+      if (onCurrentEventLoop((HandlerHolder) holder)) {
+        count++;
+      }
+    }
+    if (count == 0) {
+      return null;
+    }
+    // Round robin over the handlers of the current event loop
+    int n = (pos.getAndIncrement() & Integer.MAX_VALUE) % count;
+    for (Object holder : holders) {
+      if (onCurrentEventLoop((HandlerHolder) holder) && n-- == 0) {
+        return (HandlerHolder) holder;
+      }
+    }
+    return null;
+  }
+
+  private static boolean onCurrentEventLoop(HandlerHolder holder) {
+    ContextImpl context = (ContextImpl) holder.getContext();
+    return context.isEventLoopContext() && context.nettyEventLoop().inEventLoop();
+  }
+
+  private HandlerHolder leastPending() {
+    Object[] holders = list.toArray();
+    int size = holders.length;
+    if (size < 2) {
+      return size == 0 ? null : (HandlerHolder) holders[0];
+    }
+    // Start from the round robin position so ties are spread over the handlers
+    int start = (pos.getAndIncrement() & Integer.MAX_VALUE) % size;
+    HandlerHolder best = null;
+    int bestPending = Integer.MAX_VALUE;
+    for (int i = 0; i < size; i++) {
+      HandlerHolder holder = (HandlerHolder) holders[(start + i) % size];
+      int pending = holder.pendingMessages();
+      if (pending < bestPending) {
+        best = holder;
+        bestPending = pending;
+      }
+    }
+    return best;
+  }
+}
@@ -19,13 +19,18 @@ package io.vertx.core.eventbus.impl;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.*;
 import io.vertx.core.http.CaseInsensitiveHeaders;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.net.impl.ServerID;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
@@ -42,6 +47,11 @@ public class MessageImpl<U, V> implements Message<V> {
   protected U sentBody;
   protected V receivedBody;
   protected boolean send;
+  protected boolean immutableBody;
+  // The credit of a message received from another node, shared by its copies
+  private DeliveryCredit credit;
+  // The nodes the producer of the message sent messages to, not copied
+  private Set<ServerID> targets;
 
   public MessageImpl() {
   }
@@ -72,9 +82,66 @@ public class MessageImpl<U, V> implements Message<V> {
     }
     if (other.sentBody != null) {
       this.sentBody = other.sentBody;
-      this.receivedBody = messageCodec.transform(other.sentBody);
+      if (other.sharesBody()) {
+        @SuppressWarnings("unchecked")
+        V body = (V) other.sentBody;
+        this.receivedBody = body;
+      } else {
+        this.receivedBody = messageCodec.transform(other.sentBody);
+      }
     }
     this.send = other.send;
+    this.immutableBody = other.immutableBody;
+    if (other.credit != null) {
+      this.credit = other.credit;
+      credit.retain();
+    }
+  }
+
+  /**
+   * Declare the body immutable, the JSON and buffer bodies are then shared by the handlers instead of being copied.
+   */
+  public void setImmutableBody(boolean immutableBody) {
+    this.immutableBody = immutableBody;
+  }
+
+  /**
+   * Set the credit of a message received from another node, the message holds the credit until it is released.
+   */
+  public void setDeliveryCredit(DeliveryCredit credit) {
+    this.credit = credit;
+  }
+
+  /**
+   * Release the credit held by this message, once consumed or discarded by its handler. Releasing the credit of a
+   * message that holds none or that has already released it does nothing.
+   */
+  public void releaseCredit() {
+    DeliveryCredit c = credit;
+    if (c != null) {
+      credit = null;
+      c.release();
+    }
+  }
+
+  /**
+   * Set the nodes the producer of this message sent messages to, the nodes this message is sent to are added.
+   */
+  public void setTargets(Set<ServerID> targets) {
+    this.targets = targets;
+  }
+
+  /**
+   * @return the nodes the producer of this message sent messages to, or {@code null}
+   */
+  public Set<ServerID> targets() {
+    return targets;
+  }
+
+  private boolean sharesBody() {
+    // The system codecs of these types do not change the type of the body
+    return immutableBody && messageCodec.systemCodecID() >= 0 &&
+      (sentBody instanceof JsonObject || sentBody instanceof JsonArray || sentBody instanceof Buffer);
   }
 
   public MessageImpl<U, V> copyBeforeReceive() {
@@ -110,6 +177,7 @@ public class MessageImpl<U, V> implements Message<V> {
 
   @Override
   public void fail(int failureCode, String message) {
+    String replyAddress = replyAddress();
     if (replyAddress != null) {
       sendReply(bus.createMessage(true, replyAddress, null,
         new ReplyException(ReplyFailure.RECIPIENT_FAILURE, failureCode, message), null), null, null);
@@ -133,6 +201,7 @@ public class MessageImpl<U, V> implements Message<V> {
 
   @Override
   public <R> void reply(Object message, DeliveryOptions options, Handler<AsyncResult<Message<R>>> replyHandler) {
+    String replyAddress = replyAddress();
     if (replyAddress != null) {
       sendReply(bus.createMessage(true, replyAddress, options.getHeaders(), message, options.getCodecName()), options, replyHandler);
     }
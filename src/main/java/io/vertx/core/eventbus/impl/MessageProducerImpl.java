@@ -17,54 +17,119 @@
 package io.vertx.core.eventbus.impl;
 
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.*;
+import io.vertx.core.http.CaseInsensitiveHeaders;
+import io.vertx.core.impl.Arguments;
+import io.vertx.core.net.impl.ServerID;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
+ * When the batch size of the delivery options is greater than {@code 1}, the written messages are grouped in a batch
+ * that is sent when it is full or after the batch delay.
+ * <p>
+ * A sender has a window of {@link #setWriteQueueMaxSize write queue max size} credits, each sent message takes a
+ * credit and the messages written when there is no credit left are queued until the consumers grant credits back.
+ * The messages carry the credit address and the refill threshold of the sender in their headers, the consumers send
+ * back the credits of the handled messages once the threshold is reached or when they have no more messages to
+ * handle, see {@link HandlerRegistration}.
+ * <p>
+ * When the connections to the other nodes limit the messages with credits, the producer records the nodes it sent
+ * messages to. The write queue of senders and publishers is also full while the connections to these nodes wait for
+ * credits, the drain handler is then called once they are writable again.
+ *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
 public class MessageProducerImpl<T> implements MessageProducer<T> {
 
   public static final String CREDIT_ADDRESS_HEADER_NAME = "__vertx.credit";
+  public static final String CREDIT_THRESHOLD_HEADER_NAME = "__vertx.credit.threshold";
 
   private final Vertx vertx;
-  private final EventBus bus;
+  private final EventBusImpl bus;
   private final boolean send;
   private final String address;
   private final Queue<T> pending = new ArrayDeque<>();
   private final MessageConsumer<Integer> creditConsumer;
+  private final String creditAddress;
+  // The nodes the messages were sent to, added once the subscriptions are looked up, null without connection credits
+  private final Set<ServerID> targets;
   private DeliveryOptions options;
+  private int maxSize = DEFAULT_WRITE_QUEUE_MAX_SIZE;
+  private int creditRefillThreshold;
   private int credits = DEFAULT_WRITE_QUEUE_MAX_SIZE;
   private Handler<Void> drainHandler;
+  private List<T> batch;
+  private boolean flushScheduled;
+  private boolean overloadDrainRegistered;
 
   public MessageProducerImpl(Vertx vertx, String address, boolean send, DeliveryOptions options) {
     this.vertx = vertx;
-    this.bus = vertx.eventBus();
+    this.bus = (EventBusImpl) vertx.eventBus();
     this.address = address;
     this.send = send;
-    this.options = options;
+    this.targets = bus.connectionCreditsEnabled() ? ConcurrentHashMap.newKeySet() : null;
     if (send) {
-      String creditAddress = UUID.randomUUID().toString() + "-credit";
+      creditAddress = UUID.randomUUID().toString() + "-credit";
       creditConsumer = bus.consumer(creditAddress, msg -> {
         doReceiveCredit(msg.body());
       });
-      options.addHeader(CREDIT_ADDRESS_HEADER_NAME, creditAddress);
+      this.options = withCreditHeaders(options);
     } else {
+      creditAddress = null;
       creditConsumer = null;
+      this.options = options;
     }
   }
 
   @Override
   public synchronized MessageProducer<T> deliveryOptions(DeliveryOptions options) {
-    this.options = options;
+    this.options = send ? withCreditHeaders(options) : options;
+    return this;
+  }
+
+  @Override
+  public synchronized MessageProducer<T> setCreditRefillThreshold(int threshold) {
+    Arguments.require(threshold >= 1, "creditRefillThreshold must be >= 1");
+    creditRefillThreshold = threshold;
+    if (send) {
+      options = withCreditHeaders(options);
+    }
     return this;
   }
 
+  /**
+   * @return the threshold sent to the consumers, it never exceeds the window otherwise the sender could wait for
+   * credits the consumers hold
+   */
+  private int creditThreshold() {
+    if (creditRefillThreshold == 0) {
+      return Math.max(1, maxSize / 2);
+    }
+    return Math.max(1, Math.min(creditRefillThreshold, maxSize));
+  }
+
+  private DeliveryOptions withCreditHeaders(DeliveryOptions options) {
+    // Copy the headers, the options might be shared with other producers
+    MultiMap headers = new CaseInsensitiveHeaders();
+    if (options.getHeaders() != null) {
+      headers.addAll(options.getHeaders());
+    }
+    headers.set(CREDIT_ADDRESS_HEADER_NAME, creditAddress);
+    headers.set(CREDIT_THRESHOLD_HEADER_NAME, String.valueOf(creditThreshold()));
+    return new DeliveryOptions(options).setHeaders(headers);
+  }
+
   @Override
   public MessageProducer<T> send(T message) {
     doSend(message, null);
@@ -84,7 +149,12 @@ public class MessageProducerImpl<T> implements MessageProducer<T> {
 
   @Override
   public synchronized MessageProducer<T> setWriteQueueMaxSize(int maxSize) {
-    this.credits = maxSize;
+    // The messages in flight keep their credits
+    credits += maxSize - this.maxSize;
+    this.maxSize = maxSize;
+    if (send) {
+      options = withCreditHeaders(options);
+    }
     return this;
   }
 
@@ -92,15 +162,43 @@ public class MessageProducerImpl<T> implements MessageProducer<T> {
   public synchronized MessageProducer<T> write(T data) {
     if (send) {
       doSend(data, null);
+    } else if (options.getBatchSize() > 1) {
+      addToBatch(data);
     } else {
-      bus.publish(address, data, options);
+      bus.sendFromProducer(address, false, data, options, null, targets);
     }
     return this;
   }
 
   @Override
-  public boolean writeQueueFull() {
-    return pending.size() >= 0;
+  public synchronized boolean writeQueueFull() {
+    return (send && (credits <= 0 || !pending.isEmpty())) || overloaded();
+  }
+
+  private boolean overloaded() {
+    if (targets == null || !bus.isOverloaded(targets, null)) {
+      return false;
+    }
+    if (overloadDrainRegistered) {
+      return true;
+    }
+    Context context = vertx.getOrCreateContext();
+    // The connections may have been drained in the meantime
+    overloadDrainRegistered = bus.isOverloaded(targets, v -> context.runOnContext(v2 -> overloadDrained()));
+    return overloadDrainRegistered;
+  }
+
+  private void overloadDrained() {
+    Handler<Void> theDrainHandler;
+    synchronized (this) {
+      overloadDrainRegistered = false;
+      theDrainHandler = drainHandler;
+      if (theDrainHandler == null || writeQueueFull()) {
+        return;
+      }
+      this.drainHandler = null;
+    }
+    theDrainHandler.handle(null);
   }
 
   @Override
@@ -121,6 +219,7 @@ public class MessageProducerImpl<T> implements MessageProducer<T> {
 
   @Override
   public void close() {
+    flushBatch();
     if (creditConsumer != null) {
       creditConsumer.unregister();
     }
@@ -137,15 +236,56 @@ public class MessageProducerImpl<T> implements MessageProducer<T> {
     if (credits > 0) {
       credits--;
       if (replyHandler == null) {
-        bus.send(address, data, options);
+        sendNoReply(data);
       } else {
-        bus.send(address, data, options, replyHandler);
+        // Replied messages are not batched
+        flushBatch();
+        bus.sendFromProducer(address, true, data, options, replyHandler, targets);
       }
     } else {
       pending.add(data);
     }
   }
 
+  private void sendNoReply(T data) {
+    if (options.getBatchSize() > 1) {
+      addToBatch(data);
+    } else {
+      bus.sendFromProducer(address, true, data, options, null, targets);
+    }
+  }
+
+  private void addToBatch(T data) {
+    if (batch == null) {
+      batch = new ArrayList<>(options.getBatchSize());
+    }
+    batch.add(data);
+    if (batch.size() >= options.getBatchSize()) {
+      flushBatch();
+    } else if (!flushScheduled) {
+      flushScheduled = true;
+      long delay = options.getBatchDelay();
+      if (delay > 0) {
+        vertx.setTimer(delay, id -> scheduledFlush());
+      } else {
+        vertx.runOnContext(v -> scheduledFlush());
+      }
+    }
+  }
+
+  private synchronized void scheduledFlush() {
+    flushScheduled = false;
+    flushBatch();
+  }
+
+  private synchronized void flushBatch() {
+    if (batch != null && !batch.isEmpty()) {
+      List<T> bodies = batch;
+      batch = null;
+      bus.sendBatch(address, send, bodies, options, targets);
+    }
+  }
+
   private synchronized void doReceiveCredit(int credit) {
     credits += credit;
     while (credits > 0) {
@@ -154,11 +294,12 @@ public class MessageProducerImpl<T> implements MessageProducer<T> {
         break;
       } else {
         credits--;
-        bus.send(address, data, options);
+        sendNoReply(data);
       }
     }
     final Handler<Void> theDrainHandler = drainHandler;
-    if (theDrainHandler != null && pending.isEmpty()) {
+    // Otherwise the drain handler is called once the connections are no longer overloaded
+    if (theDrainHandler != null && credits > 0 && !overloaded()) {
       this.drainHandler = null;
       vertx.runOnContext(v -> theDrainHandler.handle(null));
     }
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.eventbus.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.ReplyException;
+import io.vertx.core.eventbus.ReplyFailure;
+import io.vertx.core.impl.ContextImpl;
+import io.vertx.core.impl.TimerWheel;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.spi.metrics.EventBusMetrics;
+
+/**
+ * A handler waiting for the reply of a message in a {@link ReplyTable}.
+ * <p>
+ * The handler is completed once, by the reply, the timeout or a delivery failure: whichever cancels the timeout
+ * first completes the handler. The handler is called on the context of the sender unless this context has been
+ * closed in the meantime.
+ */
+class ReplyHandler<T> extends TimerWheel.Timeout {
+
+  private static final Logger log = LoggerFactory.getLogger(ReplyHandler.class);
+
+  final String address;
+  private final ReplyTable table;
+  private final TimerWheel wheel;
+  private final EventBusMetrics metrics;
+  private final ContextImpl context;
+  private final Handler<AsyncResult<Message<T>>> handler;
+  private final Object metric;
+
+  ReplyHandler(ReplyTable table, EventBusMetrics metrics, ContextImpl context, String address, String repliedAddress,
+               Handler<AsyncResult<Message<T>>> handler) {
+    this(table, table.wheel(context.nettyEventLoop()), metrics, context, address, repliedAddress, handler);
+  }
+
+  private ReplyHandler(ReplyTable table, TimerWheel wheel, EventBusMetrics metrics, ContextImpl context,
+                       String address, String repliedAddress, Handler<AsyncResult<Message<T>>> handler) {
+    super(wheel, 0);
+    this.table = table;
+    this.wheel = wheel;
+    this.metrics = metrics;
+    this.context = context;
+    this.address = address;
+    this.handler = handler;
+    this.metric = metrics.handlerRegistered(address, repliedAddress);
+  }
+
+  void register(long timeout) {
+    table.add(this);
+    wheel.schedule(this, timeout);
+  }
+
+  /**
+   * Deliver the reply, the handler must have been removed from the table.
+   */
+  void deliver(MessageImpl reply, boolean local) {
+    if (cancel()) {
+      @SuppressWarnings("unchecked")
+      MessageImpl<?, T> copied = reply.copyBeforeReceive();
+      context.runOnContext(v -> {
+        copied.releaseCredit();
+        handleReply(copied, local);
+      });
+    }
+  }
+
+  /**
+   * Fail the handler on the current thread.
+   */
+  void fail(ReplyFailure failure, String msg) {
+    if (cancel()) {
+      table.remove(this);
+      complete(Future.failedFuture(new ReplyException(failure, msg)));
+    }
+  }
+
+  @Override
+  protected void expire() {
+    table.remove(this);
+    metrics.replyFailure(address, ReplyFailure.TIMEOUT);
+    context.runOnContext(v -> {
+      complete(Future.failedFuture(new ReplyException(ReplyFailure.TIMEOUT, "Timed out waiting for a reply")));
+    });
+  }
+
+  private void handleReply(Message<T> reply, boolean local) {
+    if (context.isClosed()) {
+      metrics.handlerUnregistered(metric);
+      return;
+    }
+    if (metrics.isEnabled()) {
+      metrics.beginHandleMessage(metric, local);
+    }
+    AsyncResult<Message<T>> result;
+    if (reply.body() instanceof ReplyException) {
+      ReplyException exception = (ReplyException) reply.body();
+      metrics.replyFailure(reply.address(), exception.failureType());
+      result = Future.failedFuture(exception);
+    } else {
+      result = Future.succeededFuture(reply);
+    }
+    try {
+      handler.handle(result);
+      metrics.endHandleMessage(metric, null);
+    } catch (Exception e) {
+      log.error("Failed to handleMessage", e);
+      metrics.endHandleMessage(metric, e);
+      throw e;
+    } finally {
+      metrics.handlerUnregistered(metric);
+    }
+  }
+
+  private void complete(AsyncResult<Message<T>> result) {
+    metrics.handlerUnregistered(metric);
+    if (!context.isClosed()) {
+      handler.handle(result);
+    }
+  }
+}
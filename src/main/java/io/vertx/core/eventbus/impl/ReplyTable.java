@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.eventbus.impl;
+
+import io.netty.channel.EventLoop;
+import io.vertx.core.impl.TimerWheel;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The reply handlers of an event bus keyed by their reply address.
+ * <p>
+ * A reply handler is not registered in the handler map of the event bus: it is looked up in this table when a
+ * message is delivered to an address without consumers and removed by the first reply. The reply timeouts are
+ * scheduled in a coarse timer wheel per event loop, a reply handler completed on the event loop of its context
+ * unlinks its timeout immediately.
+ */
+class ReplyTable {
+
+  // The reply timeouts expire at most one tick late
+  static final long TIMEOUT_TICK = 100;
+  private static final int TIMEOUT_WHEEL_SIZE = 512;
+
+  private final ConcurrentMap<String, ReplyHandler<?>> handlers = new ConcurrentHashMap<>();
+  private final ConcurrentMap<EventLoop, TimerWheel> wheels = new ConcurrentHashMap<>();
+
+  TimerWheel wheel(EventLoop eventLoop) {
+    TimerWheel wheel = wheels.get(eventLoop);
+    if (wheel == null) {
+      wheel = wheels.computeIfAbsent(eventLoop, el -> new TimerWheel(el, TIMEOUT_TICK, TIMEOUT_WHEEL_SIZE));
+    }
+    return wheel;
+  }
+
+  void add(ReplyHandler<?> handler) {
+    handlers.put(handler.address, handler);
+  }
+
+  ReplyHandler<?> remove(String address) {
+    return handlers.remove(address);
+  }
+
+  void remove(ReplyHandler<?> handler) {
+    handlers.remove(handler.address, handler);
+  }
+
+  int size() {
+    return handlers.size();
+  }
+
+  // Cancel the pending reply handlers without calling them
+  void clear() {
+    for (ReplyHandler<?> handler : handlers.values()) {
+      handler.cancel();
+    }
+    handlers.clear();
+  }
+}
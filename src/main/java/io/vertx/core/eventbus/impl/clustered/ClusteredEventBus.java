@@ -19,9 +19,11 @@ package io.vertx.core.eventbus.impl.clustered;
 import io.vertx.core.*;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.eventbus.ReplyFailure;
 import io.vertx.core.eventbus.impl.*;
 import io.vertx.core.impl.HAManager;
 import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -29,13 +31,14 @@ import io.vertx.core.net.NetServer;
 import io.vertx.core.net.NetServerOptions;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.impl.ServerID;
-import io.vertx.core.parsetools.RecordParser;
 import io.vertx.core.spi.cluster.AsyncMultiMap;
 import io.vertx.core.spi.cluster.ChoosableIterable;
 import io.vertx.core.spi.cluster.ClusterManager;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
-import java.util.UUID;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -52,6 +55,9 @@ public class ClusteredEventBus extends EventBusImpl {
   public static final String CLUSTER_PUBLIC_PORT_PROP_NAME = "vertx.cluster.public.port";
 
   private static final Buffer PONG = Buffer.buffer(new byte[] { (byte)1 });
+  static final byte SYMBOLS_ACK = 2;
+  static final byte CREDITS = 3;
+  static final byte BATCHES_ACK = 4;
   private static final String SERVER_ID_HA_KEY = "server_id";
   private static final String SUBS_MAP_NAME = "__vertx.subs";
 
@@ -61,6 +67,7 @@ public class ClusteredEventBus extends EventBusImpl {
   private final Context sendNoContext;
   private VertxOptions options;
   private AsyncMultiMap<String, ServerID> subs;
+  private SubscriptionCache subsCache;
   private ServerID serverID;
   private NetServer server;
 
@@ -68,7 +75,7 @@ public class ClusteredEventBus extends EventBusImpl {
                            VertxOptions options,
                            ClusterManager clusterManager,
                            HAManager haManager) {
-    super(vertx);
+    super(vertx, options.getHandlerSelectionPolicy());
     this.options = options;
     this.clusterManager = clusterManager;
     this.haManager = haManager;
@@ -81,6 +88,16 @@ public class ClusteredEventBus extends EventBusImpl {
     clusterManager.<String, ServerID>getAsyncMultiMap(SUBS_MAP_NAME, ar2 -> {
       if (ar2.succeeded()) {
         subs = ar2.result();
+        int cacheSize = options.getClusterSubscriptionCacheSize();
+        if (cacheSize > 0) {
+          SubscriptionCache cache = new SubscriptionCache(cacheSize);
+          if (subs.changeHandler(cache::invalidate)) {
+            haManager.setMembershipChangeHandler(nodeID -> cache.invalidate(null));
+            subsCache = cache;
+          } else {
+            log.warn("The cluster manager does not notify the subscription changes, the subscription cache is disabled");
+          }
+        }
         server = vertx.createNetServer(new NetServerOptions().setPort(options.getClusterPort()).setHost(options.getClusterHost()));
         server.connectHandler(getServerHandler());
         server.listen(asyncResult -> {
@@ -139,17 +156,23 @@ public class ClusteredEventBus extends EventBusImpl {
   @Override
   protected MessageImpl createMessage(boolean send, String address, MultiMap headers, Object body, String codecName) {
     Objects.requireNonNull(address, "no null address accepted");
-    MessageCodec codec = codecManager.lookupCodec(body, codecName);
+    MessageCodec codec;
+    if (codecName == null && options.isClusterBinaryJson() && body instanceof JsonObject) {
+      codec = CodecManager.JSON_OBJECT_BINARY_MESSAGE_CODEC;
+    } else if (codecName == null && options.isClusterBinaryJson() && body instanceof JsonArray) {
+      codec = CodecManager.JSON_ARRAY_BINARY_MESSAGE_CODEC;
+    } else {
+      codec = codecManager.lookupCodec(body, codecName);
+    }
     @SuppressWarnings("unchecked")
     ClusteredMessage msg = new ClusteredMessage(serverID, address, null, headers, body, codec, send, this);
     return msg;
   }
 
   @Override
-  protected <T> void addRegistration(boolean newAddress, String address,
-                                     boolean replyHandler, boolean localOnly,
+  protected <T> void addRegistration(boolean newAddress, String address, boolean localOnly,
                                      Handler<AsyncResult<Void>> completionHandler) {
-    if (newAddress && subs != null && !replyHandler && !localOnly) {
+    if (newAddress && subs != null && !localOnly) {
       // Propagate the information
       subs.add(address, serverID, completionHandler);
     } else {
@@ -175,7 +198,7 @@ public class ClusteredEventBus extends EventBusImpl {
   @Override
   protected <T> void sendOrPub(SendContextImpl<T> sendContext) {
     String address = sendContext.message.address();
-    Handler<AsyncResult<ChoosableIterable<ServerID>>> resultHandler = asyncResult -> {
+    lookupSubs(address, asyncResult -> {
       if (asyncResult.succeeded()) {
         ChoosableIterable<ServerID> serverIDs = asyncResult.result();
         if (serverIDs != null && !serverIDs.isEmpty()) {
@@ -187,21 +210,60 @@ public class ClusteredEventBus extends EventBusImpl {
       } else {
         log.error("Failed to send message", asyncResult.cause());
       }
-    };
+    });
+  }
+
+  @Override
+  protected void sendOrPubBatch(List<MessageImpl> messages) {
+    lookupSubs(messages.get(0).address(), asyncResult -> {
+      if (asyncResult.succeeded()) {
+        ChoosableIterable<ServerID> serverIDs = asyncResult.result();
+        if (serverIDs != null && !serverIDs.isEmpty()) {
+          sendBatchToSubs(serverIDs, messages);
+        } else {
+          super.sendOrPubBatch(messages);
+        }
+      } else {
+        log.error("Failed to send messages", asyncResult.cause());
+      }
+    });
+  }
+
+  private void lookupSubs(String address, Handler<AsyncResult<ChoosableIterable<ServerID>>> resultHandler) {
+    SubscriptionCache cache = subsCache;
+    if (cache != null) {
+      ChoosableIterable<ServerID> serverIDs = cache.get(address);
+      metrics.subscriptionCacheLookup(address, serverIDs != null);
+      if (serverIDs != null) {
+        resultHandler.handle(Future.succeededFuture(serverIDs));
+        return;
+      }
+      long generation = cache.lookupStart(address);
+      Handler<AsyncResult<ChoosableIterable<ServerID>>> lookupHandler = resultHandler;
+      resultHandler = asyncResult -> {
+        try {
+          lookupHandler.handle(asyncResult);
+        } finally {
+          // Ends the lookup once the message is dispatched so the next messages of the sender cannot overtake it
+          cache.lookupEnd(address, generation, asyncResult.succeeded() ? asyncResult.result() : null);
+        }
+      };
+    }
+    Handler<AsyncResult<ChoosableIterable<ServerID>>> handler = resultHandler;
     if (Vertx.currentContext() == null) {
       // Guarantees the order when there is no current context
       sendNoContext.runOnContext(v -> {
-        subs.get(address, resultHandler);
+        subs.get(address, handler);
       });
     } else {
-      subs.get(address, resultHandler);
+      subs.get(address, handler);
     }
   }
 
   @Override
   protected String generateReplyAddress() {
     // The address is a cryptographically secure id that can't be guessed
-    return UUID.randomUUID().toString();
+    return ReplyAddressGenerator.next();
   }
 
   @Override
@@ -244,30 +306,82 @@ public class ClusteredEventBus extends EventBusImpl {
 
   private Handler<NetSocket> getServerHandler() {
     return socket -> {
-      RecordParser parser = RecordParser.newFixed(4, null);
-      Handler<Buffer> handler = new Handler<Buffer>() {
-        int size = -1;
-        public void handle(Buffer buff) {
-          if (size == -1) {
-            size = buff.getInt(0);
-            parser.fixedSizeMode(size);
-          } else {
-            ClusteredMessage received = new ClusteredMessage();
-            received.readFromWire(buff, codecManager);
-            metrics.messageRead(received.address(), buff.length());
-            parser.fixedSizeMode(4);
-            size = -1;
-            if (received.codec() == CodecManager.PING_MESSAGE_CODEC) {
-              // Just send back pong directly on connection
-              socket.write(PONG);
+      socket.handler(new FrameParser(new Handler<Buffer>() {
+        // The reading side of the symbol table requested by the connection
+        SymbolTable symbols;
+        // The credits of the connection when it requested flow control
+        ConnectionCredits credits;
+        @Override
+        public void handle(Buffer frame) {
+          if (frame.getByte(0) == ClusteredMessage.BATCH_PROTOCOL_VERSION) {
+            handleBatch(frame);
+            return;
+          }
+          ClusteredMessage received = new ClusteredMessage();
+          received.readFromWire(frame, codecManager, symbols);
+          metrics.messageRead(received.address(), frame.length());
+          if (received.codec() == CodecManager.PING_MESSAGE_CODEC) {
+            // Just send back pong directly on connection
+            socket.write(PONG);
+            return;
+          }
+          if (received.codec() == CodecManager.INT_MESSAGE_CODEC &&
+            ConnectionHolder.CREDITS_ADDRESS.equals(received.address())) {
+            int window = options.getClusterConnectionCredits();
+            if (window > 0) {
+              credits = new ConnectionCredits(socket, window);
+            } else {
+              // The messages of the connection are not limited
+              ConnectionCredits.grant(socket, 0);
+            }
+            return;
+          }
+          if (received.codec() == CodecManager.INT_MESSAGE_CODEC &&
+            ConnectionHolder.BATCHES_ADDRESS.equals(received.address())) {
+            // The request takes no credit
+            socket.write(Buffer.buffer(new byte[] { BATCHES_ACK }));
+            return;
+          }
+          if (credits != null) {
+            received.setDeliveryCredit(credits.credit());
+          }
+          try {
+            if (received.codec() == CodecManager.INT_MESSAGE_CODEC &&
+              ConnectionHolder.SYMBOLS_ADDRESS.equals(received.address())) {
+              symbols = new SymbolTable((Integer) received.body());
+              socket.write(Buffer.buffer(new byte[] { SYMBOLS_ACK }));
             } else {
               deliverMessageLocally(received);
             }
+          } finally {
+            // The copies delivered to the handlers hold the credit until consumed
+            received.releaseCredit();
           }
         }
-      };
-      parser.setOutput(handler);
-      socket.handler(parser);
+        private void handleBatch(Buffer frame) {
+          int size = frame.getInt(1);
+          List<ClusteredMessage> batch = new ArrayList<>(size);
+          int pos = 5;
+          for (int i = 0; i < size; i++) {
+            int length = frame.getInt(pos);
+            ClusteredMessage received = new ClusteredMessage();
+            received.readFromWire(frame.slice(pos + 4, pos + 4 + length), codecManager, symbols);
+            metrics.messageRead(received.address(), length);
+            if (credits != null) {
+              received.setDeliveryCredit(credits.credit());
+            }
+            batch.add(received);
+            pos += 4 + length;
+          }
+          try {
+            deliverBatchLocally(batch);
+          } finally {
+            for (ClusteredMessage received : batch) {
+              received.releaseCredit();
+            }
+          }
+        }
+      }));
     };
   }
 
@@ -278,7 +392,7 @@ public class ClusteredEventBus extends EventBusImpl {
       ServerID sid = subs.choose();
       if (!sid.equals(serverID)) {  //We don't send to this node
         metrics.messageSent(address, false, false, true);
-        sendRemote(sid, sendContext.message);
+        sendRemote(sid, sendContext);
       } else {
         metrics.messageSent(address, false, true, false);
         deliverMessageLocally(sendContext);
@@ -290,7 +404,7 @@ public class ClusteredEventBus extends EventBusImpl {
       for (ServerID sid : subs) {
         if (!sid.equals(serverID)) {  //We don't send to this node
           remote = true;
-          sendRemote(sid, sendContext.message);
+          sendRemote(sid, sendContext);
         } else {
           local = true;
         }
@@ -302,19 +416,92 @@ public class ClusteredEventBus extends EventBusImpl {
     }
   }
 
+  private void sendBatchToSubs(ChoosableIterable<ServerID> subs, List<MessageImpl> messages) {
+    MessageImpl first = messages.get(0);
+    String address = first.address();
+    if (first.send()) {
+      // Choose one for the whole batch
+      ServerID sid = subs.choose();
+      if (!sid.equals(serverID)) {  //We don't send to this node
+        for (int i = 0; i < messages.size(); i++) {
+          metrics.messageSent(address, false, false, true);
+        }
+        sendBatchRemote(sid, messages);
+      } else {
+        super.sendOrPubBatch(messages);
+      }
+    } else {
+      // Publish
+      boolean local = false;
+      boolean remote = false;
+      for (ServerID sid : subs) {
+        if (!sid.equals(serverID)) {  //We don't send to this node
+          remote = true;
+          sendBatchRemote(sid, messages);
+        } else {
+          local = true;
+        }
+      }
+      for (int i = 0; i < messages.size(); i++) {
+        metrics.messageSent(address, true, local, remote);
+      }
+      if (local && !deliverBatchLocally(messages)) {
+        for (int i = 0; i < messages.size(); i++) {
+          metrics.replyFailure(address, ReplyFailure.NO_HANDLERS);
+        }
+      }
+    }
+  }
+
   private <T> void clusteredSendReply(ServerID replyDest, SendContextImpl<T> sendContext) {
     MessageImpl message = sendContext.message;
     String address = message.address();
     if (!replyDest.equals(serverID)) {
       metrics.messageSent(address, false, false, true);
-      sendRemote(replyDest, message);
+      sendRemote(replyDest, sendContext);
     } else {
       metrics.messageSent(address, false, true, false);
       deliverMessageLocally(sendContext);
     }
   }
 
-  private void sendRemote(ServerID theServerID, MessageImpl message) {
+  private <T> void sendRemote(ServerID theServerID, SendContextImpl<T> sendContext) {
+    addTarget(sendContext.message, theServerID);
+    if (!connectionHolder(theServerID).writeMessage((ClusteredMessage) sendContext.message)) {
+      deliveryFailure(sendContext, ReplyFailure.OVERLOADED, "Too many messages waiting for the credits of " + theServerID);
+    }
+  }
+
+  private void sendBatchRemote(ServerID theServerID, List<MessageImpl> messages) {
+    addTarget(messages.get(0), theServerID);
+    // The batches of the producers wait for the credits, their producers report their write queue full meanwhile
+    connectionHolder(theServerID).writeBatch(messages);
+  }
+
+  private void addTarget(MessageImpl message, ServerID theServerID) {
+    Set<ServerID> targets = message.targets();
+    if (targets != null) {
+      targets.add(theServerID);
+    }
+  }
+
+  @Override
+  protected boolean connectionCreditsEnabled() {
+    return options.getClusterConnectionCredits() > 0;
+  }
+
+  @Override
+  protected boolean isOverloaded(Set<ServerID> targets, Handler<Void> drainHandler) {
+    for (ServerID sid : targets) {
+      ConnectionHolder holder = connections.get(sid);
+      if (holder != null && holder.isBlocked(drainHandler)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private ConnectionHolder connectionHolder(ServerID theServerID) {
     // We need to deal with the fact that connecting can take some time and is async, and we cannot
     // block to wait for it. So we add any sends to a pending list if not connected yet.
     // Once we connect we send them.
@@ -333,7 +520,7 @@ public class ClusteredEventBus extends EventBusImpl {
         holder.connect();
       }
     }
-    holder.writeMessage((ClusteredMessage)message);
+    return holder;
   }
 
   private void removeSub(String subName, ServerID theServerID, Handler<AsyncResult<Void>> completionHandler) {
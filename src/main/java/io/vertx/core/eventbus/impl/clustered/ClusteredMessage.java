@@ -16,6 +16,9 @@
 
 package io.vertx.core.eventbus.impl.clustered;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.netty.util.CharsetUtil;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
@@ -32,6 +35,19 @@ import java.util.List;
 import java.util.Map;
 
 /**
+ * A message sent to or received from another node of the cluster.
+ * <p>
+ * Messages are encoded directly in the {@link ByteBuf} of the connection. A received message keeps a slice of
+ * the inbound frame: only the address is decoded on receipt since it is needed to dispatch the message, the reply
+ * address, the sender, the headers and the body are decoded when accessed.
+ * <p>
+ * When a {@link SymbolTable} is negotiated on the connection, the codec name, the address and the sender host are
+ * written with the {@link #SYMBOLS_PROTOCOL_VERSION}: a string is written with the id it is defined with the first
+ * time and only its id the next times.
+ * <p>
+ * When the batches are negotiated on the connection, a batch of messages is written in a single frame with the
+ * {@link #BATCH_PROTOCOL_VERSION} followed by the number of messages and the frames of the messages.
+ *
  * @author <a href="http://tfox.org">Tim Fox</a>
  */
 public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
@@ -39,11 +55,16 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
   private static final Logger log = LoggerFactory.getLogger(ClusteredMessage.class);
 
   private static final byte WIRE_PROTOCOL_VERSION = 1;
+  static final byte SYMBOLS_PROTOCOL_VERSION = 2;
+  static final byte BATCH_PROTOCOL_VERSION = 3;
 
   private ServerID sender;
   private Buffer wireBuffer;
+  private ByteBuf wireBuf;
   private int bodyPos;
   private int headersPos;
+  private int replyAddressPos;
+  private int senderPos;
   private boolean fromWire;
 
   public ClusteredMessage() {
@@ -60,8 +81,11 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     this.sender = other.sender;
     if (other.sentBody == null) {
       this.wireBuffer = other.wireBuffer;
+      this.wireBuf = other.wireBuf;
       this.bodyPos = other.bodyPos;
       this.headersPos = other.headersPos;
+      this.replyAddressPos = other.replyAddressPos;
+      this.senderPos = other.senderPos;
     }
     this.fromWire = other.fromWire;
   }
@@ -97,88 +121,148 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
 
   @Override
   public String replyAddress() {
+    // Lazily decode the reply address
+    if (replyAddressPos != 0) {
+      replyAddress = readString(replyAddressPos);
+      replyAddressPos = 0;
+    }
     return replyAddress;
   }
 
+  @Override
+  public void setReplyAddress(String replyAddress) {
+    super.setReplyAddress(replyAddress);
+    replyAddressPos = 0;
+  }
+
   public Buffer encodeToWire() {
     int length = 1024; // TODO make this configurable
-    Buffer buffer = Buffer.buffer(length);
-    buffer.appendInt(0);
-    buffer.appendByte(WIRE_PROTOCOL_VERSION);
+    ByteBuf buf = Unpooled.buffer(length);
+    encodeToWire(buf);
+    return Buffer.buffer(buf);
+  }
+
+  /**
+   * Write the wire format of this message to a buffer, several messages can be encoded in the same buffer.
+   *
+   * @param buf the buffer to write to
+   * @return the number of written bytes
+   */
+  public int encodeToWire(ByteBuf buf) {
+    return encodeToWire(buf, null);
+  }
+
+  /**
+   * Write the wire format of this message to a buffer, several messages can be encoded in the same buffer.
+   * <p>
+   * The strings added to the symbol table are defined by the written message, when the encoding fails the symbol
+   * table must not be used anymore.
+   *
+   * @param buf the buffer to write to
+   * @param symbols the writing side of the symbol table of the connection or {@code null}
+   * @return the number of written bytes
+   */
+  public int encodeToWire(ByteBuf buf, SymbolTable symbols) {
+    int start = buf.writerIndex();
+    buf.writeInt(0);
+    buf.writeByte(symbols != null ? SYMBOLS_PROTOCOL_VERSION : WIRE_PROTOCOL_VERSION);
     byte systemCodecID = messageCodec.systemCodecID();
-    buffer.appendByte(systemCodecID);
+    buf.writeByte(systemCodecID);
     if (systemCodecID == -1) {
       // User codec
-      writeString(buffer, messageCodec.name());
+      writeSymbol(buf, messageCodec.name(), symbols);
     }
-    buffer.appendByte(send ? (byte)0 : (byte)1);
-    writeString(buffer, address);
+    buf.writeByte(send ? (byte)0 : (byte)1);
+    writeSymbol(buf, address, symbols);
     if (replyAddress != null) {
-      writeString(buffer, replyAddress);
+      writeString(buf, replyAddress);
     } else {
-      buffer.appendInt(0);
+      buf.writeInt(0);
     }
-    buffer.appendInt(sender.port);
-    writeString(buffer, sender.host);
-    encodeHeaders(buffer);
-    writeBody(buffer);
-    buffer.setInt(0, buffer.length() - 4);
-    return buffer;
+    buf.writeInt(sender.port);
+    writeSymbol(buf, sender.host, symbols);
+    encodeHeaders(buf);
+    writeBody(buf);
+    int length = buf.writerIndex() - start;
+    buf.setInt(start, length - 4);
+    return length;
   }
 
+  /**
+   * Read a message from a frame, the frame is kept and the message decoded lazily.
+   *
+   * @param buffer the frame without the overall length
+   * @param codecManager the codec manager
+   */
   public void readFromWire(Buffer buffer, CodecManager codecManager) {
+    readFromWire(buffer, codecManager, null);
+  }
+
+  /**
+   * Read a message from a frame, the frame is kept and the message decoded lazily.
+   * <p>
+   * The symbols of the frame are resolved eagerly since the ids can be redefined by the next frames.
+   *
+   * @param buffer the frame without the overall length
+   * @param codecManager the codec manager
+   * @param symbols the reading side of the symbol table of the connection or {@code null}
+   */
+  public void readFromWire(Buffer buffer, CodecManager codecManager, SymbolTable symbols) {
+    ByteBuf buf = buffer.getByteBuf();
     int pos = 0;
     // Overall Length already read when passed in here
-    byte protocolVersion = buffer.getByte(pos);
-    if (protocolVersion > WIRE_PROTOCOL_VERSION) {
+    byte protocolVersion = buf.getByte(pos);
+    if (protocolVersion > SYMBOLS_PROTOCOL_VERSION) {
       throw new IllegalStateException("Invalid wire protocol version " + protocolVersion +
-                                      " should be <= " + WIRE_PROTOCOL_VERSION);
+                                      " should be <= " + SYMBOLS_PROTOCOL_VERSION);
+    }
+    if (protocolVersion == SYMBOLS_PROTOCOL_VERSION) {
+      if (symbols == null) {
+        throw new IllegalStateException("No symbol table negotiated on the connection");
+      }
+    } else {
+      symbols = null;
     }
     pos++;
-    byte systemCodecCode = buffer.getByte(pos);
+    byte systemCodecCode = buf.getByte(pos);
     pos++;
     if (systemCodecCode == -1) {
       // User codec
-      int length = buffer.getInt(pos);
-      pos += 4;
-      byte[] bytes = buffer.getBytes(pos, pos + length);
-      String codecName = new String(bytes, CharsetUtil.UTF_8);
+      String codecName = readSymbol(buf, pos, symbols);
       messageCodec = codecManager.getCodec(codecName);
       if (messageCodec == null) {
         throw new IllegalStateException("No message codec registered with name " + codecName);
       }
-      pos += length;
+      pos += symbolLength(buf, pos, symbols);
     } else {
       messageCodec = codecManager.systemCodecs()[systemCodecCode];
     }
-    byte bsend = buffer.getByte(pos);
+    byte bsend = buf.getByte(pos);
     send = bsend == 0;
     pos++;
-    int length = buffer.getInt(pos);
-    pos += 4;
-    byte[] bytes = buffer.getBytes(pos, pos + length);
-    address = new String(bytes, CharsetUtil.UTF_8);
-    pos += length;
-    length = buffer.getInt(pos);
-    pos += 4;
+    // The address is needed to dispatch the message, the other fields are decoded when accessed
+    address = readSymbol(buf, pos, symbols);
+    pos += symbolLength(buf, pos, symbols);
+    int length = buf.getInt(pos);
     if (length != 0) {
-      bytes = buffer.getBytes(pos, pos + length);
-      replyAddress = new String(bytes, CharsetUtil.UTF_8);
-      pos += length;
-    }
-    int senderPort = buffer.getInt(pos);
-    pos += 4;
-    length = buffer.getInt(pos);
-    pos += 4;
-    bytes = buffer.getBytes(pos, pos + length);
-    String senderHost = new String(bytes, CharsetUtil.UTF_8);
-    pos += length;
+      replyAddressPos = pos;
+    }
+    pos += 4 + length;
+    if (symbols != null) {
+      int port = buf.getInt(pos);
+      pos += 4;
+      sender = new ServerID(port, readSymbol(buf, pos, symbols));
+    } else {
+      senderPos = pos;
+      pos += 4;
+    }
+    pos += symbolLength(buf, pos, symbols);
     headersPos = pos;
-    int headersLength = buffer.getInt(pos);
+    int headersLength = buf.getInt(pos);
     pos += headersLength;
     bodyPos = pos;
-    sender = new ServerID(senderPort, senderHost);
     wireBuffer = buffer;
+    wireBuf = buf;
     fromWire = true;
   }
 
@@ -187,58 +271,106 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     bodyPos = 0;
   }
 
-  private void encodeHeaders(Buffer buffer) {
+  private void encodeHeaders(ByteBuf buf) {
     if (headers != null && !headers.isEmpty()) {
-      int headersLengthPos = buffer.length();
-      buffer.appendInt(0);
-      buffer.appendInt(headers.size());
+      int headersLengthPos = buf.writerIndex();
+      buf.writeInt(0);
+      buf.writeInt(headers.size());
       List<Map.Entry<String, String>> entries = headers.entries();
       for (Map.Entry<String, String> entry: entries) {
-        writeString(buffer, entry.getKey());
-        writeString(buffer, entry.getValue());
+        writeString(buf, entry.getKey());
+        writeString(buf, entry.getValue());
       }
-      int headersEndPos = buffer.length();
-      buffer.setInt(headersLengthPos, headersEndPos - headersLengthPos);
+      int headersEndPos = buf.writerIndex();
+      buf.setInt(headersLengthPos, headersEndPos - headersLengthPos);
     } else {
-      buffer.appendInt(4);
+      buf.writeInt(4);
     }
   }
 
   private void decodeHeaders() {
-    int length = wireBuffer.getInt(headersPos);
+    int length = wireBuf.getInt(headersPos);
     if (length != 4) {
       headersPos += 4;
-      int numHeaders = wireBuffer.getInt(headersPos);
+      int numHeaders = wireBuf.getInt(headersPos);
       headersPos += 4;
       headers = new CaseInsensitiveHeaders();
       for (int i = 0; i < numHeaders; i++) {
-        int keyLength = wireBuffer.getInt(headersPos);
-        headersPos += 4;
-        byte[] bytes = wireBuffer.getBytes(headersPos, headersPos + keyLength);
-        String key = new String(bytes, CharsetUtil.UTF_8);
-        headersPos += keyLength;
-        int valLength = wireBuffer.getInt(headersPos);
-        headersPos += 4;
-        bytes = wireBuffer.getBytes(headersPos, headersPos + valLength);
-        String val = new String(bytes, CharsetUtil.UTF_8);
-        headersPos += valLength;
+        String key = readString(headersPos);
+        headersPos += 4 + wireBuf.getInt(headersPos);
+        String val = readString(headersPos);
+        headersPos += 4 + wireBuf.getInt(headersPos);
         headers.add(key, val);
       }
     }
     headersPos = 0;
   }
 
-  private void writeBody(Buffer buff) {
-    messageCodec.encodeToWire(buff, sentBody);
+  private void writeBody(ByteBuf buf) {
+    // The buffer shares the indexes of buf, the codec appends the body to it
+    messageCodec.encodeToWire(Buffer.buffer(buf), sentBody);
+  }
+
+  private static void writeString(ByteBuf buf, String str) {
+    int lengthPos = buf.writerIndex();
+    buf.writeInt(0);
+    int length = ByteBufUtil.writeUtf8(buf, str);
+    buf.setInt(lengthPos, length);
+  }
+
+  // Write a string, or its id when it is in the symbol table
+  private static void writeSymbol(ByteBuf buf, String str, SymbolTable symbols) {
+    if (symbols == null) {
+      writeString(buf, str);
+    } else {
+      int id = symbols.idOf(str);
+      if (id >= 0) {
+        // A negative length refers to a symbol
+        buf.writeInt(-1 - id);
+      } else {
+        writeString(buf, str);
+        buf.writeInt(symbols.add(str));
+      }
+    }
+  }
+
+  // Read a string written by writeSymbol and define it in the symbol table
+  private static String readSymbol(ByteBuf buf, int pos, SymbolTable symbols) {
+    int length = buf.getInt(pos);
+    if (length < 0) {
+      if (symbols == null) {
+        throw new IllegalStateException("No symbol table negotiated on the connection");
+      }
+      return symbols.get(-1 - length);
+    }
+    String str = buf.toString(pos + 4, length, CharsetUtil.UTF_8);
+    if (symbols != null) {
+      symbols.define(buf.getInt(pos + 4 + length), str);
+    }
+    return str;
   }
 
-  private void writeString(Buffer buff, String str) {
-    byte[] strBytes = str.getBytes(CharsetUtil.UTF_8);
-    buff.appendInt(strBytes.length);
-    buff.appendBytes(strBytes);
+  private static int symbolLength(ByteBuf buf, int pos, SymbolTable symbols) {
+    int length = buf.getInt(pos);
+    if (length < 0) {
+      return 4;
+    }
+    return symbols != null ? 8 + length : 4 + length;
+  }
+
+  // Read a string prefixed by its length
+  private String readString(int pos) {
+    int length = wireBuf.getInt(pos);
+    return wireBuf.toString(pos + 4, length, CharsetUtil.UTF_8);
   }
 
   ServerID getSender() {
+    // Lazily decode the sender
+    if (senderPos != 0) {
+      int port = wireBuf.getInt(senderPos);
+      sender = new ServerID(port, readString(senderPos + 4));
+      senderPos = 0;
+    }
     return sender;
   }
 
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.eventbus.impl.clustered;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.impl.DeliveryCredit;
+import io.vertx.core.net.NetSocket;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The credits granted by the server to a connection that requested flow control.
+ * <p>
+ * The server grants its window when the connection requests the flow control, then the credits of the consumed
+ * messages by half windows. A grant is the {@link ClusteredEventBus#CREDITS} byte followed by the number of credits.
+ */
+class ConnectionCredits {
+
+  private final NetSocket socket;
+  private final int threshold;
+  private final AtomicLong consumed = new AtomicLong();
+
+  ConnectionCredits(NetSocket socket, int window) {
+    this.socket = socket;
+    this.threshold = Math.max(1, window / 2);
+    grant(socket, window);
+  }
+
+  /**
+   * @return the credit of a received message
+   */
+  DeliveryCredit credit() {
+    return new DeliveryCredit(this::consumed);
+  }
+
+  private void consumed() {
+    // A single thread reaches each multiple of the threshold
+    if (consumed.incrementAndGet() % threshold == 0) {
+      grant(socket, threshold);
+    }
+  }
+
+  static void grant(NetSocket socket, int credits) {
+    socket.write(Buffer.buffer(5).appendByte(ClusteredEventBus.CREDITS).appendInt(credits));
+  }
+}
@@ -1,8 +1,15 @@
 package io.vertx.core.eventbus.impl.clustered;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.util.concurrent.ScheduledFuture;
+import io.netty.util.internal.PlatformDependent;
+import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.impl.CodecManager;
+import io.vertx.core.eventbus.impl.MessageImpl;
 import io.vertx.core.eventbus.impl.codecs.PingMessageCodec;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -10,13 +17,45 @@ import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.impl.NetClientImpl;
+import io.vertx.core.net.impl.NetSocketImpl;
 import io.vertx.core.net.impl.ServerID;
 import io.vertx.core.spi.metrics.EventBusMetrics;
 
-import java.util.ArrayDeque;
+import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * The connection to another node of the cluster.
+ * <p>
+ * Messages are offered to a multi producer single consumer queue that is drained by the event loop of the
+ * connection, the producer that finds the connection idle schedules the drain. The drained messages are encoded
+ * in a pooled buffer that is flushed once it is bigger than the cluster write linger bytes, and at the end of the
+ * drain or once it is older than the cluster write linger time when a linger time is configured. A drain writes a
+ * limited number of messages before scheduling the next one, and stops while the socket is not writable until the
+ * socket drains.
+ * <p>
+ * The first batch of a producer written on the connection requests the batches, the messages batched by a producer
+ * are encoded in a single frame once the server has acknowledged them and in separate frames until then. Like the
+ * symbol table request, a server that does not support the batches never acknowledges the request.
+ * <p>
+ * When a cluster symbol table size is configured, the first message written on the connection requests a symbol
+ * table of this size. The messages are encoded with the symbol table once the server has acknowledged it, a server
+ * that does not support it delivers the request to an address without handlers and never acknowledges it.
+ * <p>
+ * When cluster connection credits are configured, the connection requests flow control before writing any message
+ * and the server grants its window of credits, or no window when it does not limit the messages. Each written message
+ * takes a credit and the server grants the credits back once its handlers have consumed the messages. The messages
+ * wait in the queue while there is no credit left, the connection is then blocked and rejects the messages offered
+ * once a window of messages is waiting. The batches of the producers are not rejected, they wait in the queue while
+ * their producers report their write queue full. Like the symbol table request, a server that does not support flow
+ * control never grants credits: the messages are not limited until the first grant, which accounts for the messages
+ * already written.
+ *
  * @author <a href="http://tfox.org">Tim Fox</a>
  */
 class ConnectionHolder {
@@ -24,29 +63,64 @@ class ConnectionHolder {
   private static final Logger log = LoggerFactory.getLogger(ConnectionHolder.class);
 
   private static final String PING_ADDRESS = "__vertx_ping";
+  static final String SYMBOLS_ADDRESS = "__vertx_symbols";
+  static final String CREDITS_ADDRESS = "__vertx_credits";
+  static final String BATCHES_ADDRESS = "__vertx_batches";
+  // The number of messages written by a drain before the event loop runs its other tasks
+  private static final int DRAIN_LIMIT = 1024;
 
   private final ClusteredEventBus eventBus;
   private final NetClient client;
   private final ServerID serverID;
   private final Vertx vertx;
   private final EventBusMetrics metrics;
+  private final long lingerTime;
+  private final int lingerBytes;
+  private final int symbolTableSize;
 
-  private Queue<ClusteredMessage> pending;
-  private NetSocket socket;
-  private boolean connected;
+  // The messages and the lists of messages of the batches
+  private final Queue<Object> pending = PlatformDependent.newMpscQueue();
+  private final AtomicBoolean drainScheduled = new AtomicBoolean();
+  private final Runnable drainTask = this::drain;
+  // The number of messages in the pending queue
+  private final AtomicInteger queued = new AtomicInteger();
+  private final Queue<Handler<Void>> drainHandlers = new ConcurrentLinkedQueue<>();
+  // -1 until granted by the server, 0 when the server does not limit the messages, only a positive window limits them
+  private volatile int window;
+  // Set when messages wait for credits
+  private volatile boolean blocked;
+  private volatile NetSocketImpl socket;
+  // Set once acknowledged by the server, used by the event loop of the connection
+  private volatile SymbolTable symbols;
+  // Set once acknowledged by the server
+  private volatile boolean batchesAcked;
   private long timeoutID = -1;
   private long pingTimeoutID = -1;
 
+  // Confined to the event loop of the connection
+  private ByteBuf batch;
+  private ScheduledFuture<?> lingerTimer;
+  private int credits;
+  private boolean batchesRequested;
+
+  // Confined to the handler of the socket, the credits being read
+  private int grantBytes;
+  private int grantValue;
+
   ConnectionHolder(ClusteredEventBus eventBus, ServerID serverID) {
     this.eventBus = eventBus;
     this.serverID = serverID;
     this.vertx = eventBus.vertx();
     this.metrics = eventBus.getMetrics();
+    this.lingerTime = eventBus.options().getClusterWriteLingerTime();
+    this.lingerBytes = eventBus.options().getClusterWriteLingerBytes();
+    this.symbolTableSize = eventBus.options().getClusterSymbolTableSize();
+    this.window = eventBus.options().getClusterConnectionCredits() > 0 ? -1 : 0;
     client = new NetClientImpl(eventBus.vertx(), new NetClientOptions().setConnectTimeout(60 * 1000), false);
   }
 
   synchronized void connect() {
-    if (connected) {
+    if (socket != null) {
       throw new IllegalStateException("Already connected");
     }
     client.connect(serverID.port, serverID.host, res -> {
@@ -58,21 +132,211 @@ class ConnectionHolder {
     });
   }
 
-  // TODO optimise this (contention on monitor)
-  synchronized void writeMessage(ClusteredMessage message) {
-    if (connected) {
-      Buffer data = message.encodeToWire();
-      metrics.messageWritten(message.address(), data.length());
-      socket.write(data);
-    } else {
-      if (pending == null) {
-        pending = new ArrayDeque<>();
+  /**
+   * @return false when the message is rejected because the connection is overloaded
+   */
+  boolean writeMessage(ClusteredMessage message) {
+    if (!reserve(1)) {
+      return false;
+    }
+    pending.add(message);
+    NetSocketImpl so = socket;
+    if (so != null) {
+      scheduleDrain(so);
+    }
+    // Otherwise the message is written once connected
+    return true;
+  }
+
+  /**
+   * Write a batch, the batch waits for the credits of the server when the connection is blocked.
+   */
+  void writeBatch(List<? extends MessageImpl> messages) {
+    queued.addAndGet(messages.size());
+    pending.add(messages);
+    NetSocketImpl so = socket;
+    if (so != null) {
+      scheduleDrain(so);
+    }
+  }
+
+  private boolean reserve(int count) {
+    if (blocked && queued.get() >= window) {
+      // Fail fast instead of buffering the messages of a server that does not keep up
+      return false;
+    }
+    queued.addAndGet(count);
+    return true;
+  }
+
+  /**
+   * Whether the messages wait for the server to grant credits.
+   *
+   * @param drainHandler called once the connection is no longer blocked, on an arbitrary thread, when true is returned
+   */
+  boolean isBlocked(Handler<Void> drainHandler) {
+    if (!blocked) {
+      return false;
+    }
+    if (drainHandler != null) {
+      drainHandlers.add(drainHandler);
+      if (!blocked) {
+        // The handlers may have been notified before this one was added
+        notifyDrained();
+        return false;
       }
-      pending.add(message);
+    }
+    return true;
+  }
+
+  private void notifyDrained() {
+    Handler<Void> handler;
+    while ((handler = drainHandlers.poll()) != null) {
+      try {
+        handler.handle(null);
+      } catch (Throwable t) {
+        log.error("Failure in drain handler", t);
+      }
+    }
+  }
+
+  private void scheduleDrain(NetSocketImpl so) {
+    if (drainScheduled.compareAndSet(false, true)) {
+      try {
+        so.channel().eventLoop().execute(drainTask);
+      } catch (RejectedExecutionException ignore) {
+        // The event loop is shut down
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void drain() {
+    drainScheduled.set(false);
+    Channel channel = socket.channel();
+    int drained = 0;
+    Object item;
+    // The messages wait in the queue while the socket is not writable, the drain handler of the socket resumes them
+    while (drained < DRAIN_LIMIT && channel.isWritable() && (item = poll()) != null) {
+      drained += item instanceof List ? ((List<?>) item).size() : 1;
+      if (batch == null) {
+        batch = channel.alloc().ioBuffer();
+      }
+      int pos = batch.writerIndex();
+      try {
+        if (item instanceof ClusteredMessage) {
+          ClusteredMessage message = (ClusteredMessage) item;
+          int length = message.encodeToWire(batch, symbols);
+          metrics.messageWritten(message.address(), length);
+        } else if (batchesAcked) {
+          encodeBatch((List<ClusteredMessage>) item);
+        } else {
+          encodeSeparately((List<ClusteredMessage>) item);
+        }
+      } catch (Throwable t) {
+        // Discard the partially encoded message, it may have added symbols the server will never see
+        batch.writerIndex(pos);
+        symbols = null;
+        log.error("Failed to encode message", t);
+        continue;
+      }
+      if (batch.readableBytes() >= lingerBytes) {
+        writeBatch(channel);
+      }
+    }
+    if (batch != null) {
+      if (lingerTime == 0) {
+        writeBatch(channel);
+      } else if (lingerTimer == null) {
+        lingerTimer = channel.eventLoop().schedule(this::flushBatch, lingerTime, TimeUnit.MILLISECONDS);
+      }
+    }
+    if (drained >= DRAIN_LIMIT) {
+      // Continue once the other tasks of the event loop have run
+      scheduleDrain(socket);
+    }
+    boolean wasBlocked = blocked;
+    blocked = window > 0 && credits <= 0 && !pending.isEmpty();
+    if (wasBlocked && !blocked) {
+      notifyDrained();
+    }
+  }
+
+  private Object poll() {
+    if (window > 0 && credits <= 0) {
+      // Wait for the server to grant credits
+      return null;
+    }
+    Object item = pending.poll();
+    if (item != null) {
+      int count = item instanceof List ? ((List<?>) item).size() : 1;
+      queued.addAndGet(-count);
+      // A batch can take more credits than left, the messages written before the first grant take credits too
+      credits -= count;
+    }
+    return item;
+  }
+
+  private void grantCredits(int count) {
+    Channel channel = socket.channel();
+    if (!channel.eventLoop().inEventLoop()) {
+      channel.eventLoop().execute(() -> grantCredits(count));
+      return;
+    }
+    if (window < 0) {
+      window = count;
+    }
+    credits += count;
+    drain();
+  }
+
+  private void encodeBatch(List<ClusteredMessage> messages) {
+    int start = batch.writerIndex();
+    batch.writeInt(0);
+    batch.writeByte(ClusteredMessage.BATCH_PROTOCOL_VERSION);
+    batch.writeInt(messages.size());
+    for (ClusteredMessage message : messages) {
+      int length = message.encodeToWire(batch, symbols);
+      metrics.messageWritten(message.address(), length);
+    }
+    batch.setInt(start, batch.writerIndex() - start - 4);
+  }
+
+  private void encodeSeparately(List<ClusteredMessage> messages) {
+    if (!batchesRequested) {
+      // The server handles the request ahead of the messages, it takes no credit
+      new ClusteredMessage<>(serverID, BATCHES_ADDRESS, null, null, (int) ClusteredMessage.BATCH_PROTOCOL_VERSION,
+        CodecManager.INT_MESSAGE_CODEC, true, eventBus).encodeToWire(batch, symbols);
+      batchesRequested = true;
+    }
+    for (ClusteredMessage message : messages) {
+      int length = message.encodeToWire(batch, symbols);
+      metrics.messageWritten(message.address(), length);
+    }
+  }
+
+  private void flushBatch() {
+    lingerTimer = null;
+    if (batch != null) {
+      writeBatch(socket.channel());
+    }
+  }
+
+  private void writeBatch(Channel channel) {
+    socket.reportBytesWritten(batch.readableBytes());
+    // The channel releases the buffer once written
+    channel.writeAndFlush(batch);
+    batch = null;
+    if (lingerTimer != null) {
+      lingerTimer.cancel(false);
+      lingerTimer = null;
     }
   }
 
   void close() {
+    // The messages sent to a closed connection are lost, they must not block the producers
+    blocked = false;
+    notifyDrained();
     if (timeoutID != -1) {
       vertx.cancelTimer(timeoutID);
     }
@@ -106,24 +370,49 @@ class ConnectionHolder {
     });
   }
 
-  private synchronized void connected(NetSocket socket) {
-    this.socket = socket;
-    connected = true;
+  private void connected(NetSocket socket) {
+    this.socket = (NetSocketImpl) socket;
     socket.exceptionHandler(t -> close());
     socket.closeHandler(v -> close());
+    socket.drainHandler(v -> scheduleDrain(this.socket));
     socket.handler(data -> {
-      // Got a pong back
-      vertx.cancelTimer(timeoutID);
-      schedulePing();
+      for (int i = 0; i < data.length(); i++) {
+        byte b = data.getByte(i);
+        if (grantBytes > 0) {
+          // The credits can be split across reads
+          grantValue = (grantValue << 8) | (b & 0xFF);
+          if (--grantBytes == 0) {
+            grantCredits(grantValue);
+          }
+        } else if (b == ClusteredEventBus.SYMBOLS_ACK) {
+          symbols = new SymbolTable(symbolTableSize);
+        } else if (b == ClusteredEventBus.BATCHES_ACK) {
+          batchesAcked = true;
+        } else if (b == ClusteredEventBus.CREDITS) {
+          grantBytes = 4;
+          grantValue = 0;
+        } else {
+          // Got a pong back
+          vertx.cancelTimer(timeoutID);
+          schedulePing();
+        }
+      }
     });
     // Start a pinger
     schedulePing();
-    for (ClusteredMessage message : pending) {
-      Buffer data = message.encodeToWire();
-      metrics.messageWritten(message.address(), data.length());
-      socket.write(data);
+    if (window < 0) {
+      // Written ahead of the pending messages, they wait for the credits of the server
+      ClusteredMessage creditsRequest = new ClusteredMessage<>(serverID, CREDITS_ADDRESS, null, null,
+        eventBus.options().getClusterConnectionCredits(), CodecManager.INT_MESSAGE_CODEC, true, eventBus);
+      socket.write(creditsRequest.encodeToWire());
+    }
+    if (symbolTableSize > 0) {
+      queued.incrementAndGet();
+      pending.add(new ClusteredMessage<>(serverID, SYMBOLS_ADDRESS, null, null, symbolTableSize,
+        CodecManager.INT_MESSAGE_CODEC, true, eventBus));
     }
-    pending.clear();
+    // Write the messages sent while connecting
+    scheduleDrain(this.socket);
   }
 
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.eventbus.impl.clustered;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Split the stream of a cluster connection in frames prefixed by their length.
+ * <p>
+ * The frames contained in a received buffer are slices of this buffer, only a frame split over several received
+ * buffers is copied.
+ */
+public class FrameParser implements Handler<Buffer> {
+
+  private final Handler<Buffer> frameHandler;
+  // The start of a frame split over several buffers, including its length
+  private Buffer pending;
+
+  public FrameParser(Handler<Buffer> frameHandler) {
+    this.frameHandler = frameHandler;
+  }
+
+  @Override
+  public void handle(Buffer data) {
+    int len = data.length();
+    int pos = 0;
+    if (pending != null) {
+      if (pending.length() < 4) {
+        int n = Math.min(4 - pending.length(), len);
+        pending.appendBuffer(data, 0, n);
+        pos = n;
+        if (pending.length() < 4) {
+          return;
+        }
+      }
+      int frameEnd = 4 + pending.getInt(0);
+      int n = Math.min(frameEnd - pending.length(), len - pos);
+      pending.appendBuffer(data, pos, n);
+      pos += n;
+      if (pending.length() < frameEnd) {
+        return;
+      }
+      Buffer frame = pending.slice(4, frameEnd);
+      pending = null;
+      frameHandler.handle(frame);
+    }
+    while (len - pos >= 4) {
+      int frameEnd = pos + 4 + data.getInt(pos);
+      if (frameEnd > len) {
+        break;
+      }
+      frameHandler.handle(data.slice(pos + 4, frameEnd));
+      pos = frameEnd;
+    }
+    if (pos < len) {
+      int remaining = len - pos;
+      pending = Buffer.buffer(remaining >= 4 ? 4 + data.getInt(pos) : 4);
+      pending.appendBuffer(data, pos, remaining);
+    }
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.eventbus.impl.clustered;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+/**
+ * Generate the reply addresses of a clustered event bus: 128 bits ids that can't be guessed, encoded in 22 URL safe
+ * base 64 characters.
+ * <p>
+ * Each thread draws the ids from its own {@code SHA1PRNG} stream seeded by the platform {@link SecureRandom}, the
+ * random bytes are generated by blocks so generating an id neither contends with other threads nor hits the
+ * platform random source as {@link java.util.UUID#randomUUID()} does.
+ */
+class ReplyAddressGenerator {
+
+  private static final char[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+  private static final int ID_BYTES = 16;
+  private static final int BLOCK_SIZE = 64 * ID_BYTES;
+  private static final SecureRandom SEEDS = new SecureRandom();
+  private static final ThreadLocal<ReplyAddressGenerator> GENERATORS = ThreadLocal.withInitial(ReplyAddressGenerator::new);
+
+  private final SecureRandom random;
+  private final byte[] block = new byte[BLOCK_SIZE];
+  private int pos = BLOCK_SIZE;
+
+  private ReplyAddressGenerator() {
+    try {
+      random = SecureRandom.getInstance("SHA1PRNG");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    byte[] seed = new byte[32];
+    SEEDS.nextBytes(seed);
+    random.setSeed(seed);
+  }
+
+  static String next() {
+    return GENERATORS.get().nextAddress();
+  }
+
+  private String nextAddress() {
+    if (pos == BLOCK_SIZE) {
+      random.nextBytes(block);
+      pos = 0;
+    }
+    char[] chars = new char[22];
+    int c = 0;
+    int acc = 0;
+    int bits = 0;
+    for (int i = 0; i < ID_BYTES; i++) {
+      acc = (acc << 8) | (block[pos++] & 0xFF);
+      bits += 8;
+      while (bits >= 6) {
+        bits -= 6;
+        chars[c++] = ALPHABET[(acc >>> bits) & 0x3F];
+      }
+    }
+    // The last 2 bits
+    chars[c] = ALPHABET[(acc << (6 - bits)) & 0x3F];
+    return new String(chars);
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.eventbus.impl.clustered;
+
+import io.vertx.core.net.impl.ServerID;
+import io.vertx.core.spi.cluster.ChoosableIterable;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A local cache of the cluster subscriptions of the addresses, invalidated by the change notifications of the
+ * subscription map and by the cluster membership changes.
+ * <p>
+ * The subscriptions of an address are not used while a lookup of this address is in progress, so a sender that
+ * missed the cache does not see its next messages overtake the message waiting for the lookup. A lookup result is
+ * discarded when the address has been invalidated since the lookup started.
+ * <p>
+ * The size of the cache is bounded, when it is full an idle address is evicted.
+ */
+class SubscriptionCache {
+
+  // Mutated in the compute methods of the map only
+  private static class Entry {
+    volatile ChoosableIterable<ServerID> subs;
+    volatile int lookups;
+    long generation;
+  }
+
+  private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+  private final int maxSize;
+
+  SubscriptionCache(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * @return the cached subscriptions or {@code null} when they must be looked up
+   */
+  ChoosableIterable<ServerID> get(String address) {
+    Entry entry = entries.get(address);
+    if (entry != null && entry.lookups == 0) {
+      return entry.subs;
+    }
+    return null;
+  }
+
+  /**
+   * Signal the start of a lookup, it must be followed by {@link #lookupEnd}.
+   *
+   * @return the generation of the address to pass to {@link #lookupEnd}
+   */
+  long lookupStart(String address) {
+    if (!entries.containsKey(address) && entries.size() >= maxSize) {
+      evict();
+    }
+    long[] generation = new long[1];
+    entries.compute(address, (a, entry) -> {
+      if (entry == null) {
+        entry = new Entry();
+      }
+      entry.lookups++;
+      generation[0] = entry.generation;
+      return entry;
+    });
+    return generation[0];
+  }
+
+  /**
+   * Signal the end of a lookup.
+   *
+   * @param subs the result of the lookup or {@code null} when it failed
+   */
+  void lookupEnd(String address, long generation, ChoosableIterable<ServerID> subs) {
+    entries.computeIfPresent(address, (a, entry) -> {
+      entry.lookups--;
+      if (subs != null && entry.generation == generation) {
+        entry.subs = subs;
+      }
+      return entry.subs == null && entry.lookups == 0 ? null : entry;
+    });
+  }
+
+  /**
+   * Invalidate an address, or all the addresses when {@code address} is {@code null}.
+   */
+  void invalidate(String address) {
+    if (address == null) {
+      for (String a : entries.keySet()) {
+        invalidate(a);
+      }
+    } else {
+      entries.computeIfPresent(address, (a, entry) -> {
+        entry.generation++;
+        entry.subs = null;
+        return entry.lookups == 0 ? null : entry;
+      });
+    }
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  private void evict() {
+    for (String address : entries.keySet()) {
+      if (entries.computeIfPresent(address, (a, entry) -> entry.lookups == 0 ? null : entry) == null) {
+        return;
+      }
+    }
+  }
+}
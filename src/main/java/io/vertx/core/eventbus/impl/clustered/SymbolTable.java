@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.eventbus.impl.clustered;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One direction of the symbol table of a cluster connection, it is not thread safe.
+ * <p>
+ * The writing side maps the strings to their ids: when the table is full the least recently used string is
+ * replaced and its id is reused. The reading side maps the ids to the strings, each string is defined with its id
+ * the first time it is written so both sides stay in sync as long as the frames are read in the order they are
+ * written.
+ */
+public class SymbolTable {
+
+  private final int size;
+  private final LinkedHashMap<String, Integer> ids;
+  private final String[] symbols;
+
+  public SymbolTable(int size) {
+    if (size < 1) {
+      throw new IllegalArgumentException("size must be > 0");
+    }
+    this.size = size;
+    this.ids = new LinkedHashMap<>(16, 0.75f, true);
+    this.symbols = new String[size];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return the id of the string or {@code -1} when it is not in the table
+   */
+  public int idOf(String str) {
+    Integer id = ids.get(str);
+    return id != null ? id : -1;
+  }
+
+  /**
+   * Add a string to the writing side, replacing the least recently used string when the table is full.
+   *
+   * @return the id of the string
+   */
+  public int add(String str) {
+    int id;
+    if (ids.size() < size) {
+      id = ids.size();
+    } else {
+      Iterator<Map.Entry<String, Integer>> it = ids.entrySet().iterator();
+      id = it.next().getValue();
+      it.remove();
+    }
+    ids.put(str, id);
+    return id;
+  }
+
+  /**
+   * Define a string on the reading side.
+   */
+  public void define(int id, String str) {
+    checkId(id);
+    symbols[id] = str;
+  }
+
+  /**
+   * @return the string defined with the id on the reading side
+   */
+  public String get(int id) {
+    checkId(id);
+    String str = symbols[id];
+    if (str == null) {
+      throw new IllegalStateException("Undefined symbol " + id);
+    }
+    return str;
+  }
+
+  private void checkId(int id) {
+    if (id < 0 || id >= size) {
+      throw new IllegalStateException("Invalid symbol " + id + " should be < " + size);
+    }
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.eventbus.impl.codecs;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.json.JsonArray;
+
+/**
+ * Encodes the JSON arrays in the compact binary encoding of {@link JsonArray#writeToBuffer(Buffer, boolean)}.
+ */
+public class JsonArrayBinaryMessageCodec implements MessageCodec<JsonArray, JsonArray> {
+
+  @Override
+  public void encodeToWire(Buffer buffer, JsonArray jsonArray) {
+    jsonArray.writeToBuffer(buffer, true);
+  }
+
+  @Override
+  public JsonArray decodeFromWire(int pos, Buffer buffer) {
+    JsonArray jsonArray = new JsonArray();
+    jsonArray.readFromBuffer(pos, buffer);
+    return jsonArray;
+  }
+
+  @Override
+  public JsonArray transform(JsonArray jsonArray) {
+    // A read-only array is shared by the handlers
+    return jsonArray.isReadOnly() ? jsonArray : jsonArray.copy();
+  }
+
+  @Override
+  public String name() {
+    return "jsonarray-binary";
+  }
+
+  @Override
+  public byte systemCodecID() {
+    return 17;
+  }
+}
@@ -16,7 +16,6 @@
 
 package io.vertx.core.eventbus.impl.codecs;
 
-import io.netty.util.CharsetUtil;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.MessageCodec;
 import io.vertx.core.json.JsonArray;
@@ -28,25 +27,21 @@ public class JsonArrayMessageCodec implements MessageCodec<JsonArray, JsonArray>
 
   @Override
   public void encodeToWire(Buffer buffer, JsonArray jsonArray) {
-    String strJson = jsonArray.encode();
-    byte[] encoded = strJson.getBytes(CharsetUtil.UTF_8);
-    buffer.appendInt(encoded.length);
-    Buffer buff = Buffer.buffer(encoded);
-    buffer.appendBuffer(buff);
+    jsonArray.writeToBuffer(buffer);
   }
 
   @Override
   public JsonArray decodeFromWire(int pos, Buffer buffer) {
-    int length = buffer.getInt(pos);
-    pos += 4;
-    byte[] encoded = buffer.getBytes(pos, pos + length);
-    String str = new String(encoded, CharsetUtil.UTF_8);
-    return new JsonArray(str);
+    // Also decodes the binary encoding
+    JsonArray jsonArray = new JsonArray();
+    jsonArray.readFromBuffer(pos, buffer);
+    return jsonArray;
   }
 
   @Override
   public JsonArray transform(JsonArray jsonArray) {
-    return jsonArray.copy();
+    // A read-only array is shared by the handlers
+    return jsonArray.isReadOnly() ? jsonArray : jsonArray.copy();
   }
 
   @Override
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.eventbus.impl.codecs;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Encodes the JSON objects in the compact binary encoding of {@link JsonObject#writeToBuffer(Buffer, boolean)}.
+ */
+public class JsonObjectBinaryMessageCodec implements MessageCodec<JsonObject, JsonObject> {
+
+  @Override
+  public void encodeToWire(Buffer buffer, JsonObject jsonObject) {
+    jsonObject.writeToBuffer(buffer, true);
+  }
+
+  @Override
+  public JsonObject decodeFromWire(int pos, Buffer buffer) {
+    JsonObject jsonObject = new JsonObject();
+    jsonObject.readFromBuffer(pos, buffer);
+    return jsonObject;
+  }
+
+  @Override
+  public JsonObject transform(JsonObject jsonObject) {
+    // A read-only object is shared by the handlers
+    return jsonObject.isReadOnly() ? jsonObject : jsonObject.copy();
+  }
+
+  @Override
+  public String name() {
+    return "jsonobject-binary";
+  }
+
+  @Override
+  public byte systemCodecID() {
+    return 16;
+  }
+}
@@ -16,7 +16,6 @@
 
 package io.vertx.core.eventbus.impl.codecs;
 
-import io.netty.util.CharsetUtil;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.MessageCodec;
 import io.vertx.core.json.JsonObject;
@@ -28,25 +27,21 @@ public class JsonObjectMessageCodec implements MessageCodec<JsonObject, JsonObje
 
   @Override
   public void encodeToWire(Buffer buffer, JsonObject jsonObject) {
-    String strJson = jsonObject.encode();
-    byte[] encoded = strJson.getBytes(CharsetUtil.UTF_8);
-    buffer.appendInt(encoded.length);
-    Buffer buff = Buffer.buffer(encoded);
-    buffer.appendBuffer(buff);
+    jsonObject.writeToBuffer(buffer);
   }
 
   @Override
   public JsonObject decodeFromWire(int pos, Buffer buffer) {
-    int length = buffer.getInt(pos);
-    pos += 4;
-    byte[] encoded = buffer.getBytes(pos, pos + length);
-    String str = new String(encoded, CharsetUtil.UTF_8);
-    return new JsonObject(str);
+    // Also decodes the binary encoding
+    JsonObject jsonObject = new JsonObject();
+    jsonObject.readFromBuffer(pos, buffer);
+    return jsonObject;
   }
 
   @Override
   public JsonObject transform(JsonObject jsonObject) {
-    return jsonObject.copy();
+    // A read-only object is shared by the handlers
+    return jsonObject.isReadOnly() ? jsonObject : jsonObject.copy();
   }
 
   @Override
@@ -171,6 +171,12 @@ public class HttpClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  @Override
+  public HttpClientOptions setReusePort(boolean reusePort) {
+    super.setReusePort(reusePort);
+    return this;
+  }
+
   @Override
   public HttpClientOptions setTrafficClass(int trafficClass) {
     super.setTrafficClass(trafficClass);
@@ -207,6 +213,18 @@ public class HttpClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  @Override
+  public HttpClientOptions setTcpFastOpen(boolean tcpFastOpen) {
+    super.setTcpFastOpen(tcpFastOpen);
+    return this;
+  }
+
+  @Override
+  public HttpClientOptions setTcpCork(boolean tcpCork) {
+    super.setTcpCork(tcpCork);
+    return this;
+  }
+
   @Override
   public HttpClientOptions setSsl(boolean ssl) {
     super.setSsl(ssl);
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.impl.HttpResponseTemplateImpl;
+
+/**
+ * A reusable server response, encoded once when it is created.
+ * <p>
+ * The status line, the headers and the body of the template are encoded in a single buffer that is written as is by
+ * {@link HttpServerResponse#send(HttpResponseTemplate)}, which is cheaper than encoding the same response for each
+ * request. The {@code Content-Length} header is set from the body.
+ * <p>
+ * A template can be sent by any number of responses of any server, from any thread.
+ */
+@VertxGen
+public interface HttpResponseTemplate {
+
+  /**
+   * Create a template of a response without body.
+   *
+   * @param statusCode  the status code of the response
+   * @param headers  the headers of the response
+   * @return the template
+   */
+  static HttpResponseTemplate create(int statusCode, MultiMap headers) {
+    return new HttpResponseTemplateImpl(statusCode, headers, null);
+  }
+
+  /**
+   * Create a template of a response.
+   *
+   * @param statusCode  the status code of the response
+   * @param headers  the headers of the response
+   * @param body  the body of the response, it is copied
+   * @return the template
+   */
+  static HttpResponseTemplate create(int statusCode, MultiMap headers, Buffer body) {
+    return new HttpResponseTemplateImpl(statusCode, headers, body);
+  }
+
+  /**
+   * @return the status code of the response
+   */
+  int statusCode();
+}
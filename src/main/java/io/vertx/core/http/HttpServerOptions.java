@@ -21,6 +21,11 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.*;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Represents options used by an {@link io.vertx.core.http.HttpServer} instance
  *
@@ -39,6 +44,16 @@ public class HttpServerOptions extends NetServerOptions {
    */
   public static final boolean DEFAULT_COMPRESSION_SUPPORTED = false;
 
+  /**
+   * Default compression level = 6, the default level of the deflate algorithm
+   */
+  public static final int DEFAULT_COMPRESSION_LEVEL = 6;
+
+  /**
+   * Default compression content size threshold = 0, all the responses are compressed
+   */
+  public static final int DEFAULT_COMPRESSION_CONTENT_SIZE_THRESHOLD = 0;
+
   /**
    * Default max websocket framesize = 65536
    */
@@ -64,13 +79,30 @@ public class HttpServerOptions extends NetServerOptions {
    */
   public static final boolean DEFAULT_HANDLE_100_CONTINE_AUTOMATICALLY = false;
 
+  /**
+   * Default value of whether the server sends a Date header with the responses = false
+   */
+  public static final boolean DEFAULT_DATE_HEADER = false;
+
+  /**
+   * Default file cache timeout = 0 ms, the files sent by the responses are not cached
+   */
+  public static final int DEFAULT_FILE_CACHE_TIMEOUT = 0;
+
   private boolean compressionSupported;
+  private int compressionLevel;
+  private int compressionContentSizeThreshold;
+  private Set<String> compressionIncludedContentTypes;
+  private Set<String> compressionExcludedContentTypes;
   private int maxWebsocketFrameSize;
   private String websocketSubProtocols;
   private boolean handle100ContinueAutomatically;
   private int maxChunkSize;
   private int maxInitialLineLength;
   private int maxHeaderSize;
+  private boolean dateHeader;
+  private List<String> precompressedEncodings;
+  private int fileCacheTimeout;
 
   /**
    * Default constructor
@@ -89,12 +121,19 @@ public class HttpServerOptions extends NetServerOptions {
   public HttpServerOptions(HttpServerOptions other) {
     super(other);
     this.compressionSupported = other.isCompressionSupported();
+    this.compressionLevel = other.getCompressionLevel();
+    this.compressionContentSizeThreshold = other.getCompressionContentSizeThreshold();
+    this.compressionIncludedContentTypes = new HashSet<>(other.getCompressionIncludedContentTypes());
+    this.compressionExcludedContentTypes = new HashSet<>(other.getCompressionExcludedContentTypes());
     this.maxWebsocketFrameSize = other.getMaxWebsocketFrameSize();
     this.websocketSubProtocols = other.getWebsocketSubProtocols();
     this.handle100ContinueAutomatically = other.handle100ContinueAutomatically;
     this.maxChunkSize = other.getMaxChunkSize();
     this.maxInitialLineLength = other.getMaxInitialLineLength();
     this.maxHeaderSize = other.getMaxHeaderSize();
+    this.dateHeader = other.isDateHeader();
+    this.precompressedEncodings = new ArrayList<>(other.getPrecompressedEncodings());
+    this.fileCacheTimeout = other.getFileCacheTimeout();
   }
 
   /**
@@ -111,11 +150,18 @@ public class HttpServerOptions extends NetServerOptions {
 
   private void init() {
     compressionSupported = DEFAULT_COMPRESSION_SUPPORTED;
+    compressionLevel = DEFAULT_COMPRESSION_LEVEL;
+    compressionContentSizeThreshold = DEFAULT_COMPRESSION_CONTENT_SIZE_THRESHOLD;
+    compressionIncludedContentTypes = new HashSet<>();
+    compressionExcludedContentTypes = new HashSet<>();
     maxWebsocketFrameSize = DEFAULT_MAX_WEBSOCKET_FRAME_SIZE;
     handle100ContinueAutomatically = DEFAULT_HANDLE_100_CONTINE_AUTOMATICALLY;
     maxChunkSize = DEFAULT_MAX_CHUNK_SIZE;
     maxInitialLineLength = DEFAULT_MAX_INITIAL_LINE_LENGTH;
     maxHeaderSize = DEFAULT_MAX_HEADER_SIZE;
+    dateHeader = DEFAULT_DATE_HEADER;
+    precompressedEncodings = new ArrayList<>();
+    fileCacheTimeout = DEFAULT_FILE_CACHE_TIMEOUT;
   }
 
   @Override
@@ -136,6 +182,12 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  @Override
+  public HttpServerOptions setReusePort(boolean reusePort) {
+    super.setReusePort(reusePort);
+    return this;
+  }
+
   @Override
   public HttpServerOptions setTrafficClass(int trafficClass) {
     super.setTrafficClass(trafficClass);
@@ -172,6 +224,18 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  @Override
+  public HttpServerOptions setTcpFastOpen(boolean tcpFastOpen) {
+    super.setTcpFastOpen(tcpFastOpen);
+    return this;
+  }
+
+  @Override
+  public HttpServerOptions setTcpCork(boolean tcpCork) {
+    super.setTcpCork(tcpCork);
+    return this;
+  }
+
   @Override
   public HttpServerOptions setSsl(boolean ssl) {
     super.setSsl(ssl);
@@ -256,6 +320,12 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  @Override
+  public HttpServerOptions setEventLoopBalancingPolicy(EventLoopBalancingPolicy eventLoopBalancingPolicy) {
+    super.setEventLoopBalancingPolicy(eventLoopBalancingPolicy);
+    return this;
+  }
+
 
   /**
    * @return true if the server supports compression
@@ -266,6 +336,9 @@ public class HttpServerOptions extends NetServerOptions {
 
   /**
    * Set whether the server supports compression
+   * <p>
+   * A response is not compressed when its {@code Content-Encoding} header is set to {@code identity}, the header is
+   * removed from the response.
    *
    * @param compressionSupported true if compression supported
    * @return a reference to this, so the API can be used fluently
@@ -275,6 +348,91 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  /**
+   * @return the compression level of the deflate algorithm
+   */
+  public int getCompressionLevel() {
+    return compressionLevel;
+  }
+
+  /**
+   * Set the compression level of the deflate algorithm, from {@code 1} for the fastest compression to {@code 9} for
+   * the best compression.
+   *
+   * @param compressionLevel the compression level
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setCompressionLevel(int compressionLevel) {
+    if (compressionLevel < 1 || compressionLevel > 9) {
+      throw new IllegalArgumentException("compressionLevel must be between 1 and 9");
+    }
+    this.compressionLevel = compressionLevel;
+    return this;
+  }
+
+  /**
+   * @return the minimum size of the compressed responses, in bytes
+   */
+  public int getCompressionContentSizeThreshold() {
+    return compressionContentSizeThreshold;
+  }
+
+  /**
+   * Set the minimum size of the compressed responses, the responses with a smaller {@code Content-Length} are not
+   * compressed. The size of chunked responses is unknown, they are compressed.
+   *
+   * @param compressionContentSizeThreshold the minimum size, in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setCompressionContentSizeThreshold(int compressionContentSizeThreshold) {
+    if (compressionContentSizeThreshold < 0) {
+      throw new IllegalArgumentException("compressionContentSizeThreshold must be >= 0");
+    }
+    this.compressionContentSizeThreshold = compressionContentSizeThreshold;
+    return this;
+  }
+
+  /**
+   * @return the content types of the compressed responses
+   */
+  public Set<String> getCompressionIncludedContentTypes() {
+    return compressionIncludedContentTypes;
+  }
+
+  /**
+   * Add a content type of the compressed responses. When content types are included, only the responses with one of
+   * them are compressed.
+   * <p>
+   * The content type is a MIME type such as {@code text/html}, a MIME type with any subtype such as {@code text/*},
+   * or a file extension such as {@code json} standing for its MIME type.
+   *
+   * @param contentType the content type
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions addCompressionIncludedContentType(String contentType) {
+    compressionIncludedContentTypes.add(contentType);
+    return this;
+  }
+
+  /**
+   * @return the content types of the responses that are not compressed
+   */
+  public Set<String> getCompressionExcludedContentTypes() {
+    return compressionExcludedContentTypes;
+  }
+
+  /**
+   * Add a content type of the responses that are not compressed, for instance a content type that is already
+   * compressed like {@code image/*}, see {@link #addCompressionIncludedContentType(String)} for the format.
+   *
+   * @param contentType the content type
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions addCompressionExcludedContentType(String contentType) {
+    compressionExcludedContentTypes.add(contentType);
+    return this;
+  }
+
   /**
    * @return  the maximum websocket framesize
    */
@@ -387,6 +545,76 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  /**
+   * Whether the server sends a {@code Date} header with the responses that don't set one.
+   * <p>
+   * The value of the header is formatted once per second and shared by all the responses.
+   *
+   * @return true if the server sends a Date header
+   */
+  public boolean isDateHeader() {
+    return dateHeader;
+  }
+
+  /**
+   * Set whether the server sends a {@code Date} header with the responses that don't set one.
+   *
+   * @param dateHeader true if the server sends a Date header
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setDateHeader(boolean dateHeader) {
+    this.dateHeader = dateHeader;
+    return this;
+  }
+
+  /**
+   * @return the encodings of the precompressed files, in order of preference
+   */
+  public List<String> getPrecompressedEncodings() {
+    return precompressedEncodings;
+  }
+
+  /**
+   * Add an encoding of the precompressed files, such as {@code gzip} or {@code br}.
+   * <p>
+   * When a response sends a whole file and the request accepts the encoding, the response sends the precompressed
+   * sibling of the file instead, if it exists: {@code name.gz} for {@code gzip}, {@code name.br} for {@code br} and
+   * {@code name.<encoding>} for the other encodings. The sibling is sent as is, with a file region when the connection
+   * is not encrypted, even when the server supports compression.
+   *
+   * @param encoding the encoding
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions addPrecompressedEncoding(String encoding) {
+    precompressedEncodings.add(encoding);
+    return this;
+  }
+
+  /**
+   * @return the time the server caches the files sent by the responses, in ms
+   */
+  public int getFileCacheTimeout() {
+    return fileCacheTimeout;
+  }
+
+  /**
+   * Set the time the server caches the files sent by the responses, in ms. A cached file is not checked again on the
+   * file system until it expires and stays open, so that the responses sending it share a single file channel.
+   * <p>
+   * A file modified within the timeout can be sent with its previous content. The files are not cached when the
+   * timeout is {@code 0}.
+   *
+   * @param fileCacheTimeout the cache timeout, in ms
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setFileCacheTimeout(int fileCacheTimeout) {
+    if (fileCacheTimeout < 0) {
+      throw new IllegalArgumentException("fileCacheTimeout must be >= 0");
+    }
+    this.fileCacheTimeout = fileCacheTimeout;
+    return this;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -396,11 +624,18 @@ public class HttpServerOptions extends NetServerOptions {
     HttpServerOptions that = (HttpServerOptions) o;
 
     if (compressionSupported != that.compressionSupported) return false;
+    if (compressionLevel != that.compressionLevel) return false;
+    if (compressionContentSizeThreshold != that.compressionContentSizeThreshold) return false;
+    if (!compressionIncludedContentTypes.equals(that.compressionIncludedContentTypes)) return false;
+    if (!compressionExcludedContentTypes.equals(that.compressionExcludedContentTypes)) return false;
     if (maxWebsocketFrameSize != that.maxWebsocketFrameSize) return false;
     if (handle100ContinueAutomatically != that.handle100ContinueAutomatically) return false;
     if (maxChunkSize != that.maxChunkSize) return false;
     if (maxInitialLineLength != that.maxInitialLineLength) return false;
     if (maxHeaderSize != that.maxHeaderSize) return false;
+    if (dateHeader != that.dateHeader) return false;
+    if (!precompressedEncodings.equals(that.precompressedEncodings)) return false;
+    if (fileCacheTimeout != that.fileCacheTimeout) return false;
     return !(websocketSubProtocols != null ? !websocketSubProtocols.equals(that.websocketSubProtocols) : that.websocketSubProtocols != null);
 
   }
@@ -409,12 +644,19 @@ public class HttpServerOptions extends NetServerOptions {
   public int hashCode() {
     int result = super.hashCode();
     result = 31 * result + (compressionSupported ? 1 : 0);
+    result = 31 * result + compressionLevel;
+    result = 31 * result + compressionContentSizeThreshold;
+    result = 31 * result + compressionIncludedContentTypes.hashCode();
+    result = 31 * result + compressionExcludedContentTypes.hashCode();
     result = 31 * result + maxWebsocketFrameSize;
     result = 31 * result + (websocketSubProtocols != null ? websocketSubProtocols.hashCode() : 0);
     result = 31 * result + (handle100ContinueAutomatically ? 1 : 0);
     result = 31 * result + maxChunkSize;
     result = 31 * result + maxInitialLineLength;
     result = 31 * result + maxHeaderSize;
+    result = 31 * result + (dateHeader ? 1 : 0);
+    result = 31 * result + precompressedEncodings.hashCode();
+    result = 31 * result + fileCacheTimeout;
     return result;
   }
 }
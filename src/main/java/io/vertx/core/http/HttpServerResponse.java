@@ -243,6 +243,18 @@ public interface HttpServerResponse extends WriteStream<Buffer> {
    */
   void end(Buffer chunk);
 
+  /**
+   * Ends the response with a pre-encoded {@link HttpResponseTemplate template}, the status code, headers and body of
+   * the template are written in a single buffer.
+   * <p>
+   * When headers were set on this response, they are added to the headers of the template and the template is written
+   * as a regular response. The same happens when the response is not a persistent HTTP/1.1 response or when the server
+   * supports compression.
+   *
+   * @param template  the template of the response
+   */
+  void send(HttpResponseTemplate template);
+
   /**
    * Ends the response. If no data has been written to the response body,
    * the actual response won't get written until this method gets called.
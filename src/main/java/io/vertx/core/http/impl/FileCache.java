@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.FileRegion;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The files recently sent by the responses of a server.
+ * <p>
+ * The cache keeps the result of checking a file on the file system until the timeout expires, and keeps an existing
+ * file open: the file regions sent by the responses share its channel, which is closed once the file has left the
+ * cache and the last region has been released. The least recently used files leave the cache when it is full.
+ */
+class FileCache {
+
+  private static final Logger log = LoggerFactory.getLogger(FileCache.class);
+
+  static final int MAX_ENTRIES = 256;
+
+  private final long timeout;
+  private final Map<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+      if (size() > MAX_ENTRIES) {
+        eldest.getValue().release();
+        return true;
+      }
+      return false;
+    }
+  };
+
+  FileCache(long timeout) {
+    this.timeout = timeout;
+  }
+
+  /**
+   * @param file the file
+   * @return the entry of the file, the caller must release it
+   */
+  Entry get(File file) {
+    long now = System.currentTimeMillis();
+    String key = file.getPath();
+    Entry entry = retain(key, now);
+    if (entry != null) {
+      return entry;
+    }
+    // The file system is checked outside the lock, the event loops of the server share the cache
+    Entry created = new Entry(file, now + timeout);
+    Entry stale;
+    synchronized (this) {
+      entry = entries.get(key);
+      if (entry != null && entry.expires > now) {
+        // Another thread installed it meanwhile
+        stale = created;
+      } else {
+        stale = entry;
+        entry = created;
+        entries.put(key, entry);
+      }
+      entry.retain();
+    }
+    if (stale != null) {
+      stale.release();
+    }
+    return entry;
+  }
+
+  private Entry retain(String key, long now) {
+    Entry stale;
+    synchronized (this) {
+      Entry entry = entries.get(key);
+      if (entry == null) {
+        return null;
+      }
+      if (entry.expires > now) {
+        entry.retain();
+        return entry;
+      }
+      entries.remove(key);
+      stale = entry;
+    }
+    stale.release();
+    return null;
+  }
+
+  void clear() {
+    List<Entry> copy;
+    synchronized (this) {
+      copy = new ArrayList<>(entries.values());
+      entries.clear();
+    }
+    for (Entry entry : copy) {
+      entry.release();
+    }
+  }
+
+  static class Entry {
+
+    final File file;
+    final boolean exists;
+    final long length;
+    private final long expires;
+    private final RandomAccessFile raf;
+    // The cache and each region hold the entry
+    private final AtomicInteger refs = new AtomicInteger(1);
+
+    private Entry(File file, long expires) {
+      this.file = file;
+      this.expires = expires;
+      RandomAccessFile raf = null;
+      if (file.isFile()) {
+        try {
+          raf = new RandomAccessFile(file, "r");
+        } catch (IOException e) {
+          log.debug("Could not open " + file, e);
+        }
+      }
+      this.raf = raf;
+      this.exists = raf != null || file.exists();
+      long length = 0;
+      if (raf != null) {
+        try {
+          length = raf.length();
+        } catch (IOException e) {
+          length = file.length();
+        }
+      } else if (exists) {
+        length = file.length();
+      }
+      this.length = length;
+    }
+
+    /**
+     * @return a region of the open file, {@code null} when the file is not open
+     */
+    FileRegion region(long offset, long count) {
+      if (raf == null) {
+        return null;
+      }
+      retain();
+      return new DefaultFileRegion(raf.getChannel(), offset, count) {
+        @Override
+        protected void deallocate() {
+          // The channel is shared with the other regions of the file
+          release();
+        }
+      };
+    }
+
+    private void retain() {
+      refs.incrementAndGet();
+    }
+
+    void release() {
+      if (refs.decrementAndGet() == 0 && raf != null) {
+        try {
+          raf.close();
+        } catch (IOException e) {
+          log.debug("Could not close " + file, e);
+        }
+      }
+    }
+  }
+}
@@ -20,12 +20,59 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.HttpContentCompressor;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponse;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
 
 /**
+ * The compressor skips the responses that are smaller than the content size threshold, the responses whose content
+ * type is not included or is excluded, and the responses with an {@code identity} content encoding.
+ *
  * @author <a href="mailto:nmaurer@redhat.com">Norman Maurer</a>
  */
 final class HttpChunkContentCompressor extends HttpContentCompressor {
 
+  private final int contentSizeThreshold;
+  private final Set<String> includedContentTypes;
+  private final Set<String> excludedContentTypes;
+
+  /**
+   * @param includedContentTypes the MIME types of the compressed responses, all are compressed when it is empty
+   * @param excludedContentTypes the MIME types of the responses that are not compressed
+   */
+  HttpChunkContentCompressor(int compressionLevel, int contentSizeThreshold, Set<String> includedContentTypes,
+                             Set<String> excludedContentTypes) {
+    super(compressionLevel);
+    this.contentSizeThreshold = contentSizeThreshold;
+    this.includedContentTypes = includedContentTypes;
+    this.excludedContentTypes = excludedContentTypes;
+  }
+
+  /**
+   * Resolve the content types of the options to MIME types, the file extensions are resolved with {@link MimeMapping}.
+   *
+   * @param contentTypes the content types
+   * @return the MIME types, in lower case
+   */
+  static Set<String> mimeTypes(Set<String> contentTypes) {
+    Set<String> mimeTypes = new HashSet<>();
+    for (String contentType : contentTypes) {
+      String type = contentType.trim().toLowerCase(Locale.ENGLISH);
+      if (type.indexOf('/') == -1) {
+        String ext = type.startsWith(".") ? type.substring(1) : type;
+        type = MimeMapping.getMimeTypeForExtension(ext);
+        if (type == null) {
+          throw new IllegalArgumentException("Unknown file extension " + ext + " for the compressed content types");
+        }
+      }
+      mimeTypes.add(type);
+    }
+    return mimeTypes;
+  }
+
   @Override
   public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
     if (msg instanceof ByteBuf) {
@@ -35,4 +82,42 @@ final class HttpChunkContentCompressor extends HttpContentCompressor {
     }
     super.write(ctx, msg, promise);
   }
+
+  @Override
+  protected Result beginEncode(HttpResponse headers, String acceptEncoding) throws Exception {
+    String contentEncoding = headers.headers().get(HttpHeaders.Names.CONTENT_ENCODING);
+    if (HttpHeaders.Values.IDENTITY.equalsIgnoreCase(contentEncoding)) {
+      // The response opted out of the compression
+      headers.headers().remove(HttpHeaders.Names.CONTENT_ENCODING);
+      return null;
+    }
+    if (contentSizeThreshold > 0) {
+      long contentLength = HttpHeaders.getContentLength(headers, -1);
+      if (contentLength >= 0 && contentLength < contentSizeThreshold) {
+        return null;
+      }
+    }
+    if (!isCompressible(headers.headers().get(HttpHeaders.Names.CONTENT_TYPE))) {
+      return null;
+    }
+    return super.beginEncode(headers, acceptEncoding);
+  }
+
+  private boolean isCompressible(String contentType) {
+    if (includedContentTypes.isEmpty() && excludedContentTypes.isEmpty()) {
+      return true;
+    }
+    if (contentType == null) {
+      return includedContentTypes.isEmpty();
+    }
+    int end = contentType.indexOf(';');
+    String mimeType = (end == -1 ? contentType : contentType.substring(0, end)).trim().toLowerCase(Locale.ENGLISH);
+    int slash = mimeType.indexOf('/');
+    String anySubtype = slash == -1 ? null : mimeType.substring(0, slash) + "/*";
+    if (excludedContentTypes.contains(mimeType) || excludedContentTypes.contains(anySubtype)) {
+      return false;
+    }
+    return includedContentTypes.isEmpty() || includedContentTypes.contains(mimeType) ||
+      includedContentTypes.contains(anySubtype);
+  }
 }
@@ -712,6 +712,7 @@ public class HttpClientImpl implements HttpClient, MetricsProvider {
     bootstrap.option(ChannelOption.ALLOCATOR, PartialPooledByteBufAllocator.INSTANCE);
     bootstrap.option(ChannelOption.SO_KEEPALIVE, options.isTcpKeepAlive());
     bootstrap.option(ChannelOption.SO_REUSEADDR, options.isReuseAddress());
+    vertx.transport().configure(options, bootstrap);
   }
 
   private void internalConnect(ContextImpl clientContext, int port, String host, Handler<ClientConnection> connectHandler,
@@ -725,7 +726,7 @@ public class HttpClientImpl implements HttpClient, MetricsProvider {
     }
     Bootstrap bootstrap = new Bootstrap();
     bootstrap.group(context.nettyEventLoop());
-    bootstrap.channelFactory(new VertxNioSocketChannelFactory());
+    bootstrap.channelFactory(vertx.transport().channelFactory());
     sslHelper.validate(vertx);
     bootstrap.handler(new ChannelInitializer<Channel>() {
       @Override
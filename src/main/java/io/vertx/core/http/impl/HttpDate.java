@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.CharsetUtil;
+import io.vertx.core.http.HttpHeaders;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * The value of the {@code Date} header sent by the servers, formatted at most once per second.
+ */
+final class HttpDate {
+
+  private static final DateTimeFormatter FORMAT = DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.ENGLISH)
+    .withZone(ZoneOffset.UTC);
+
+  private static volatile HttpDate current = new HttpDate(System.currentTimeMillis() / 1000);
+
+  private final long second;
+  final CharSequence value;
+  // The encoded header line, shared by the pre-encoded responses
+  private final ByteBuf line;
+
+  private HttpDate(long second) {
+    this.second = second;
+    String formatted = FORMAT.format(Instant.ofEpochSecond(second));
+    this.value = HttpHeaders.createOptimized(formatted);
+    this.line = Unpooled.unreleasableBuffer(Unpooled.copiedBuffer(HttpHeaders.DATE + ": " + formatted + "\r\n", CharsetUtil.US_ASCII));
+  }
+
+  /**
+   * @return the date of the current second
+   */
+  static HttpDate current() {
+    HttpDate date = current;
+    long second = System.currentTimeMillis() / 1000;
+    if (date.second != second) {
+      // Concurrent threads may format the same second, the last one wins
+      date = new HttpDate(second);
+      current = date;
+    }
+    return date;
+  }
+
+  /**
+   * @return the encoded {@code Date} header line, ending with CRLF
+   */
+  ByteBuf line() {
+    return line.duplicate();
+  }
+}
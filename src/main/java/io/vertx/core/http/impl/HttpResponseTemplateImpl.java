@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.util.CharsetUtil;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.CaseInsensitiveHeaders;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpResponseTemplate;
+
+import java.util.Map;
+
+/**
+ * The template encodes an HTTP/1.1 response in an unreleasable buffer, the responses write duplicates of it.
+ */
+public class HttpResponseTemplateImpl implements HttpResponseTemplate {
+
+  private static final byte[] CRLF = {'\r', '\n'};
+
+  private final HttpResponseStatus status;
+  private final MultiMap headers;
+  private final Buffer body;
+  private final boolean hasDate;
+  private final ByteBuf encoded;
+  // The length of the status line and headers, before the CRLF ending the head
+  private final int headLength;
+
+  public HttpResponseTemplateImpl(int statusCode, MultiMap headers, Buffer body) {
+    this.status = HttpResponseStatus.valueOf(statusCode);
+    this.headers = new CaseInsensitiveHeaders().setAll(headers);
+    this.headers.remove(HttpHeaders.CONTENT_LENGTH);
+    this.headers.remove(HttpHeaders.TRANSFER_ENCODING);
+    this.body = body != null ? body.copy() : Buffer.buffer();
+    this.hasDate = this.headers.contains(HttpHeaders.DATE);
+    ByteBuf buf = Unpooled.directBuffer();
+    writeAscii(buf, "HTTP/1.1 " + status.code() + " " + status.reasonPhrase());
+    buf.writeBytes(CRLF);
+    for (Map.Entry<String, String> header : this.headers) {
+      writeAscii(buf, header.getKey() + ": " + header.getValue());
+      buf.writeBytes(CRLF);
+    }
+    writeAscii(buf, HttpHeaders.CONTENT_LENGTH + ": " + this.body.length());
+    buf.writeBytes(CRLF);
+    this.headLength = buf.writerIndex();
+    buf.writeBytes(CRLF);
+    buf.writeBytes(this.body.getByteBuf());
+    this.encoded = Unpooled.unreleasableBuffer(buf);
+  }
+
+  private static void writeAscii(ByteBuf buf, String s) {
+    buf.writeBytes(s.getBytes(CharsetUtil.ISO_8859_1));
+  }
+
+  @Override
+  public int statusCode() {
+    return status.code();
+  }
+
+  MultiMap headers() {
+    return headers;
+  }
+
+  Buffer body() {
+    return body;
+  }
+
+  /**
+   * @param date  the date of the response, {@code null} when the server does not send it
+   * @return the encoded response, the date header line is inserted unless the template has its own date
+   */
+  ByteBuf content(HttpDate date) {
+    if (date == null || hasDate) {
+      return encoded.duplicate();
+    }
+    return Unpooled.wrappedBuffer(encoded.slice(0, headLength), date.line(),
+      encoded.slice(headLength, encoded.readableBytes() - headLength));
+  }
+}
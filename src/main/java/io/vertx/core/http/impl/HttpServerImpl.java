@@ -54,6 +54,7 @@ import java.net.InetSocketAddress;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static io.netty.handler.codec.http.HttpResponseStatus.*;
@@ -77,12 +78,15 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
   private final SSLHelper sslHelper;
   private final ContextImpl creatingContext;
   private final Map<Channel, ServerConnection> connectionMap = new ConcurrentHashMap<>();
-  private final VertxEventLoopGroup availableWorkers = new VertxEventLoopGroup();
-  private final HandlerManager<HttpServerRequest> reqHandlerManager = new HandlerManager<>(availableWorkers);
-  private final HandlerManager<ServerWebSocket> wsHandlerManager = new HandlerManager<>(availableWorkers);
+  private final VertxEventLoopGroup availableWorkers;
+  private final HandlerManager<HttpServerRequest> reqHandlerManager;
+  private final HandlerManager<ServerWebSocket> wsHandlerManager;
   private final ServerWebSocketStreamImpl wsStream = new ServerWebSocketStreamImpl();
   private final HttpServerRequestStreamImpl requestStream = new HttpServerRequestStreamImpl();
   private final String subProtocols;
+  private final Set<String> compressionIncludedContentTypes;
+  private final Set<String> compressionExcludedContentTypes;
+  private final FileCache fileCache;
   private String serverOrigin;
 
   private ChannelGroup serverChannelGroup;
@@ -95,6 +99,9 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
 
   public HttpServerImpl(VertxInternal vertx, HttpServerOptions options) {
     this.options = new HttpServerOptions(options);
+    this.availableWorkers = new VertxEventLoopGroup(options.getEventLoopBalancingPolicy());
+    this.reqHandlerManager = new HandlerManager<>(availableWorkers);
+    this.wsHandlerManager = new HandlerManager<>(availableWorkers);
     this.vertx = vertx;
     this.creatingContext = vertx.getContext();
     if (creatingContext != null) {
@@ -105,6 +112,9 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
     }
     this.sslHelper = new SSLHelper(options, KeyStoreHelper.create(vertx, options.getKeyCertOptions()), KeyStoreHelper.create(vertx, options.getTrustOptions()));
     this.subProtocols = options.getWebsocketSubProtocols();
+    this.compressionIncludedContentTypes = HttpChunkContentCompressor.mimeTypes(options.getCompressionIncludedContentTypes());
+    this.compressionExcludedContentTypes = HttpChunkContentCompressor.mimeTypes(options.getCompressionExcludedContentTypes());
+    this.fileCache = options.getFileCacheTimeout() > 0 ? new FileCache(options.getFileCacheTimeout()) : null;
   }
 
   @Override
@@ -182,7 +192,7 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
         serverChannelGroup = new DefaultChannelGroup("vertx-acceptor-channels", GlobalEventExecutor.INSTANCE);
         ServerBootstrap bootstrap = new ServerBootstrap();
         bootstrap.group(vertx.getAcceptorEventLoopGroup(), availableWorkers);
-        bootstrap.channelFactory(new VertxNioServerChannelFactory());
+        bootstrap.channelFactory(vertx.transport().serverChannelFactory());
         applyConnectionOptions(bootstrap);
         sslHelper.validate(vertx);
         bootstrap.childHandler(new ChannelInitializer<Channel>() {
@@ -203,7 +213,8 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
             		  						, options.getMaxHeaderSize(), options.getMaxChunkSize(), false));
               pipeline.addLast("httpEncoder", new VertxHttpResponseEncoder());
               if (options.isCompressionSupported()) {
-                pipeline.addLast("deflater", new HttpChunkContentCompressor());
+                pipeline.addLast("deflater", new HttpChunkContentCompressor(options.getCompressionLevel(),
+                  options.getCompressionContentSizeThreshold(), compressionIncludedContentTypes, compressionExcludedContentTypes));
               }
               if (sslHelper.isSSL() || options.isCompressionSupported()) {
                 // only add ChunkedWriteHandler when SSL is enabled otherwise it is not needed as FileRegion is used.
@@ -344,6 +355,10 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
     return metrics != null && metrics.isEnabled();
   }
 
+  FileCache fileCache() {
+    return fileCache;
+  }
+
   SSLHelper getSslHelper() {
     return sslHelper;
   }
@@ -376,6 +391,7 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
     if (options.getAcceptBacklog() != -1) {
       bootstrap.option(ChannelOption.SO_BACKLOG, options.getAcceptBacklog());
     }
+    vertx.transport().configure(options, bootstrap);
   }
 
 
@@ -408,6 +424,10 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
       metrics.close();
     }
 
+    if (fileCache != null) {
+      fileCache.clear();
+    }
+
     ChannelGroupFuture fut = serverChannelGroup.close();
     fut.addListener(cgf -> executeCloseDone(closeContext, done, fut.cause()));
   }
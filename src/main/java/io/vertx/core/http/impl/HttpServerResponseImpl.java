@@ -19,6 +19,7 @@ package io.vertx.core.http.impl;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.FileRegion;
 import io.netty.handler.codec.http.*;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
@@ -26,6 +27,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpResponseTemplate;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.impl.ContextImpl;
 import io.vertx.core.impl.VertxInternal;
@@ -36,6 +38,7 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.util.List;
 
 /**
  *
@@ -58,6 +61,7 @@ public class HttpServerResponseImpl implements HttpServerResponse {
   private final HttpResponse response;
   private final HttpVersion version;
   private final boolean keepAlive;
+  private final String acceptEncoding;
 
   private boolean headWritten;
   private boolean written;
@@ -82,6 +86,7 @@ public class HttpServerResponseImpl implements HttpServerResponse {
     this.response = new DefaultHttpResponse(version, HttpResponseStatus.OK, false);
     this.keepAlive = (version == HttpVersion.HTTP_1_1 && !request.headers().contains(io.vertx.core.http.HttpHeaders.CONNECTION, HttpHeaders.CLOSE, true))
       || (version == HttpVersion.HTTP_1_0 && request.headers().contains(io.vertx.core.http.HttpHeaders.CONNECTION, HttpHeaders.KEEP_ALIVE, true));
+    this.acceptEncoding = conn.precompressedEncodings().isEmpty() ? null : request.headers().get(HttpHeaders.ACCEPT_ENCODING);
   }
 
   @Override
@@ -308,6 +313,33 @@ public class HttpServerResponseImpl implements HttpServerResponse {
     }
   }
 
+  @Override
+  public void send(HttpResponseTemplate template) {
+    synchronized (conn) {
+      if (headWritten) {
+        throw new IllegalStateException("Head already written");
+      }
+      checkWritten();
+      HttpResponseTemplateImpl impl = (HttpResponseTemplateImpl) template;
+      if (version != HttpVersion.HTTP_1_1 || !keepAlive || chunked || trailing != null ||
+        headersEndHandler != null || !response.headers().isEmpty() || conn.isCompressionSupported()) {
+        // The encoded response does not apply, write the template as a regular response
+        setStatusCode(impl.statusCode());
+        headers().setAll(impl.headers());
+        end(impl.body());
+        return;
+      }
+      bytesWritten += impl.body().length();
+      headWritten = true;
+      channelFuture = conn.writeToChannel(new PreEncodedHttpResponse(impl.content(conn.date())));
+      written = true;
+      conn.responseComplete();
+      if (bodyEndHandler != null) {
+        bodyEndHandler.handle(null);
+      }
+    }
+  }
+
   @Override
   public void close() {
     synchronized (conn) {
@@ -435,8 +467,10 @@ public class HttpServerResponseImpl implements HttpServerResponse {
       }
       checkWritten();
       File file = vertx.resolveFile(filename);
+      FileCache.Entry cached = stat(file);
 
-      if (!file.exists()) {
+      if (cached != null ? !cached.exists : !file.exists()) {
+        release(cached);
         if (resultHandler != null) {
           ContextImpl ctx = vertx.getOrCreateContext();
           ctx.runOnContext((v) -> resultHandler.handle(Future.failedFuture(new FileNotFoundException())));
@@ -446,7 +480,32 @@ public class HttpServerResponseImpl implements HttpServerResponse {
         return;
       }
 
-      long contentLength = Math.min(length, file.length() - offset);
+      String encoding = null;
+      List<String> encodings = conn.precompressedEncodings();
+      if (!encodings.isEmpty() && offset == 0 && length == Long.MAX_VALUE && !response.headers().contains(HttpHeaders.CONTENT_ENCODING)) {
+        // Send the precompressed sibling of the whole file when the request accepts its encoding
+        for (String candidate : encodings) {
+          if (acceptsEncoding(candidate)) {
+            File encoded = new File(file.getPath() + encodedFileSuffix(candidate));
+            FileCache.Entry cachedEncoded = stat(encoded);
+            if (cachedEncoded != null ? cachedEncoded.exists : encoded.isFile()) {
+              release(cached);
+              file = encoded;
+              cached = cachedEncoded;
+              encoding = candidate;
+              break;
+            }
+            release(cachedEncoded);
+          }
+        }
+        putHeader(io.netty.handler.codec.http.HttpHeaders.Names.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (encoding != null) {
+          putHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+      }
+
+      long fileLength = cached != null ? cached.length : file.length();
+      long contentLength = Math.min(length, fileLength - offset);
       bytesWritten = contentLength;
       if (!contentLengthSet()) {
         putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(contentLength));
@@ -463,25 +522,36 @@ public class HttpServerResponseImpl implements HttpServerResponse {
       }
       prepareHeaders();
 
-      RandomAccessFile raf = null;
-      try {
-        raf = new RandomAccessFile(file, "r");
+      FileRegion region = cached != null && conn.supportsFileRegion(encoding != null) ?
+        cached.region(Math.min(offset, fileLength), contentLength) : null;
+      release(cached);
+      if (region != null) {
+        // The region shares the channel of the cached file
         conn.queueForWrite(response);
-        conn.sendFile(raf, Math.min(offset, file.length()), contentLength);
-      } catch (IOException e) {
+        if (conn.writeToChannel(region) == null) {
+          region.release();
+        }
+      } else {
+        RandomAccessFile raf = null;
         try {
-          if (raf != null) {
-            raf.close();
+          raf = new RandomAccessFile(file, "r");
+          conn.queueForWrite(response);
+          conn.sendFile(raf, Math.min(offset, fileLength), contentLength, encoding != null);
+        } catch (IOException e) {
+          try {
+            if (raf != null) {
+              raf.close();
+            }
+          } catch (IOException ignore) {
           }
-        } catch (IOException ignore) {
-        }
-        if (resultHandler != null) {
-          ContextImpl ctx = vertx.getOrCreateContext();
-          ctx.runOnContext((v) -> resultHandler.handle(Future.failedFuture(e)));
-        } else {
-          log.error("Failed to send file", e);
+          if (resultHandler != null) {
+            ContextImpl ctx = vertx.getOrCreateContext();
+            ctx.runOnContext((v) -> resultHandler.handle(Future.failedFuture(e)));
+          } else {
+            log.error("Failed to send file", e);
+          }
+          return;
         }
-        return;
       }
 
       // write an empty last content to let the http encoder know the response is complete
@@ -512,6 +582,59 @@ public class HttpServerResponseImpl implements HttpServerResponse {
     }
   }
 
+  private FileCache.Entry stat(File file) {
+    FileCache cache = conn.fileCache();
+    return cache != null ? cache.get(file) : null;
+  }
+
+  private static void release(FileCache.Entry cached) {
+    if (cached != null) {
+      cached.release();
+    }
+  }
+
+  private boolean acceptsEncoding(String encoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    // The entry of the encoding takes precedence over the wildcard, with its quality value
+    double encodingQuality = -1;
+    double wildcardQuality = -1;
+    for (String value : acceptEncoding.split(",")) {
+      String[] params = value.split(";");
+      String name = params[0].trim();
+      if (name.equalsIgnoreCase(encoding)) {
+        encodingQuality = quality(params);
+      } else if (name.equals("*")) {
+        wildcardQuality = quality(params);
+      }
+    }
+    return encodingQuality >= 0 ? encodingQuality > 0 : wildcardQuality > 0;
+  }
+
+  private static double quality(String[] params) {
+    for (int i = 1; i < params.length; i++) {
+      String param = params[i].trim();
+      if (param.startsWith("q=")) {
+        try {
+          return Double.parseDouble(param.substring(2));
+        } catch (NumberFormatException e) {
+          return 0;
+        }
+      }
+    }
+    return 1;
+  }
+
+  private static String encodedFileSuffix(String encoding) {
+    switch (encoding) {
+      case "gzip":
+        return ".gz";
+      default:
+        return "." + encoding;
+    }
+  }
+
   private boolean contentLengthSet() {
     if (headers == null) {
       return false;
@@ -573,6 +696,10 @@ public class HttpServerResponseImpl implements HttpServerResponse {
     } else if (keepAlive && !contentLengthSet()) {
       response.headers().set(HttpHeaders.CONTENT_LENGTH, "0");
     }
+    HttpDate date = conn.date();
+    if (date != null && !response.headers().contains(HttpHeaders.DATE)) {
+      response.headers().set(HttpHeaders.DATE, date.value);
+    }
     if (headersEndHandler != null) {
       headersEndHandler.handle(null);
     }
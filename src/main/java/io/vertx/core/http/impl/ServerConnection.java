@@ -49,6 +49,7 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.util.ArrayDeque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 
@@ -161,6 +162,17 @@ class ServerConnection extends ConnectionBase {
     return vertx;
   }
 
+  /**
+   * @return the date of the responses, {@code null} when the server does not send the {@code Date} header
+   */
+  HttpDate date() {
+    return server.options().isDateHeader() ? HttpDate.current() : null;
+  }
+
+  boolean isCompressionSupported() {
+    return server.options().isCompressionSupported();
+  }
+
   @Override
   public ChannelFuture writeToChannel(Object obj) {
     if (metrics.isEnabled()) {
@@ -373,6 +385,29 @@ class ServerConnection extends ConnectionBase {
     return super.sendFile(file, offset, length);
   }
 
+  /**
+   * @param encoded whether the file is already encoded, the compressor lets such a file through
+   * @return whether the file can be sent with a file region
+   */
+  boolean supportsFileRegion(boolean encoded) {
+    return encoded ? super.supportsFileRegion() : supportsFileRegion();
+  }
+
+  ChannelFuture sendFile(RandomAccessFile file, long offset, long length, boolean encoded) throws IOException {
+    return super.sendFile(file, offset, length, supportsFileRegion(encoded));
+  }
+
+  List<String> precompressedEncodings() {
+    return server.options().getPrecompressedEncodings();
+  }
+
+  /**
+   * @return the file cache of the server, {@code null} when the files are not cached
+   */
+  FileCache fileCache() {
+    return server.fileCache();
+  }
+
   private void processMessage(Object msg) {
 
     if (msg instanceof HttpRequest) {
@@ -447,6 +482,8 @@ class ServerConnection extends ConnectionBase {
       return ((ByteBuf) obj).readableBytes();
     } else if (obj instanceof HttpContent) {
       return ((HttpContent) obj).content().readableBytes();
+    } else if (obj instanceof PreEncodedHttpResponse) {
+      return ((PreEncodedHttpResponse) obj).content.readableBytes();
     } else if (obj instanceof WebSocketFrame) {
       return ((WebSocketFrame) obj).binaryData().length();
     } else if (obj instanceof FileRegion) {
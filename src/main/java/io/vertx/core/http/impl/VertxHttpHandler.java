@@ -51,6 +51,10 @@ public abstract class VertxHttpHandler<C extends ConnectionBase> extends VertxHa
 
   @Override
   protected C getConnection(Channel channel) {
+    if (!(channel instanceof VertxNioSocketChannel)) {
+      // Native transport channels
+      return connectionMap.get(channel);
+    }
     @SuppressWarnings("unchecked")
     VertxNioSocketChannel<C> vch = (VertxNioSocketChannel<C>)channel;
     // As an optimisation we store the connection on the channel - this prevents a lookup every time
@@ -68,9 +72,11 @@ public abstract class VertxHttpHandler<C extends ConnectionBase> extends VertxHa
 
   @Override
   protected C removeConnection(Channel channel) {
-    @SuppressWarnings("unchecked")
-    VertxNioSocketChannel<C> vch = (VertxNioSocketChannel<C>)channel;
-    vch.conn = null;
+    if (channel instanceof VertxNioSocketChannel) {
+      @SuppressWarnings("unchecked")
+      VertxNioSocketChannel<C> vch = (VertxNioSocketChannel<C>)channel;
+      vch.conn = null;
+    }
     return connectionMap.remove(channel);
   }
 
@@ -24,15 +24,27 @@ import java.util.List;
 
 /**
  * {@link io.netty.handler.codec.http.HttpResponseEncoder} which forces the usage of direct buffers for max performance.
+ * <p>
+ * The {@link PreEncodedHttpResponse pre-encoded responses} are written as is.
  *
  * @author <a href="mailto:nmaurer@redhat.com">Norman Maurer</a>
  */
 final class VertxHttpResponseEncoder extends HttpResponseEncoder {
   private ChannelHandlerContext context;
 
+  @Override
+  public boolean acceptOutboundMessage(Object msg) throws Exception {
+    return msg instanceof PreEncodedHttpResponse || super.acceptOutboundMessage(msg);
+  }
+
   @Override
   protected void encode(ChannelHandlerContext ctx, Object msg, List<Object> out) throws Exception {
-    super.encode(context, msg, out);
+    if (msg instanceof PreEncodedHttpResponse) {
+      // The response is complete, the encoder stays ready for the next response
+      out.add(((PreEncodedHttpResponse) msg).content);
+    } else {
+      super.encode(context, msg, out);
+    }
   }
 
   @Override
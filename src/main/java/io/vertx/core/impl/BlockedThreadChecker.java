@@ -20,10 +20,12 @@ import io.vertx.core.VertxException;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
-import java.util.Map;
-import java.util.Timer;
-import java.util.TimerTask;
-import java.util.WeakHashMap;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
@@ -32,42 +34,71 @@ public class BlockedThreadChecker {
 
   private static final Logger log = LoggerFactory.getLogger(BlockedThreadChecker.class);
 
-  private static final Object O = new Object();
-  private final Map<VertxThread, Object> threads = new WeakHashMap<>();
-  private final Timer timer; // Need to use our own timer - can't use event loop for this
+  private final Set<VertxThread> threads = ConcurrentHashMap.newKeySet();
+  private final long warningExceptionTime;
+  private final StallProfiler profiler;
+  private final ScheduledExecutorService scheduler; // Need to use our own thread - can't use event loop for this
 
-  BlockedThreadChecker(long interval, long maxEventLoopExecTime, long maxWorkerExecTime, long warningExceptionTime) {
-    timer = new Timer("vertx-blocked-thread-checker", true);
-    timer.schedule(new TimerTask() {
-      @Override
-      public void run() {
-        synchronized (BlockedThreadChecker.this) {
-          long now = System.nanoTime();
-          for (VertxThread thread : threads.keySet()) {
-            long execStart = thread.startTime();
-            long dur = now - execStart;
-            final long timeLimit = thread.isWorker() ? maxWorkerExecTime : maxEventLoopExecTime;
-            if (execStart != 0 && dur > timeLimit) {
-              final String message = "Thread " + thread + " has been blocked for " + (dur / 1000000) + " ms, time limit is " + (timeLimit / 1000000);
-              if (dur <= warningExceptionTime) {
-                log.warn(message);
-              } else {
-                VertxException stackTrace = new VertxException("Thread blocked");
-                stackTrace.setStackTrace(thread.getStackTrace());
-                log.warn(message, stackTrace);
-              }
-            }
-          }
+  BlockedThreadChecker(long interval, long warningExceptionTime, long samplingInterval) {
+    this.warningExceptionTime = warningExceptionTime;
+    this.profiler = samplingInterval > 0 ? new StallProfiler() : null;
+    scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "vertx-blocked-thread-checker");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.scheduleAtFixedRate(this::check, interval, interval, TimeUnit.MILLISECONDS);
+    if (profiler != null) {
+      scheduler.scheduleAtFixedRate(this::sample, samplingInterval, samplingInterval, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void check() {
+    long now = System.nanoTime();
+    for (Iterator<VertxThread> it = threads.iterator(); it.hasNext(); ) {
+      VertxThread thread = it.next();
+      if (thread.getState() == Thread.State.TERMINATED) {
+        it.remove();
+        if (profiler != null) {
+          profiler.remove(thread);
+        }
+        continue;
+      }
+      long execStart = thread.startTime();
+      long dur = now - execStart;
+      final long timeLimit = thread.getMaxExecTime();
+      if (execStart != 0 && dur > timeLimit) {
+        final String message = "Thread " + thread + " has been blocked for " + (dur / 1000000) + " ms, time limit is " + (timeLimit / 1000000);
+        if (dur <= warningExceptionTime) {
+          log.warn(message);
+        } else {
+          VertxException stackTrace = new VertxException("Thread blocked");
+          stackTrace.setStackTrace(thread.getStackTrace());
+          log.warn(message, stackTrace);
         }
       }
-    }, interval, interval);
+    }
+  }
+
+  private void sample() {
+    long now = System.nanoTime();
+    for (VertxThread thread : threads) {
+      profiler.sample(thread, now);
+    }
+  }
+
+  /**
+   * @return the stall profiler or {@code null} when sampling is disabled
+   */
+  public StallProfiler profiler() {
+    return profiler;
   }
 
-  public synchronized void registerThread(VertxThread thread) {
-    threads.put(thread, O);
+  public void registerThread(VertxThread thread) {
+    threads.add(thread);
   }
 
   public void close() {
-    timer.cancel();
+    scheduler.shutdownNow();
   }
 }
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.spi.metrics.PoolMetrics;
+import io.vertx.core.streams.ReadStream;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+
+/**
+ * The results of a sequence of blocking actions executed on a worker pool with a bounded concurrency.
+ * <p>
+ * The actions are pulled from the iterator on the context thread and executed with
+ * {@link ContextImpl#executeBlocking(Action, Handler, Handler, Executor, PoolMetrics)} so they are reported to the
+ * pool metrics and checked by the blocked thread checker. At most {@code maxConcurrency} actions are executed or have
+ * a result waiting to be delivered: when the stream is paused the completed results are buffered and no new action
+ * is started until the stream is resumed.
+ * <p>
+ * The results are delivered in completion order, a failed action is delivered to the exception handler and does not
+ * end the stream. The end handler is called after the last result is delivered.
+ */
+class BlockingStreamImpl<T> implements ReadStream<T> {
+
+  private static final Logger log = LoggerFactory.getLogger(BlockingStreamImpl.class);
+
+  private final ContextImpl context;
+  private final Iterator<Handler<Future<T>>> actions;
+  private final int maxConcurrency;
+  private final Executor exec;
+  private final PoolMetrics metrics;
+  private final ArrayDeque<AsyncResult<T>> pending = new ArrayDeque<>();
+  private Handler<T> handler;
+  private Handler<Throwable> exceptionHandler;
+  private Handler<Void> endHandler;
+  private boolean exhausted;
+  private boolean started;
+  private boolean paused;
+  private boolean ended;
+  private int inFlight;
+
+  BlockingStreamImpl(ContextImpl context, Iterable<Handler<Future<T>>> actions, int maxConcurrency, Executor exec,
+                     PoolMetrics metrics) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("maxConcurrency must be > 0");
+    }
+    this.context = context;
+    this.actions = actions.iterator();
+    this.maxConcurrency = maxConcurrency;
+    this.exec = exec;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public synchronized BlockingStreamImpl<T> exceptionHandler(Handler<Throwable> handler) {
+    this.exceptionHandler = handler;
+    return this;
+  }
+
+  @Override
+  public synchronized BlockingStreamImpl<T> handler(Handler<T> handler) {
+    this.handler = handler;
+    if (handler != null) {
+      started = true;
+      context.runOnContext(v -> drain());
+    }
+    return this;
+  }
+
+  @Override
+  public synchronized BlockingStreamImpl<T> pause() {
+    paused = true;
+    return this;
+  }
+
+  @Override
+  public synchronized BlockingStreamImpl<T> resume() {
+    if (paused) {
+      paused = false;
+      context.runOnContext(v -> drain());
+    }
+    return this;
+  }
+
+  @Override
+  public synchronized BlockingStreamImpl<T> endHandler(Handler<Void> handler) {
+    this.endHandler = handler;
+    return this;
+  }
+
+  private void handleResult(AsyncResult<T> result) {
+    synchronized (this) {
+      inFlight--;
+      pending.add(result);
+    }
+    drain();
+  }
+
+  // Called on the context thread only, the handlers and the actions are called outside the sync blocks
+  private void drain() {
+    while (true) {
+      Handler<T> theHandler;
+      AsyncResult<T> result;
+      synchronized (this) {
+        if (paused || handler == null || pending.isEmpty()) {
+          break;
+        }
+        theHandler = handler;
+        result = pending.poll();
+      }
+      if (result.succeeded()) {
+        theHandler.handle(result.result());
+      } else {
+        handleException(result.cause());
+      }
+    }
+    while (true) {
+      synchronized (this) {
+        if (paused || handler == null || inFlight + pending.size() >= maxConcurrency) {
+          break;
+        }
+      }
+      if (!hasNextAction()) {
+        break;
+      }
+      Handler<Future<T>> action;
+      try {
+        action = actions.next();
+      } catch (Throwable t) {
+        exhausted = true;
+        handleException(t);
+        break;
+      }
+      synchronized (this) {
+        inFlight++;
+      }
+      context.executeBlocking(null, action, this::handleResult, exec, metrics);
+    }
+    boolean idle;
+    synchronized (this) {
+      idle = started && !ended && inFlight == 0 && pending.isEmpty();
+    }
+    if (idle && !hasNextAction()) {
+      Handler<Void> theEndHandler;
+      synchronized (this) {
+        if (ended) {
+          return;
+        }
+        ended = true;
+        theEndHandler = endHandler;
+      }
+      if (theEndHandler != null) {
+        theEndHandler.handle(null);
+      }
+    }
+  }
+
+  // Called on the context thread only
+  private boolean hasNextAction() {
+    if (!exhausted) {
+      try {
+        exhausted = !actions.hasNext();
+      } catch (Throwable t) {
+        // The actions cannot be iterated anymore
+        exhausted = true;
+        handleException(t);
+      }
+    }
+    return !exhausted;
+  }
+
+  private void handleException(Throwable t) {
+    Handler<Throwable> theExceptionHandler;
+    synchronized (this) {
+      theExceptionHandler = exceptionHandler;
+    }
+    if (theExceptionHandler != null) {
+      theExceptionHandler.handle(t);
+    } else {
+      log.error("Unhandled exception", t);
+    }
+  }
+}
@@ -23,6 +23,8 @@ import io.vertx.core.impl.launcher.VertxCommandLauncher;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.spi.metrics.PoolMetrics;
+import io.vertx.core.streams.ReadStream;
 
 import java.util.HashSet;
 import java.util.List;
@@ -55,26 +57,33 @@ public abstract class ContextImpl implements ContextInternal {
   private Set<Closeable> closeHooks;
   private final ClassLoader tccl;
   private final EventLoop eventLoop;
+  protected final PoolMetrics eventLoopMetrics;
+  protected final WorkerPool internalBlockingPool;
+  protected final WorkerPool workerPool;
   protected final Executor orderedInternalPoolExec;
   protected final Executor workerExec;
   protected VertxThread contextThread;
   private volatile boolean closeHooksRun;
   private Map<String, Object> contextData;
 
-  protected ContextImpl(VertxInternal vertx, Executor orderedInternalPoolExec, Executor workerExec, String deploymentID, JsonObject config,
+  protected ContextImpl(VertxInternal vertx, WorkerPool internalBlockingPool, WorkerPool workerPool, String deploymentID, JsonObject config,
                         ClassLoader tccl) {
     if (DISABLE_TCCL && !tccl.getClass().getName().equals("sun.misc.Launcher$AppClassLoader")) {
       log.warn("You have disabled TCCL checks but you have a custom TCCL to set.");
     }
-    this.orderedInternalPoolExec = orderedInternalPoolExec;
-    this.workerExec = workerExec;
+    this.internalBlockingPool = internalBlockingPool;
+    this.workerPool = workerPool;
+    this.orderedInternalPoolExec = internalBlockingPool.createOrderedExecutor();
+    this.workerExec = workerPool.createOrderedExecutor();
     this.deploymentID = deploymentID;
     this.config = config;
     EventLoopGroup group = vertx.getEventLoopGroup();
     if (group != null) {
       this.eventLoop = group.next();
+      this.eventLoopMetrics = vertx.eventLoopMetrics(eventLoop);
     } else {
       this.eventLoop = null;
+      this.eventLoopMetrics = null;
     }
     this.tccl = tccl;
     this.owner = vertx;
@@ -122,6 +131,13 @@ public abstract class ContextImpl implements ContextInternal {
     }
   }
 
+  /**
+   * @return whether the close hooks have run, i.e the deployment of this context has been undeployed
+   */
+  public boolean isClosed() {
+    return closeHooksRun;
+  }
+
   public void runCloseHooks(Handler<AsyncResult<Void>> completionHandler) {
     if (closeHooksRun) {
       // Sanity check
@@ -222,7 +238,8 @@ public abstract class ContextImpl implements ContextInternal {
     if (THREAD_CHECKS) {
       checkCorrectThread();
     }
-    wrapTask(task, null, true).run();
+    // The task is executed directly, it has no queue metric
+    wrapTask(task, null, true, eventLoopMetrics, null).run();
   }
 
   protected abstract void checkCorrectThread();
@@ -264,12 +281,12 @@ public abstract class ContextImpl implements ContextInternal {
 
   // Execute an internal task on the internal blocking ordered executor
   public <T> void executeBlocking(Action<T> action, Handler<AsyncResult<T>> resultHandler) {
-    executeBlocking(action, null, true, true, resultHandler);
+    executeBlocking(action, null, resultHandler, orderedInternalPoolExec, internalBlockingPool.metrics());
   }
 
   @Override
   public <T> void executeBlocking(Handler<Future<T>> blockingCodeHandler, boolean ordered, Handler<AsyncResult<T>> resultHandler) {
-    executeBlocking(null, blockingCodeHandler, false, ordered, resultHandler);
+    executeBlocking(null, blockingCodeHandler, resultHandler, ordered ? workerExec : workerPool.executor(), workerPool.metrics());
   }
 
   @Override
@@ -277,6 +294,11 @@ public abstract class ContextImpl implements ContextInternal {
     executeBlocking(blockingCodeHandler, true, resultHandler);
   }
 
+  @Override
+  public <T> ReadStream<T> executeBlockingStream(Iterable<Handler<Future<T>>> blockingCodeHandlers, int maxConcurrency) {
+    return new BlockingStreamImpl<>(this, blockingCodeHandlers, maxConcurrency, workerPool.executor(), workerPool.metrics());
+  }
+
   protected synchronized Map<String, Object> contextData() {
     if (contextData == null) {
       contextData = new ConcurrentHashMap<>();
@@ -284,11 +306,21 @@ public abstract class ContextImpl implements ContextInternal {
     return contextData;
   }
 
-  private <T> void executeBlocking(Action<T> action, Handler<Future<T>> blockingCodeHandler, boolean internal,
-                                   boolean ordered, Handler<AsyncResult<T>> resultHandler) {
+  @SuppressWarnings("unchecked")
+  <T> void executeBlocking(Action<T> action, Handler<Future<T>> blockingCodeHandler,
+                           Handler<AsyncResult<T>> resultHandler, Executor exec, PoolMetrics metrics) {
+    Object queueMetric = metrics != null ? metrics.submitted() : null;
     try {
-      Executor exec = internal ? orderedInternalPoolExec : (ordered ? workerExec : owner.getWorkerPool());
       exec.execute(() -> {
+        Object execMetric = null;
+        if (metrics != null) {
+          execMetric = metrics.begin(queueMetric);
+        }
+        Thread th = Thread.currentThread();
+        VertxThread current = th instanceof VertxThread ? (VertxThread) th : null;
+        if (!DISABLE_TIMINGS && current != null) {
+          current.executeStart();
+        }
         Future<T> res = Future.future();
         try {
           if (blockingCodeHandler != null) {
@@ -300,6 +332,13 @@ public abstract class ContextImpl implements ContextInternal {
           }
         } catch (Throwable e) {
           res.fail(e);
+        } finally {
+          if (!DISABLE_TIMINGS && current != null) {
+            current.executeEnd();
+          }
+        }
+        if (metrics != null) {
+          metrics.end(execMetric, res.succeeded());
         }
         if (resultHandler != null) {
           runOnContext(v -> res.setHandler(resultHandler));
@@ -307,10 +346,28 @@ public abstract class ContextImpl implements ContextInternal {
       });
     } catch (RejectedExecutionException ignore) {
       // Pool is already shut down
+      if (metrics != null) {
+        metrics.rejected(queueMetric);
+      }
+    }
+  }
+
+  // Execute a task on an executor, the task is reported to the metrics of the pool running it
+  @SuppressWarnings("unchecked")
+  protected void executeTask(Executor exec, ContextTask cTask, Handler<Void> hTask, boolean checkThread, PoolMetrics metrics) {
+    Object queueMetric = metrics != null ? metrics.submitted() : null;
+    try {
+      exec.execute(wrapTask(cTask, hTask, checkThread, metrics, queueMetric));
+    } catch (RejectedExecutionException e) {
+      if (metrics != null) {
+        metrics.rejected(queueMetric);
+      }
+      throw e;
     }
   }
 
-  protected Runnable wrapTask(ContextTask cTask, Handler<Void> hTask, boolean checkThread) {
+  @SuppressWarnings("unchecked")
+  protected Runnable wrapTask(ContextTask cTask, Handler<Void> hTask, boolean checkThread, PoolMetrics metrics, Object queueMetric) {
     return () -> {
       Thread th = Thread.currentThread();
       if (!(th instanceof VertxThread)) {
@@ -324,9 +381,14 @@ public abstract class ContextImpl implements ContextInternal {
           throw new IllegalStateException("Uh oh! Event loop context executing with wrong thread! Expected " + contextThread + " got " + current);
         }
       }
+      Object execMetric = null;
+      if (metrics != null) {
+        execMetric = metrics.begin(queueMetric);
+      }
       if (!DISABLE_TIMINGS) {
         current.executeStart();
       }
+      boolean succeeded = true;
       try {
         setContext(current, ContextImpl.this);
         if (cTask != null) {
@@ -335,6 +397,7 @@ public abstract class ContextImpl implements ContextInternal {
           hTask.handle(null);
         }
       } catch (Throwable t) {
+        succeeded = false;
         log.error("Unhandled exception", t);
       } finally {
         // We don't unset the context after execution - this is done later when the context is closed via
@@ -342,6 +405,9 @@ public abstract class ContextImpl implements ContextInternal {
         if (!DISABLE_TIMINGS) {
           current.executeEnd();
         }
+        if (metrics != null) {
+          metrics.end(execMetric, succeeded);
+        }
       }
     };
   }
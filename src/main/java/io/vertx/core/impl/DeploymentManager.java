@@ -417,9 +417,17 @@ public class DeploymentManager {
     
     AtomicInteger deployCount = new AtomicInteger();
     AtomicBoolean failureReported = new AtomicBoolean();
+    String poolName = options.getWorkerPoolName();
     for (Verticle verticle: verticles) {
-      ContextImpl context = options.isWorker() ? vertx.createWorkerContext(options.isMultiThreaded(), deploymentID, conf, tccl) :
-        vertx.createEventLoopContext(deploymentID, conf, tccl);
+      // Only the verticle context closes the executor
+      WorkerExecutorImpl workerExec = poolName != null ? vertx.createSharedWorkerExecutor(parentContext, poolName, options.getWorkerPoolSize(), options.getMaxWorkerExecuteTime()) : null;
+      WorkerPool pool = workerExec != null ? workerExec.getPool() : null;
+      ContextImpl context = options.isWorker() ? vertx.createWorkerContext(options.isMultiThreaded(), deploymentID, pool, conf, tccl) :
+        vertx.createEventLoopContext(deploymentID, pool, conf, tccl);
+      if (workerExec != null) {
+        // Release the worker pool when the verticle is undeployed
+        context.addCloseHook(workerExec);
+      }
       context.setDeployment(deployment);
       deployment.addVerticle(new VerticleHolder(verticle, context));
       context.runOnContext(v -> {
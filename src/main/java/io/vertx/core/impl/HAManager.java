@@ -114,6 +114,7 @@ public class HAManager {
   private volatile boolean attainedQuorum;
   private volatile FailoverCompleteHandler failoverCompleteHandler;
   private volatile FailoverCompleteHandler nodeCrashedHandler;
+  private volatile Handler<String> membershipChangeHandler;
   private volatile boolean failDuringFailover;
   private volatile boolean stopped;
   private volatile boolean killed;
@@ -135,11 +136,13 @@ public class HAManager {
       @Override
       public void nodeAdded(String nodeID) {
         HAManager.this.nodeAdded(nodeID);
+        callMembershipChangeHandler(nodeID);
       }
 
       @Override
       public void nodeLeft(String leftNodeID) {
         HAManager.this.nodeLeft(leftNodeID);
+        callMembershipChangeHandler(leftNodeID);
       }
     });
     clusterMap.put(nodeID, haInfo.encode());
@@ -220,6 +223,22 @@ public class HAManager {
     this.nodeCrashedHandler = removeSubsHandler;
   }
 
+  // Called with the ID of a node that joined or left the cluster
+  public void setMembershipChangeHandler(Handler<String> membershipChangeHandler) {
+    this.membershipChangeHandler = membershipChangeHandler;
+  }
+
+  private void callMembershipChangeHandler(String nodeID) {
+    Handler<String> handler = membershipChangeHandler;
+    if (handler != null) {
+      try {
+        handler.handle(nodeID);
+      } catch (Throwable t) {
+        log.error("Membership change handler failed", t);
+      }
+    }
+  }
+
   public boolean isKilled() {
     return killed;
   }
@@ -17,11 +17,14 @@
 
 package io.vertx.core.impl;
 
+import io.netty.util.internal.PlatformDependent;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
-import java.util.LinkedList;
+import java.util.Queue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 /**
  * A factory for producing executors that run all tasks in order, which delegate to a single common executor instance.
@@ -34,6 +37,7 @@ public class OrderedExecutorFactory {
   private static final Logger log = LoggerFactory.getLogger(OrderedExecutorFactory.class);
 
   private final Executor parent;
+  private final int maxBatchSize;
 
   /**
    * Construct a new instance delegating to the given parent executor.
@@ -41,7 +45,21 @@ public class OrderedExecutorFactory {
    * @param parent the parent executor
    */
   public OrderedExecutorFactory(Executor parent) {
+    this(parent, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Construct a new instance delegating to the given parent executor.
+   *
+   * @param parent the parent executor
+   * @param maxBatchSize the maximum number of tasks an executor runs before yielding the parent thread
+   */
+  public OrderedExecutorFactory(Executor parent, int maxBatchSize) {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("maxBatchSize must be > 0");
+    }
     this.parent = parent;
+    this.maxBatchSize = maxBatchSize;
   }
 
   /**
@@ -50,7 +68,7 @@ public class OrderedExecutorFactory {
    * @return an ordered executor
    */
   public Executor getExecutor() {
-    return new OrderedExecutor(parent);
+    return new OrderedExecutor(parent, maxBatchSize);
   }
 
   /**
@@ -58,42 +76,71 @@ public class OrderedExecutorFactory {
    * <p/>
    * More specifically, any call B to the {@link #execute(Runnable)} method that happens-after another call A to the
    * same method, will result in B's task running after A's.
+   * <p/>
+   * Tasks are offered to a multi producer single consumer queue, the producer that moves the executor from idle to
+   * running submits the runner to the parent executor. The runner drains at most {@code maxBatchSize} tasks and then
+   * submits itself again, so other executors sharing the parent get a chance to run.
    */
   private static final class OrderedExecutor implements Executor {
-    // @protectedby tasks
-    private final LinkedList<Runnable> tasks = new LinkedList<>();
 
-    // @protectedby tasks
-    private boolean running;
+    private static final AtomicIntegerFieldUpdater<OrderedExecutor> STATE_UPDATER =
+      AtomicIntegerFieldUpdater.newUpdater(OrderedExecutor.class, "state");
+    private static final int ST_IDLE = 0;
+    private static final int ST_RUNNING = 1;
+
+    private final Queue<Runnable> tasks = PlatformDependent.newMpscQueue();
+
+    private volatile int state;
 
     private final Executor parent;
 
-    private final Runnable runner;
+    private final int maxBatchSize;
+
+    private final Runnable runner = this::run;
 
     /**
      * Construct a new instance.
      *
      * @param parent the parent executor
+     * @param maxBatchSize the maximum number of tasks run before yielding the parent thread
      */
-    public OrderedExecutor(Executor parent) {
+    public OrderedExecutor(Executor parent, int maxBatchSize) {
       this.parent = parent;
-      runner = () -> {
-        for (; ; ) {
-          final Runnable task;
-          synchronized (tasks) {
-            task = tasks.poll();
-            if (task == null) {
-              running = false;
-              return;
-            }
-          }
+      this.maxBatchSize = maxBatchSize;
+    }
+
+    private void run() {
+      for (; ; ) {
+        int count = 0;
+        Runnable task;
+        while (count < maxBatchSize && (task = tasks.poll()) != null) {
+          count++;
           try {
             task.run();
           } catch (Throwable t) {
             log.error("Caught unexpected Throwable", t);
           }
         }
-      };
+        if (count == maxBatchSize && !tasks.isEmpty()) {
+          // Batch exhausted, the executor remains running and yields the thread
+          schedule();
+          return;
+        }
+        state = ST_IDLE;
+        // A producer may have offered a task after the last poll but before the state was reset
+        if (tasks.isEmpty() || !STATE_UPDATER.compareAndSet(this, ST_IDLE, ST_RUNNING)) {
+          return;
+        }
+      }
+    }
+
+    private void schedule() {
+      try {
+        parent.execute(runner);
+      } catch (RejectedExecutionException e) {
+        state = ST_IDLE;
+        throw e;
+      }
     }
 
     /**
@@ -102,12 +149,9 @@ public class OrderedExecutorFactory {
      * @param command the task to run.
      */
     public void execute(Runnable command) {
-      synchronized (tasks) {
-        tasks.add(command);
-        if (!running) {
-          running = true;
-          parent.execute(runner);
-        }
+      tasks.add(command);
+      if (state == ST_IDLE && STATE_UPDATER.compareAndSet(this, ST_IDLE, ST_RUNNING)) {
+        schedule();
       }
     }
   }
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A sampling profiler of the Vert.x threads executing for longer than their max execute time.
+ * <p>
+ * The {@link BlockedThreadChecker} samples the registered threads at the sampling interval. A thread is stalled
+ * while its current execution is over budget: each stall is counted once per thread with its duration, and the stack
+ * of a stalled event loop thread is captured at every sample. The stack samples are aggregated per call site, the
+ * deepest frame that is not in the JDK, and per full stack, the latter can be dumped in the collapsed stack format
+ * used by flame graph tools.
+ * <p>
+ * Sampling runs on the checker thread, the aggregated values can be read or reset from any thread.
+ */
+public class StallProfiler {
+
+  private static final String[] JDK_PACKAGES = {"java.", "javax.", "sun.", "com.sun.", "jdk."};
+
+  private final ConcurrentMap<String, LongAdder> callSites = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, LongAdder> stacks = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, ThreadStalls> threadStalls = new ConcurrentHashMap<>();
+  // Confined to the checker thread
+  private final Map<VertxThread, Stall> inProgress = new HashMap<>();
+
+  StallProfiler() {
+  }
+
+  /**
+   * Sample a thread, this is called by the checker thread only.
+   */
+  void sample(VertxThread thread, long now) {
+    long execStart = thread.startTime();
+    Stall stall = inProgress.get(thread);
+    if (stall != null && stall.execStart != execStart) {
+      // The stalled execution has ended
+      inProgress.remove(thread);
+      stall.end();
+      stall = null;
+    }
+    long duration = now - execStart;
+    if (execStart != 0 && duration > thread.getMaxExecTime()) {
+      if (stall == null) {
+        stall = new Stall(stalls(thread), execStart);
+        inProgress.put(thread, stall);
+        stall.stalls.count.increment();
+      }
+      stall.duration = duration;
+      if (!thread.isWorker()) {
+        record(thread.getStackTrace());
+      }
+    }
+  }
+
+  /**
+   * Forget a thread that is not sampled anymore, this is called by the checker thread only.
+   */
+  void remove(VertxThread thread) {
+    Stall stall = inProgress.remove(thread);
+    if (stall != null) {
+      stall.end();
+    }
+  }
+
+  private ThreadStalls stalls(VertxThread thread) {
+    ThreadStalls stalls = threadStalls.get(thread.getName());
+    if (stalls == null) {
+      stalls = threadStalls.computeIfAbsent(thread.getName(), name -> new ThreadStalls());
+    }
+    return stalls;
+  }
+
+  private void record(StackTraceElement[] trace) {
+    if (trace.length == 0) {
+      return;
+    }
+    increment(callSites, callSite(trace).toString());
+    StringBuilder collapsed = new StringBuilder();
+    for (int i = trace.length - 1; i >= 0; i--) {
+      collapsed.append(trace[i].getClassName()).append('.').append(trace[i].getMethodName());
+      if (i > 0) {
+        collapsed.append(';');
+      }
+    }
+    increment(stacks, collapsed.toString());
+  }
+
+  private static StackTraceElement callSite(StackTraceElement[] trace) {
+    for (StackTraceElement frame : trace) {
+      if (!isJdkFrame(frame)) {
+        return frame;
+      }
+    }
+    return trace[0];
+  }
+
+  private static boolean isJdkFrame(StackTraceElement frame) {
+    String className = frame.getClassName();
+    for (String pkg : JDK_PACKAGES) {
+      if (className.startsWith(pkg)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void increment(ConcurrentMap<String, LongAdder> map, String key) {
+    LongAdder counter = map.get(key);
+    if (counter == null) {
+      counter = map.computeIfAbsent(key, k -> new LongAdder());
+    }
+    counter.increment();
+  }
+
+  private static Map<String, Long> snapshot(ConcurrentMap<String, LongAdder> map) {
+    Map<String, Long> snapshot = new HashMap<>();
+    map.forEach((key, counter) -> snapshot.put(key, counter.sum()));
+    return snapshot;
+  }
+
+  /**
+   * @return the number of stack samples per call site, the call site is the deepest frame of the sampled stack that
+   * is not in a JDK package
+   */
+  public Map<String, Long> getCallSites() {
+    return snapshot(callSites);
+  }
+
+  /**
+   * @return the number of stack samples per stack, the stack frames are listed from the root to the leaf and
+   * separated by {@code ;}
+   */
+  public Map<String, Long> getStacks() {
+    return snapshot(stacks);
+  }
+
+  /**
+   * @return the stall statistics per thread name
+   */
+  public Map<String, ThreadStalls> getThreadStalls() {
+    return Collections.unmodifiableMap(new HashMap<>(threadStalls));
+  }
+
+  /**
+   * Dump the stack samples in the collapsed stack format, one stack per line followed by a space and its number
+   * of samples, the most sampled stacks first.
+   *
+   * @param out the appendable to dump to
+   */
+  public void dumpCollapsedStacks(Appendable out) throws IOException {
+    List<Map.Entry<String, Long>> entries = new ArrayList<>(getStacks().entrySet());
+    entries.sort((e1, e2) -> Long.compare(e2.getValue(), e1.getValue()));
+    for (Map.Entry<String, Long> entry : entries) {
+      out.append(entry.getKey()).append(' ').append(String.valueOf(entry.getValue())).append('\n');
+    }
+  }
+
+  /**
+   * Reset the samples and the stall statistics, the stalls in progress are still measured.
+   */
+  public void reset() {
+    callSites.clear();
+    stacks.clear();
+    threadStalls.values().forEach(ThreadStalls::reset);
+  }
+
+  private static class Stall {
+
+    private final ThreadStalls stalls;
+    private final long execStart;
+    private long duration;
+
+    Stall(ThreadStalls stalls, long execStart) {
+      this.stalls = stalls;
+      this.execStart = execStart;
+    }
+
+    void end() {
+      stalls.record(duration);
+    }
+  }
+
+  /**
+   * The stalls of a thread. The duration of a stall is known at the sampling interval granularity and is recorded
+   * when the stall ends.
+   */
+  public static class ThreadStalls {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalTime = new LongAdder();
+    private final AtomicLong maxTime = new AtomicLong();
+
+    /**
+     * @return the number of stalls, including a stall in progress
+     */
+    public long getCount() {
+      return count.sum();
+    }
+
+    /**
+     * @return the total duration of the ended stalls, in ns
+     */
+    public long getTotalTime() {
+      return totalTime.sum();
+    }
+
+    /**
+     * @return the longest duration of the ended stalls, in ns
+     */
+    public long getMaxTime() {
+      return maxTime.get();
+    }
+
+    private void record(long duration) {
+      totalTime.add(duration);
+      long current = maxTime.get();
+      while (duration > current && !maxTime.compareAndSet(current, duration)) {
+        current = maxTime.get();
+      }
+    }
+
+    private void reset() {
+      count.reset();
+      totalTime.reset();
+      maxTime.set(0);
+    }
+  }
+}
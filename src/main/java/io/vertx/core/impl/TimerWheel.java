@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.impl;
+
+import io.netty.channel.EventLoop;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A hashed timing wheel owned by an event loop.
+ * <p>
+ * The wheel is an array of buckets, each bucket is a doubly linked list of timeouts. A timeout is linked in the
+ * bucket of its deadline tick and expires when the wheel visits its bucket at or after this tick. Scheduling a timeout
+ * is constant time, cancelling a timeout is a compare and set of its state: the timeout is unlinked immediately when
+ * cancelled from the event loop thread and lazily when its bucket is visited otherwise.
+ * <p>
+ * All the wheel state is confined to the event loop thread, timeouts scheduled from another thread are handed to the
+ * event loop. The wheel does not tick at a fixed rate: the event loop wakes up at the tick of the next timeout only,
+ * and visits the buckets of the ticks elapsed since the previous wake up.
+ */
+public class TimerWheel {
+
+  // The delays are capped so that the deadlines never overflow, this is more than 70 years
+  private static final long MAX_DELAY_NANOS = Long.MAX_VALUE >> 2;
+
+  private final EventLoop eventLoop;
+  private final long tickNanos;
+  private final Timeout[] buckets;
+  private final int mask;
+  private final long startTime;
+  private final Runnable advance = this::advance;
+  // The next tick to visit
+  private long tick;
+  private int size;
+  private ScheduledFuture<?> ticker;
+  private long tickerTick;
+  private boolean advancing;
+
+  /**
+   * Create a timer wheel.
+   *
+   * @param eventLoop the event loop driving the wheel
+   * @param tick the tick duration in ms
+   * @param wheelSize the number of buckets, rounded up to the next power of two
+   */
+  public TimerWheel(EventLoop eventLoop, long tick, int wheelSize) {
+    if (tick < 1) {
+      throw new IllegalArgumentException("tick must be > 0");
+    }
+    if (wheelSize < 1 || wheelSize > 1 << 30) {
+      throw new IllegalArgumentException("wheelSize must be > 0 and <= 2^30");
+    }
+    int length = 1;
+    while (length < wheelSize) {
+      length <<= 1;
+    }
+    this.eventLoop = eventLoop;
+    this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tick);
+    this.buckets = new Timeout[length];
+    this.mask = length - 1;
+    this.startTime = System.nanoTime();
+  }
+
+  EventLoop eventLoop() {
+    return eventLoop;
+  }
+
+  /**
+   * @return the number of timeouts linked in the wheel, this must be called from the event loop thread
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Schedule a timeout, this can be called from any thread.
+   *
+   * @param timeout the timeout
+   * @param delay the delay in ms
+   */
+  public void schedule(Timeout timeout, long delay) {
+    if (timeout.wheel != this) {
+      throw new IllegalArgumentException("Timeout belongs to another wheel");
+    }
+    timeout.deadline = System.nanoTime() + Math.min(TimeUnit.MILLISECONDS.toNanos(delay), MAX_DELAY_NANOS);
+    if (eventLoop.inEventLoop()) {
+      add(timeout);
+    } else {
+      eventLoop.execute(timeout);
+    }
+  }
+
+  private void add(Timeout timeout) {
+    if (timeout.state != Timeout.ST_INIT) {
+      // Cancelled before being handed to the event loop
+      return;
+    }
+    if (size == 0 && !advancing) {
+      // The wheel is empty, skip the buckets of the idle period
+      long elapsed = (System.nanoTime() - startTime) / tickNanos;
+      if (elapsed > tick) {
+        tick = elapsed;
+      }
+    }
+    link(timeout);
+    if (!advancing && (ticker == null || timeout.deadlineTick < tickerTick)) {
+      // The wheel is rescheduled once advanced otherwise
+      scheduleTicker(timeout.deadlineTick);
+    }
+  }
+
+  private void link(Timeout timeout) {
+    long delta = timeout.deadline - startTime;
+    long deadlineTick = delta <= 0 ? 0 : (delta + tickNanos - 1) / tickNanos;
+    if (deadlineTick < tick) {
+      deadlineTick = tick;
+    }
+    timeout.deadlineTick = deadlineTick;
+    int index = (int) (deadlineTick & mask);
+    Timeout head = buckets[index];
+    timeout.bucket = index;
+    timeout.prev = null;
+    timeout.next = head;
+    if (head != null) {
+      head.prev = timeout;
+    }
+    buckets[index] = timeout;
+    size++;
+  }
+
+  private void unlink(Timeout timeout) {
+    if (timeout.bucket < 0) {
+      return;
+    }
+    if (timeout.prev != null) {
+      timeout.prev.next = timeout.next;
+    } else {
+      buckets[timeout.bucket] = timeout.next;
+    }
+    if (timeout.next != null) {
+      timeout.next.prev = timeout.prev;
+    }
+    timeout.prev = null;
+    timeout.next = null;
+    timeout.bucket = -1;
+    size--;
+  }
+
+  private void scheduleTicker(long deadlineTick) {
+    if (ticker != null) {
+      ticker.cancel(false);
+    }
+    tickerTick = deadlineTick;
+    long delay = startTime + deadlineTick * tickNanos - System.nanoTime();
+    ticker = eventLoop.schedule(advance, Math.max(0, delay), TimeUnit.NANOSECONDS);
+  }
+
+  private void advance() {
+    ticker = null;
+    long now = System.nanoTime();
+    long current = (now - startTime) / tickNanos;
+    if (current >= tick) {
+      // Each bucket is visited once, even when more ticks than buckets have elapsed
+      long from = Math.max(tick, current - mask);
+      // The timeouts linked while expiring are due from the next tick
+      tick = current + 1;
+      advancing = true;
+      try {
+        for (long t = from; t <= current; t++) {
+          expireBucket((int) (t & mask), current);
+        }
+      } finally {
+        advancing = false;
+      }
+    }
+    if (size > 0) {
+      scheduleTicker(nextTick());
+    }
+  }
+
+  private void expireBucket(int index, long current) {
+    Timeout timeout = buckets[index];
+    while (timeout != null) {
+      // Expiring a periodic timeout links it again at the head of a bucket, so read the next one before
+      Timeout next = timeout.next;
+      if (timeout.state != Timeout.ST_INIT) {
+        unlink(timeout);
+      } else if (timeout.deadlineTick <= current) {
+        unlink(timeout);
+        expire(timeout);
+      }
+      timeout = next;
+    }
+  }
+
+  /**
+   * @return the earliest deadline tick of the linked timeouts, the scan stops at the first bucket that cannot hold
+   * an earlier one
+   */
+  private long nextTick() {
+    long next = Long.MAX_VALUE;
+    for (int i = 0; i <= mask && tick + i < next; i++) {
+      for (Timeout timeout = buckets[(int) ((tick + i) & mask)]; timeout != null; timeout = timeout.next) {
+        if (timeout.deadlineTick < next) {
+          next = timeout.deadlineTick;
+        }
+      }
+    }
+    return Math.max(next, tick);
+  }
+
+  private void expire(Timeout timeout) {
+    if (timeout.periodNanos > 0) {
+      timeout.deadline += timeout.periodNanos;
+      link(timeout);
+      timeout.expire();
+    } else if (Timeout.STATE_UPDATER.compareAndSet(timeout, Timeout.ST_INIT, Timeout.ST_EXPIRED)) {
+      timeout.expire();
+    }
+  }
+
+  /**
+   * A timeout scheduled in a {@link TimerWheel}, implementations are notified by {@link #expire()} on the event loop
+   * thread.
+   */
+  public static abstract class Timeout implements Runnable {
+
+    private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER =
+      AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+    private static final int ST_INIT = 0;
+    private static final int ST_CANCELLED = 1;
+    private static final int ST_EXPIRED = 2;
+
+    private final TimerWheel wheel;
+    private final long periodNanos;
+    private volatile int state;
+    private long deadline;
+    private long deadlineTick;
+    private int bucket = -1;
+    private Timeout prev;
+    private Timeout next;
+
+    /**
+     * @param wheel the wheel of this timeout
+     * @param period the period in ms of a periodic timeout or {@code 0} for a one shot timeout
+     */
+    protected Timeout(TimerWheel wheel, long period) {
+      this.wheel = wheel;
+      this.periodNanos = Math.min(TimeUnit.MILLISECONDS.toNanos(period), MAX_DELAY_NANOS);
+    }
+
+    /**
+     * Cancel this timeout, this can be called from any thread.
+     *
+     * @return true if the timeout was cancelled, false if it had already expired or been cancelled
+     */
+    public boolean cancel() {
+      if (STATE_UPDATER.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+        if (wheel.eventLoop.inEventLoop()) {
+          wheel.unlink(this);
+        }
+        return true;
+      }
+      return false;
+    }
+
+    /**
+     * Called on the event loop thread when the timeout expires, a periodic timeout is already rescheduled.
+     */
+    protected abstract void expire();
+
+    @Override
+    public final void run() {
+      wheel.add(this);
+    }
+  }
+}
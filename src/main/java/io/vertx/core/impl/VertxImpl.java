@@ -18,8 +18,8 @@ package io.vertx.core.impl;
 
 import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.ResourceLeakDetector;
+import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.GenericFutureListener;
 import io.vertx.core.*;
 import io.vertx.core.Future;
@@ -51,6 +51,7 @@ import io.vertx.core.net.NetServerOptions;
 import io.vertx.core.net.impl.NetClientImpl;
 import io.vertx.core.net.impl.NetServerImpl;
 import io.vertx.core.net.impl.ServerID;
+import io.vertx.core.net.impl.transport.Transport;
 import io.vertx.core.shareddata.SharedData;
 import io.vertx.core.shareddata.impl.SharedDataImpl;
 import io.vertx.core.spi.VerticleFactory;
@@ -58,7 +59,9 @@ import io.vertx.core.spi.VertxMetricsFactory;
 import io.vertx.core.spi.cluster.ClusterManager;
 import io.vertx.core.spi.metrics.Metrics;
 import io.vertx.core.spi.metrics.MetricsProvider;
+import io.vertx.core.spi.metrics.PoolMetrics;
 import io.vertx.core.spi.metrics.VertxMetrics;
+import io.vertx.core.streams.ReadStream;
 
 import java.io.File;
 import java.util.*;
@@ -87,19 +90,26 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   private final SharedData sharedData;
   private final VertxMetrics metrics;
   private final ConcurrentMap<Long, InternalTimerHandler> timeouts = new ConcurrentHashMap<>();
+  private final ConcurrentMap<EventLoop, TimerWheel> timerWheels = new ConcurrentHashMap<>();
+  private final long timerWheelTick;
+  private final int timerWheelSize;
   private final AtomicLong timeoutCounter = new AtomicLong(0);
   private final ClusterManager clusterManager;
   private final DeploymentManager deploymentManager;
   private final FileResolver fileResolver;
   private final Map<ServerID, HttpServerImpl> sharedHttpServers = new HashMap<>();
   private final Map<ServerID, NetServerImpl> sharedNetServers = new HashMap<>();
-  private final ExecutorService workerPool;
-  private final ExecutorService internalBlockingPool;
-  private final OrderedExecutorFactory workerOrderedFact;
-  private final OrderedExecutorFactory internalOrderedFact;
+  private final WorkerPool workerPool;
+  private final WorkerPool internalBlockingPool;
+  private final Map<String, SharedWorkerPool> namedWorkerPools = new HashMap<>();
+  private final Map<EventLoop, PoolMetrics> eventLoopMetrics = new HashMap<>();
+  private final int workerBatchSize;
+  private final int defaultWorkerPoolSize;
+  private final long defaultWorkerMaxExecTime;
   private final ThreadFactory eventLoopThreadFactory;
-  private final NioEventLoopGroup eventLoopGroup;
-  private final NioEventLoopGroup acceptorEventLoopGroup;
+  private final Transport transport;
+  private final EventLoopGroup eventLoopGroup;
+  private final EventLoopGroup acceptorEventLoopGroup;
   private final BlockedThreadChecker checker;
   private final boolean haEnabled;
   private EventBus eventBus;
@@ -119,25 +129,38 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     if (Vertx.currentContext() != null) {
       log.warn("You're already on a Vert.x context, are you sure you want to create a new Vertx instance?");
     }
-    checker = new BlockedThreadChecker(options.getBlockedThreadCheckInterval(), options.getMaxEventLoopExecuteTime(),
-                                       options.getMaxWorkerExecuteTime(), options.getWarningExceptionTime());
-    eventLoopThreadFactory = new VertxThreadFactory("vert.x-eventloop-thread-", checker, false);
-    eventLoopGroup = new NioEventLoopGroup(options.getEventLoopPoolSize(), eventLoopThreadFactory);
-    eventLoopGroup.setIoRatio(NETTY_IO_RATIO);
-    ThreadFactory acceptorEventLoopThreadFactory = new VertxThreadFactory("vert.x-acceptor-thread-", checker, false);
+    checker = new BlockedThreadChecker(options.getBlockedThreadCheckInterval(), options.getWarningExceptionTime(),
+        options.getBlockedThreadSamplingInterval());
+    transport = lookupTransport(options);
+    timerWheelTick = options.getTimerWheelTick();
+    timerWheelSize = options.getTimerWheelSize();
+    eventLoopThreadFactory = new VertxThreadFactory("vert.x-eventloop-thread-", checker, false, options.getMaxEventLoopExecuteTime());
+    eventLoopGroup = transport.eventLoopGroup(options.getEventLoopPoolSize(), eventLoopThreadFactory, NETTY_IO_RATIO);
+    ThreadFactory acceptorEventLoopThreadFactory = new VertxThreadFactory("vert.x-acceptor-thread-", checker, false, options.getMaxEventLoopExecuteTime());
     // The acceptor event loop thread needs to be from a different pool otherwise can get lags in accepted connections
     // under a lot of load
-    acceptorEventLoopGroup = new NioEventLoopGroup(1, acceptorEventLoopThreadFactory);
-    acceptorEventLoopGroup.setIoRatio(100);
-    workerPool = Executors.newFixedThreadPool(options.getWorkerPoolSize(),
-                                              new VertxThreadFactory("vert.x-worker-thread-", checker, true));
-    internalBlockingPool = Executors.newFixedThreadPool(options.getInternalBlockingPoolSize(),
-                                                        new VertxThreadFactory("vert.x-internal-blocking-", checker, true));
-    workerOrderedFact = new OrderedExecutorFactory(workerPool);
-    internalOrderedFact = new OrderedExecutorFactory(internalBlockingPool);
+    acceptorEventLoopGroup = transport.eventLoopGroup(1, acceptorEventLoopThreadFactory, 100);
     this.fileResolver = new FileResolver(this);
     this.deploymentManager = new DeploymentManager(this);
     this.metrics = initialiseMetrics(options);
+    workerBatchSize = options.getWorkerBatchSize();
+    defaultWorkerPoolSize = options.getWorkerPoolSize();
+    defaultWorkerMaxExecTime = options.getMaxWorkerExecuteTime();
+    ExecutorService workerExec = Executors.newFixedThreadPool(options.getWorkerPoolSize(),
+        new VertxThreadFactory("vert.x-worker-thread-", checker, true, options.getMaxWorkerExecuteTime()));
+    PoolMetrics workerPoolMetrics = metrics.createMetrics(workerExec, "worker", "vert.x-worker-thread", options.getWorkerPoolSize());
+    workerPool = new WorkerPool(workerExec, workerPoolMetrics, workerBatchSize);
+    ExecutorService internalBlockingExec = Executors.newFixedThreadPool(options.getInternalBlockingPoolSize(),
+        new VertxThreadFactory("vert.x-internal-blocking-", checker, true, options.getMaxWorkerExecuteTime()));
+    PoolMetrics internalBlockingPoolMetrics = metrics.createMetrics(internalBlockingExec, "worker", "vert.x-internal-blocking", options.getInternalBlockingPoolSize());
+    internalBlockingPool = new WorkerPool(internalBlockingExec, internalBlockingPoolMetrics, workerBatchSize);
+    int eventLoopIndex = 0;
+    for (EventExecutor eventLoop : eventLoopGroup) {
+      PoolMetrics eventLoopPoolMetrics = metrics.createMetrics(eventLoop, "event-loop", "vert.x-eventloop-thread-" + eventLoopIndex++, 1);
+      if (eventLoopPoolMetrics != null) {
+        eventLoopMetrics.put((EventLoop) eventLoop, eventLoopPoolMetrics);
+      }
+    }
     this.haEnabled = options.isClustered() && options.isHAEnabled();
     if (options.isClustered()) {
       this.clusterManager = getClusterManager(options);
@@ -161,11 +184,26 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     this.sharedData = new SharedDataImpl(this, clusterManager);
   }
 
+  private static Transport lookupTransport(VertxOptions options) {
+    if (options.getPreferNativeTransport()) {
+      Transport nativeTransport = Transport.nativeTransport();
+      if (nativeTransport != null && nativeTransport.isAvailable()) {
+        return nativeTransport;
+      }
+      if (nativeTransport == null) {
+        log.warn("Native transport requested but not found on the classpath, using the JDK transport");
+      } else {
+        log.warn("Native transport requested but not available, using the JDK transport", nativeTransport.unavailabilityCause());
+      }
+    }
+    return Transport.JDK;
+  }
+
   private void createAndStartEventBus(VertxOptions options, Handler<AsyncResult<Vertx>> resultHandler) {
     if (options.isClustered()) {
       eventBus = new ClusteredEventBus(this, options, clusterManager, haManager);
     } else {
-      eventBus = new EventBusImpl(this);
+      eventBus = new EventBusImpl(this, options.getHandlerSelectionPolicy());
     }
     eventBus.start(ar2 -> {
       if (ar2.succeeded()) {
@@ -279,7 +317,17 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
 
   // The background pool is used for making blocking calls to legacy synchronous APIs
   public ExecutorService getWorkerPool() {
-    return workerPool;
+    return workerPool.executor();
+  }
+
+  @Override
+  public StallProfiler stallProfiler() {
+    return checker.profiler();
+  }
+
+  @Override
+  public PoolMetrics eventLoopMetrics(EventLoop eventLoop) {
+    return eventLoopMetrics.get(eventLoop);
   }
 
   public EventLoopGroup getEventLoopGroup() {
@@ -290,6 +338,11 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     return acceptorEventLoopGroup;
   }
 
+  @Override
+  public Transport transport() {
+    return transport;
+  }
+
   public ContextImpl getOrCreateContext() {
     ContextImpl ctx = getContext();
     if (ctx == null) {
@@ -327,8 +380,21 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     }
   }
 
+  private TimerWheel timerWheel(EventLoop eventLoop) {
+    TimerWheel wheel = timerWheels.get(eventLoop);
+    if (wheel == null) {
+      wheel = timerWheels.computeIfAbsent(eventLoop, el -> new TimerWheel(el, timerWheelTick, timerWheelSize));
+    }
+    return wheel;
+  }
+
   public EventLoopContext createEventLoopContext(String deploymentID, JsonObject config, ClassLoader tccl) {
-    return new EventLoopContext(this, internalOrderedFact.getExecutor(), workerOrderedFact.getExecutor(), deploymentID, config, tccl);
+    return createEventLoopContext(deploymentID, null, config, tccl);
+  }
+
+  @Override
+  public EventLoopContext createEventLoopContext(String deploymentID, WorkerPool workerPool, JsonObject config, ClassLoader tccl) {
+    return new EventLoopContext(this, internalBlockingPool, workerPool != null ? workerPool : this.workerPool, deploymentID, config, tccl);
   }
 
   @Override
@@ -388,17 +454,67 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     InternalTimerHandler task = new InternalTimerHandler(timerId, handler, periodic, delay, context);
     timeouts.put(timerId, task);
     context.addCloseHook(task);
+    task.schedule(delay);
     return timerId;
   }
 
   public ContextImpl createWorkerContext(boolean multiThreaded, String deploymentID, JsonObject config,
                                          ClassLoader tccl) {
+    return createWorkerContext(multiThreaded, deploymentID, null, config, tccl);
+  }
+
+  @Override
+  public ContextImpl createWorkerContext(boolean multiThreaded, String deploymentID, WorkerPool workerPool, JsonObject config,
+                                         ClassLoader tccl) {
+    if (workerPool == null) {
+      workerPool = this.workerPool;
+    }
     if (multiThreaded) {
-      return new MultiThreadedWorkerContext(this, internalOrderedFact.getExecutor(), workerPool, deploymentID, config, tccl);
+      return new MultiThreadedWorkerContext(this, internalBlockingPool, workerPool, deploymentID, config, tccl);
+    } else {
+      return new WorkerContext(this, internalBlockingPool, workerPool, deploymentID, config, tccl);
+    }
+  }
+
+  @Override
+  public WorkerExecutorImpl createSharedWorkerExecutor(String name) {
+    return createSharedWorkerExecutor(name, defaultWorkerPoolSize);
+  }
+
+  @Override
+  public WorkerExecutorImpl createSharedWorkerExecutor(String name, int poolSize) {
+    return createSharedWorkerExecutor(name, poolSize, defaultWorkerMaxExecTime);
+  }
+
+  @Override
+  public WorkerExecutorImpl createSharedWorkerExecutor(String name, int poolSize, long maxExecuteTime) {
+    ContextImpl context = getOrCreateContext();
+    WorkerExecutorImpl namedExec = createSharedWorkerExecutor(context, name, poolSize, maxExecuteTime);
+    context.addCloseHook(namedExec);
+    return namedExec;
+  }
+
+  @Override
+  public synchronized WorkerExecutorImpl createSharedWorkerExecutor(ContextImpl context, String name, int poolSize,
+                                                                    long maxExecuteTime) {
+    Objects.requireNonNull(name, "No null worker pool name accepted");
+    if (poolSize < 1) {
+      throw new IllegalArgumentException("poolSize must be > 0");
+    }
+    if (maxExecuteTime < 1) {
+      throw new IllegalArgumentException("maxExecuteTime must be > 0");
+    }
+    SharedWorkerPool sharedWorkerPool = namedWorkerPools.get(name);
+    if (sharedWorkerPool == null) {
+      ExecutorService workerExec = Executors.newFixedThreadPool(poolSize,
+          new VertxThreadFactory(name + "-", checker, true, maxExecuteTime));
+      PoolMetrics workerMetrics = metrics.createMetrics(workerExec, "worker", name, poolSize);
+      sharedWorkerPool = new SharedWorkerPool(name, workerExec, workerMetrics);
+      namedWorkerPools.put(name, sharedWorkerPool);
     } else {
-      return new WorkerContext(this, internalOrderedFact.getExecutor(), workerOrderedFact.getExecutor(), deploymentID,
-                               config, tccl);
+      sharedWorkerPool.refCount++;
     }
+    return new WorkerExecutorImpl(context, sharedWorkerPool);
   }
 
   public static Context context() {
@@ -606,11 +722,22 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     executeBlocking(blockingCodeHandler, true, asyncResultHandler);
   }
 
+  @Override
+  public <T> ReadStream<T> executeBlockingStream(Iterable<Handler<Future<T>>> blockingCodeHandlers, int maxConcurrency) {
+    ContextImpl context = getOrCreateContext();
+    return context.executeBlockingStream(blockingCodeHandlers, maxConcurrency);
+  }
+
   @Override
   public boolean isClustered() {
     return clusterManager != null;
   }
 
+  @Override
+  public boolean isNativeTransportEnabled() {
+    return transport != Transport.JDK;
+  }
+
   @Override
   public EventLoopGroup nettyEventLoopGroup() {
     return eventLoopGroup;
@@ -661,8 +788,12 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   private void deleteCacheDirAndShutdown(Handler<AsyncResult<Void>> completionHandler) {
     fileResolver.close(res -> {
 
-      workerPool.shutdownNow();
-      internalBlockingPool.shutdownNow();
+      workerPool.close();
+      internalBlockingPool.close();
+      synchronized (VertxImpl.this) {
+        new ArrayList<>(namedWorkerPools.values()).forEach(WorkerPool::close);
+        namedWorkerPools.clear();
+      }
 
       acceptorEventLoopGroup.shutdownGracefully(0, 10, TimeUnit.SECONDS).addListener(new GenericFutureListener() {
         @Override
@@ -676,6 +807,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
               if (!future.isSuccess()) {
                 log.warn("Failure in shutting down event loop group", future.cause());
               }
+              eventLoopMetrics.values().forEach(PoolMetrics::close);
               if (metrics != null) {
                 metrics.close();
               }
@@ -706,33 +838,69 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     }
   }
 
-  private class InternalTimerHandler implements Handler<Void>, Closeable {
+  /**
+   * A named worker pool shared by the executors and the deployments using its name, it is closed when
+   * the last of them is closed.
+   */
+  class SharedWorkerPool extends WorkerPool {
+
+    private final String name;
+    private int refCount = 1;
+
+    SharedWorkerPool(String name, ExecutorService workerExec, PoolMetrics workerMetrics) {
+      super(workerExec, workerMetrics, workerBatchSize);
+      this.name = name;
+    }
+
+    @Override
+    void close() {
+      synchronized (VertxImpl.this) {
+        if (refCount > 0) {
+          refCount = 0;
+          super.close();
+        }
+      }
+    }
+
+    void release() {
+      synchronized (VertxImpl.this) {
+        if (--refCount == 0) {
+          namedWorkerPools.remove(name);
+          super.close();
+        }
+      }
+    }
+  }
+
+  private class InternalTimerHandler extends TimerWheel.Timeout implements Handler<Void>, Closeable {
     final Handler<Long> handler;
     final boolean periodic;
     final long timerID;
     final ContextImpl context;
-    final java.util.concurrent.Future<?> future;
 
-    boolean cancel() {
+    public boolean cancel() {
       metrics.timerEnded(timerID, true);
-      return future.cancel(false);
+      return super.cancel();
     }
 
     InternalTimerHandler(long timerID, Handler<Long> runnable, boolean periodic, long delay, ContextImpl context) {
+      super(timerWheel(context.nettyEventLoop()), periodic ? delay : 0);
       this.context = context;
       this.timerID = timerID;
       this.handler = runnable;
       this.periodic = periodic;
-      EventLoop el = context.nettyEventLoop();
-      Runnable toRun = () -> context.runOnContext(this);
-      if (periodic) {
-        future = el.scheduleAtFixedRate(toRun, delay, delay, TimeUnit.MILLISECONDS);
-      } else {
-        future = el.schedule(toRun, delay, TimeUnit.MILLISECONDS);
-      }
       metrics.timerCreated(timerID);
     }
 
+    void schedule(long delay) {
+      timerWheel(context.nettyEventLoop()).schedule(this, delay);
+    }
+
+    @Override
+    protected void expire() {
+      context.runOnContext(this);
+    }
+
     public void handle(Void v) {
       try {
         handler.handle(timerID);
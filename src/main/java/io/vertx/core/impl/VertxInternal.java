@@ -17,6 +17,7 @@
 package io.vertx.core.impl;
 
 
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
@@ -25,7 +26,9 @@ import io.vertx.core.http.impl.HttpServerImpl;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.impl.NetServerImpl;
 import io.vertx.core.net.impl.ServerID;
+import io.vertx.core.net.impl.transport.Transport;
 import io.vertx.core.spi.cluster.ClusterManager;
+import io.vertx.core.spi.metrics.PoolMetrics;
 import io.vertx.core.spi.metrics.VertxMetrics;
 
 import java.io.File;
@@ -48,8 +51,23 @@ public interface VertxInternal extends Vertx {
 
   EventLoopGroup getAcceptorEventLoopGroup();
 
+  /**
+   * @return the transport used to create the event loops and the channels
+   */
+  Transport transport();
+
   ExecutorService getWorkerPool();
 
+  /**
+   * @return the metrics of the tasks executed by an event loop or {@code null} when event loops are not measured
+   */
+  PoolMetrics eventLoopMetrics(EventLoop eventLoop);
+
+  /**
+   * @return the profiler of the stalled threads or {@code null} when the blocked thread sampling is disabled
+   */
+  StallProfiler stallProfiler();
+
   Map<ServerID, HttpServerImpl> sharedHttpServers();
 
   Map<ServerID, NetServerImpl> sharedNetServers();
@@ -72,6 +90,30 @@ public interface VertxInternal extends Vertx {
    */
   ContextImpl createWorkerContext(boolean multiThreaded, String deploymentID, JsonObject config, ClassLoader tccl);
 
+  /**
+   * @return event loop context using the given worker pool for blocking code, or the default one when {@code null}
+   */
+  EventLoopContext createEventLoopContext(String deploymentID, WorkerPool workerPool, JsonObject config, ClassLoader tccl);
+
+  /**
+   * @return worker context executing on the given worker pool, or the default one when {@code null}
+   */
+  ContextImpl createWorkerContext(boolean multiThreaded, String deploymentID, WorkerPool workerPool, JsonObject config, ClassLoader tccl);
+
+  @Override
+  WorkerExecutorImpl createSharedWorkerExecutor(String name);
+
+  @Override
+  WorkerExecutorImpl createSharedWorkerExecutor(String name, int poolSize);
+
+  @Override
+  WorkerExecutorImpl createSharedWorkerExecutor(String name, int poolSize, long maxExecuteTime);
+
+  /**
+   * @return a worker executor using the shared worker pool of the given name, it is not closed with any context
+   */
+  WorkerExecutorImpl createSharedWorkerExecutor(ContextImpl context, String name, int poolSize, long maxExecuteTime);
+
   void simulateKill();
 
   Deployment getDeployment(String deploymentID);
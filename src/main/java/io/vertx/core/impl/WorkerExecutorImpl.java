@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Closeable;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.spi.metrics.PoolMetrics;
+import io.vertx.core.streams.ReadStream;
+
+import java.util.concurrent.Executor;
+
+/**
+ * A worker executor using a shared worker pool, it is closed explicitly or when the context that created it
+ * is closed.
+ */
+class WorkerExecutorImpl implements WorkerExecutor, Closeable {
+
+  private final ContextImpl ctx;
+  private final VertxImpl.SharedWorkerPool pool;
+  private final Executor workerExec;
+  private boolean closed;
+
+  WorkerExecutorImpl(ContextImpl ctx, VertxImpl.SharedWorkerPool pool) {
+    this.ctx = ctx;
+    this.pool = pool;
+    this.workerExec = pool.createOrderedExecutor();
+  }
+
+  @Override
+  public boolean isMetricsEnabled() {
+    PoolMetrics metrics = pool.metrics();
+    return metrics != null && metrics.isEnabled();
+  }
+
+  WorkerPool getPool() {
+    return pool;
+  }
+
+  @Override
+  public synchronized <T> void executeBlocking(Handler<Future<T>> blockingCodeHandler, boolean ordered, Handler<AsyncResult<T>> resultHandler) {
+    if (closed) {
+      throw new IllegalStateException("Worker executor closed");
+    }
+    ContextImpl context = (ContextImpl) ctx.owner().getOrCreateContext();
+    context.executeBlocking(null, blockingCodeHandler, resultHandler, ordered ? workerExec : pool.executor(), pool.metrics());
+  }
+
+  @Override
+  public synchronized <T> ReadStream<T> executeBlockingStream(Iterable<Handler<Future<T>>> blockingCodeHandlers, int maxConcurrency) {
+    if (closed) {
+      throw new IllegalStateException("Worker executor closed");
+    }
+    ContextImpl context = (ContextImpl) ctx.owner().getOrCreateContext();
+    return new BlockingStreamImpl<>(context, blockingCodeHandlers, maxConcurrency, pool.executor(), pool.metrics());
+  }
+
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+    }
+    ctx.removeCloseHook(this);
+    pool.release();
+  }
+
+  @Override
+  public void close(Handler<AsyncResult<Void>> completionHandler) {
+    close();
+    completionHandler.handle(Future.succeededFuture());
+  }
+}
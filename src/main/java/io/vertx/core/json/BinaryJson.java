@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.json;
+
+import io.vertx.core.buffer.Buffer;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The binary encoding of the JSON values.
+ * <p>
+ * Each value starts with a type byte. Integers and longs are zig-zag varints, floats and doubles are written in
+ * IEEE 754 format, strings are UTF-8 bytes prefixed by their length as a varint and objects and arrays are prefixed
+ * by their number of entries as a varint.
+ * <p>
+ * The keys of the objects are interned per encoded value: a key is written as a varint {@code (length << 1)} followed
+ * by its UTF-8 bytes the first time it occurs, and then as a varint {@code (index << 1) | 1} referencing it in the
+ * order of its first occurrence, so the keys repeated in the objects of an array are written once.
+ * <p>
+ * The numbers are decoded to the same types as the JSON text decoding: the integer types narrower than int and the
+ * longs within the int range are decoded as integers, the floats are decoded as the doubles of their text
+ * representation and the numbers without a dedicated type are decoded from their text representation.
+ * <p>
+ * The sizes and lengths read are checked against the bytes left in the encoded value, so a corrupt value fails with a
+ * {@link DecodeException} instead of allocating beyond it.
+ */
+class BinaryJson {
+
+  static final byte NULL = 0;
+  static final byte TRUE = 1;
+  static final byte FALSE = 2;
+  static final byte INT = 3;
+  static final byte LONG = 4;
+  static final byte FLOAT = 5;
+  static final byte DOUBLE = 6;
+  static final byte STRING = 7;
+  static final byte OBJECT = 8;
+  static final byte ARRAY = 9;
+  static final byte NUMBER = 10;
+
+  /**
+   * Append the binary encoding of a value to a buffer.
+   */
+  static void encode(Object value, Buffer buffer) {
+    new Encoder(buffer).writeValue(value);
+  }
+
+  /**
+   * Decode the binary encoding of a value.
+   *
+   * @param buffer the buffer
+   * @param start the position of the value
+   * @param end the position after the value
+   * @return the value, objects and arrays are decoded as {@link JsonObject} and {@link JsonArray}
+   */
+  static Object decode(Buffer buffer, int start, int end) {
+    Decoder decoder = new Decoder(buffer, start, end);
+    Object value;
+    try {
+      value = decoder.readValue();
+    } catch (IndexOutOfBoundsException e) {
+      throw new DecodeException("Truncated binary JSON");
+    }
+    if (decoder.pos != end) {
+      throw new DecodeException("Invalid binary JSON length " + (end - start) + ", decoded " + (decoder.pos - start));
+    }
+    return value;
+  }
+
+  private static class Encoder {
+
+    private final Buffer buffer;
+    private Map<String, Integer> keys;
+
+    Encoder(Buffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @SuppressWarnings("unchecked")
+    void writeValue(Object value) {
+      if (value == null) {
+        buffer.appendByte(NULL);
+      } else if (value instanceof String) {
+        buffer.appendByte(STRING);
+        writeString((String) value);
+      } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+        buffer.appendByte(INT);
+        int i = ((Number) value).intValue();
+        writeVarint((i << 1) ^ (i >> 31));
+      } else if (value instanceof Long) {
+        buffer.appendByte(LONG);
+        long l = (Long) value;
+        writeVarlong((l << 1) ^ (l >> 63));
+      } else if (value instanceof Double) {
+        buffer.appendByte(DOUBLE);
+        buffer.appendDouble((Double) value);
+      } else if (value instanceof Float) {
+        buffer.appendByte(FLOAT);
+        buffer.appendFloat((Float) value);
+      } else if (value instanceof Boolean) {
+        buffer.appendByte((Boolean) value ? TRUE : FALSE);
+      } else if (value instanceof JsonObject) {
+        writeObject(((JsonObject) value).getMap());
+      } else if (value instanceof Map) {
+        writeObject((Map<String, Object>) value);
+      } else if (value instanceof JsonArray) {
+        writeArray(((JsonArray) value).getList());
+      } else if (value instanceof List) {
+        writeArray((List<Object>) value);
+      } else if (value instanceof Number) {
+        buffer.appendByte(NUMBER);
+        writeString(value.toString());
+      } else if (value instanceof CharSequence || value instanceof Character) {
+        buffer.appendByte(STRING);
+        writeString(value.toString());
+      } else {
+        throw new EncodeException("Illegal type in JSON value: " + value.getClass());
+      }
+    }
+
+    private void writeObject(Map<String, Object> map) {
+      buffer.appendByte(OBJECT);
+      writeVarint(map.size());
+      for (Map.Entry<String, Object> entry : map.entrySet()) {
+        writeKey(entry.getKey());
+        writeValue(entry.getValue());
+      }
+    }
+
+    private void writeArray(List<Object> list) {
+      buffer.appendByte(ARRAY);
+      writeVarint(list.size());
+      for (Object value : list) {
+        writeValue(value);
+      }
+    }
+
+    private void writeKey(String key) {
+      if (keys == null) {
+        keys = new HashMap<>();
+      }
+      Integer index = keys.get(key);
+      if (index != null) {
+        writeVarint((index << 1) | 1);
+      } else {
+        keys.put(key, keys.size());
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        writeVarint(bytes.length << 1);
+        buffer.appendBytes(bytes);
+      }
+    }
+
+    private void writeString(String str) {
+      byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+      writeVarint(bytes.length);
+      buffer.appendBytes(bytes);
+    }
+
+    private void writeVarint(int value) {
+      while ((value & ~0x7F) != 0) {
+        buffer.appendByte((byte) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      buffer.appendByte((byte) value);
+    }
+
+    private void writeVarlong(long value) {
+      while ((value & ~0x7FL) != 0) {
+        buffer.appendByte((byte) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      buffer.appendByte((byte) value);
+    }
+  }
+
+  private static class Decoder {
+
+    private final Buffer buffer;
+    private final int end;
+    private int pos;
+    private List<String> keys;
+
+    Decoder(Buffer buffer, int pos, int end) {
+      this.buffer = buffer;
+      this.pos = pos;
+      this.end = end;
+    }
+
+    Object readValue() {
+      byte type = buffer.getByte(pos++);
+      switch (type) {
+        case NULL:
+          return null;
+        case TRUE:
+          return Boolean.TRUE;
+        case FALSE:
+          return Boolean.FALSE;
+        case INT: {
+          int i = readVarint();
+          return (i >>> 1) ^ -(i & 1);
+        }
+        case LONG: {
+          long l = readVarlong();
+          l = (l >>> 1) ^ -(l & 1);
+          if (l == (int) l) {
+            return (int) l;
+          }
+          return l;
+        }
+        case FLOAT: {
+          float f = buffer.getFloat(pos);
+          pos += 4;
+          // The text of a float is decoded as a double
+          return Double.valueOf(Float.toString(f));
+        }
+        case DOUBLE: {
+          double d = buffer.getDouble(pos);
+          pos += 8;
+          return d;
+        }
+        case STRING:
+          return readString(readVarint());
+        case OBJECT:
+          return readObject();
+        case ARRAY:
+          return readArray();
+        case NUMBER:
+          return readNumber(readString(readVarint()));
+        default:
+          throw new DecodeException("Invalid binary JSON type " + type);
+      }
+    }
+
+    private JsonObject readObject() {
+      // An entry takes at least a key and a type byte
+      int size = readSize(2);
+      Map<String, Object> map = new LinkedHashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+      for (int i = 0; i < size; i++) {
+        String key = readKey();
+        map.put(key, readValue());
+      }
+      return new JsonObject(map);
+    }
+
+    private JsonArray readArray() {
+      // A value takes at least a type byte
+      int size = readSize(1);
+      List<Object> list = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add(readValue());
+      }
+      return new JsonArray(list);
+    }
+
+    private String readKey() {
+      if (keys == null) {
+        keys = new ArrayList<>();
+      }
+      int value = readVarint();
+      if ((value & 1) != 0) {
+        int index = value >>> 1;
+        if (index >= keys.size()) {
+          throw new DecodeException("Invalid binary JSON key reference " + index);
+        }
+        return keys.get(index);
+      }
+      String key = readString(value >>> 1);
+      keys.add(key);
+      return key;
+    }
+
+    private String readString(int length) {
+      if (length < 0 || length > end - pos) {
+        throw new DecodeException("Invalid binary JSON string length " + length);
+      }
+      String str = buffer.getString(pos, pos + length);
+      pos += length;
+      return str;
+    }
+
+    private int readSize(int minBytes) {
+      int size = readVarint();
+      if (size < 0 || size > (end - pos) / minBytes) {
+        throw new DecodeException("Invalid binary JSON size " + size);
+      }
+      return size;
+    }
+
+    private Number readNumber(String text) {
+      if (text.indexOf('.') != -1 || text.indexOf('e') != -1 || text.indexOf('E') != -1) {
+        return Double.valueOf(text);
+      }
+      BigInteger value = new BigInteger(text);
+      if (value.bitLength() < 32) {
+        return value.intValue();
+      } else if (value.bitLength() < 64) {
+        return value.longValue();
+      }
+      return value;
+    }
+
+    private int readVarint() {
+      int value = 0;
+      for (int shift = 0; shift < 35; shift += 7) {
+        byte b = buffer.getByte(pos++);
+        value |= (b & 0x7F) << shift;
+        if (b >= 0) {
+          return value;
+        }
+      }
+      throw new DecodeException("Malformed binary JSON varint");
+    }
+
+    private long readVarlong() {
+      long value = 0;
+      for (int shift = 0; shift < 70; shift += 7) {
+        byte b = buffer.getByte(pos++);
+        value |= (long) (b & 0x7F) << shift;
+        if (b >= 0) {
+          return value;
+        }
+      }
+      throw new DecodeException("Malformed binary JSON varint");
+    }
+  }
+}
@@ -122,6 +122,22 @@ public class Json {
     return val;
   }
 
+  /**
+   * Like {@link #checkAndCopy(Object, boolean)} but the JSON objects and arrays are copied to read-only instances.
+   */
+  static Object checkAndCopyReadOnly(Object val) {
+    if (val instanceof JsonObject) {
+      return ((JsonObject) val).readOnlyCopy();
+    } else if (val instanceof JsonArray) {
+      return ((JsonArray) val).readOnlyCopy();
+    } else if (val instanceof Map) {
+      return new JsonObject((Map) val).readOnlyCopy();
+    } else if (val instanceof List) {
+      return new JsonArray((List) val).readOnlyCopy();
+    }
+    return checkAndCopy(val, false);
+  }
+
   static <T> Stream<T> asStream(Iterator<T> sourceIterator) {
     Iterable<T> iterable = () -> sourceIterator;
     return StreamSupport.stream(iterable.spliterator(), false);
@@ -19,9 +19,11 @@ package io.vertx.core.json;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.shareddata.impl.ClusterSerializable;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -46,6 +48,7 @@ import static java.time.format.DateTimeFormatter.ISO_INSTANT;
 public class JsonArray implements Iterable<Object>, ClusterSerializable {
 
   private List<Object> list;
+  private boolean readOnly;
 
   /**
    * Create an instance from a String of JSON
@@ -562,6 +565,35 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
     return new JsonArray(copiedList);
   }
 
+  /**
+   * Copy the JSON array to a read-only JSON array.
+   * <p>
+   * The nested JSON objects and arrays of the copy are read-only too, the methods modifying them throw an
+   * {@link UnsupportedOperationException}.
+   *
+   * @return a read-only copy of the array, or this array if it is already read-only
+   * @see JsonObject#readOnlyCopy()
+   */
+  public JsonArray readOnlyCopy() {
+    if (readOnly) {
+      return this;
+    }
+    List<Object> copiedList = new ArrayList<>(list.size());
+    for (Object val: list) {
+      copiedList.add(Json.checkAndCopyReadOnly(val));
+    }
+    JsonArray copy = new JsonArray(Collections.unmodifiableList(copiedList));
+    copy.readOnly = true;
+    return copy;
+  }
+
+  /**
+   * @return true if this array is read-only, see {@link #readOnlyCopy()}
+   */
+  public boolean isReadOnly() {
+    return readOnly;
+  }
+
   /**
    * Get a Stream over the entries in the JSON array
    *
@@ -617,18 +649,48 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
 
   @Override
   public void writeToBuffer(Buffer buffer) {
-    String encoded = encode();
-    byte[] bytes = encoded.getBytes();
-    buffer.appendInt(bytes.length);
-    buffer.appendBytes(bytes);
+    writeToBuffer(buffer, false);
+  }
+
+  /**
+   * Write this array to a buffer, as JSON text or in the compact binary encoding.
+   * <p>
+   * The binary encoding is smaller and faster to write and read than the text, both are prefixed by their length and
+   * can be read by {@link #readFromBuffer}. The binary encoding can only be read by Vert.x 3.3 and later.
+   *
+   * @param buffer  the buffer
+   * @param binary  whether to use the binary encoding
+   */
+  public void writeToBuffer(Buffer buffer, boolean binary) {
+    if (binary) {
+      int pos = buffer.length();
+      buffer.appendInt(0);
+      BinaryJson.encode(list, buffer);
+      // The high bit of the length distinguishes the binary encoding from the text
+      buffer.setInt(pos, (buffer.length() - pos - 4) | 0x80000000);
+    } else {
+      String encoded = encode();
+      byte[] bytes = encoded.getBytes(StandardCharsets.UTF_8);
+      buffer.appendInt(bytes.length);
+      buffer.appendBytes(bytes);
+    }
   }
 
   @Override
   public int readFromBuffer(int pos, Buffer buffer) {
     int length = buffer.getInt(pos);
     int start = pos + 4;
-    String encoded = buffer.getString(start, start + length);
-    fromJson(encoded);
+    if (length < 0) {
+      length &= 0x7FFFFFFF;
+      Object decoded = BinaryJson.decode(buffer, start, start + length);
+      if (!(decoded instanceof JsonArray)) {
+        throw new DecodeException("Binary JSON value is not a JSON array");
+      }
+      list = ((JsonArray) decoded).getList();
+    } else {
+      String encoded = buffer.getString(start, start + length);
+      fromJson(encoded);
+    }
     return pos + length + 4;
   }
 
@@ -43,6 +43,7 @@ import static java.time.format.DateTimeFormatter.ISO_INSTANT;
 public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterSerializable {
 
   private Map<String, Object> map;
+  private boolean readOnly;
 
   /**
    * Create an instance from a string of JSON
@@ -703,6 +704,35 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
     return new JsonObject(copiedMap);
   }
 
+  /**
+   * Copy the JSON object to a read-only JSON object.
+   * <p>
+   * The nested JSON objects and arrays of the copy are read-only too, the methods modifying them throw an
+   * {@link UnsupportedOperationException}. A read-only JSON object can be shared safely, for instance the event bus
+   * delivers it to local handlers and the shared data structures store it without copying it.
+   *
+   * @return a read-only copy of the object, or this object if it is already read-only
+   */
+  public JsonObject readOnlyCopy() {
+    if (readOnly) {
+      return this;
+    }
+    Map<String, Object> copiedMap = new LinkedHashMap<>(Math.max(16, (int) (map.size() / 0.75f) + 1));
+    for (Map.Entry<String, Object> entry: map.entrySet()) {
+      copiedMap.put(entry.getKey(), Json.checkAndCopyReadOnly(entry.getValue()));
+    }
+    JsonObject copy = new JsonObject(Collections.unmodifiableMap(copiedMap));
+    copy.readOnly = true;
+    return copy;
+  }
+
+  /**
+   * @return true if this object is read-only, see {@link #readOnlyCopy()}
+   */
+  public boolean isReadOnly() {
+    return readOnly;
+  }
+
   /**
    * Get the underlying Map.
    *
@@ -831,18 +861,48 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
 
   @Override
   public void writeToBuffer(Buffer buffer) {
-    String encoded = encode();
-    byte[] bytes = encoded.getBytes(StandardCharsets.UTF_8);
-    buffer.appendInt(bytes.length);
-    buffer.appendBytes(bytes);
+    writeToBuffer(buffer, false);
+  }
+
+  /**
+   * Write this object to a buffer, as JSON text or in the compact binary encoding.
+   * <p>
+   * The binary encoding is smaller and faster to write and read than the text, both are prefixed by their length and
+   * can be read by {@link #readFromBuffer}. The binary encoding can only be read by Vert.x 3.3 and later.
+   *
+   * @param buffer  the buffer
+   * @param binary  whether to use the binary encoding
+   */
+  public void writeToBuffer(Buffer buffer, boolean binary) {
+    if (binary) {
+      int pos = buffer.length();
+      buffer.appendInt(0);
+      BinaryJson.encode(map, buffer);
+      // The high bit of the length distinguishes the binary encoding from the text
+      buffer.setInt(pos, (buffer.length() - pos - 4) | 0x80000000);
+    } else {
+      String encoded = encode();
+      byte[] bytes = encoded.getBytes(StandardCharsets.UTF_8);
+      buffer.appendInt(bytes.length);
+      buffer.appendBytes(bytes);
+    }
   }
 
   @Override
   public int readFromBuffer(int pos, Buffer buffer) {
     int length = buffer.getInt(pos);
     int start = pos + 4;
-    String encoded = buffer.getString(start, start + length);
-    fromJson(encoded);
+    if (length < 0) {
+      length &= 0x7FFFFFFF;
+      Object decoded = BinaryJson.decode(buffer, start, start + length);
+      if (!(decoded instanceof JsonObject)) {
+        throw new DecodeException("Binary JSON value is not a JSON object");
+      }
+      map = ((JsonObject) decoded).getMap();
+    } else {
+      String encoded = buffer.getString(start, start + length);
+      fromJson(encoded);
+    }
     return pos + length + 4;
   }
 
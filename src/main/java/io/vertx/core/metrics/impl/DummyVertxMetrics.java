@@ -35,6 +35,7 @@ import io.vertx.core.spi.metrics.DatagramSocketMetrics;
 import io.vertx.core.spi.metrics.EventBusMetrics;
 import io.vertx.core.spi.metrics.HttpClientMetrics;
 import io.vertx.core.spi.metrics.HttpServerMetrics;
+import io.vertx.core.spi.metrics.PoolMetrics;
 import io.vertx.core.spi.metrics.TCPMetrics;
 import io.vertx.core.spi.metrics.VertxMetrics;
 import io.vertx.core.net.NetClient;
@@ -94,6 +95,12 @@ public class DummyVertxMetrics implements VertxMetrics {
     return new DummyDatagramMetrics();
   }
 
+  @Override
+  public PoolMetrics<?> createMetrics(Object pool, String poolType, String poolName, int maxPoolSize) {
+    // Pools are not measured at all, the task execution path does not call the metrics
+    return null;
+  }
+
   @Override
   public void close() {
   }
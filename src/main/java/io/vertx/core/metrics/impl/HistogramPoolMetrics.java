@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.metrics.impl;
+
+import io.vertx.core.spi.metrics.PoolMetrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The default {@link PoolMetrics} returned by {@link io.vertx.core.spi.metrics.VertxMetrics#createMetrics(Object, String, String, int)}.
+ * <p>
+ * It keeps a {@link LatencyHistogram} of the time tasks wait in the pool queue and another one of the time tasks
+ * run, along with the current queue size and the number of tasks in progress. For an event loop the queue delay
+ * is the event loop lag, its high percentiles grow before the blocked thread checker warns.
+ */
+public class HistogramPoolMetrics implements PoolMetrics<Long> {
+
+  private final String poolType;
+  private final String poolName;
+  private final int maxPoolSize;
+  private final LatencyHistogram queueDelay = new LatencyHistogram();
+  private final LatencyHistogram executionTime = new LatencyHistogram();
+  private final AtomicLong queueSize = new AtomicLong();
+  private final AtomicLong inUse = new AtomicLong();
+  private final AtomicLong rejected = new AtomicLong();
+
+  public HistogramPoolMetrics(String poolType, String poolName, int maxPoolSize) {
+    this.poolType = poolType;
+    this.poolName = poolName;
+    this.maxPoolSize = maxPoolSize;
+  }
+
+  @Override
+  public Long submitted() {
+    queueSize.incrementAndGet();
+    return System.nanoTime();
+  }
+
+  @Override
+  public void rejected(Long queueMetric) {
+    queueSize.decrementAndGet();
+    rejected.incrementAndGet();
+  }
+
+  @Override
+  public Long begin(Long queueMetric) {
+    long now = System.nanoTime();
+    if (queueMetric != null) {
+      queueSize.decrementAndGet();
+      queueDelay.record(now - queueMetric);
+    }
+    inUse.incrementAndGet();
+    return now;
+  }
+
+  @Override
+  public void end(Long executionMetric, boolean succeeded) {
+    inUse.decrementAndGet();
+    executionTime.record(System.nanoTime() - executionMetric);
+  }
+
+  /**
+   * @return the type of the pool, e.g {@code worker} or {@code event-loop}
+   */
+  public String getPoolType() {
+    return poolType;
+  }
+
+  /**
+   * @return the name of the pool
+   */
+  public String getPoolName() {
+    return poolName;
+  }
+
+  /**
+   * @return the maximum number of resources of the pool
+   */
+  public int getMaxPoolSize() {
+    return maxPoolSize;
+  }
+
+  /**
+   * @return the histogram of the time tasks waited in the pool queue
+   */
+  public LatencyHistogram queueDelay() {
+    return queueDelay;
+  }
+
+  /**
+   * @return the histogram of the time tasks took to execute
+   */
+  public LatencyHistogram executionTime() {
+    return executionTime;
+  }
+
+  /**
+   * @return the number of tasks waiting in the pool queue
+   */
+  public long getQueueSize() {
+    return queueSize.get();
+  }
+
+  /**
+   * @return the number of tasks in progress
+   */
+  public long getInUse() {
+    return inUse.get();
+  }
+
+  /**
+   * @return the number of rejected tasks
+   */
+  public long getRejected() {
+    return rejected.get();
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public void close() {
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.metrics.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed size histogram of latencies in nanoseconds, in the spirit of an HDR histogram.
+ * <p>
+ * Values are counted in log-linear buckets: each power of two range is split in 16 linear sub buckets, so the
+ * value reported for a percentile is at most 6.25% above the recorded value. Recording a value is a few arithmetic
+ * operations and an atomic increment and does not allocate, the histogram can be recorded concurrently by several
+ * threads. Reading the histogram is not atomic with respect to recording, the values are only an approximation
+ * while values are recorded.
+ */
+public class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKET_COUNT = 64 - SUB_BUCKET_BITS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT * SUB_BUCKET_COUNT);
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong sum = new AtomicLong();
+  private final AtomicLong max = new AtomicLong();
+
+  static int indexOf(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return ((shift + 1) << SUB_BUCKET_BITS) + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+  }
+
+  static long highestValueOf(int index) {
+    int bucket = index >>> SUB_BUCKET_BITS;
+    if (bucket == 0) {
+      return index;
+    }
+    int shift = bucket - 1;
+    long lowest = (long) (SUB_BUCKET_COUNT + (index & (SUB_BUCKET_COUNT - 1))) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+
+  /**
+   * Record a latency.
+   *
+   * @param nanos the latency in nanoseconds, negative values are recorded as {@code 0}
+   */
+  public void record(long nanos) {
+    if (nanos < 0) {
+      nanos = 0;
+    }
+    counts.incrementAndGet(indexOf(nanos));
+    count.incrementAndGet();
+    sum.addAndGet(nanos);
+    long current = max.get();
+    while (nanos > current && !max.compareAndSet(current, nanos)) {
+      current = max.get();
+    }
+  }
+
+  /**
+   * @return the number of recorded latencies
+   */
+  public long getCount() {
+    return count.get();
+  }
+
+  /**
+   * @return the highest recorded latency in nanoseconds
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * @return the mean of the recorded latencies in nanoseconds
+   */
+  public double getMean() {
+    long c = count.get();
+    return c == 0 ? 0 : (double) sum.get() / c;
+  }
+
+  /**
+   * Get the latency at a percentile, e.g {@code 99.0} returns the latency under which 99% of the recorded
+   * latencies are.
+   *
+   * @param percentile the percentile between {@code 0} and {@code 100}
+   * @return the latency in nanoseconds or {@code 0} when no latency was recorded
+   */
+  public long getValueAtPercentile(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("percentile must be between 0 and 100");
+    }
+    long total = 0;
+    for (int i = 0; i < counts.length(); i++) {
+      total += counts.get(i);
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+    long acc = 0;
+    for (int i = 0; i < counts.length(); i++) {
+      acc += counts.get(i);
+      if (acc >= target) {
+        return Math.min(highestValueOf(i), max.get());
+      }
+    }
+    return max.get();
+  }
+
+  /**
+   * Reset the histogram.
+   */
+  public void reset() {
+    for (int i = 0; i < counts.length(); i++) {
+      counts.set(i, 0);
+    }
+    count.set(0);
+    sum.set(0);
+    max.set(0);
+  }
+}
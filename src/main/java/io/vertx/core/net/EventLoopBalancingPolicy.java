@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.net;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * The policy used by a server to choose the event loop of an accepted connection among the event loops of the
+ * verticle instances sharing the server.
+ */
+@VertxGen
+public enum EventLoopBalancingPolicy {
+
+  /**
+   * Choose the event loops in turn.
+   */
+  ROUND_ROBIN,
+
+  /**
+   * Choose the event loop with the fewest active connections of the server.
+   */
+  LEAST_CONNECTIONS,
+
+  /**
+   * Choose the event loop with the lowest recent task latency, i.e the time a task waits before the event loop
+   * runs it.
+   */
+  LEAST_LATENCY
+
+}
@@ -94,6 +94,12 @@ public class NetClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  @Override
+  public NetClientOptions setReusePort(boolean reusePort) {
+    super.setReusePort(reusePort);
+    return this;
+  }
+
   @Override
   public NetClientOptions setTrafficClass(int trafficClass) {
     super.setTrafficClass(trafficClass);
@@ -130,6 +136,18 @@ public class NetClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  @Override
+  public NetClientOptions setTcpFastOpen(boolean tcpFastOpen) {
+    super.setTcpFastOpen(tcpFastOpen);
+    return this;
+  }
+
+  @Override
+  public NetClientOptions setTcpCork(boolean tcpCork) {
+    super.setTcpCork(tcpCork);
+    return this;
+  }
+
   @Override
   public NetClientOptions setSsl(boolean ssl) {
     super.setSsl(ssl);
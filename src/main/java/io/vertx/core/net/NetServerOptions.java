@@ -51,10 +51,16 @@ public class NetServerOptions extends TCPSSLOptions {
    */
   public static final ClientAuth DEFAULT_CLIENT_AUTH = ClientAuth.NONE;
 
+  /**
+   * The default event loop balancing policy = ROUND_ROBIN
+   */
+  public static final EventLoopBalancingPolicy DEFAULT_EVENT_LOOP_BALANCING_POLICY = EventLoopBalancingPolicy.ROUND_ROBIN;
+
   private int port;
   private String host;
   private int acceptBacklog;
   private ClientAuth clientAuth = DEFAULT_CLIENT_AUTH;
+  private EventLoopBalancingPolicy eventLoopBalancingPolicy = DEFAULT_EVENT_LOOP_BALANCING_POLICY;
 
   /**
    * Default constructor
@@ -75,6 +81,7 @@ public class NetServerOptions extends TCPSSLOptions {
     this.host = other.getHost();
     this.acceptBacklog = other.getAcceptBacklog();
     this.clientAuth = other.getClientAuth();
+    this.eventLoopBalancingPolicy = other.getEventLoopBalancingPolicy();
   }
 
   /**
@@ -106,6 +113,12 @@ public class NetServerOptions extends TCPSSLOptions {
     return this;
   }
 
+  @Override
+  public NetServerOptions setReusePort(boolean reusePort) {
+    super.setReusePort(reusePort);
+    return this;
+  }
+
   @Override
   public NetServerOptions setTrafficClass(int trafficClass) {
     super.setTrafficClass(trafficClass);
@@ -142,6 +155,18 @@ public class NetServerOptions extends TCPSSLOptions {
     return this;
   }
 
+  @Override
+  public NetServerOptions setTcpFastOpen(boolean tcpFastOpen) {
+    super.setTcpFastOpen(tcpFastOpen);
+    return this;
+  }
+
+  @Override
+  public NetServerOptions setTcpCork(boolean tcpCork) {
+    super.setTcpCork(tcpCork);
+    return this;
+  }
+
   @Override
   public NetServerOptions setSsl(boolean ssl) {
     super.setSsl(ssl);
@@ -292,6 +317,29 @@ public class NetServerOptions extends TCPSSLOptions {
     return this;
   }
 
+  /**
+   * @return the event loop balancing policy
+   */
+  public EventLoopBalancingPolicy getEventLoopBalancingPolicy() {
+    return eventLoopBalancingPolicy;
+  }
+
+  /**
+   * Set the policy choosing the event loop of an accepted connection among the event loops of the verticle
+   * instances sharing the server. When several servers share the same port, the policy of the first server
+   * listening on it is used.
+   *
+   * @param eventLoopBalancingPolicy  the event loop balancing policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  public NetServerOptions setEventLoopBalancingPolicy(EventLoopBalancingPolicy eventLoopBalancingPolicy) {
+    if (eventLoopBalancingPolicy == null) {
+      throw new NullPointerException("eventLoopBalancingPolicy");
+    }
+    this.eventLoopBalancingPolicy = eventLoopBalancingPolicy;
+    return this;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -302,6 +350,7 @@ public class NetServerOptions extends TCPSSLOptions {
 
     if (acceptBacklog != that.acceptBacklog) return false;
     if (clientAuth != that.clientAuth) return false;
+    if (eventLoopBalancingPolicy != that.eventLoopBalancingPolicy) return false;
     if (port != that.port) return false;
     if (host != null ? !host.equals(that.host) : that.host != null) return false;
 
@@ -315,6 +364,7 @@ public class NetServerOptions extends TCPSSLOptions {
     result = 31 * result + (host != null ? host.hashCode() : 0);
     result = 31 * result + acceptBacklog;
     result = 31 * result + clientAuth.hashCode();
+    result = 31 * result + eventLoopBalancingPolicy.hashCode();
     return result;
   }
 
@@ -323,6 +373,7 @@ public class NetServerOptions extends TCPSSLOptions {
     this.host = DEFAULT_HOST;
     this.acceptBacklog = DEFAULT_ACCEPT_BACKLOG;
     this.clientAuth = DEFAULT_CLIENT_AUTH;
+    this.eventLoopBalancingPolicy = DEFAULT_EVENT_LOOP_BALANCING_POLICY;
   }
 
 }
@@ -60,6 +60,16 @@ public abstract class TCPSSLOptions extends NetworkOptions {
    */
   public static final int DEFAULT_IDLE_TIMEOUT = 0;
 
+  /**
+   * The default TCP_FASTOPEN value = false
+   */
+  public static final boolean DEFAULT_TCP_FAST_OPEN = false;
+
+  /**
+   * The default TCP_CORK value = false
+   */
+  public static final boolean DEFAULT_TCP_CORK = false;
+
   private boolean tcpNoDelay;
   private boolean tcpKeepAlive;
   private int soLinger;
@@ -71,6 +81,8 @@ public abstract class TCPSSLOptions extends NetworkOptions {
   private Set<String> enabledCipherSuites = new HashSet<>();
   private ArrayList<String> crlPaths;
   private ArrayList<Buffer> crlValues;
+  private boolean tcpFastOpen;
+  private boolean tcpCork;
 
   /**
    * Default constructor
@@ -98,6 +110,8 @@ public abstract class TCPSSLOptions extends NetworkOptions {
     this.enabledCipherSuites = other.getEnabledCipherSuites() == null ? new HashSet<>() : new HashSet<>(other.getEnabledCipherSuites());
     this.crlPaths = new ArrayList<>(other.getCrlPaths());
     this.crlValues = new ArrayList<>(other.getCrlValues());
+    this.tcpFastOpen = other.isTcpFastOpen();
+    this.tcpCork = other.isTcpCork();
   }
 
   /**
@@ -120,6 +134,8 @@ public abstract class TCPSSLOptions extends NetworkOptions {
     ssl = DEFAULT_SSL;
     crlPaths = new ArrayList<>();
     crlValues = new ArrayList<>();
+    tcpFastOpen = DEFAULT_TCP_FAST_OPEN;
+    tcpCork = DEFAULT_TCP_CORK;
   }
 
   /**
@@ -375,6 +391,47 @@ public abstract class TCPSSLOptions extends NetworkOptions {
     return this;
   }
 
+  /**
+   * @return whether {@code TCP_FASTOPEN} option is enabled
+   */
+  public boolean isTcpFastOpen() {
+    return tcpFastOpen;
+  }
+
+  /**
+   * Enable the {@code TCP_FASTOPEN} option on servers.
+   * <p>
+   * This is only supported by the native transport, it is ignored otherwise.
+   *
+   * @param tcpFastOpen the fast open value
+   * @return a reference to this, so the API can be used fluently
+   */
+  public TCPSSLOptions setTcpFastOpen(boolean tcpFastOpen) {
+    this.tcpFastOpen = tcpFastOpen;
+    return this;
+  }
+
+  /**
+   * @return whether {@code TCP_CORK} option is enabled
+   */
+  public boolean isTcpCork() {
+    return tcpCork;
+  }
+
+  /**
+   * Enable the {@code TCP_CORK} option, partial frames are not sent until the option is cleared or the
+   * 200ms ceiling is reached.
+   * <p>
+   * This is only supported by the native transport, it is ignored otherwise.
+   *
+   * @param tcpCork the cork value
+   * @return a reference to this, so the API can be used fluently
+   */
+  public TCPSSLOptions setTcpCork(boolean tcpCork) {
+    this.tcpCork = tcpCork;
+    return this;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -389,6 +446,8 @@ public abstract class TCPSSLOptions extends NetworkOptions {
     if (tcpKeepAlive != that.tcpKeepAlive) return false;
     if (tcpNoDelay != that.tcpNoDelay) return false;
     if (usePooledBuffers != that.usePooledBuffers) return false;
+    if (tcpFastOpen != that.tcpFastOpen) return false;
+    if (tcpCork != that.tcpCork) return false;
     if (crlPaths != null ? !crlPaths.equals(that.crlPaths) : that.crlPaths != null) return false;
     if (crlValues != null ? !crlValues.equals(that.crlValues) : that.crlValues != null) return false;
     if (enabledCipherSuites != null ? !enabledCipherSuites.equals(that.enabledCipherSuites) : that.enabledCipherSuites != null)
@@ -413,6 +472,8 @@ public abstract class TCPSSLOptions extends NetworkOptions {
     result = 31 * result + (enabledCipherSuites != null ? enabledCipherSuites.hashCode() : 0);
     result = 31 * result + (crlPaths != null ? crlPaths.hashCode() : 0);
     result = 31 * result + (crlValues != null ? crlValues.hashCode() : 0);
+    result = 31 * result + (tcpFastOpen ? 1 : 0);
+    result = 31 * result + (tcpCork ? 1 : 0);
     return result;
   }
 }
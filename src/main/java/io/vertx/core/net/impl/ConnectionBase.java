@@ -120,6 +120,13 @@ public abstract class ConnectionBase {
     }
   }
 
+  /**
+   * @return the Netty channel of the connection
+   */
+  public Channel channel() {
+    return channel;
+  }
+
   // This is a volatile read inside the Netty channel implementation
   public boolean isNotWritable() {
     return !channel.isWritable();
@@ -227,9 +234,13 @@ public abstract class ConnectionBase {
   }
 
   protected ChannelFuture sendFile(RandomAccessFile raf, long offset, long length) throws IOException {
+    return sendFile(raf, offset, length, supportsFileRegion());
+  }
+
+  protected ChannelFuture sendFile(RandomAccessFile raf, long offset, long length, boolean fileRegion) throws IOException {
     // Write the content.
     ChannelFuture writeFuture;
-    if (!supportsFileRegion()) {
+    if (!fileRegion) {
       // Cannot use zero-copy
       writeFuture = writeToChannel(new ChunkedFile(raf, offset, length, 8192));
     } else {
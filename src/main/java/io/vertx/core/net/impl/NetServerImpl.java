@@ -28,7 +28,6 @@ import io.netty.channel.FixedRecvByteBufAllocator;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.ChannelGroupFuture;
 import io.netty.channel.group.DefaultChannelGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.handler.timeout.IdleStateHandler;
@@ -72,8 +71,8 @@ public class NetServerImpl implements NetServer, Closeable, MetricsProvider {
   private final ContextImpl creatingContext;
   private final SSLHelper sslHelper;
   private final Map<Channel, NetSocketImpl> socketMap = new ConcurrentHashMap<>();
-  private final VertxEventLoopGroup availableWorkers = new VertxEventLoopGroup();
-  private final HandlerManager<NetSocket> handlerManager = new HandlerManager<>(availableWorkers);
+  private final VertxEventLoopGroup availableWorkers;
+  private final HandlerManager<NetSocket> handlerManager;
   private final Queue<Runnable> bindListeners = new LinkedList<>();
   private final NetSocketStreamImpl connectStream = new NetSocketStreamImpl();
   private ChannelGroup serverChannelGroup;
@@ -89,6 +88,8 @@ public class NetServerImpl implements NetServer, Closeable, MetricsProvider {
   public NetServerImpl(VertxInternal vertx, NetServerOptions options) {
     this.vertx = vertx;
     this.options = new NetServerOptions(options);
+    this.availableWorkers = new VertxEventLoopGroup(options.getEventLoopBalancingPolicy());
+    this.handlerManager = new HandlerManager<>(availableWorkers);
     this.sslHelper = new SSLHelper(options, KeyStoreHelper.create(vertx, options.getKeyCertOptions()), KeyStoreHelper.create(vertx, options.getTrustOptions()));
     this.creatingContext = vertx.getContext();
     if (creatingContext != null) {
@@ -162,7 +163,7 @@ public class NetServerImpl implements NetServer, Closeable, MetricsProvider {
 
         ServerBootstrap bootstrap = new ServerBootstrap();
         bootstrap.group(availableWorkers);
-        bootstrap.channel(NioServerSocketChannel.class);
+        bootstrap.channelFactory(vertx.transport().serverChannelFactory());
         sslHelper.validate(vertx);
 
         bootstrap.childHandler(new ChannelInitializer<Channel>() {
@@ -351,6 +352,7 @@ public class NetServerImpl implements NetServer, Closeable, MetricsProvider {
     if (options.getAcceptBacklog() != -1) {
       bootstrap.option(ChannelOption.SO_BACKLOG, options.getAcceptBacklog());
     }
+    vertx.transport().configure(options, bootstrap);
   }
 
   private synchronized void addListener(Runnable runner) {
@@ -18,52 +18,133 @@ package io.vertx.core.net.impl;
 
 import io.netty.channel.*;
 import io.netty.util.concurrent.*;
+import io.vertx.core.net.EventLoopBalancingPolicy;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * The event loops of the verticle instances sharing a server, {@link #next()} chooses the event loop of an
+ * accepted connection according to the {@link EventLoopBalancingPolicy}.
+ * <p>
+ * The workers are a copy on write array, choosing an event loop does not lock.
+ *
  * @author <a href="http://tfox.org">Tim Fox</a>
  */
 @SuppressWarnings("deprecation")
 public final class VertxEventLoopGroup extends AbstractEventExecutorGroup implements EventLoopGroup {
 
-  private int pos;
-  private final List<EventLoopHolder> workers = new ArrayList<>();
+  private static final EventLoopHolder[] EMPTY = new EventLoopHolder[0];
+
+  /**
+   * The minimum interval between two latency probes of an event loop.
+   */
+  private static final long LATENCY_PROBE_INTERVAL = TimeUnit.MILLISECONDS.toNanos(10);
+
+  private final EventLoopBalancingPolicy policy;
+  private final AtomicInteger pos = new AtomicInteger();
+  private volatile EventLoopHolder[] workers = EMPTY;
   private final CountDownLatch latch = new CountDownLatch(1);
   private final AtomicBoolean gracefulShutdown = new AtomicBoolean();
   private final Promise<?> terminationFuture = new DefaultPromise<Void>(GlobalEventExecutor.INSTANCE);
 
+  public VertxEventLoopGroup() {
+    this(EventLoopBalancingPolicy.ROUND_ROBIN);
+  }
+
+  public VertxEventLoopGroup(EventLoopBalancingPolicy policy) {
+    this.policy = policy;
+  }
+
   @Override
-  public synchronized EventLoop next() {
-    if (workers.isEmpty()) {
+  public EventLoop next() {
+    return nextHolder().worker;
+  }
+
+  private EventLoopHolder nextHolder() {
+    EventLoopHolder[] holders = workers;
+    int size = holders.length;
+    if (size == 0) {
       throw new IllegalStateException();
-    } else {
-      EventLoop worker = workers.get(pos).worker;
-      pos++;
-      checkPos();
-      return worker;
     }
+    // Start from the round robin position so ties are spread over the event loops
+    int start = (pos.getAndIncrement() & Integer.MAX_VALUE) % size;
+    if (size == 1) {
+      return holders[0];
+    }
+    switch (policy) {
+      case LEAST_CONNECTIONS:
+        return leastConnections(holders, start);
+      case LEAST_LATENCY:
+        return leastLatency(holders, start);
+      default:
+        return holders[start];
+    }
+  }
+
+  private static EventLoopHolder leastConnections(EventLoopHolder[] holders, int start) {
+    EventLoopHolder best = null;
+    int bestConnections = Integer.MAX_VALUE;
+    for (int i = 0; i < holders.length; i++) {
+      EventLoopHolder holder = holders[(start + i) % holders.length];
+      int connections = holder.connections.get();
+      if (connections < bestConnections) {
+        best = holder;
+        bestConnections = connections;
+      }
+    }
+    return best;
+  }
+
+  private static EventLoopHolder leastLatency(EventLoopHolder[] holders, int start) {
+    long now = System.nanoTime();
+    EventLoopHolder best = null;
+    long bestLatency = Long.MAX_VALUE;
+    int bestConnections = Integer.MAX_VALUE;
+    for (int i = 0; i < holders.length; i++) {
+      EventLoopHolder holder = holders[(start + i) % holders.length];
+      holder.probe(now);
+      long latency = holder.latency(now);
+      int connections = holder.connections.get();
+      if (latency < bestLatency || (latency == bestLatency && connections < bestConnections)) {
+        best = holder;
+        bestLatency = latency;
+        bestConnections = connections;
+      }
+    }
+    return best;
   }
 
   @Override
   public Iterator<EventExecutor> iterator() {
-    return new EventLoopIterator(workers.iterator());
+    return new EventLoopIterator(Arrays.asList(workers).iterator());
   }
 
   @Override
   public ChannelFuture register(Channel channel) {
-    return next().register(channel);
+    EventLoopHolder holder = nextHolder();
+    track(holder, channel);
+    return holder.worker.register(channel);
   }
 
   @Override
   public ChannelFuture register(Channel channel, ChannelPromise promise) {
-    return next().register(channel, promise);
+    EventLoopHolder holder = nextHolder();
+    track(holder, channel);
+    return holder.worker.register(channel, promise);
+  }
+
+  private void track(EventLoopHolder holder, Channel channel) {
+    // The net server also registers its server channel with this group, it is not a connection
+    if (policy != EventLoopBalancingPolicy.ROUND_ROBIN && !(channel instanceof ServerChannel)) {
+      holder.connections.incrementAndGet();
+      channel.closeFuture().addListener((ChannelFutureListener) future -> holder.connections.decrementAndGet());
+    }
   }
 
   @Override
@@ -85,7 +166,9 @@ public final class VertxEventLoopGroup extends AbstractEventExecutorGroup implem
   public synchronized void addWorker(EventLoop worker) {
     EventLoopHolder holder = findHolder(worker);
     if (holder == null) {
-      workers.add(new EventLoopHolder(worker));
+      EventLoopHolder[] copy = Arrays.copyOf(workers, workers.length + 1);
+      copy[workers.length] = new EventLoopHolder(worker);
+      workers = copy;
     } else {
       holder.count++;
     }
@@ -106,8 +189,9 @@ public final class VertxEventLoopGroup extends AbstractEventExecutorGroup implem
   @Override
   public Future<?> shutdownGracefully(long quietPeriod, long timeout, TimeUnit unit) {
     if (gracefulShutdown.compareAndSet(false, true)) {
-      final AtomicInteger counter = new AtomicInteger(workers.size());
-      for (EventLoopHolder holder : workers) {
+      EventLoopHolder[] holders = workers;
+      final AtomicInteger counter = new AtomicInteger(holders.length);
+      for (EventLoopHolder holder : holders) {
         // We don't use a lambda here just to keep IntelliJ happy as it (incorrectly) flags a syntax error
         // here
         holder.worker.shutdownGracefully().addListener(new GenericFutureListener() {
@@ -129,9 +213,8 @@ public final class VertxEventLoopGroup extends AbstractEventExecutorGroup implem
   }
 
   private EventLoopHolder findHolder(EventLoop worker) {
-    EventLoopHolder wh = new EventLoopHolder(worker);
     for (EventLoopHolder holder : workers) {
-      if (holder.equals(wh)) {
+      if (holder.worker.equals(worker)) {
         return holder;
       }
     }
@@ -139,52 +222,72 @@ public final class VertxEventLoopGroup extends AbstractEventExecutorGroup implem
   }
 
   public synchronized void removeWorker(EventLoop worker) {
-    //TODO can be optimised
     EventLoopHolder holder = findHolder(worker);
     if (holder != null) {
       holder.count--;
       if (holder.count == 0) {
-        workers.remove(holder);
+        EventLoopHolder[] copy = new EventLoopHolder[workers.length - 1];
+        int index = 0;
+        for (EventLoopHolder h : workers) {
+          if (h != holder) {
+            copy[index++] = h;
+          }
+        }
+        workers = copy;
       }
-      checkPos();
     } else {
       throw new IllegalStateException("Can't find worker to remove");
     }
   }
 
-  public synchronized int workerCount() {
-    return workers.size();
-  }
-
-  private void checkPos() {
-    if (pos == workers.size()) {
-      pos = 0;
-    }
+  public int workerCount() {
+    return workers.length;
   }
 
-  private static class EventLoopHolder {
+  private static class EventLoopHolder implements Runnable {
     int count = 1;
     final EventLoop worker;
+    final AtomicInteger connections = new AtomicInteger();
+    final AtomicBoolean probing = new AtomicBoolean();
+    volatile long probeStart;
+    volatile long latency;
 
     EventLoopHolder(EventLoop worker) {
       this.worker = worker;
     }
 
-    @Override
-    public boolean equals(Object o) {
-      if (this == o) return true;
-      if (o == null || getClass() != o.getClass()) return false;
-
-      EventLoopHolder that = (EventLoopHolder) o;
-
-      if (worker != null ? !worker.equals(that.worker) : that.worker != null) return false;
+    /**
+     * Submit a probe task to the event loop unless one is in flight or the last one is too recent.
+     */
+    void probe(long now) {
+      if (now - probeStart >= LATENCY_PROBE_INTERVAL && probing.compareAndSet(false, true)) {
+        probeStart = now;
+        try {
+          worker.execute(this);
+        } catch (RejectedExecutionException ignore) {
+          probing.set(false);
+        }
+      }
+    }
 
-      return true;
+    /**
+     * @return the recent latency of the event loop, a probe waiting for longer than the average latency raises it
+     */
+    long latency(long now) {
+      long value = latency;
+      if (probing.get()) {
+        value = Math.max(value, now - probeStart);
+      }
+      return value;
     }
 
     @Override
-    public int hashCode() {
-      return worker != null ? worker.hashCode() : 0;
+    public void run() {
+      // Exponentially weighted moving average of the probe latencies
+      long sample = System.nanoTime() - probeStart;
+      long current = latency;
+      latency = current == 0 ? sample : current + (sample - current) / 4;
+      probing.set(false);
     }
   }
 
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.net.impl.transport;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ChannelFactory;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollDatagramChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.InternetProtocolFamily;
+import io.vertx.core.datagram.DatagramSocketOptions;
+import io.vertx.core.net.ClientOptionsBase;
+import io.vertx.core.net.TCPSSLOptions;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The Linux epoll transport, event loops are edge-triggered and channels are backed by native file descriptors.
+ */
+class EpollTransport extends Transport {
+
+  /**
+   * The maximum number of pending TCP fast open requests of a server socket.
+   */
+  private static final int PENDING_FAST_OPEN_REQUESTS_THRESHOLD = 256;
+
+  EpollTransport() {
+  }
+
+  @Override
+  public boolean isAvailable() {
+    return Epoll.isAvailable();
+  }
+
+  @Override
+  public Throwable unavailabilityCause() {
+    return Epoll.unavailabilityCause();
+  }
+
+  @Override
+  public EventLoopGroup eventLoopGroup(int nThreads, ThreadFactory threadFactory, int ioRatio) {
+    EpollEventLoopGroup eventLoopGroup = new EpollEventLoopGroup(nThreads, threadFactory);
+    eventLoopGroup.setIoRatio(ioRatio);
+    return eventLoopGroup;
+  }
+
+  @Override
+  public DatagramChannel datagramChannel() {
+    return new EpollDatagramChannel();
+  }
+
+  @Override
+  public DatagramChannel datagramChannel(InternetProtocolFamily family) {
+    // The epoll datagram channel is always a dual stack socket
+    return new EpollDatagramChannel();
+  }
+
+  @Override
+  public Class<? extends DatagramChannel> datagramChannelType() {
+    return EpollDatagramChannel.class;
+  }
+
+  @Override
+  public ChannelFactory<? extends Channel> channelFactory() {
+    return EpollSocketChannel::new;
+  }
+
+  @Override
+  public ChannelFactory<? extends ServerChannel> serverChannelFactory() {
+    return EpollServerSocketChannel::new;
+  }
+
+  @Override
+  public void configure(DatagramChannel channel, DatagramSocketOptions options) {
+    channel.config().setOption(EpollChannelOption.SO_REUSEPORT, options.isReusePort());
+  }
+
+  @Override
+  public void configure(ClientOptionsBase options, Bootstrap bootstrap) {
+    bootstrap.option(EpollChannelOption.SO_REUSEPORT, options.isReusePort());
+    bootstrap.option(EpollChannelOption.TCP_CORK, options.isTcpCork());
+  }
+
+  @Override
+  public void configure(TCPSSLOptions options, ServerBootstrap bootstrap) {
+    bootstrap.option(EpollChannelOption.SO_REUSEPORT, options.isReusePort());
+    if (options.isTcpFastOpen()) {
+      bootstrap.option(EpollChannelOption.TCP_FASTOPEN, PENDING_FAST_OPEN_REQUESTS_THRESHOLD);
+    }
+    bootstrap.childOption(EpollChannelOption.TCP_CORK, options.isTcpCork());
+  }
+}
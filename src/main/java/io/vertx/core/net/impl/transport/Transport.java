@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.net.impl.transport;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ChannelFactory;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.InternetProtocolFamily;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.vertx.core.datagram.DatagramSocketOptions;
+import io.vertx.core.http.impl.VertxNioServerChannelFactory;
+import io.vertx.core.http.impl.VertxNioSocketChannelFactory;
+import io.vertx.core.net.ClientOptionsBase;
+import io.vertx.core.net.TCPSSLOptions;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The transport used by a {@link io.vertx.core.Vertx} instance: it creates the event loops and all the
+ * channels, which must belong to the same family.
+ * <p>
+ * The default transport is the JDK NIO one, {@link #nativeTransport()} returns the Linux epoll transport
+ * when it can be loaded.
+ */
+public class Transport {
+
+  /**
+   * The JDK transport, always available.
+   */
+  public static final Transport JDK = new Transport();
+
+  /**
+   * The native transport, it may be {@code null} or not available.
+   */
+  public static Transport nativeTransport() {
+    Transport transport = null;
+    try {
+      Transport epoll = new EpollTransport();
+      if (epoll.isAvailable()) {
+        return epoll;
+      } else {
+        transport = epoll;
+      }
+    } catch (Throwable ignore) {
+      // Jar not here
+    }
+    return transport;
+  }
+
+  protected Transport() {
+  }
+
+  /**
+   * @return true when the transport is available.
+   */
+  public boolean isAvailable() {
+    return true;
+  }
+
+  /**
+   * @return the error that caused the unavailability when {@link #isAvailable()} returns {@code false}.
+   */
+  public Throwable unavailabilityCause() {
+    return null;
+  }
+
+  /**
+   * Create an event loop group.
+   *
+   * @param nThreads the number of event loop threads
+   * @param threadFactory the thread factory
+   * @param ioRatio the percentage of time spent doing I/O
+   * @return the event loop group
+   */
+  public EventLoopGroup eventLoopGroup(int nThreads, ThreadFactory threadFactory, int ioRatio) {
+    NioEventLoopGroup eventLoopGroup = new NioEventLoopGroup(nThreads, threadFactory);
+    eventLoopGroup.setIoRatio(ioRatio);
+    return eventLoopGroup;
+  }
+
+  /**
+   * @return a new datagram channel
+   */
+  public DatagramChannel datagramChannel() {
+    return new NioDatagramChannel();
+  }
+
+  /**
+   * @param family the protocol family
+   * @return a new datagram channel for the given protocol family
+   */
+  public DatagramChannel datagramChannel(InternetProtocolFamily family) {
+    return new NioDatagramChannel(family);
+  }
+
+  /**
+   * @return the type of datagram channel, used by bootstraps
+   */
+  public Class<? extends DatagramChannel> datagramChannelType() {
+    return NioDatagramChannel.class;
+  }
+
+  /**
+   * @return the factory of client socket channels
+   */
+  public ChannelFactory<? extends Channel> channelFactory() {
+    return new VertxNioSocketChannelFactory();
+  }
+
+  /**
+   * @return the factory of server socket channels
+   */
+  public ChannelFactory<? extends ServerChannel> serverChannelFactory() {
+    return new VertxNioServerChannelFactory();
+  }
+
+  /**
+   * Apply the transport specific options of a datagram socket, the JDK transport has none.
+   *
+   * @param channel the channel
+   * @param options the options
+   */
+  public void configure(DatagramChannel channel, DatagramSocketOptions options) {
+  }
+
+  /**
+   * Apply the transport specific options of a client, the JDK transport has none.
+   *
+   * @param options the options
+   * @param bootstrap the client bootstrap
+   */
+  public void configure(ClientOptionsBase options, Bootstrap bootstrap) {
+  }
+
+  /**
+   * Apply the transport specific options of a server, the JDK transport has none.
+   *
+   * @param options the options
+   * @param bootstrap the server bootstrap
+   */
+  public void configure(TCPSSLOptions options, ServerBootstrap bootstrap) {
+  }
+}
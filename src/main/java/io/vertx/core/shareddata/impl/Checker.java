@@ -48,9 +48,12 @@ public class Checker {
 
   static <T> T copyIfRequired(T obj) {
     if (obj instanceof JsonObject) {
-      return (T)((JsonObject)obj).copy();
+      JsonObject json = (JsonObject) obj;
+      // Read-only values are shared
+      return json.isReadOnly() ? obj : (T) json.copy();
     } else if (obj instanceof JsonArray) {
-      return (T) ((JsonArray) obj).copy();
+      JsonArray json = (JsonArray) obj;
+      return json.isReadOnly() ? obj : (T) json.copy();
     } else if (obj instanceof byte[]) {
       //Copy it
       byte[] bytes = (byte[]) obj;
@@ -59,7 +62,8 @@ public class Checker {
       return (T) copy;
     } else if (obj instanceof Buffer) {
       //Copy it
-      return (T) ((Buffer) obj).copy();
+      Buffer buffer = (Buffer) obj;
+      return buffer.isReadOnly() ? obj : (T) buffer.copy();
     } else {
       return obj;
     }
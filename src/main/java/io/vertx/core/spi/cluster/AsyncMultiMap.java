@@ -63,4 +63,19 @@ public interface AsyncMultiMap<K, V> {
    * @param completionHandler This will be called when the remove is complete
    */
   void removeAllForValue(V v, Handler<AsyncResult<Void>> completionHandler);
+
+  /**
+   * Set a handler called when the values of a key are changed from any node of the cluster. The handler is called
+   * with the key, or with {@code null} when the values of several keys may have changed.
+   * <p>
+   * The handler must be called after the change is visible to {@link #get}, on any thread. Vert.x uses it to
+   * cache the values locally, an implementation that cannot notify the changes returns {@code false} and never
+   * calls the handler.
+   *
+   * @param handler the handler
+   * @return whether the changes are notified, {@code false} by default
+   */
+  default boolean changeHandler(Handler<K> handler) {
+    return false;
+  }
 }
@@ -134,4 +134,16 @@ public interface EventBusMetrics<H> extends Metrics {
    * @param failure the {@link io.vertx.core.eventbus.ReplyFailure}
    */
   void replyFailure(String address, ReplyFailure failure);
+
+  /**
+   * Called when the cluster subscriptions of an address are looked up in the local subscription cache of a clustered
+   * event bus, the cache is enabled with {@link io.vertx.core.VertxOptions#setClusterSubscriptionCacheSize}.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param address the address
+   * @param hit true when the subscriptions are cached, false when they are looked up in the cluster
+   */
+  default void subscriptionCacheLookup(String address, boolean hit) {
+  }
 }
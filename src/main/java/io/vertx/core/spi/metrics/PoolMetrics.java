@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.spi.metrics;
+
+/**
+ * An SPI used internally by Vert.x to gather metrics on a pool of resources, for instance a worker pool.
+ * <p>
+ * A task is first submitted to the pool, then it waits in the pool queue until a resource begins to execute it
+ * and finally ends. The queue depth is the number of submitted tasks that have not begun yet and the utilisation
+ * is the number of tasks in progress relative to the maximum pool size.
+ * <p>
+ * The metric object returned by {@link #submitted()} is passed to {@link #begin} or {@link #rejected} and the
+ * metric object returned by {@link #begin} is passed to {@link #end}.
+ *
+ * @param <T> the type of the metric object
+ */
+public interface PoolMetrics<T> extends Metrics {
+
+  /**
+   * A new task has been submitted to the pool, it is queued until a resource executes it.
+   *
+   * @return the queue metric
+   */
+  default T submitted() {
+    return null;
+  }
+
+  /**
+   * The submitted task has been rejected by the pool.
+   *
+   * @param queueMetric the queue metric returned by {@link #submitted()}
+   */
+  default void rejected(T queueMetric) {
+  }
+
+  /**
+   * The submitted task begins to execute, it is removed from the pool queue.
+   *
+   * @param queueMetric the queue metric returned by {@link #submitted()}
+   * @return the execution metric
+   */
+  default T begin(T queueMetric) {
+    return null;
+  }
+
+  /**
+   * The task has been executed.
+   *
+   * @param executionMetric the execution metric returned by {@link #begin}
+   * @param succeeded whether the task succeeded
+   */
+  default void end(T executionMetric, boolean succeeded) {
+  }
+}
@@ -159,6 +159,29 @@ public interface VertxMetrics extends Metrics, Measured {
    */
   DatagramSocketMetrics createMetrics(DatagramSocket socket, DatagramSocketOptions options);
 
+  /**
+   * Provides the pool metrics SPI for a pool of resources, for instance a worker pool or an event loop.<p/>
+   *
+   * Worker pools have the {@code worker} type, their tasks are the blocking code executions and the tasks of the
+   * worker contexts. Event loops have the {@code event-loop} type and a maximum size of {@code 1}, their tasks are
+   * the tasks run on the event loop contexts: tasks delivered from I/O begin with a {@code null} queue metric
+   * as they do not wait in the event loop queue.<p/>
+   *
+   * The metrics object is closed when the pool is closed. By default this method returns {@code null} and the pool
+   * is not measured, so the tasks make no metrics calls. Implementations can return a
+   * {@link io.vertx.core.metrics.impl.HistogramPoolMetrics} to keep latency histograms of the queue delay and the
+   * execution time of the tasks.
+   *
+   * @param pool the pool of resources
+   * @param poolType the type of the pool, e.g {@code worker} or {@code event-loop}
+   * @param poolName the name of the pool
+   * @param maxPoolSize the maximum number of resources of the pool
+   * @return the pool metrics SPI or {@code null} when the pool is not measured
+   */
+  default PoolMetrics<?> createMetrics(Object pool, String poolType, String poolName, int maxPoolSize) {
+    return null;
+  }
+
   /**
    * Metrics cannot use the event bus in their constructor as the event bus is not yet initialized. When the event
    * bus is initialized, this method is called with the event bus instance as parameter. By default, this method does
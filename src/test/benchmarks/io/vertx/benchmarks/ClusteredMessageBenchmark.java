@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.impl.CodecManager;
+import io.vertx.core.eventbus.impl.clustered.ClusteredMessage;
+import io.vertx.core.eventbus.impl.clustered.FrameParser;
+import io.vertx.core.net.impl.ServerID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding throughput of clustered event bus messages, in messages per second, for a small and a
+ * 64 KB buffer body.
+ * <p>
+ * {@link #encode} encodes a message in a pooled buffer as the cluster connection does, {@link #decode} parses
+ * a received frame and decodes the address needed to dispatch the message and {@link #decodeBody} also decodes the
+ * body. The bytes allocated per message are reported by the gc profiler as {@code gc.alloc.rate.norm}.
+ * <p>
+ * Run with {@code mvn test-compile exec:exec -Pbenchmarks -Dbenchmark=ClusteredMessageBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ClusteredMessageBenchmark {
+
+  @Param({"16", "65536"})
+  public int bodySize;
+
+  private final ByteBufAllocator allocator = PooledByteBufAllocator.DEFAULT;
+  private final CodecManager codecManager = new CodecManager();
+  private ClusteredMessage<Buffer, Buffer> message;
+  private Buffer frame;
+  private ClusteredMessage<Buffer, Buffer> received;
+  private FrameParser parser;
+
+  @Setup
+  public void setup() {
+    ServerID sender = new ServerID(1234, "localhost");
+    Buffer body = Buffer.buffer(new byte[bodySize]);
+    message = new ClusteredMessage<>(sender, "benchmark.address", "benchmark.reply", null, body,
+      CodecManager.BUFFER_MESSAGE_CODEC, true, null);
+    frame = message.encodeToWire();
+    parser = new FrameParser(buff -> {
+      received = new ClusteredMessage<>();
+      received.readFromWire(buff, codecManager);
+    });
+  }
+
+  @Benchmark
+  public int encode() {
+    ByteBuf buf = allocator.ioBuffer();
+    try {
+      return message.encodeToWire(buf);
+    } finally {
+      buf.release();
+    }
+  }
+
+  @Benchmark
+  public void decode(Blackhole blackhole) {
+    parser.handle(frame);
+    blackhole.consume(received.address());
+  }
+
+  @Benchmark
+  public void decodeBody(Blackhole blackhole) {
+    parser.handle(frame);
+    blackhole.consume(received.address());
+    blackhole.consume(received.body());
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.HandlerSelectionPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Throughput of the messages sent point to point to an address with a consumer on each event loop, when every event
+ * loop sends its share of the messages, for each handler selection policy and a growing number of event loops.
+ * <p>
+ * Run with {@code mvn test-compile exec:exec -Pbenchmarks -Dbenchmark=HandlerSelectionBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class HandlerSelectionBenchmark {
+
+  private static final String ADDRESS = "benchmark.address";
+  private static final int BATCH = 4096;
+
+  @Param({"ROUND_ROBIN", "SAME_EVENT_LOOP", "LEAST_PENDING"})
+  public HandlerSelectionPolicy policy;
+
+  @Param({"1", "2", "4", "8"})
+  public int eventLoops;
+
+  private Vertx vertx;
+  private EventBus eventBus;
+  private Context[] contexts;
+  private final AtomicReference<CountDownLatch> received = new AtomicReference<>();
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    vertx = Vertx.vertx(new VertxOptions().setEventLoopPoolSize(eventLoops).setHandlerSelectionPolicy(policy));
+    eventBus = vertx.eventBus();
+    // The contexts created outside of Vert.x are assigned to the event loops in turn
+    contexts = new Context[eventLoops];
+    for (int i = 0; i < eventLoops; i++) {
+      contexts[i] = vertx.getOrCreateContext();
+      CompletableFuture<Void> registered = new CompletableFuture<>();
+      contexts[i].runOnContext(v -> {
+        eventBus.consumer(ADDRESS, msg -> received.get().countDown()).completionHandler(ar -> registered.complete(null));
+      });
+      registered.get(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    CompletableFuture<Void> closed = new CompletableFuture<>();
+    vertx.close(ar -> closed.complete(null));
+    closed.get(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void send() throws Exception {
+    CountDownLatch latch = new CountDownLatch(BATCH);
+    received.set(latch);
+    int share = BATCH / eventLoops;
+    for (Context context : contexts) {
+      context.runOnContext(v -> {
+        for (int i = 0; i < share; i++) {
+          eventBus.send(ADDRESS, "ping");
+        }
+      });
+    }
+    latch.await();
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.eventbus.impl.CodecManager;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding throughput of a JSON object message body with the JSON text codec and the binary codec, in
+ * bodies per second.
+ * <p>
+ * The body is an object holding an array of {@link #items} objects with the same keys, the encoded size of the body
+ * is printed at the start of each trial.
+ * <p>
+ * Run with {@code mvn test-compile exec:exec -Pbenchmarks -Dbenchmark=JsonCodecBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class JsonCodecBenchmark {
+
+  @Param({"text", "binary"})
+  public String encoding;
+
+  @Param({"1", "100"})
+  public int items;
+
+  private MessageCodec<JsonObject, JsonObject> codec;
+  private JsonObject body;
+  private Buffer encoded;
+
+  @Setup
+  public void setup() {
+    codec = encoding.equals("binary") ? CodecManager.JSON_OBJECT_BINARY_MESSAGE_CODEC : CodecManager.JSON_OBJECT_MESSAGE_CODEC;
+    JsonArray array = new JsonArray();
+    for (int i = 0; i < items; i++) {
+      array.add(new JsonObject()
+        .put("id", i)
+        .put("timestamp", 1457000000000L + i)
+        .put("name", "item-" + i)
+        .put("price", i * 1.25d)
+        .put("available", i % 2 == 0)
+        .put("tags", new JsonArray().add("red").add("large")));
+    }
+    body = new JsonObject().put("type", "inventory").put("items", array);
+    encoded = Buffer.buffer();
+    codec.encodeToWire(encoded, body);
+  }
+
+  @Benchmark
+  public Buffer encode() {
+    Buffer buffer = Buffer.buffer();
+    codec.encodeToWire(buffer, body);
+    return buffer;
+  }
+
+  @Benchmark
+  public JsonObject decode() {
+    return codec.decodeFromWire(0, encoded);
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.impl.OrderedExecutorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of an ordered executor fed by many concurrent producers, as a worker context receiving tasks from
+ * several event loops.
+ * <p>
+ * The {@code synchronized} implementation is the previous ordered executor guarding a linked list with a lock.
+ * <p>
+ * Run with {@code mvn test-compile exec:exec -Pbenchmarks -Dbenchmark=OrderedExecutorBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Threads(8)
+@Fork(1)
+public class OrderedExecutorBenchmark {
+
+  private static final int BATCH = 1000;
+
+  @Param({"mpsc", "synchronized"})
+  public String impl;
+
+  @Param({"128"})
+  public int maxBatchSize;
+
+  private ExecutorService pool;
+  private Executor executor;
+
+  @State(Scope.Thread)
+  public static class Producer {
+    private final Runnable task = () -> {};
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    pool = Executors.newFixedThreadPool(4);
+    switch (impl) {
+      case "mpsc":
+        executor = new OrderedExecutorFactory(pool, maxBatchSize).getExecutor();
+        break;
+      case "synchronized":
+        executor = new SynchronizedOrderedExecutor(pool);
+        break;
+      default:
+        throw new IllegalArgumentException(impl);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    pool.shutdown();
+    pool.awaitTermination(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void execute(Producer producer) throws Exception {
+    for (int i = 0; i < BATCH - 1; i++) {
+      executor.execute(producer.task);
+    }
+    // Tasks of a producer run in order, the last one signals the whole batch ran
+    CountDownLatch latch = new CountDownLatch(1);
+    executor.execute(latch::countDown);
+    latch.await();
+  }
+
+  private static final class SynchronizedOrderedExecutor implements Executor {
+
+    private final LinkedList<Runnable> tasks = new LinkedList<>();
+    private boolean running;
+    private final Executor parent;
+    private final Runnable runner;
+
+    SynchronizedOrderedExecutor(Executor parent) {
+      this.parent = parent;
+      runner = () -> {
+        for (; ; ) {
+          final Runnable task;
+          synchronized (tasks) {
+            task = tasks.poll();
+            if (task == null) {
+              running = false;
+              return;
+            }
+          }
+          task.run();
+        }
+      };
+    }
+
+    public void execute(Runnable command) {
+      synchronized (tasks) {
+        tasks.add(command);
+        if (!running) {
+          running = true;
+          parent.execute(runner);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.test.fakecluster.FakeClusterManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of a message sent to another node of a {@link FakeClusterManager} cluster and replied, without and with
+ * the cluster subscription cache.
+ * <p>
+ * Without the cache the subscriptions of the address are looked up on a worker thread for each message.
+ * <p>
+ * Run with {@code mvn test-compile exec:exec -Pbenchmarks -Dbenchmark=SubscriptionCacheBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SubscriptionCacheBenchmark {
+
+  private static final String ADDRESS = "benchmark.address";
+
+  @Param({"0", "1024"})
+  public int cacheSize;
+
+  private Vertx sender;
+  private Vertx receiver;
+  private EventBus eventBus;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    sender = startNode();
+    receiver = startNode();
+    CompletableFuture<Void> registered = new CompletableFuture<>();
+    receiver.eventBus().consumer(ADDRESS, msg -> msg.reply(msg.body())).completionHandler(ar -> {
+      if (ar.succeeded()) {
+        registered.complete(null);
+      } else {
+        registered.completeExceptionally(ar.cause());
+      }
+    });
+    registered.get(10, TimeUnit.SECONDS);
+    eventBus = sender.eventBus();
+  }
+
+  private Vertx startNode() throws Exception {
+    CompletableFuture<Vertx> node = new CompletableFuture<>();
+    VertxOptions options = new VertxOptions()
+      .setClustered(true)
+      .setClusterHost("localhost")
+      .setClusterPort(0)
+      .setClusterManager(new FakeClusterManager())
+      .setClusterSubscriptionCacheSize(cacheSize);
+    Vertx.clusteredVertx(options, ar -> {
+      if (ar.succeeded()) {
+        node.complete(ar.result());
+      } else {
+        node.completeExceptionally(ar.cause());
+      }
+    });
+    return node.get(10, TimeUnit.SECONDS);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    CompletableFuture<Void> closed = new CompletableFuture<>();
+    sender.close(ar1 -> receiver.close(ar2 -> closed.complete(null)));
+    closed.get(10, TimeUnit.SECONDS);
+    FakeClusterManager.reset();
+  }
+
+  @Benchmark
+  public Object sendAndReply() throws Exception {
+    CompletableFuture<Object> reply = new CompletableFuture<>();
+    eventBus.send(ADDRESS, "ping", ar -> {
+      if (ar.succeeded()) {
+        reply.complete(ar.result().body());
+      } else {
+        reply.completeExceptionally(ar.cause());
+      }
+    });
+    return reply.get(10, TimeUnit.SECONDS);
+  }
+}
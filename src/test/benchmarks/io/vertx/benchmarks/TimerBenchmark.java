@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.benchmarks;
+
+import io.netty.channel.EventLoop;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Schedule and cancel throughput of timers on an event loop, this is the common case of request and reply
+ * timeouts that are cancelled before they fire.
+ * <p>
+ * {@link #timerWheel} measures {@link Vertx#setTimer} / {@link Vertx#cancelTimer} backed by the event loop timer wheel,
+ * {@link #scheduledFuture} measures the previous implementation that scheduled a future per timer in the event loop
+ * scheduled task queue.
+ * <p>
+ * Run with {@code mvn test-compile exec:exec -Pbenchmarks -Dbenchmark=TimerBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class TimerBenchmark {
+
+  private static final int BATCH = 1000;
+  private static final long DELAY = 60 * 1000;
+
+  /**
+   * The number of timers pending in the event loop while measuring.
+   */
+  @Param({"0", "100000"})
+  public int pending;
+
+  private Vertx vertx;
+  private ContextImpl context;
+  private EventLoop eventLoop;
+  private final ConcurrentMap<Long, ScheduledFuture<?>> futures = new ConcurrentHashMap<>();
+  private final AtomicLong counter = new AtomicLong();
+  private final Handler<Long> noop = id -> {};
+  private final Runnable noopTask = () -> {};
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    context = (ContextImpl) vertx.getOrCreateContext();
+    eventLoop = context.nettyEventLoop();
+    onContext(() -> {
+      for (int i = 0; i < pending; i++) {
+        vertx.setTimer(DELAY, noop);
+        eventLoop.schedule(noopTask, DELAY, TimeUnit.MILLISECONDS);
+      }
+    });
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    vertx.close(ar -> latch.countDown());
+    latch.await();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void timerWheel() throws Exception {
+    onContext(() -> {
+      for (int i = 0; i < BATCH; i++) {
+        long id = vertx.setTimer(DELAY, noop);
+        vertx.cancelTimer(id);
+      }
+    });
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void scheduledFuture() throws Exception {
+    onContext(() -> {
+      for (int i = 0; i < BATCH; i++) {
+        long id = counter.getAndIncrement();
+        futures.put(id, eventLoop.schedule(noopTask, DELAY, TimeUnit.MILLISECONDS));
+        futures.remove(id).cancel(false);
+      }
+    });
+  }
+
+  private void onContext(Runnable task) throws Exception {
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    context.runOnContext(v -> {
+      task.run();
+      done.complete(null);
+    });
+    done.get();
+  }
+}
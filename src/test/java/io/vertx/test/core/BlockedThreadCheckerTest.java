@@ -5,9 +5,14 @@ import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Verticle;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
-
+import io.vertx.core.impl.StallProfiler;
+import io.vertx.core.impl.VertxInternal;
 import org.junit.Test;
 
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * please note that this test class does not assert anything about the log output (this would require a kind of log
  * mock), it just runs the different methods to get coverage
@@ -66,4 +71,58 @@ public class BlockedThreadCheckerTest extends VertxTestBase {
     newVertx.deployVerticle(verticle, depolymentOptions);
     await();
   }
+
+  @Test
+  public void testSamplingDisabledByDefault() {
+    assertNull(((VertxInternal) vertx).stallProfiler());
+  }
+
+  @Test
+  public void testStallProfiler() throws Exception {
+    VertxOptions vertxOptions = new VertxOptions();
+    vertxOptions.setMaxEventLoopExecuteTime(100000000);
+    vertxOptions.setBlockedThreadSamplingInterval(10);
+    Vertx newVertx = Vertx.vertx(vertxOptions);
+    try {
+      StallProfiler profiler = ((VertxInternal) newVertx).stallProfiler();
+      assertNotNull(profiler);
+      CountDownLatch latch = new CountDownLatch(1);
+      AtomicReference<String> threadName = new AtomicReference<>();
+      newVertx.runOnContext(v -> {
+        threadName.set(Thread.currentThread().getName());
+        blockEventLoop(500);
+        latch.countDown();
+      });
+      awaitLatch(latch);
+      // The stall ends at the next sample
+      waitUntil(() -> {
+        StallProfiler.ThreadStalls stalls = profiler.getThreadStalls().get(threadName.get());
+        return stalls != null && stalls.getMaxTime() > 0;
+      });
+      StallProfiler.ThreadStalls stalls = profiler.getThreadStalls().get(threadName.get());
+      assertEquals(1, stalls.getCount());
+      assertTrue(stalls.getMaxTime() >= 100000000);
+      assertEquals(stalls.getMaxTime(), stalls.getTotalTime());
+      Map<String, Long> callSites = profiler.getCallSites();
+      assertTrue(callSites.toString(), callSites.keySet().stream().anyMatch(site -> site.contains("BlockedThreadCheckerTest.blockEventLoop")));
+      StringBuilder collapsed = new StringBuilder();
+      profiler.dumpCollapsedStacks(collapsed);
+      assertTrue(collapsed.toString(), collapsed.toString().contains("BlockedThreadCheckerTest.blockEventLoop;java.lang.Thread.sleep"));
+      profiler.reset();
+      assertTrue(profiler.getCallSites().isEmpty());
+      assertEquals(0, profiler.getThreadStalls().get(threadName.get()).getCount());
+    } finally {
+      CountDownLatch closeLatch = new CountDownLatch(1);
+      newVertx.close(ar -> closeLatch.countDown());
+      awaitLatch(closeLatch);
+    }
+  }
+
+  private void blockEventLoop(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      fail(e);
+    }
+  }
 }
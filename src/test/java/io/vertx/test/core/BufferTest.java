@@ -24,12 +24,15 @@ import io.vertx.core.json.JsonObject;
 import org.junit.Test;
 
 import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.nio.charset.StandardCharsets;
 
 import static io.vertx.test.core.TestUtils.assertIllegalArgumentException;
 import static io.vertx.test.core.TestUtils.assertIndexOutOfBoundsException;
 import static io.vertx.test.core.TestUtils.assertNullPointerException;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -757,6 +760,39 @@ public class BufferTest {
     assertEquals(copy, copy2);
   }
 
+  @Test
+  public void testReadOnlyCopy() throws Exception {
+    Buffer buff = TestUtils.randomBuffer(100);
+    Buffer readOnly = buff.readOnlyCopy();
+    assertFalse(buff.isReadOnly());
+    assertTrue(readOnly.isReadOnly());
+    assertEquals(buff, readOnly);
+    assertSame(readOnly, readOnly.readOnlyCopy());
+    try {
+      readOnly.appendInt(1);
+      fail();
+    } catch (ReadOnlyBufferException ignore) {
+    }
+    try {
+      readOnly.setInt(0, 1);
+      fail();
+    } catch (ReadOnlyBufferException ignore) {
+    }
+    try {
+      readOnly.setString(98, "foo");
+      fail();
+    } catch (ReadOnlyBufferException ignore) {
+    }
+    assertEquals(100, readOnly.length());
+    // The read-only copy does not see the changes of the original buffer
+    buff.setInt(0, ~readOnly.getInt(0));
+    assertFalse(buff.equals(readOnly));
+    Buffer copy = readOnly.copy();
+    assertFalse(copy.isReadOnly());
+    copy.appendInt(1);
+    assertEquals(104, copy.length());
+  }
+
   @Test
   public void testCreateBuffers() throws Exception {
     Buffer buff = Buffer.buffer(1000);
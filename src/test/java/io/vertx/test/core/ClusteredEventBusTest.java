@@ -20,14 +20,25 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.*;
+import io.vertx.core.eventbus.impl.clustered.FrameParser;
 import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.NetServer;
+import io.vertx.core.net.NetServerOptions;
+import io.vertx.core.net.impl.ServerID;
 import io.vertx.core.spi.cluster.ClusterManager;
 import io.vertx.test.fakecluster.FakeClusterManager;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -403,10 +414,260 @@ public class ClusteredEventBusTest extends EventBusTestBase {
 
   @Test
   public void sendNoContext() throws Exception {
-    int size = 1000;
+    testSendInOrder(getOptions());
+  }
+
+  @Test
+  public void testSendWithWriteLingerTime() throws Exception {
+    testSendInOrder(getOptions().setClusterWriteLingerTime(5));
+  }
+
+  @Test
+  public void testSendWithWriteLingerBytes() throws Exception {
+    // The batches are written when they reach 256 bytes, only the last one waits for the linger time
+    testSendInOrder(getOptions().setClusterWriteLingerTime(100).setClusterWriteLingerBytes(256));
+  }
+
+  @Test
+  public void testSendMoreThanDrainLimit() throws Exception {
+    // The queue is drained in several rounds, each batch is flushed once it reaches 256 bytes
+    testSendInOrder(getOptions().setClusterWriteLingerTime(100).setClusterWriteLingerBytes(256), 10000);
+  }
+
+  @Test
+  public void testSendWithSymbolTable() throws Exception {
+    testSendInOrder(getOptions().setClusterSymbolTableSize(16));
+  }
+
+  @Test
+  public void testSendWithConnectionCredits() throws Exception {
+    // The messages of the window are in flight while the receiver grants the credits back
+    testSendInOrder(getOptions().setClusterConnectionCredits(16).setClusterSymbolTableSize(16));
+  }
+
+  @Test
+  public void testConnectionCreditsPausedConsumer() throws Exception {
+    int window = 10;
+    startNodes(2, getOptions().setClusterConnectionCredits(window));
+    // Counts the received messages and the drain
+    AtomicInteger count = new AtomicInteger();
+    CountDownLatch latch = new CountDownLatch(1);
+    MessageConsumer<String> consumer = vertices[1].eventBus().<String>consumer(ADDRESS1, msg -> {
+      if (count.incrementAndGet() == window * 2 + 1) {
+        testComplete();
+      }
+    });
+    consumer.completionHandler(onSuccess(v -> latch.countDown()));
+    awaitLatch(latch);
+    consumer.pause();
+    // The buffered messages keep their credits, the connection waits for credits with a window of messages queued
+    MessageProducer<String> publisher = vertices[0].eventBus().publisher(ADDRESS1);
+    for (int i = 0; i < window * 2; i++) {
+      publisher.write("msg" + i);
+    }
+    waitUntil(publisher::writeQueueFull);
+    // Only the producers to the blocked connection are full
+    MessageProducer<String> other = vertices[0].eventBus().publisher(ADDRESS2);
+    other.write("other");
+    assertFalse(other.writeQueueFull());
+    vertices[0].eventBus().send(ADDRESS1, "overloaded", onFailure(t -> {
+      assertEquals(ReplyFailure.OVERLOADED, ((ReplyException) t).failureType());
+      publisher.drainHandler(v -> {
+        assertFalse(publisher.writeQueueFull());
+        if (count.incrementAndGet() == window * 2 + 1) {
+          testComplete();
+        }
+      });
+      consumer.resume();
+    }));
+    await();
+  }
+
+  @Test
+  public void testConnectionCreditsBatchesWait() throws Exception {
+    int window = 10;
+    startNodes(2, getOptions().setClusterConnectionCredits(window));
+    AtomicInteger count = new AtomicInteger();
+    CountDownLatch latch = new CountDownLatch(1);
+    MessageConsumer<String> consumer = vertices[1].eventBus().<String>consumer(ADDRESS1, msg -> {
+      assertEquals("msg" + count.get(), msg.body());
+      if (count.incrementAndGet() == window * 3) {
+        testComplete();
+      }
+    });
+    consumer.completionHandler(onSuccess(v -> latch.countDown()));
+    awaitLatch(latch);
+    consumer.pause();
+    // The batches beyond the window wait instead of being dropped
+    MessageProducer<String> publisher = vertices[0].eventBus().publisher(ADDRESS1,
+      new DeliveryOptions().setBatchSize(5).setBatchDelay(10));
+    for (int i = 0; i < window * 3; i++) {
+      publisher.write("msg" + i);
+    }
+    waitUntil(publisher::writeQueueFull);
+    consumer.resume();
+    await();
+  }
+
+  @Test
+  public void testConnectionCreditsNotGranted() throws Exception {
+    int window = 10;
+    startNodes(1, getOptions().setClusterConnectionCredits(window));
+    AtomicInteger frames = new AtomicInteger();
+    startLegacyNode(ADDRESS1, frame -> {
+      // The credits request followed by the messages
+      if (frames.incrementAndGet() == window * 3 + 1) {
+        testComplete();
+      }
+    });
+    // The messages are not limited by a node that never grants credits
+    MessageProducer<String> publisher = vertices[0].eventBus().publisher(ADDRESS1);
+    for (int i = 0; i < window * 3; i++) {
+      publisher.write("msg" + i);
+      assertFalse(publisher.writeQueueFull());
+    }
+    await();
+  }
+
+  @Test
+  public void testBatchesNotAcknowledged() throws Exception {
+    startNodes(1);
+    AtomicInteger frames = new AtomicInteger();
+    startLegacyNode(ADDRESS1, frame -> {
+      // The batches request followed by the messages in separate frames
+      assertTrue(frame.getByte(0) < 3);
+      if (frames.incrementAndGet() == 11) {
+        testComplete();
+      }
+    });
+    MessageProducer<String> publisher = vertices[0].eventBus().publisher(ADDRESS1, new DeliveryOptions().setBatchSize(5));
+    for (int i = 0; i < 10; i++) {
+      publisher.write("msg" + i);
+    }
+    await();
+  }
+
+  /**
+   * Start a node of a previous version subscribed to an address, the node never answers the frames it receives.
+   */
+  private void startLegacyNode(String address, Handler<Buffer> frameHandler) throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    NetServer server = vertices[0].createNetServer(new NetServerOptions().setHost("localhost"));
+    server.connectHandler(socket -> socket.handler(new FrameParser(frameHandler)));
+    server.listen(0, onSuccess(s -> {
+      ClusterManager clusterManager = ((VertxInternal) vertices[0]).getClusterManager();
+      clusterManager.<String, ServerID>getAsyncMultiMap("__vertx.subs", onSuccess(subs -> {
+        subs.add(address, new ServerID(s.actualPort(), "localhost"), onSuccess(v -> latch.countDown()));
+      }));
+    }));
+    awaitLatch(latch);
+  }
+
+  @Test
+  public void testReplyAddresses() {
+    startNodes(2);
+    Set<String> replyAddresses = Collections.synchronizedSet(new HashSet<>());
+    vertices[1].eventBus().consumer(ADDRESS1, msg -> {
+      // 128 bits random ids in base 64
+      assertEquals(22, msg.replyAddress().length());
+      assertTrue(replyAddresses.add(msg.replyAddress()));
+      msg.reply(msg.body());
+    }).completionHandler(onSuccess(v -> {
+      vertices[0].eventBus().send(ADDRESS1, "first", onSuccess(reply1 -> {
+        assertEquals("first", reply1.body());
+        vertices[0].eventBus().send(ADDRESS1, "second", onSuccess(reply2 -> {
+          assertEquals("second", reply2.body());
+          assertEquals(2, replyAddresses.size());
+          testComplete();
+        }));
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testPublishWithSubscriptionCache() {
+    startNodes(2, getOptions().setClusterSubscriptionCacheSize(16));
+    AtomicInteger received = new AtomicInteger();
+    vertices[1].eventBus().consumer(ADDRESS1, msg -> {
+      if (received.incrementAndGet() == 1) {
+        // The subscriptions are cached, a new subscription must invalidate them
+        vertices[0].eventBus().consumer(ADDRESS1, msg2 -> {
+          assertEquals("second", msg2.body());
+          testComplete();
+        }).completionHandler(onSuccess(v -> vertices[0].eventBus().publish(ADDRESS1, "second")));
+      }
+    }).completionHandler(onSuccess(v -> vertices[0].eventBus().publish(ADDRESS1, "first")));
+    await();
+  }
+
+  @Test
+  public void testReplyJsonWithClusterBinaryJson() {
+    startNodes(2, getOptions().setClusterBinaryJson(true));
+    JsonObject obj = new JsonObject().put("foo", "bar").put("items", new JsonArray().add(1).add(2L).add(3.5d));
+    vertices[1].eventBus().<JsonObject>consumer(ADDRESS1, msg -> {
+      assertEquals(obj, msg.body());
+      msg.reply(msg.body().getJsonArray("items"));
+    }).completionHandler(onSuccess(v -> {
+      vertices[0].eventBus().<JsonArray>send(ADDRESS1, obj, onSuccess(reply -> {
+        assertEquals(obj.getJsonArray("items"), reply.body());
+        testComplete();
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testSenderBatch() {
+    startNodes(2, getOptions().setClusterSymbolTableSize(16));
+    int num = 10;
+    List<Integer> received = new ArrayList<>();
+    vertices[1].eventBus().<Integer>consumer(ADDRESS1, msg -> {
+      received.add(msg.body());
+      if (received.size() == num) {
+        for (int i = 0; i < num; i++) {
+          assertEquals(i, (int) received.get(i));
+        }
+        testComplete();
+      }
+    }).completionHandler(onSuccess(v -> {
+      MessageProducer<Integer> sender = vertices[0].eventBus().sender(ADDRESS1, new DeliveryOptions().setBatchSize(4));
+      for (int i = 0; i < num; i++) {
+        sender.write(i);
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testPublisherBatch() throws Exception {
+    startNodes(2);
+    int num = 10;
+    AtomicInteger count = new AtomicInteger();
+    CountDownLatch latch = new CountDownLatch(2);
+    for (Vertx vertx : vertices) {
+      vertx.eventBus().<String>consumer(ADDRESS1, msg -> {
+        if (count.incrementAndGet() == num * 2) {
+          testComplete();
+        }
+      }).completionHandler(onSuccess(v -> latch.countDown()));
+    }
+    awaitLatch(latch);
+    MessageProducer<String> publisher = vertices[0].eventBus().publisher(ADDRESS1, new DeliveryOptions().setBatchSize(num));
+    for (int i = 0; i < num; i++) {
+      publisher.write("msg" + i);
+    }
+    await();
+  }
+
+  private void testSendInOrder(VertxOptions options) throws Exception {
+    testSendInOrder(options, 1000);
+  }
+
+  private void testSendInOrder(VertxOptions options, int size) throws Exception {
     ConcurrentLinkedDeque<Integer> expected = new ConcurrentLinkedDeque<>();
     ConcurrentLinkedDeque<Integer> obtained = new ConcurrentLinkedDeque<>();
-    startNodes(2);
+    startNodes(2, options);
     CountDownLatch latch = new CountDownLatch(1);
     vertices[1].eventBus().<Integer>consumer(ADDRESS1, msg -> {
       obtained.add(msg.body());
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.test.core;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.impl.CodecManager;
+import io.vertx.core.eventbus.impl.clustered.ClusteredMessage;
+import io.vertx.core.eventbus.impl.clustered.FrameParser;
+import io.vertx.core.eventbus.impl.clustered.SymbolTable;
+import io.vertx.core.http.CaseInsensitiveHeaders;
+import io.vertx.core.net.impl.ServerID;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.vertx.test.core.TestUtils.assertIllegalArgumentException;
+
+public class ClusteredMessageTest extends AsyncTestBase {
+
+  private final CodecManager codecManager = new CodecManager();
+  private final ServerID sender = new ServerID(1234, "localhost");
+
+  @Test
+  public void testEncodeDecode() {
+    MultiMap headers = new CaseInsensitiveHeaders().add("foo", "bar").add("juu", "d\u00e9j\u00e0");
+    ClusteredMessage<String, String> sent = new ClusteredMessage<>(sender, "the-addr\u00e9ss", "the-reply",
+      headers, "the-body", CodecManager.STRING_MESSAGE_CODEC, true, null);
+    Buffer frame = sent.encodeToWire();
+    assertEquals(frame.length() - 4, frame.getInt(0));
+    ClusteredMessage<String, String> received = new ClusteredMessage<>();
+    received.readFromWire(frame.slice(4, frame.length()), codecManager);
+    assertTrue(received.isFromWire());
+    assertTrue(received.send());
+    assertEquals("the-addr\u00e9ss", received.address());
+    assertEquals("the-reply", received.replyAddress());
+    assertEquals("bar", received.headers().get("foo"));
+    assertEquals("d\u00e9j\u00e0", received.headers().get("juu"));
+    assertEquals("the-body", received.body());
+  }
+
+  @Test
+  public void testDecodeWithoutReplyAddressAndHeaders() {
+    ClusteredMessage<Buffer, Buffer> sent = new ClusteredMessage<>(sender, "addr", null, null,
+      Buffer.buffer("the-body"), CodecManager.BUFFER_MESSAGE_CODEC, false, null);
+    Buffer frame = sent.encodeToWire();
+    ClusteredMessage<Buffer, Buffer> received = new ClusteredMessage<>();
+    received.readFromWire(frame.slice(4, frame.length()), codecManager);
+    assertFalse(received.send());
+    assertEquals("addr", received.address());
+    assertNull(received.replyAddress());
+    assertTrue(received.headers().isEmpty());
+    assertEquals(Buffer.buffer("the-body"), received.body());
+  }
+
+  @Test
+  public void testEncodeInSameBuffer() {
+    ByteBuf buf = Unpooled.buffer();
+    int total = 0;
+    for (int i = 0; i < 3; i++) {
+      ClusteredMessage<String, String> sent = new ClusteredMessage<>(sender, "addr" + i, null, null, "body" + i,
+        CodecManager.STRING_MESSAGE_CODEC, true, null);
+      total += sent.encodeToWire(buf);
+      assertEquals(total, buf.writerIndex());
+    }
+    List<ClusteredMessage<String, String>> received = parse(Buffer.buffer(buf), buf.writerIndex());
+    assertEquals(3, received.size());
+    for (int i = 0; i < 3; i++) {
+      assertEquals("addr" + i, received.get(i).address());
+      assertEquals("body" + i, received.get(i).body());
+    }
+  }
+
+  @Test
+  public void testFrameParserChunks() {
+    ByteBuf buf = Unpooled.buffer();
+    int num = 10;
+    for (int i = 0; i < num; i++) {
+      String body = TestUtils.randomAlphaString(i * 100);
+      new ClusteredMessage<>(sender, "addr" + i, null, null, body, CodecManager.STRING_MESSAGE_CODEC, true, null)
+        .encodeToWire(buf);
+    }
+    Buffer input = Buffer.buffer(buf);
+    // Feed the parser with chunks of many sizes so frames and lengths are split at many positions
+    for (int chunkSize = 1; chunkSize <= input.length(); chunkSize += 7) {
+      List<ClusteredMessage<String, String>> received = parse(input, chunkSize);
+      assertEquals(num, received.size());
+      for (int i = 0; i < num; i++) {
+        assertEquals("addr" + i, received.get(i).address());
+        assertEquals(i * 100, received.get(i).body().length());
+      }
+    }
+  }
+
+  @Test
+  public void testEncodeDecodeWithSymbols() {
+    SymbolTable writing = new SymbolTable(16);
+    SymbolTable reading = new SymbolTable(16);
+    ByteBuf buf = Unpooled.buffer();
+    int first = new ClusteredMessage<>(sender, "the-address", "the-reply", null, "body",
+      CodecManager.STRING_MESSAGE_CODEC, true, null).encodeToWire(buf, writing);
+    int second = new ClusteredMessage<>(sender, "the-address", "the-reply", null, "body",
+      CodecManager.STRING_MESSAGE_CODEC, true, null).encodeToWire(buf, writing);
+    // The address and the sender host are sent as ids the second time
+    assertEquals(first - "the-address".length() - "localhost".length() - 8, second);
+    List<ClusteredMessage<String, String>> received = new ArrayList<>();
+    new FrameParser(frame -> {
+      ClusteredMessage<String, String> msg = new ClusteredMessage<>();
+      msg.readFromWire(frame, codecManager, reading);
+      received.add(msg);
+    }).handle(Buffer.buffer(buf));
+    assertEquals(2, received.size());
+    for (ClusteredMessage<String, String> msg : received) {
+      assertEquals("the-address", msg.address());
+      assertEquals("the-reply", msg.replyAddress());
+      assertEquals("body", msg.body());
+    }
+  }
+
+  @Test
+  public void testDecodeWithoutSymbolTable() {
+    ByteBuf buf = Unpooled.buffer();
+    new ClusteredMessage<>(sender, "the-address", null, null, "body", CodecManager.STRING_MESSAGE_CODEC, true, null)
+      .encodeToWire(buf, new SymbolTable(16));
+    Buffer frame = Buffer.buffer(buf);
+    try {
+      new ClusteredMessage<>().readFromWire(frame.slice(4, frame.length()), codecManager);
+      fail();
+    } catch (IllegalStateException ignore) {
+      // OK
+    }
+  }
+
+  @Test
+  public void testSymbolTableReplacement() {
+    SymbolTable writing = new SymbolTable(2);
+    SymbolTable reading = new SymbolTable(2);
+    ByteBuf buf = Unpooled.buffer();
+    String[] addresses = { "a", "b", "a", "c", "b", "a", "c" };
+    for (String address : addresses) {
+      new ClusteredMessage<>(sender, address, null, null, "body", CodecManager.STRING_MESSAGE_CODEC, true, null)
+        .encodeToWire(buf, writing);
+    }
+    List<ClusteredMessage<String, String>> received = new ArrayList<>();
+    new FrameParser(frame -> {
+      ClusteredMessage<String, String> msg = new ClusteredMessage<>();
+      msg.readFromWire(frame, codecManager, reading);
+      received.add(msg);
+    }).handle(Buffer.buffer(buf));
+    assertEquals(addresses.length, received.size());
+    for (int i = 0; i < addresses.length; i++) {
+      assertEquals(addresses[i], received.get(i).address());
+    }
+  }
+
+  @Test
+  public void testSymbolTableLeastRecentlyUsed() {
+    SymbolTable table = new SymbolTable(2);
+    int a = table.add("a");
+    int b = table.add("b");
+    assertEquals(a, table.idOf("a"));
+    // b is now the least recently used
+    assertEquals(b, table.add("c"));
+    assertEquals(-1, table.idOf("b"));
+    assertEquals(a, table.idOf("a"));
+    assertEquals(b, table.idOf("c"));
+    assertIllegalArgumentException(() -> new SymbolTable(0));
+  }
+
+  private List<ClusteredMessage<String, String>> parse(Buffer input, int chunkSize) {
+    List<ClusteredMessage<String, String>> received = new ArrayList<>();
+    FrameParser parser = new FrameParser(frame -> {
+      ClusteredMessage<String, String> msg = new ClusteredMessage<>();
+      msg.readFromWire(frame, codecManager);
+      received.add(msg);
+    });
+    for (int pos = 0; pos < input.length(); pos += chunkSize) {
+      parser.handle(input.getBuffer(pos, Math.min(pos + chunkSize, input.length())));
+    }
+    return received;
+  }
+}
@@ -21,12 +21,14 @@ import io.vertx.core.Context;
 import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
 import io.vertx.core.impl.ContextImpl;
 import io.vertx.core.impl.ContextInternal;
 import org.junit.Test;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -114,6 +116,39 @@ public class ContextTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testExecuteOrderedBlockingWithBatches() throws Exception {
+    // A batch of one task forces each context to yield the worker thread after every task
+    Vertx batchVertx = Vertx.vertx(new VertxOptions().setWorkerPoolSize(2).setWorkerBatchSize(1));
+    try {
+      int numContexts = 4;
+      int numTasks = 1000;
+      waitFor(numContexts);
+      for (int i = 0; i < numContexts; i++) {
+        Context context = batchVertx.getOrCreateContext();
+        context.runOnContext(v -> {
+          AtomicInteger executed = new AtomicInteger();
+          for (int j = 0; j < numTasks; j++) {
+            int expected = j;
+            context.executeBlocking(f -> {
+              assertEquals(expected, executed.getAndIncrement());
+              f.complete();
+            }, r -> {
+              if (expected == numTasks - 1) {
+                complete();
+              }
+            });
+          }
+        });
+      }
+      await();
+    } finally {
+      CountDownLatch latch = new CountDownLatch(1);
+      batchVertx.close(ar -> latch.countDown());
+      awaitLatch(latch);
+    }
+  }
+
   @Test
   public void testExecuteUnorderedBlocking() throws Exception {
     Context context = vertx.getOrCreateContext();
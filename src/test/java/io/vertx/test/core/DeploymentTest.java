@@ -76,6 +76,30 @@ public class DeploymentTest extends VertxTestBase {
     List<String> isol = Arrays.asList("com.foo.MyClass", "org.foo.*");
     assertEquals(options, options.setIsolatedClasses(isol));
     assertSame(isol, options.getIsolatedClasses());
+    assertNull(options.getWorkerPoolName());
+    String poolName = TestUtils.randomAlphaString(10);
+    assertEquals(options, options.setWorkerPoolName(poolName));
+    assertEquals(poolName, options.getWorkerPoolName());
+    assertEquals(DeploymentOptions.DEFAULT_WORKER_POOL_SIZE, options.getWorkerPoolSize());
+    int poolSize = TestUtils.randomPositiveInt();
+    assertEquals(options, options.setWorkerPoolSize(poolSize));
+    assertEquals(poolSize, options.getWorkerPoolSize());
+    try {
+      options.setWorkerPoolSize(0);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+    assertEquals(DeploymentOptions.DEFAULT_MAX_WORKER_EXECUTE_TIME, options.getMaxWorkerExecuteTime());
+    long maxWorkerExecuteTime = TestUtils.randomPositiveLong();
+    assertEquals(options, options.setMaxWorkerExecuteTime(maxWorkerExecuteTime));
+    assertEquals(maxWorkerExecuteTime, options.getMaxWorkerExecuteTime());
+    try {
+      options.setMaxWorkerExecuteTime(0);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
   }
 
   @Test
@@ -96,7 +120,16 @@ public class DeploymentTest extends VertxTestBase {
     options.setHa(ha);
     options.setExtraClasspath(cp);
     options.setIsolatedClasses(isol);
+    String poolName = TestUtils.randomAlphaString(10);
+    int poolSize = TestUtils.randomPositiveInt();
+    long maxWorkerExecuteTime = TestUtils.randomPositiveLong();
+    options.setWorkerPoolName(poolName);
+    options.setWorkerPoolSize(poolSize);
+    options.setMaxWorkerExecuteTime(maxWorkerExecuteTime);
     DeploymentOptions copy = new DeploymentOptions(options);
+    assertEquals(poolName, copy.getWorkerPoolName());
+    assertEquals(poolSize, copy.getWorkerPoolSize());
+    assertEquals(maxWorkerExecuteTime, copy.getMaxWorkerExecuteTime());
     assertEquals(worker, copy.isWorker());
     assertEquals(multiThreaded, copy.isMultiThreaded());
     assertEquals(isolationGroup, copy.getIsolationGroup());
@@ -120,6 +153,9 @@ public class DeploymentTest extends VertxTestBase {
     assertEquals(def.isHa(), json.isHa());
     assertEquals(def.getExtraClasspath(), json.getExtraClasspath());
     assertEquals(def.getIsolatedClasses(), json.getIsolatedClasses());
+    assertEquals(def.getWorkerPoolName(), json.getWorkerPoolName());
+    assertEquals(def.getWorkerPoolSize(), json.getWorkerPoolSize());
+    assertEquals(def.getMaxWorkerExecuteTime(), json.getMaxWorkerExecuteTime());
   }
 
   @Test
@@ -140,7 +176,16 @@ public class DeploymentTest extends VertxTestBase {
     json.put("ha", ha);
     json.put("extraClasspath", new JsonArray(cp));
     json.put("isolatedClasses", new JsonArray(isol));
+    String poolName = TestUtils.randomAlphaString(10);
+    int poolSize = TestUtils.randomPositiveInt();
+    long maxWorkerExecuteTime = TestUtils.randomPositiveLong();
+    json.put("workerPoolName", poolName);
+    json.put("workerPoolSize", poolSize);
+    json.put("maxWorkerExecuteTime", maxWorkerExecuteTime);
     DeploymentOptions options = new DeploymentOptions(json);
+    assertEquals(poolName, options.getWorkerPoolName());
+    assertEquals(poolSize, options.getWorkerPoolSize());
+    assertEquals(maxWorkerExecuteTime, options.getMaxWorkerExecuteTime());
     assertEquals(worker, options.isWorker());
     assertEquals(multiThreaded, options.isMultiThreaded());
     assertEquals(isolationGroup, options.getIsolationGroup());
@@ -168,8 +213,17 @@ public class DeploymentTest extends VertxTestBase {
     options.setHa(ha);
     options.setExtraClasspath(cp);
     options.setIsolatedClasses(isol);
+    String poolName = TestUtils.randomAlphaString(10);
+    int poolSize = TestUtils.randomPositiveInt();
+    long maxWorkerExecuteTime = TestUtils.randomPositiveLong();
+    options.setWorkerPoolName(poolName);
+    options.setWorkerPoolSize(poolSize);
+    options.setMaxWorkerExecuteTime(maxWorkerExecuteTime);
     JsonObject json = options.toJson();
     DeploymentOptions copy = new DeploymentOptions(json);
+    assertEquals(poolName, copy.getWorkerPoolName());
+    assertEquals(poolSize, copy.getWorkerPoolSize());
+    assertEquals(maxWorkerExecuteTime, copy.getMaxWorkerExecuteTime());
     assertEquals(worker, copy.isWorker());
     assertEquals(multiThreaded, copy.isMultiThreaded());
     assertEquals(isolationGroup, copy.getIsolationGroup());
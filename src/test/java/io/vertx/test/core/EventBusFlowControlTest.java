@@ -3,6 +3,8 @@ package io.vertx.test.core;
 import io.vertx.core.eventbus.EventBus;
 import io.vertx.core.eventbus.MessageConsumer;
 import io.vertx.core.eventbus.MessageProducer;
+import io.vertx.core.streams.Pump;
+import io.vertx.core.streams.ReadStream;
 import org.junit.Test;
 
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -104,6 +106,94 @@ public class EventBusFlowControlTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testWriteQueueFull() {
+    MessageProducer<String> prod = eb.sender("some-address");
+    int wqms = 10;
+    prod.setWriteQueueMaxSize(wqms);
+    for (int i = 0; i < wqms; i++) {
+      assertFalse(prod.writeQueueFull());
+      prod.send("message-" + i);
+    }
+    assertTrue(prod.writeQueueFull());
+    prod.setWriteQueueMaxSize(wqms + 1);
+    assertFalse(prod.writeQueueFull());
+    MessageProducer<String> publisher = eb.publisher("some-address");
+    publisher.setWriteQueueMaxSize(1);
+    publisher.write("message");
+    publisher.write("message");
+    assertFalse(publisher.writeQueueFull());
+  }
+
+  @Test
+  public void testCreditsGrantedInBatches() {
+    int wqms = 100;
+    int threshold = 10;
+    AtomicInteger creditMessages = new AtomicInteger();
+    eb.addInterceptor(sc -> {
+      if (sc.message().address().endsWith("-credit")) {
+        creditMessages.incrementAndGet();
+      }
+      sc.next();
+    });
+    vertx.runOnContext(v1 -> {
+      MessageProducer<String> prod = eb.sender("some-address");
+      prod.setWriteQueueMaxSize(wqms).setCreditRefillThreshold(threshold);
+      AtomicInteger cnt = new AtomicInteger();
+      eb.<String>consumer("some-address").handler(msg -> {
+        if (cnt.incrementAndGet() == wqms) {
+          vertx.setTimer(100, id -> {
+            assertEquals(wqms / threshold, creditMessages.get());
+            assertFalse(prod.writeQueueFull());
+            testComplete();
+          });
+        }
+      });
+      for (int i = 0; i < wqms; i++) {
+        prod.send("message-" + i);
+      }
+      assertTrue(prod.writeQueueFull());
+    });
+    await();
+  }
+
+  @Test
+  public void testCreditsGrantedWhenIdle() {
+    MessageProducer<String> prod = eb.sender("some-address");
+    int wqms = 10;
+    prod.setWriteQueueMaxSize(wqms).setCreditRefillThreshold(wqms);
+    MessageConsumer<String> consumer1 = eb.consumer("some-address");
+    MessageConsumer<String> consumer2 = eb.consumer("some-address");
+    consumer1.handler(msg -> {});
+    consumer2.handler(msg -> {});
+    for (int i = 0; i < wqms; i++) {
+      prod.send("message-" + i);
+    }
+    assertTrue(prod.writeQueueFull());
+    // Neither consumer reaches the threshold
+    prod.drainHandler(v -> testComplete());
+    await();
+  }
+
+  @Test
+  public void testPumpToSender() {
+    int num = 1000;
+    MessageProducer<String> prod = eb.sender("some-address");
+    prod.setWriteQueueMaxSize(10);
+    AtomicInteger cnt = new AtomicInteger();
+    eb.<String>consumer("some-address").handler(msg -> {
+      if (cnt.incrementAndGet() == num) {
+        testComplete();
+      }
+    });
+    ReadStream<String> source = eb.<String>consumer("source-address").bodyStream();
+    Pump.pump(source, prod).start();
+    for (int i = 0; i < num; i++) {
+      eb.send("source-address", "message-" + i);
+    }
+    await();
+  }
+
   @Override
   public void setUp() throws Exception {
     super.setUp();
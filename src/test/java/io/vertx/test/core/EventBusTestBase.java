@@ -319,6 +319,26 @@ public abstract class EventBusTestBase extends VertxTestBase {
     });
   }
 
+  @Test
+  public void testSendJsonObjectBinary() {
+    JsonObject obj = new JsonObject();
+    obj.put(TestUtils.randomUnicodeString(100), TestUtils.randomUnicodeString(100)).put(TestUtils.randomUnicodeString(100), TestUtils.randomInt());
+    testSend(obj, obj, (received) -> {
+      assertEquals(obj, received);
+      assertFalse(obj == received); // Make sure it's copied
+    }, new DeliveryOptions().setCodecName("jsonobject-binary"));
+  }
+
+  @Test
+  public void testSendJsonArrayBinary() {
+    JsonArray arr = new JsonArray();
+    arr.add(TestUtils.randomUnicodeString(100)).add(TestUtils.randomLong()).add(new JsonObject().put("foo", TestUtils.randomBoolean()));
+    testSend(arr, arr, (received) -> {
+      assertEquals(arr, received);
+      assertFalse(arr == received); // Make sure it's copied
+    }, new DeliveryOptions().setCodecName("jsonarray-binary"));
+  }
+
   @Test
   public void testSendWithHeaders() {
     testSend("foo", "foo", null, new DeliveryOptions().addHeader("uhqwduh", "qijwdqiuwd").addHeader("iojdijef", "iqjwddh"));
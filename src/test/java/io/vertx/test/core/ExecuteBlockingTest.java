@@ -17,11 +17,24 @@
 package io.vertx.test.core;
 
 import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.streams.ReadStream;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static io.vertx.test.core.TestUtils.assertIllegalArgumentException;
+
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
  */
@@ -166,4 +179,122 @@ public class ExecuteBlockingTest extends VertxTestBase {
     long leeway = 1000;
     assertTrue(now - start < pause + leeway);
   }
+
+  @Test
+  public void testExecuteBlockingStream() {
+    int numActions = 20;
+    int maxConcurrency = 3;
+    AtomicInteger concurrency = new AtomicInteger();
+    AtomicInteger maxObserved = new AtomicInteger();
+    List<Handler<Future<Integer>>> actions = new ArrayList<>();
+    for (int i = 0; i < numActions; i++) {
+      int val = i;
+      actions.add(future -> {
+        int current = concurrency.incrementAndGet();
+        maxObserved.accumulateAndGet(current, Math::max);
+        try {
+          Thread.sleep(10);
+        } catch (Exception ignore) {
+        }
+        concurrency.decrementAndGet();
+        future.complete(val);
+      });
+    }
+    vertx.runOnContext(v -> {
+      Context ctx = vertx.getOrCreateContext();
+      Set<Integer> results = new HashSet<>();
+      ReadStream<Integer> stream = vertx.executeBlockingStream(actions, maxConcurrency);
+      stream.endHandler(v2 -> {
+        assertSame(ctx, vertx.getOrCreateContext());
+        assertEquals(numActions, results.size());
+        assertTrue(maxObserved.get() <= maxConcurrency);
+        testComplete();
+      });
+      stream.handler(res -> {
+        assertSame(ctx, vertx.getOrCreateContext());
+        assertTrue(results.add(res));
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testExecuteBlockingStreamFailure() {
+    List<Handler<Future<String>>> actions = Arrays.asList(
+        future -> future.complete("foo"),
+        future -> future.fail("failed!"),
+        future -> {
+          throw new RuntimeException("rte");
+        },
+        future -> future.complete("bar"));
+    vertx.runOnContext(v -> {
+      Set<String> results = new HashSet<>();
+      Set<String> failures = new HashSet<>();
+      ReadStream<String> stream = vertx.executeBlockingStream(actions, 2);
+      stream.exceptionHandler(t -> failures.add(t.getMessage()));
+      stream.endHandler(v2 -> {
+        assertEquals(new HashSet<>(Arrays.asList("foo", "bar")), results);
+        assertEquals(new HashSet<>(Arrays.asList("failed!", "rte")), failures);
+        testComplete();
+      });
+      stream.handler(results::add);
+    });
+    await();
+  }
+
+  @Test
+  public void testExecuteBlockingStreamPause() {
+    int numActions = 10;
+    int maxConcurrency = 2;
+    AtomicInteger started = new AtomicInteger();
+    List<Handler<Future<Integer>>> actions = new ArrayList<>();
+    for (int i = 0; i < numActions; i++) {
+      int val = i;
+      actions.add(future -> {
+        started.incrementAndGet();
+        future.complete(val);
+      });
+    }
+    vertx.runOnContext(v -> {
+      AtomicInteger received = new AtomicInteger();
+      ReadStream<Integer> stream = vertx.executeBlockingStream(actions, maxConcurrency);
+      stream.endHandler(v2 -> {
+        assertEquals(numActions, received.get());
+        testComplete();
+      });
+      stream.handler(res -> {
+        if (received.incrementAndGet() == 1) {
+          stream.pause();
+          // Give the worker pool some time, the paused stream must not start more actions than it can buffer
+          vertx.setTimer(100, id -> {
+            assertEquals(maxConcurrency, started.get());
+            stream.resume();
+          });
+        }
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testExecuteBlockingStreamOnWorkerExecutor() {
+    WorkerExecutor worker = vertx.createSharedWorkerExecutor("stream-pool");
+    List<Handler<Future<String>>> actions = Arrays.asList(
+        future -> future.complete(Thread.currentThread().getName()),
+        future -> future.complete(Thread.currentThread().getName()));
+    vertx.runOnContext(v -> {
+      ReadStream<String> stream = worker.executeBlockingStream(actions, 2);
+      stream.endHandler(v2 -> {
+        worker.close();
+        testComplete();
+      });
+      stream.handler(name -> assertTrue(name.startsWith("stream-pool-")));
+    });
+    await();
+  }
+
+  @Test
+  public void testExecuteBlockingStreamInvalidConcurrency() {
+    assertIllegalArgumentException(() -> vertx.executeBlockingStream(Collections.emptyList(), 0));
+  }
 }
@@ -17,10 +17,15 @@
 package io.vertx.test.core;
 
 import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerOptions;
 import org.junit.Test;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * @author <a href="mailto:nmaurer@redhat.com">Norman Maurer</a>
  * @author <a href="mailto:nscavell@redhat.com">Nick Scavelli</a>
@@ -48,4 +53,81 @@ public class HttpCompressionTest extends HttpTestBase {
 
     await();
   }
+
+  @Test
+  public void testCompressionContentSizeThreshold() {
+    Map<String, Boolean> compressed = new LinkedHashMap<>();
+    compressed.put("/?type=text/plain&size=99", false);
+    compressed.put("/?type=text/plain&size=100", true);
+    compressed.put("/?type=text/plain&size=2000&chunked=true", true);
+    testCompression(new HttpServerOptions().setCompressionContentSizeThreshold(100), compressed);
+  }
+
+  @Test
+  public void testCompressionExcludedContentTypes() {
+    Map<String, Boolean> compressed = new LinkedHashMap<>();
+    compressed.put("/?type=text/plain&size=100", true);
+    compressed.put("/?type=image/png&size=100", false);
+    compressed.put("/?type=image/jpeg&size=100", false);
+    compressed.put("/?type=application/zip&size=100", false);
+    compressed.put("/?size=100", true);
+    testCompression(new HttpServerOptions().addCompressionExcludedContentType("image/*").addCompressionExcludedContentType("zip"), compressed);
+  }
+
+  @Test
+  public void testCompressionIncludedContentTypes() {
+    Map<String, Boolean> compressed = new LinkedHashMap<>();
+    compressed.put("/?type=application/json%3Bcharset=utf-8&size=100", true);
+    compressed.put("/?type=text/html&size=100", true);
+    compressed.put("/?type=application/octet-stream&size=100", false);
+    compressed.put("/?size=100", false);
+    testCompression(new HttpServerOptions().addCompressionIncludedContentType("json").addCompressionIncludedContentType("text/*"), compressed);
+  }
+
+  @Test
+  public void testCompressionOptOut() {
+    Map<String, Boolean> compressed = new LinkedHashMap<>();
+    compressed.put("/?type=text/plain&size=100&identity=true", false);
+    compressed.put("/?type=text/plain&size=100", true);
+    testCompression(new HttpServerOptions().setCompressionLevel(1), compressed);
+  }
+
+  @Test
+  public void testCompressionUnknownExtension() {
+    try {
+      vertx.createHttpServer(new HttpServerOptions().setCompressionSupported(true).addCompressionExcludedContentType("nosuchextension"));
+      fail();
+    } catch (IllegalArgumentException ignore) {
+      // OK
+    }
+  }
+
+  private void testCompression(HttpServerOptions options, Map<String, Boolean> compressedByUri) {
+    client.close();
+    client = vertx.createHttpClient();
+    server = vertx.createHttpServer(options.setPort(DEFAULT_HTTP_PORT).setCompressionSupported(true));
+    server.requestHandler(req -> {
+      if (req.getParam("type") != null) {
+        req.response().putHeader("content-type", req.getParam("type"));
+      }
+      if (req.getParam("identity") != null) {
+        req.response().putHeader("content-encoding", "identity");
+      }
+      req.response().setChunked(req.getParam("chunked") != null);
+      req.response().end(TestUtils.randomAlphaString(Integer.parseInt(req.getParam("size"))));
+    });
+    server.listen(onSuccess(s -> {
+      AtomicInteger count = new AtomicInteger();
+      compressedByUri.forEach((uri, compressed) -> {
+        HttpClientRequest req = client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, uri, resp -> {
+          assertEquals(uri, compressed ? "gzip" : null, resp.getHeader("content-encoding"));
+          if (count.incrementAndGet() == compressedByUri.size()) {
+            testComplete();
+          }
+        });
+        req.putHeader("accept-encoding", "gzip").end();
+      });
+    }));
+    await();
+  }
 }
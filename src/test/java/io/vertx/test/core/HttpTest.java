@@ -272,6 +272,41 @@ public class HttpTest extends HttpTestBase {
     assertEquals(options, options.setCompressionSupported(true));
     assertTrue(options.isCompressionSupported());
 
+    assertFalse(options.isDateHeader());
+    assertEquals(options, options.setDateHeader(true));
+    assertTrue(options.isDateHeader());
+
+    assertEquals(6, options.getCompressionLevel());
+    assertEquals(options, options.setCompressionLevel(9));
+    assertEquals(9, options.getCompressionLevel());
+    assertIllegalArgumentException(() -> options.setCompressionLevel(0));
+    assertIllegalArgumentException(() -> options.setCompressionLevel(10));
+
+    assertEquals(0, options.getCompressionContentSizeThreshold());
+    rand = TestUtils.randomPositiveInt();
+    assertEquals(options, options.setCompressionContentSizeThreshold(rand));
+    assertEquals(rand, options.getCompressionContentSizeThreshold());
+    assertIllegalArgumentException(() -> options.setCompressionContentSizeThreshold(-1));
+
+    assertTrue(options.getCompressionIncludedContentTypes().isEmpty());
+    assertEquals(options, options.addCompressionIncludedContentType("text/*"));
+    assertEquals(Collections.singleton("text/*"), options.getCompressionIncludedContentTypes());
+
+    assertTrue(options.getCompressionExcludedContentTypes().isEmpty());
+    assertEquals(options, options.addCompressionExcludedContentType("png"));
+    assertEquals(Collections.singleton("png"), options.getCompressionExcludedContentTypes());
+
+    assertTrue(options.getPrecompressedEncodings().isEmpty());
+    assertEquals(options, options.addPrecompressedEncoding("br"));
+    assertEquals(options, options.addPrecompressedEncoding("gzip"));
+    assertEquals(Arrays.asList("br", "gzip"), options.getPrecompressedEncodings());
+
+    assertEquals(0, options.getFileCacheTimeout());
+    rand = TestUtils.randomPositiveInt();
+    assertEquals(options, options.setFileCacheTimeout(rand));
+    assertEquals(rand, options.getFileCacheTimeout());
+    assertIllegalArgumentException(() -> options.setFileCacheTimeout(-1));
+
     assertEquals(65536, options.getMaxWebsocketFrameSize());
     rand = TestUtils.randomPositiveInt();
     assertEquals(options, options.setMaxWebsocketFrameSize(rand));
@@ -561,6 +596,13 @@ public class HttpTest extends HttpTestBase {
     String host = TestUtils.randomAlphaString(100);
     int acceptBacklog = TestUtils.randomPortInt();
     boolean compressionSupported = rand.nextBoolean();
+    int compressionLevel = 1 + rand.nextInt(9);
+    int compressionContentSizeThreshold = TestUtils.randomPositiveInt();
+    String compressionIncludedContentType = TestUtils.randomAlphaString(10);
+    String compressionExcludedContentType = TestUtils.randomAlphaString(10);
+    boolean dateHeader = rand.nextBoolean();
+    String precompressedEncoding = TestUtils.randomAlphaString(10);
+    int fileCacheTimeout = TestUtils.randomPositiveInt();
     int maxWebsocketFrameSize = TestUtils.randomPositiveInt();
     String wsSubProtocol = TestUtils.randomAlphaString(10);
     boolean is100ContinueHandledAutomatically = rand.nextBoolean();
@@ -584,6 +626,13 @@ public class HttpTest extends HttpTestBase {
     options.setHost(host);
     options.setAcceptBacklog(acceptBacklog);
     options.setCompressionSupported(compressionSupported);
+    options.setCompressionLevel(compressionLevel);
+    options.setCompressionContentSizeThreshold(compressionContentSizeThreshold);
+    options.addCompressionIncludedContentType(compressionIncludedContentType);
+    options.addCompressionExcludedContentType(compressionExcludedContentType);
+    options.setDateHeader(dateHeader);
+    options.addPrecompressedEncoding(precompressedEncoding);
+    options.setFileCacheTimeout(fileCacheTimeout);
     options.setMaxWebsocketFrameSize(maxWebsocketFrameSize);
     options.setWebsocketSubProtocols(wsSubProtocol);
     options.setHandle100ContinueAutomatically(is100ContinueHandledAutomatically);
@@ -613,6 +662,15 @@ public class HttpTest extends HttpTestBase {
     assertEquals(host, copy.getHost());
     assertEquals(acceptBacklog, copy.getAcceptBacklog());
     assertEquals(compressionSupported, copy.isCompressionSupported());
+    assertEquals(compressionLevel, copy.getCompressionLevel());
+    assertEquals(compressionContentSizeThreshold, copy.getCompressionContentSizeThreshold());
+    assertEquals(Collections.singleton(compressionIncludedContentType), copy.getCompressionIncludedContentTypes());
+    assertNotSame(options.getCompressionIncludedContentTypes(), copy.getCompressionIncludedContentTypes());
+    assertEquals(Collections.singleton(compressionExcludedContentType), copy.getCompressionExcludedContentTypes());
+    assertEquals(dateHeader, copy.isDateHeader());
+    assertEquals(Collections.singletonList(precompressedEncoding), copy.getPrecompressedEncodings());
+    assertNotSame(options.getPrecompressedEncodings(), copy.getPrecompressedEncodings());
+    assertEquals(fileCacheTimeout, copy.getFileCacheTimeout());
     assertEquals(maxWebsocketFrameSize, copy.getMaxWebsocketFrameSize());
     assertEquals(wsSubProtocol, copy.getWebsocketSubProtocols());
     assertEquals(is100ContinueHandledAutomatically, copy.isHandle100ContinueAutomatically());
@@ -626,6 +684,13 @@ public class HttpTest extends HttpTestBase {
     assertEquals(def.getMaxWebsocketFrameSize(), json.getMaxWebsocketFrameSize());
     assertEquals(def.getWebsocketSubProtocols(), json.getWebsocketSubProtocols());
     assertEquals(def.isCompressionSupported(), json.isCompressionSupported());
+    assertEquals(def.getCompressionLevel(), json.getCompressionLevel());
+    assertEquals(def.getCompressionContentSizeThreshold(), json.getCompressionContentSizeThreshold());
+    assertEquals(def.getCompressionIncludedContentTypes(), json.getCompressionIncludedContentTypes());
+    assertEquals(def.getCompressionExcludedContentTypes(), json.getCompressionExcludedContentTypes());
+    assertEquals(def.isDateHeader(), json.isDateHeader());
+    assertEquals(def.getPrecompressedEncodings(), json.getPrecompressedEncodings());
+    assertEquals(def.getFileCacheTimeout(), json.getFileCacheTimeout());
     assertEquals(def.isClientAuthRequired(), json.isClientAuthRequired());
     assertEquals(def.getCrlPaths(), json.getCrlPaths());
     assertEquals(def.getCrlValues(), json.getCrlValues());
@@ -678,6 +743,13 @@ public class HttpTest extends HttpTestBase {
     int maxChunkSize = rand.nextInt(10000);
     int maxInitialLineLength = rand.nextInt(10000);
     int maxHeaderSize = rand.nextInt(10000);
+    boolean dateHeader = rand.nextBoolean();
+    int compressionLevel = 1 + rand.nextInt(9);
+    int compressionContentSizeThreshold = TestUtils.randomPositiveInt();
+    String compressionIncludedContentType = TestUtils.randomAlphaString(10);
+    String compressionExcludedContentType = TestUtils.randomAlphaString(10);
+    String precompressedEncoding = TestUtils.randomAlphaString(10);
+    int fileCacheTimeout = TestUtils.randomPositiveInt();
 
     JsonObject json = new JsonObject();
     json.put("sendBufferSize", sendBufferSize)
@@ -698,6 +770,13 @@ public class HttpTest extends HttpTestBase {
       .put("host", host)
       .put("acceptBacklog", acceptBacklog)
       .put("compressionSupported", compressionSupported)
+      .put("dateHeader", dateHeader)
+      .put("compressionLevel", compressionLevel)
+      .put("compressionContentSizeThreshold", compressionContentSizeThreshold)
+      .put("compressionIncludedContentTypes", new JsonArray().add(compressionIncludedContentType))
+      .put("compressionExcludedContentTypes", new JsonArray().add(compressionExcludedContentType))
+      .put("precompressedEncodings", new JsonArray().add(precompressedEncoding))
+      .put("fileCacheTimeout", fileCacheTimeout)
       .put("maxWebsocketFrameSize", maxWebsocketFrameSize)
       .put("websocketSubProtocols", wsSubProtocol)
       .put("handle100ContinueAutomatically", is100ContinueHandledAutomatically)
@@ -731,6 +810,13 @@ public class HttpTest extends HttpTestBase {
     assertEquals(host, options.getHost());
     assertEquals(acceptBacklog, options.getAcceptBacklog());
     assertEquals(compressionSupported, options.isCompressionSupported());
+    assertEquals(dateHeader, options.isDateHeader());
+    assertEquals(compressionLevel, options.getCompressionLevel());
+    assertEquals(compressionContentSizeThreshold, options.getCompressionContentSizeThreshold());
+    assertEquals(Collections.singleton(compressionIncludedContentType), options.getCompressionIncludedContentTypes());
+    assertEquals(Collections.singleton(compressionExcludedContentType), options.getCompressionExcludedContentTypes());
+    assertEquals(Collections.singletonList(precompressedEncoding), options.getPrecompressedEncodings());
+    assertEquals(fileCacheTimeout, options.getFileCacheTimeout());
     assertEquals(maxWebsocketFrameSize, options.getMaxWebsocketFrameSize());
     assertEquals(wsSubProtocol, options.getWebsocketSubProtocols());
     assertEquals(is100ContinueHandledAutomatically, options.isHandle100ContinueAutomatically());
@@ -2488,6 +2574,97 @@ public class HttpTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testSendPrecompressedFile() throws Exception {
+    testSendPrecompressedFile(false);
+  }
+
+  @Test
+  public void testSendPrecompressedFileWithCompression() throws Exception {
+    testSendPrecompressedFile(true);
+  }
+
+  private void testSendPrecompressedFile(boolean compressionSupported) throws Exception {
+    String content = TestUtils.randomAlphaString(10000);
+    File file = setupFile("test-send-file.html", content);
+    // The precompressed file is sent as is
+    String gzipped = TestUtils.randomAlphaString(100);
+    setupFile("test-send-file.html.gz", gzipped);
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT).setHost(DEFAULT_HTTP_HOST)
+      .setCompressionSupported(compressionSupported).addPrecompressedEncoding("br").addPrecompressedEncoding("gzip"));
+    server.requestHandler(req -> {
+      req.response().sendFile(file.getAbsolutePath());
+    });
+    Map<String, String> expectedEncodings = new LinkedHashMap<>();
+    expectedEncodings.put("gzip", "gzip");
+    expectedEncodings.put("br, gzip;q=0.5", "gzip");
+    expectedEncodings.put("gzip;q=0", null);
+    expectedEncodings.put("*", "gzip");
+    // The entry of an encoding takes precedence over the wildcard
+    expectedEncodings.put("*, gzip;q=0", null);
+    expectedEncodings.put("gzip;q=0, *", null);
+    expectedEncodings.put("", null);
+    server.listen(onSuccess(s -> {
+      AtomicInteger count = new AtomicInteger();
+      expectedEncodings.forEach((acceptEncoding, expectedEncoding) -> {
+        HttpClientRequest req = client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+          assertEquals(200, resp.statusCode());
+          assertEquals("text/html", resp.getHeader("content-type"));
+          assertEquals("accept-encoding", resp.getHeader("vary").toLowerCase());
+          if (expectedEncoding != null) {
+            assertEquals(expectedEncoding, resp.getHeader("content-encoding"));
+            assertEquals(String.valueOf(gzipped.length()), resp.getHeader("content-length"));
+          }
+          resp.bodyHandler(buff -> {
+            if (expectedEncoding != null) {
+              assertEquals(gzipped, buff.toString());
+            } else if (!compressionSupported) {
+              assertEquals(content, buff.toString());
+            }
+            if (count.incrementAndGet() == expectedEncodings.size()) {
+              testComplete();
+            }
+          });
+        });
+        if (!acceptEncoding.isEmpty()) {
+          req.putHeader("accept-encoding", acceptEncoding);
+        }
+        req.end();
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testSendFileWithFileCache() throws Exception {
+    String content = TestUtils.randomUnicodeString(10000);
+    File file = setupFile("test-send-file.html", content);
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT).setHost(DEFAULT_HTTP_HOST)
+      .setFileCacheTimeout(60000));
+    server.requestHandler(req -> {
+      req.response().sendFile(file.getAbsolutePath());
+    });
+    server.listen(onSuccess(s -> {
+      client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp1 -> {
+        resp1.bodyHandler(buff1 -> {
+          assertEquals(content, buff1.toString());
+          // The cached file is not checked again on the file system and stays open
+          assertTrue(file.delete());
+          client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp2 -> {
+            assertEquals(200, resp2.statusCode());
+            resp2.bodyHandler(buff2 -> {
+              assertEquals(content, buff2.toString());
+              testComplete();
+            });
+          });
+        });
+      });
+    }));
+    await();
+  }
+
   @Test
   public void testSendFileNotFound() throws Exception {
 
@@ -4420,6 +4597,103 @@ public class HttpTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testSendResponseTemplate() {
+    HttpResponseTemplate template = HttpResponseTemplate.create(200,
+      MultiMap.caseInsensitiveMultiMap().set("content-type", "application/json"), Buffer.buffer("{\"status\":\"UP\"}"));
+    assertEquals(200, template.statusCode());
+    Set<Integer> ports = new HashSet<>();
+    server.requestHandler(req -> {
+      ports.add(req.remoteAddress().port());
+      req.response().send(template);
+      assertTrue(req.response().ended());
+      assertEquals(15, req.response().bytesWritten());
+    });
+    server.listen(onSuccess(s -> {
+      client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp1 -> {
+        assertEquals(200, resp1.statusCode());
+        assertEquals("application/json", resp1.getHeader("content-type"));
+        assertEquals("15", resp1.getHeader("content-length"));
+        assertNull(resp1.getHeader("date"));
+        resp1.bodyHandler(body1 -> {
+          assertEquals("{\"status\":\"UP\"}", body1.toString());
+          // The next response is written with the same template on the same connection
+          client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp2 -> {
+            assertEquals(200, resp2.statusCode());
+            resp2.bodyHandler(body2 -> {
+              assertEquals("{\"status\":\"UP\"}", body2.toString());
+              assertEquals(1, ports.size());
+              testComplete();
+            });
+          });
+        });
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testSendResponseTemplateWithResponseHeaders() {
+    HttpResponseTemplate template = HttpResponseTemplate.create(204, MultiMap.caseInsensitiveMultiMap().set("cache-control", "no-cache"));
+    server.requestHandler(req -> {
+      req.response().putHeader("x-request", req.getHeader("x-request")).send(template);
+    });
+    server.listen(onSuccess(s -> {
+      HttpClientRequest req = client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+        assertEquals(204, resp.statusCode());
+        assertEquals("no-cache", resp.getHeader("cache-control"));
+        assertEquals("foo", resp.getHeader("x-request"));
+        testComplete();
+      });
+      req.putHeader("x-request", "foo").end();
+    }));
+    await();
+  }
+
+  @Test
+  public void testDateHeader() {
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT).setHost(DEFAULT_HTTP_HOST).setDateHeader(true));
+    HttpResponseTemplate template = HttpResponseTemplate.create(200, MultiMap.caseInsensitiveMultiMap(), Buffer.buffer("template"));
+    HttpResponseTemplate datedTemplate = HttpResponseTemplate.create(200,
+      MultiMap.caseInsensitiveMultiMap().set("date", "Thu, 01 Jan 1970 00:00:00 GMT"));
+    server.requestHandler(req -> {
+      switch (req.path()) {
+        case "/template":
+          req.response().send(template);
+          break;
+        case "/dated":
+          req.response().send(datedTemplate);
+          break;
+        default:
+          req.response().end("regular");
+      }
+    });
+    server.listen(onSuccess(s -> {
+      AtomicInteger count = new AtomicInteger();
+      for (String path : Arrays.asList("/template", "/regular")) {
+        client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, path, resp -> {
+          long date = java.time.ZonedDateTime.parse(resp.getHeader("date"), java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME)
+            .toInstant().toEpochMilli();
+          assertTrue(Math.abs(System.currentTimeMillis() - date) < 60000);
+          resp.bodyHandler(body -> {
+            assertEquals(path.substring(1), body.toString());
+            if (count.incrementAndGet() == 3) {
+              testComplete();
+            }
+          });
+        });
+      }
+      client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/dated", resp -> {
+        assertEquals("Thu, 01 Jan 1970 00:00:00 GMT", resp.getHeader("date"));
+        if (count.incrementAndGet() == 3) {
+          testComplete();
+        }
+      });
+    }));
+    await();
+  }
+
   @Test
   public void testTwoServersSameAddressDifferentContext() throws Exception {
     vertx.deployVerticle(SimpleServer.class.getName(), new DeploymentOptions().setInstances(2), onSuccess(id -> {
@@ -759,6 +759,44 @@ public class JsonArrayTest {
     assertFalse(iter.hasNext());
   }
 
+  @Test
+  public void testReadOnlyCopy() {
+    jsonArray.add("foo");
+    jsonArray.add(new JsonObject().put("bar", 123));
+    jsonArray.add(new JsonArray().add("quux"));
+    JsonArray readOnly = jsonArray.readOnlyCopy();
+    assertTrue(readOnly.isReadOnly());
+    assertFalse(jsonArray.isReadOnly());
+    assertEquals(jsonArray, readOnly);
+    assertSame(readOnly, readOnly.readOnlyCopy());
+    try {
+      readOnly.add("eek");
+      fail();
+    } catch (UnsupportedOperationException ignore) {
+    }
+    try {
+      readOnly.remove(0);
+      fail();
+    } catch (UnsupportedOperationException ignore) {
+    }
+    try {
+      readOnly.getJsonObject(1).put("bar", 456);
+      fail();
+    } catch (UnsupportedOperationException ignore) {
+    }
+    try {
+      readOnly.getJsonArray(2).add("eek");
+      fail();
+    } catch (UnsupportedOperationException ignore) {
+    }
+    jsonArray.add("eek");
+    assertEquals(3, readOnly.size());
+    JsonArray copy = readOnly.copy();
+    assertFalse(copy.isReadOnly());
+    copy.add("eek");
+    assertEquals(4, copy.size());
+  }
+
   @Test
   public void testCopy() {
     jsonArray.add("foo");
@@ -1037,6 +1075,28 @@ public class JsonArrayTest {
     assertEquals(jsonArray, deserialized);
   }
 
+  @Test
+  public void testClusterSerializableBinary() {
+    jsonArray.add("foo").add(123).add(-1234567890123L).add(0.5d).addNull().add(true)
+      .add(new JsonObject().put("foo", "bar")).add(new JsonArray().add(1).add(2));
+    Buffer buff = Buffer.buffer();
+    jsonArray.writeToBuffer(buff, true);
+    JsonArray deserialized = new JsonArray();
+    assertEquals(buff.length(), deserialized.readFromBuffer(0, buff));
+    assertEquals(jsonArray, deserialized);
+    assertEquals(-1234567890123L, deserialized.getValue(2));
+    assertEquals("bar", deserialized.getJsonObject(6).getString("foo"));
+    // A JSON object can't be read as an array
+    buff = Buffer.buffer();
+    new JsonObject().put("foo", "bar").writeToBuffer(buff, true);
+    try {
+      new JsonArray().readFromBuffer(0, buff);
+      fail();
+    } catch (DecodeException ignore) {
+      // OK
+    }
+  }
+
   @Test
   public void testJsonArrayEquality() {
     JsonObject obj = new JsonObject(Collections.singletonMap("abc", Collections.singletonList(3)));
@@ -25,6 +25,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
@@ -1393,6 +1394,52 @@ public class JsonObjectTest {
     assertEquals("blah", copy.getString("eek"));
   }
 
+  @Test
+  public void testReadOnlyCopy() {
+    jsonObject.put("foo", "bar");
+    jsonObject.put("wibble", new JsonObject().put("quux", 123));
+    jsonObject.put("arr", new JsonArray().add(new JsonObject().put("a", 1)));
+    jsonObject.put("map", new HashMap<>(Collections.singletonMap("b", 2)));
+    assertFalse(jsonObject.isReadOnly());
+    JsonObject readOnly = jsonObject.readOnlyCopy();
+    assertTrue(readOnly.isReadOnly());
+    assertEquals(jsonObject, readOnly);
+    assertSame(readOnly, readOnly.readOnlyCopy());
+    assertUnsupported(() -> readOnly.put("foo", "eek"));
+    assertUnsupported(() -> readOnly.remove("foo"));
+    assertUnsupported(() -> readOnly.clear());
+    assertUnsupported(() -> readOnly.mergeIn(new JsonObject().put("a", 1)));
+    assertUnsupported(() -> readOnly.getMap().put("foo", "eek"));
+    assertUnsupported(() -> {
+      Iterator<Map.Entry<String, Object>> iter = readOnly.iterator();
+      iter.next();
+      iter.remove();
+    });
+    assertUnsupported(() -> readOnly.getJsonObject("wibble").put("quux", 456));
+    assertUnsupported(() -> readOnly.getJsonObject("map").put("b", 3));
+    assertUnsupported(() -> readOnly.getJsonArray("arr").add("eek"));
+    assertUnsupported(() -> readOnly.getJsonArray("arr").getJsonObject(0).put("a", 2));
+    // The read-only copy does not see the changes of the original object
+    jsonObject.getJsonObject("wibble").put("quux", 456);
+    assertEquals(123, (int) readOnly.getJsonObject("wibble").getInteger("quux"));
+    // A copy of a read-only object can be modified
+    JsonObject copy = readOnly.copy();
+    assertFalse(copy.isReadOnly());
+    copy.put("foo", "eek");
+    copy.getJsonObject("wibble").put("quux", 789);
+    assertEquals("bar", readOnly.getString("foo"));
+    assertEquals(readOnly.encode(), new JsonObject(readOnly.encode()).encode());
+  }
+
+  private void assertUnsupported(Runnable runnable) {
+    try {
+      runnable.run();
+      fail("Should throw UnsupportedOperationException");
+    } catch (UnsupportedOperationException e) {
+      // OK
+    }
+  }
+
   @Test
   public void testInvalidValsOnCopy1() {
     Map<String, Object> invalid = new HashMap<>();
@@ -1532,6 +1579,78 @@ public class JsonObjectTest {
     assertEquals(jsonObject, deserialized);
   }
 
+  @Test
+  public void testClusterSerializableBinary() {
+    JsonArray items = new JsonArray();
+    for (int i = 0; i < 10; i++) {
+      items.add(new JsonObject().put("id", i).put("name", "item" + i).put("enabled", i % 2 == 0));
+    }
+    jsonObject.put("string", "d\u00e9j\u00e0").put("int", -123).put("long", Long.MAX_VALUE).put("float", 1.5f)
+      .put("double", -2.25d).put("true", true).put("false", false).putNull("null").put("items", items)
+      .put("bigint", new BigInteger("123456789012345678901234567890"))
+      .put("binary", TestUtils.randomByteArray(10)).put(TestUtils.randomUnicodeString(20), "unicode key");
+    Buffer buff = Buffer.buffer();
+    jsonObject.writeToBuffer(buff, true);
+    Buffer text = Buffer.buffer();
+    jsonObject.writeToBuffer(text);
+    // The keys of the items are interned
+    assertTrue(buff.length() < text.length());
+    JsonObject deserialized = new JsonObject();
+    assertEquals(buff.length(), deserialized.readFromBuffer(0, buff));
+    assertEquals(jsonObject, deserialized);
+    assertEquals(Long.MAX_VALUE, deserialized.getValue("long"));
+    // Like the text decoding, the float is decoded as a double
+    assertEquals(1.5d, deserialized.getValue("float"));
+    assertEquals(new BigInteger("123456789012345678901234567890"), deserialized.getValue("bigint"));
+    assertEquals(jsonObject.getString("binary"), deserialized.getString("binary"));
+    assertEquals("item9", deserialized.getJsonArray("items").getJsonObject(9).getString("name"));
+  }
+
+  @Test
+  public void testClusterSerializableBinaryNumberTypes() {
+    jsonObject.put("long", 123L).put("float", 1.1f);
+    Buffer buff = Buffer.buffer();
+    jsonObject.writeToBuffer(buff, true);
+    JsonObject binary = new JsonObject();
+    binary.readFromBuffer(0, buff);
+    buff = Buffer.buffer();
+    jsonObject.writeToBuffer(buff);
+    JsonObject text = new JsonObject();
+    text.readFromBuffer(0, buff);
+    assertEquals(text.getValue("long"), binary.getValue("long"));
+    assertEquals(text.getValue("float"), binary.getValue("float"));
+    assertEquals(123, binary.getValue("long"));
+    assertEquals(1.1d, binary.getValue("float"));
+  }
+
+  @Test
+  public void testClusterSerializableBinaryInvalidSize() {
+    // An object announcing 0x0FFFFFFF entries in 5 bytes
+    Buffer buff = Buffer.buffer().appendInt(5 | 0x80000000).appendByte((byte) 8)
+      .appendBytes(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0x7F});
+    try {
+      new JsonObject().readFromBuffer(0, buff);
+      fail();
+    } catch (DecodeException ignore) {
+      // OK
+    }
+  }
+
+  @Test
+  public void testClusterSerializableBinaryTruncated() {
+    jsonObject.put("foo", "bar").put("blah", 123);
+    Buffer buff = Buffer.buffer();
+    jsonObject.writeToBuffer(buff, true);
+    // Shorten the length
+    buff.setInt(0, buff.getInt(0) - 1);
+    try {
+      new JsonObject().readFromBuffer(0, buff);
+      fail();
+    } catch (DecodeException ignore) {
+      // OK
+    }
+  }
+
   @Test
   public void testNumberEquality() {
     assertNumberEquals(4, 4);
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.test.core;
+
+import io.vertx.core.metrics.impl.LatencyHistogram;
+import org.junit.Test;
+
+public class LatencyHistogramTest extends AsyncTestBase {
+
+  @Test
+  public void testEmpty() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMax());
+    assertEquals(0, histogram.getValueAtPercentile(99));
+  }
+
+  @Test
+  public void testSmallValuesAreExact() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 0; i < 16; i++) {
+      histogram.record(i);
+    }
+    assertEquals(16, histogram.getCount());
+    assertEquals(15, histogram.getMax());
+    assertEquals(7, histogram.getValueAtPercentile(50));
+    assertEquals(15, histogram.getValueAtPercentile(100));
+  }
+
+  @Test
+  public void testPercentiles() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 10000; i++) {
+      histogram.record(i * 1000L);
+    }
+    assertEquals(10000, histogram.getCount());
+    assertEquals(10000 * 1000L, histogram.getMax());
+    assertEquals(5000.5 * 1000, histogram.getMean(), 0.001);
+    assertPercentile(5000 * 1000L, histogram.getValueAtPercentile(50));
+    assertPercentile(9900 * 1000L, histogram.getValueAtPercentile(99));
+    assertPercentile(9990 * 1000L, histogram.getValueAtPercentile(99.9));
+    assertEquals(histogram.getMax(), histogram.getValueAtPercentile(100));
+  }
+
+  @Test
+  public void testLargeValues() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(Long.MAX_VALUE);
+    histogram.record(-1);
+    assertEquals(Long.MAX_VALUE, histogram.getMax());
+    assertEquals(0, histogram.getValueAtPercentile(50));
+    assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+  }
+
+  @Test
+  public void testReset() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(1000);
+    histogram.reset();
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMax());
+    assertEquals(0, histogram.getValueAtPercentile(100));
+  }
+
+  @Test
+  public void testInvalidPercentile() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    try {
+      histogram.getValueAtPercentile(101);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+  }
+
+  private void assertPercentile(long expected, long actual) {
+    // The reported value is the highest value of the sub bucket, at most 1/16th above the recorded value
+    assertTrue("Expected " + actual + " >= " + expected, actual >= expected);
+    assertTrue("Expected " + actual + " <= " + expected * 17 / 16, actual <= expected * 17 / 16);
+  }
+}
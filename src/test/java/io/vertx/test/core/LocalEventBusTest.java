@@ -21,13 +21,17 @@ import io.vertx.core.eventbus.*;
 import io.vertx.core.eventbus.impl.HandlerRegistration;
 import io.vertx.core.http.CaseInsensitiveHeaders;
 import io.vertx.core.impl.*;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.streams.Pump;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.core.streams.WriteStream;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -73,6 +77,13 @@ public class LocalEventBusTest extends EventBusTestBase {
     }
   }
 
+  private void restartVertx(VertxOptions options) throws Exception {
+    closeVertx();
+    vertx = Vertx.vertx(options);
+    eb = vertx.eventBus();
+    running = true;
+  }
+
   @Test
   public void testDeliveryOptions() {
     DeliveryOptions options = new DeliveryOptions();
@@ -292,6 +303,25 @@ public class LocalEventBusTest extends EventBusTestBase {
     await();
   }
 
+  @Test
+  public void testSendManyWithReply() {
+    int num = 1000;
+    eb.<Integer>consumer(ADDRESS1).handler(msg -> msg.reply(msg.body() + 1));
+    AtomicInteger replies = new AtomicInteger();
+    Set<Integer> received = Collections.synchronizedSet(new HashSet<>());
+    for (int i = 0; i < num; i++) {
+      int val = i;
+      eb.<Integer>send(ADDRESS1, i, onSuccess(reply -> {
+        assertEquals(val + 1, (int) reply.body());
+        assertTrue(received.add(val));
+        if (replies.incrementAndGet() == num) {
+          testComplete();
+        }
+      }));
+    }
+    await();
+  }
+
   @Test
   public void testSendWithReply() {
     String str = TestUtils.randomUnicodeString(1000);
@@ -1185,6 +1215,302 @@ public class LocalEventBusTest extends EventBusTestBase {
     await();
   }
 
+  @Test
+  public void testSenderBatch() {
+    int num = 10;
+    List<String> received = new ArrayList<>();
+    eb.<String>consumer(ADDRESS1).handler(message -> {
+      assertEquals("foo_value", message.headers().get("foo"));
+      received.add(message.body());
+      if (received.size() == num) {
+        for (int i = 0; i < num; i++) {
+          assertEquals("msg" + i, received.get(i));
+        }
+        testComplete();
+      }
+    });
+    MessageProducer<String> sender = eb.sender(ADDRESS1, new DeliveryOptions().setBatchSize(3).addHeader("foo", "foo_value"));
+    vertx.runOnContext(v -> {
+      for (int i = 0; i < num; i++) {
+        sender.write("msg" + i);
+      }
+    });
+    await();
+  }
+
+  @Test
+  public void testPublisherBatchDelay() {
+    int num = 5;
+    int n = 2;
+    AtomicInteger count = new AtomicInteger();
+    for (int i = 0; i < n; i++) {
+      eb.<String>consumer(ADDRESS1).handler(message -> {
+        if (count.incrementAndGet() == num * n) {
+          testComplete();
+        }
+      });
+    }
+    MessageProducer<String> publisher = eb.publisher(ADDRESS1, new DeliveryOptions().setBatchSize(100).setBatchDelay(10));
+    for (int i = 0; i < num; i++) {
+      publisher.write("msg" + i);
+    }
+    await();
+  }
+
+  @Test
+  public void testPublisherBatchWithInterceptor() {
+    AtomicInteger intercepted = new AtomicInteger();
+    eb.addInterceptor(sc -> {
+      intercepted.incrementAndGet();
+      sc.next();
+    });
+    AtomicInteger count = new AtomicInteger();
+    eb.<String>consumer(ADDRESS1).handler(message -> {
+      if (count.incrementAndGet() == 3) {
+        // The interceptor saw each message
+        assertEquals(3, intercepted.get());
+        testComplete();
+      }
+    });
+    MessageProducer<String> publisher = eb.publisher(ADDRESS1, new DeliveryOptions().setBatchSize(3));
+    for (int i = 0; i < 3; i++) {
+      publisher.write("msg" + i);
+    }
+    await();
+  }
+
+  @Test
+  public void testBatchOptions() {
+    assertIllegalArgumentException(() -> new DeliveryOptions().setBatchSize(0));
+    assertIllegalArgumentException(() -> new DeliveryOptions().setBatchDelay(-1));
+    DeliveryOptions options = new DeliveryOptions(new JsonObject().put("batchSize", 10).put("batchDelay", 5));
+    assertEquals(10, options.getBatchSize());
+    assertEquals(5, options.getBatchDelay());
+    options = new DeliveryOptions(options);
+    assertEquals(10, options.getBatchSize());
+    assertEquals(5, options.getBatchDelay());
+  }
+
+  @Test
+  public void testBatchHandler() {
+    List<List<String>> batches = new ArrayList<>();
+    eb.<String>consumer(ADDRESS1).batchHandler(3, 10000, batch -> {
+      assertTrue(Vertx.currentContext().isEventLoopContext());
+      List<String> bodies = new ArrayList<>();
+      batch.forEach(message -> bodies.add(message.body()));
+      batches.add(bodies);
+      if (batches.size() == 2) {
+        assertEquals(Arrays.asList("msg0", "msg1", "msg2"), batches.get(0));
+        assertEquals(Arrays.asList("msg3", "msg4", "msg5"), batches.get(1));
+        testComplete();
+      }
+    });
+    for (int i = 0; i < 6; i++) {
+      eb.send(ADDRESS1, "msg" + i);
+    }
+    await();
+  }
+
+  @Test
+  public void testBatchHandlerDelay() {
+    int num = 5;
+    List<String> received = new ArrayList<>();
+    eb.<String>consumer(ADDRESS1).batchHandler(100, 10, batch -> {
+      batch.forEach(message -> received.add(message.body()));
+      if (received.size() == num) {
+        for (int i = 0; i < num; i++) {
+          assertEquals("msg" + i, received.get(i));
+        }
+        testComplete();
+      }
+    });
+    for (int i = 0; i < num; i++) {
+      eb.send(ADDRESS1, "msg" + i);
+    }
+    await();
+  }
+
+  @Test
+  public void testBatchHandlerPauseResume() {
+    int num = 5;
+    List<String> received = new ArrayList<>();
+    MessageConsumer<String> consumer = eb.consumer(ADDRESS1);
+    consumer.batchHandler(2, 0, batch -> {
+      assertTrue(batch.size() <= 2);
+      batch.forEach(message -> received.add(message.body()));
+      if (received.size() == num) {
+        for (int i = 0; i < num; i++) {
+          assertEquals("msg" + i, received.get(i));
+        }
+        testComplete();
+      }
+    });
+    consumer.pause();
+    for (int i = 0; i < num; i++) {
+      eb.send(ADDRESS1, "msg" + i);
+    }
+    vertx.setTimer(100, id -> {
+      assertTrue(received.isEmpty());
+      consumer.resume();
+    });
+    await();
+  }
+
+  @Test
+  public void testBatchHandlerWithSender() {
+    int num = 10;
+    AtomicInteger count = new AtomicInteger();
+    eb.<String>consumer(ADDRESS1).batchHandler(4, 0, batch -> {
+      if (count.addAndGet(batch.size()) == num) {
+        testComplete();
+      }
+    });
+    MessageProducer<String> sender = eb.sender(ADDRESS1);
+    for (int i = 0; i < num; i++) {
+      sender.write("msg" + i);
+    }
+    await();
+  }
+
+  @Test
+  public void testBatchHandlerOptions() {
+    MessageConsumer<String> consumer = eb.consumer(ADDRESS1);
+    assertIllegalArgumentException(() -> consumer.batchHandler(0, 0, batch -> {}));
+    assertIllegalArgumentException(() -> consumer.batchHandler(1, -1, batch -> {}));
+    assertFalse(consumer.isRegistered());
+    consumer.batchHandler(1, 0, batch -> {});
+    assertTrue(consumer.isRegistered());
+    consumer.batchHandler(1, 0, null);
+    assertFalse(consumer.isRegistered());
+  }
+
+  @Test
+  public void testPublishReadOnlyBody() {
+    JsonObject body = new JsonObject().put("foo", "bar").readOnlyCopy();
+    int numConsumers = 2;
+    AtomicInteger received = new AtomicInteger();
+    for (int i = 0; i < numConsumers; i++) {
+      eb.<JsonObject>consumer(ADDRESS1).handler(msg -> {
+        assertSame(body, msg.body());
+        if (received.incrementAndGet() == numConsumers) {
+          testComplete();
+        }
+      });
+    }
+    eb.publish(ADDRESS1, body);
+    await();
+  }
+
+  @Test
+  public void testSendImmutableBody() {
+    JsonObject body = new JsonObject().put("foo", "bar");
+    eb.<JsonObject>consumer(ADDRESS1).handler(msg -> {
+      assertSame(body, msg.body());
+      msg.reply(msg.body(), new DeliveryOptions().setImmutableBody(true));
+    });
+    eb.<JsonObject>send(ADDRESS1, body, new DeliveryOptions().setImmutableBody(true), onSuccess(reply -> {
+      assertSame(body, reply.body());
+      testComplete();
+    }));
+    await();
+  }
+
+  @Test
+  public void testSendMutableBodyIsCopied() {
+    JsonObject body = new JsonObject().put("foo", "bar");
+    eb.<JsonObject>consumer(ADDRESS1).handler(msg -> {
+      assertNotSame(body, msg.body());
+      assertEquals(body, msg.body());
+      testComplete();
+    });
+    eb.send(ADDRESS1, body);
+    await();
+  }
+
+  @Test
+  public void testSameEventLoopHandlerSelection() throws Exception {
+    restartVertx(new VertxOptions().setHandlerSelectionPolicy(HandlerSelectionPolicy.SAME_EVENT_LOOP));
+    int numConsumers = 4;
+    int num = 20;
+    Context[] contexts = new Context[numConsumers];
+    CountDownLatch latch = new CountDownLatch(numConsumers);
+    AtomicInteger received = new AtomicInteger();
+    for (int i = 0; i < numConsumers; i++) {
+      contexts[i] = vertx.getOrCreateContext();
+      contexts[i].runOnContext(v -> {
+        eb.<String>consumer(ADDRESS1).handler(msg -> {
+          // The handler runs on the event loop of the sender
+          assertEquals(msg.body(), Thread.currentThread().getName());
+          if (received.incrementAndGet() == num * numConsumers) {
+            testComplete();
+          }
+        }).completionHandler(onSuccess(v2 -> latch.countDown()));
+      });
+    }
+    awaitLatch(latch);
+    for (Context context : contexts) {
+      context.runOnContext(v -> {
+        for (int i = 0; i < num; i++) {
+          eb.send(ADDRESS1, Thread.currentThread().getName());
+        }
+      });
+    }
+    await();
+  }
+
+  @Test
+  public void testSameEventLoopHandlerSelectionRoundRobin() throws Exception {
+    restartVertx(new VertxOptions().setHandlerSelectionPolicy(HandlerSelectionPolicy.SAME_EVENT_LOOP));
+    int num = 10;
+    Context context = vertx.getOrCreateContext();
+    CountDownLatch latch = new CountDownLatch(2);
+    AtomicInteger[] received = { new AtomicInteger(), new AtomicInteger() };
+    context.runOnContext(v -> {
+      for (AtomicInteger count : received) {
+        eb.<String>consumer(ADDRESS1).handler(msg -> {
+          count.incrementAndGet();
+          if (received[0].get() + received[1].get() == num) {
+            // The handlers of the event loop are chosen in turn
+            assertEquals(num / 2, received[0].get());
+            assertEquals(num / 2, received[1].get());
+            testComplete();
+          }
+        }).completionHandler(onSuccess(v2 -> latch.countDown()));
+      }
+    });
+    awaitLatch(latch);
+    context.runOnContext(v -> {
+      for (int i = 0; i < num; i++) {
+        eb.send(ADDRESS1, "msg" + i);
+      }
+    });
+    await();
+  }
+
+  @Test
+  public void testLeastPendingHandlerSelection() throws Exception {
+    restartVertx(new VertxOptions().setHandlerSelectionPolicy(HandlerSelectionPolicy.LEAST_PENDING));
+    int num = 10;
+    MessageConsumer<String> paused = eb.<String>consumer(ADDRESS1).handler(msg -> fail("Paused consumer"));
+    paused.pause();
+    for (int i = 0; i < 100; i++) {
+      eb.send(ADDRESS1, "buffered" + i);
+    }
+    vertx.setTimer(200, id -> {
+      // The paused consumer buffers 100 messages, all the next messages go to the other consumer
+      AtomicInteger received = new AtomicInteger();
+      eb.<String>consumer(ADDRESS1).handler(msg -> {
+        if (received.incrementAndGet() == num) {
+          testComplete();
+        }
+      });
+      for (int i = 0; i < num; i++) {
+        eb.send(ADDRESS1, "msg" + i);
+      }
+    });
+    await();
+  }
+
   @Test
   public void testPump() {
     String str = TestUtils.randomUnicodeString(100);
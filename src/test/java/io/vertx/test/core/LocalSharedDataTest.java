@@ -131,6 +131,24 @@ public class LocalSharedDataTest extends VertxTestBase {
     assertNotSame(arr, otherArr); // Should be copied
   }
 
+  @Test
+  public void testMapReadOnlyValues() {
+    LocalMap<String, Object> map = sharedData.getLocalMap("foo");
+    JsonObject obj = new JsonObject().put("foo", "bar").readOnlyCopy();
+    JsonArray arr = new JsonArray().add("foo").readOnlyCopy();
+    Buffer buff = TestUtils.randomBuffer(100).readOnlyCopy();
+    map.put("obj", obj);
+    map.put("arr", arr);
+    map.put("buff", buff);
+    // Read-only values are not copied
+    assertSame(obj, map.get("obj"));
+    assertSame(arr, map.get("arr"));
+    assertSame(buff, map.get("buff"));
+    JsonObject mutable = new JsonObject().put("foo", "bar");
+    map.put("mutable", mutable);
+    assertNotSame(mutable, map.get("mutable"));
+  }
+
   @Test
   public void testKeys() {
     LocalMap<String, String> map = sharedData.getLocalMap("foo");
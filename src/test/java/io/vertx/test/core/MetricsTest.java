@@ -16,8 +16,10 @@
 
 package io.vertx.test.core;
 
+import io.vertx.core.Context;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.datagram.DatagramSocket;
 import io.vertx.core.eventbus.DeliveryOptions;
@@ -30,6 +32,7 @@ import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.ServerWebSocket;
 import io.vertx.core.metrics.MetricsOptions;
+import io.vertx.core.metrics.impl.HistogramPoolMetrics;
 import io.vertx.core.net.NetSocket;
 import io.vertx.test.fakemetrics.FakeDatagramSocketMetrics;
 import io.vertx.test.fakemetrics.FakeEventBusMetrics;
@@ -55,6 +58,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -149,6 +153,27 @@ public class MetricsTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testSubscriptionCacheInCluster() {
+    startNodes(2, getOptions().setClusterSubscriptionCacheSize(16));
+    FakeEventBusMetrics eventBusMetrics = FakeMetricsBase.getMetrics(vertices[0].eventBus());
+    int num = 5;
+    AtomicInteger count = new AtomicInteger();
+    MessageConsumer<Object> consumer = vertices[1].eventBus().consumer(ADDRESS1, msg -> {
+      if (count.incrementAndGet() == num) {
+        // The first lookup fills the cache
+        assertEquals(num, eventBusMetrics.getSubscriptionCacheMisses() + eventBusMetrics.getSubscriptionCacheHits());
+        assertTrue(eventBusMetrics.getSubscriptionCacheMisses() >= 1);
+        assertTrue(eventBusMetrics.getSubscriptionCacheHits() >= 1);
+        testComplete();
+      } else {
+        vertices[0].eventBus().send(ADDRESS1, "msg");
+      }
+    });
+    consumer.completionHandler(onSuccess(v -> vertices[0].eventBus().send(ADDRESS1, "msg")));
+    await();
+  }
+
   @Test
   public void testReceiveSentMessageFromSelf() {
     testReceiveMessageSent(vertx, vertx, true, 1);
@@ -650,6 +675,66 @@ public class MetricsTest extends VertxTestBase {
     });
   }
 
+  @Test
+  public void testEventLoopPoolMetrics() throws Exception {
+    FakeVertxMetrics metrics = FakeMetricsBase.getMetrics(vertx);
+    Context ctx = vertx.getOrCreateContext();
+    AtomicReference<String> threadName = new AtomicReference<>();
+    CountDownLatch latch = new CountDownLatch(1);
+    ctx.runOnContext(v -> {
+      threadName.set(Thread.currentThread().getName());
+      try {
+        Thread.sleep(10);
+      } catch (InterruptedException e) {
+        fail(e);
+      }
+      latch.countDown();
+    });
+    awaitLatch(latch);
+    HistogramPoolMetrics poolMetrics = metrics.getPoolMetrics(threadName.get());
+    assertNotNull(poolMetrics);
+    assertEquals("event-loop", poolMetrics.getPoolType());
+    assertEquals(1, poolMetrics.getMaxPoolSize());
+    waitUntil(() -> poolMetrics.executionTime().getMax() >= TimeUnit.MILLISECONDS.toNanos(10));
+    assertTrue(poolMetrics.queueDelay().getCount() > 0);
+  }
+
+  @Test
+  public void testWorkerPoolMetrics() throws Exception {
+    FakeVertxMetrics metrics = FakeMetricsBase.getMetrics(vertx);
+    HistogramPoolMetrics poolMetrics = metrics.getPoolMetrics("vert.x-worker-thread");
+    assertNotNull(poolMetrics);
+    assertEquals("worker", poolMetrics.getPoolType());
+    long count = poolMetrics.executionTime().getCount();
+    int num = 10;
+    waitFor(num);
+    for (int i = 0; i < num; i++) {
+      vertx.executeBlocking(fut -> fut.complete(), false, ar -> complete());
+    }
+    await();
+    waitUntil(() -> poolMetrics.executionTime().getCount() >= count + num);
+    assertTrue(poolMetrics.queueDelay().getCount() >= count + num);
+    waitUntil(() -> poolMetrics.getInUse() == 0 && poolMetrics.getQueueSize() == 0);
+  }
+
+  @Test
+  public void testNamedWorkerPoolMetrics() throws Exception {
+    FakeVertxMetrics metrics = FakeMetricsBase.getMetrics(vertx);
+    String poolName = TestUtils.randomAlphaString(10);
+    WorkerExecutor worker = vertx.createSharedWorkerExecutor(poolName, 2);
+    HistogramPoolMetrics poolMetrics = metrics.getPoolMetrics(poolName);
+    assertNotNull(poolMetrics);
+    assertEquals("worker", poolMetrics.getPoolType());
+    assertEquals(2, poolMetrics.getMaxPoolSize());
+    worker.executeBlocking(fut -> fut.complete(), ar -> {
+      assertTrue(ar.succeeded());
+      testComplete();
+    });
+    await();
+    waitUntil(() -> poolMetrics.executionTime().getCount() == 1);
+    worker.close();
+  }
+
   private void testDatagram(String host, Consumer<PacketMetric> checker) throws Exception {
     DatagramSocket peer1 = vertx.createDatagramSocket();
     DatagramSocket peer2 = vertx.createDatagramSocket();
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.test.core;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Context;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.WorkerExecutor;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class NamedWorkerPoolTest extends VertxTestBase {
+
+  @Test
+  public void testThread() {
+    String poolName = TestUtils.randomAlphaString(10);
+    WorkerExecutor worker = vertx.createSharedWorkerExecutor(poolName);
+    vertx.runOnContext(v -> {
+      Context ctx = vertx.getOrCreateContext();
+      worker.executeBlocking(fut -> {
+        assertFalse(Context.isOnEventLoopThread());
+        assertTrue(Thread.currentThread().getName().startsWith(poolName + "-"));
+        fut.complete("the-result");
+      }, ar -> {
+        assertTrue(ar.succeeded());
+        assertEquals("the-result", ar.result());
+        assertSame(ctx, vertx.getOrCreateContext());
+        assertTrue(Context.isOnEventLoopThread());
+        testComplete();
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testOrdered() {
+    int num = 100;
+    WorkerExecutor worker = vertx.createSharedWorkerExecutor(TestUtils.randomAlphaString(10), 4);
+    AtomicInteger expected = new AtomicInteger();
+    AtomicInteger concurrency = new AtomicInteger();
+    vertx.runOnContext(v -> {
+      for (int i = 0; i < num; i++) {
+        int val = i;
+        worker.executeBlocking(fut -> {
+          assertEquals(1, concurrency.incrementAndGet());
+          assertEquals(val, expected.getAndIncrement());
+          concurrency.decrementAndGet();
+          fut.complete();
+        }, true, ar -> {
+          if (val == num - 1) {
+            assertEquals(num, expected.get());
+            testComplete();
+          }
+        });
+      }
+    });
+    await();
+  }
+
+  @Test
+  public void testUnordered() throws Exception {
+    int num = 4;
+    WorkerExecutor worker = vertx.createSharedWorkerExecutor(TestUtils.randomAlphaString(10), num);
+    CountDownLatch latch = new CountDownLatch(num);
+    Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+    waitFor(num);
+    vertx.runOnContext(v -> {
+      for (int i = 0; i < num; i++) {
+        worker.executeBlocking(fut -> {
+          threads.add(Thread.currentThread());
+          latch.countDown();
+          try {
+            // All the tasks must run concurrently to reach the latch
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+          } catch (InterruptedException e) {
+            fail(e);
+          }
+          fut.complete();
+        }, false, ar -> complete());
+      }
+    });
+    await();
+    assertEquals(num, threads.size());
+  }
+
+  @Test
+  public void testPoolSize() throws Exception {
+    int poolSize = 3;
+    WorkerExecutor worker = vertx.createSharedWorkerExecutor(TestUtils.randomAlphaString(10), poolSize);
+    Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+    int num = poolSize * 10;
+    waitFor(num);
+    vertx.runOnContext(v -> {
+      for (int i = 0; i < num; i++) {
+        worker.executeBlocking(fut -> {
+          threads.add(Thread.currentThread());
+          fut.complete();
+        }, false, ar -> complete());
+      }
+    });
+    await();
+    assertTrue(threads.size() <= poolSize);
+  }
+
+  @Test
+  public void testDefaultPoolSize() throws Exception {
+    int poolSize = 2;
+    Vertx vertx = Vertx.vertx(new VertxOptions().setWorkerPoolSize(poolSize));
+    try {
+      // The configured worker pool size is the default size of the shared pools
+      WorkerExecutor worker = vertx.createSharedWorkerExecutor(TestUtils.randomAlphaString(10));
+      Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+      int num = poolSize * 10;
+      CountDownLatch latch = new CountDownLatch(num);
+      for (int i = 0; i < num; i++) {
+        worker.executeBlocking(fut -> {
+          threads.add(Thread.currentThread());
+          fut.complete();
+        }, false, ar -> latch.countDown());
+      }
+      awaitLatch(latch);
+      assertTrue(threads.size() <= poolSize);
+    } finally {
+      CountDownLatch closeLatch = new CountDownLatch(1);
+      vertx.close(ar -> closeLatch.countDown());
+      awaitLatch(closeLatch);
+    }
+  }
+
+  @Test
+  public void testSharePool() {
+    String poolName = TestUtils.randomAlphaString(10);
+    WorkerExecutor worker1 = vertx.createSharedWorkerExecutor(poolName, 1);
+    WorkerExecutor worker2 = vertx.createSharedWorkerExecutor(poolName, 1);
+    AtomicReference<Thread> thread = new AtomicReference<>();
+    worker1.executeBlocking(fut -> {
+      thread.set(Thread.currentThread());
+      fut.complete();
+    }, ar -> {
+      assertTrue(ar.succeeded());
+      worker2.executeBlocking(fut -> {
+        // The pool has a single thread
+        assertSame(thread.get(), Thread.currentThread());
+        fut.complete();
+      }, ar2 -> {
+        assertTrue(ar2.succeeded());
+        testComplete();
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testCloseExecutor() {
+    String poolName = TestUtils.randomAlphaString(10);
+    WorkerExecutor worker1 = vertx.createSharedWorkerExecutor(poolName);
+    WorkerExecutor worker2 = vertx.createSharedWorkerExecutor(poolName);
+    worker1.close();
+    try {
+      worker1.executeBlocking(fut -> fut.complete(), ar -> {
+      });
+      fail("Should throw exception");
+    } catch (IllegalStateException e) {
+      // OK
+    }
+    // The pool is still used by worker2
+    worker2.executeBlocking(fut -> {
+      assertTrue(Thread.currentThread().getName().startsWith(poolName + "-"));
+      fut.complete();
+    }, ar -> {
+      assertTrue(ar.succeeded());
+      worker2.close();
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    try {
+      vertx.createSharedWorkerExecutor(null);
+      fail("Should throw exception");
+    } catch (NullPointerException e) {
+      // OK
+    }
+    try {
+      vertx.createSharedWorkerExecutor(TestUtils.randomAlphaString(10), 0);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+    try {
+      vertx.createSharedWorkerExecutor(TestUtils.randomAlphaString(10), 1, 0);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+  }
+
+  @Test
+  public void testDeployUsingNamedPool() throws Exception {
+    String poolName = TestUtils.randomAlphaString(10);
+    AtomicReference<Thread> thread = new AtomicReference<>();
+    AtomicReference<String> deploymentID = new AtomicReference<>();
+    vertx.deployVerticle(new AbstractVerticle() {
+      @Override
+      public void start() throws Exception {
+        vertx.runOnContext(v -> {
+          vertx.executeBlocking(fut -> {
+            thread.set(Thread.currentThread());
+            assertTrue(Thread.currentThread().getName().startsWith(poolName + "-"));
+            fut.complete();
+          }, ar -> {
+            assertTrue(ar.succeeded());
+            testComplete();
+          });
+        });
+      }
+    }, new DeploymentOptions().setWorkerPoolName(poolName).setWorkerPoolSize(1), onSuccess(deploymentID::set));
+    await();
+    waitUntil(() -> deploymentID.get() != null);
+    CountDownLatch undeployed = new CountDownLatch(1);
+    vertx.undeploy(deploymentID.get(), onSuccess(v -> undeployed.countDown()));
+    awaitLatch(undeployed);
+    // The deployment was the only user of the pool, undeploying it closes the pool
+    waitUntil(() -> thread.get().getState() == Thread.State.TERMINATED);
+  }
+
+  @Test
+  public void testDeployWorkerUsingNamedPool() throws Exception {
+    String poolName = TestUtils.randomAlphaString(10);
+    vertx.deployVerticle(new AbstractVerticle() {
+      @Override
+      public void start() throws Exception {
+        assertTrue(Thread.currentThread().getName().startsWith(poolName + "-"));
+        testComplete();
+      }
+    }, new DeploymentOptions().setWorker(true).setWorkerPoolName(poolName));
+    await();
+  }
+
+  @Test
+  public void testCloseVertxClosesPools() throws Exception {
+    Vertx vertx = Vertx.vertx();
+    WorkerExecutor worker = vertx.createSharedWorkerExecutor(TestUtils.randomAlphaString(10));
+    AtomicReference<Thread> thread = new AtomicReference<>();
+    CountDownLatch latch = new CountDownLatch(1);
+    worker.executeBlocking(fut -> {
+      thread.set(Thread.currentThread());
+      fut.complete();
+    }, ar -> latch.countDown());
+    awaitLatch(latch);
+    CountDownLatch closeLatch = new CountDownLatch(1);
+    vertx.close(ar -> closeLatch.countDown());
+    awaitLatch(closeLatch);
+    waitUntil(() -> thread.get().getState() == Thread.State.TERMINATED);
+  }
+}
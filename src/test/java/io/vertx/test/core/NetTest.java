@@ -106,6 +106,18 @@ public class NetTest extends VertxTestBase {
     assertEquals(options, options.setReuseAddress(false));
     assertFalse(options.isReuseAddress());
 
+    assertFalse(options.isReusePort());
+    assertEquals(options, options.setReusePort(true));
+    assertTrue(options.isReusePort());
+
+    assertFalse(options.isTcpFastOpen());
+    assertEquals(options, options.setTcpFastOpen(true));
+    assertTrue(options.isTcpFastOpen());
+
+    assertFalse(options.isTcpCork());
+    assertEquals(options, options.setTcpCork(true));
+    assertTrue(options.isTcpCork());
+
     assertEquals(NetworkOptions.DEFAULT_TRAFFIC_CLASS, options.getTrafficClass());
     rand = 23;
     assertEquals(options, options.setTrafficClass(rand));
@@ -200,6 +212,18 @@ public class NetTest extends VertxTestBase {
     assertEquals(options, options.setReuseAddress(false));
     assertFalse(options.isReuseAddress());
 
+    assertFalse(options.isReusePort());
+    assertEquals(options, options.setReusePort(true));
+    assertTrue(options.isReusePort());
+
+    assertFalse(options.isTcpFastOpen());
+    assertEquals(options, options.setTcpFastOpen(true));
+    assertTrue(options.isTcpFastOpen());
+
+    assertFalse(options.isTcpCork());
+    assertEquals(options, options.setTcpCork(true));
+    assertTrue(options.isTcpCork());
+
     assertEquals(NetworkOptions.DEFAULT_TRAFFIC_CLASS, options.getTrafficClass());
     rand = 23;
     assertEquals(options, options.setTrafficClass(rand));
@@ -270,6 +294,11 @@ public class NetTest extends VertxTestBase {
     assertTrue(options.getEnabledCipherSuites().contains("foo"));
     assertTrue(options.getEnabledCipherSuites().contains("bar"));
 
+    assertEquals(EventLoopBalancingPolicy.ROUND_ROBIN, options.getEventLoopBalancingPolicy());
+    assertEquals(options, options.setEventLoopBalancingPolicy(EventLoopBalancingPolicy.LEAST_CONNECTIONS));
+    assertEquals(EventLoopBalancingPolicy.LEAST_CONNECTIONS, options.getEventLoopBalancingPolicy());
+    assertNullPointerException(() -> options.setEventLoopBalancingPolicy(null));
+
     testComplete();
   }
 
@@ -483,6 +512,7 @@ public class NetTest extends VertxTestBase {
     int port = 1234;
     String host = TestUtils.randomAlphaString(100);
     int acceptBacklog = TestUtils.randomPortInt();
+    EventLoopBalancingPolicy eventLoopBalancingPolicy = EventLoopBalancingPolicy.LEAST_LATENCY;
     options.setSendBufferSize(sendBufferSize);
     options.setReceiveBufferSize(receiverBufferSize);
     options.setReuseAddress(reuseAddress);
@@ -501,6 +531,7 @@ public class NetTest extends VertxTestBase {
     options.setPort(port);
     options.setHost(host);
     options.setAcceptBacklog(acceptBacklog);
+    options.setEventLoopBalancingPolicy(eventLoopBalancingPolicy);
     NetServerOptions copy = new NetServerOptions(options);
     assertEquals(sendBufferSize, copy.getSendBufferSize());
     assertEquals(receiverBufferSize, copy.getReceiveBufferSize());
@@ -525,6 +556,7 @@ public class NetTest extends VertxTestBase {
     assertEquals(port, copy.getPort());
     assertEquals(host, copy.getHost());
     assertEquals(acceptBacklog, copy.getAcceptBacklog());
+    assertEquals(eventLoopBalancingPolicy, copy.getEventLoopBalancingPolicy());
   }
 
   @Test
@@ -548,6 +580,7 @@ public class NetTest extends VertxTestBase {
     assertEquals(def.getSoLinger(), json.getSoLinger());
     assertEquals(def.isUsePooledBuffers(), json.isUsePooledBuffers());
     assertEquals(def.isSsl(), json.isSsl());
+    assertEquals(def.getEventLoopBalancingPolicy(), json.getEventLoopBalancingPolicy());
   }
 
   @Test
@@ -596,7 +629,8 @@ public class NetTest extends VertxTestBase {
       .put("trustStoreOptions", new JsonObject().put("password", tsPassword).put("path", tsPath))
       .put("port", port)
       .put("host", host)
-      .put("acceptBacklog", acceptBacklog);
+      .put("acceptBacklog", acceptBacklog)
+      .put("eventLoopBalancingPolicy", "LEAST_LATENCY");
 
     NetServerOptions options = new NetServerOptions(json);
     assertEquals(sendBufferSize, options.getSendBufferSize());
@@ -622,6 +656,7 @@ public class NetTest extends VertxTestBase {
     assertEquals(port, options.getPort());
     assertEquals(host, options.getHost());
     assertEquals(acceptBacklog, options.getAcceptBacklog());
+    assertEquals(EventLoopBalancingPolicy.LEAST_LATENCY, options.getEventLoopBalancingPolicy());
 
     // Test other keystore/truststore types
     json.remove("keyStoreOptions");
@@ -702,6 +737,39 @@ public class NetTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testPreferNativeTransport() throws Exception {
+    // Falls back to the JDK transport when the native transport is not available
+    Vertx nativeVertx = Vertx.vertx(new VertxOptions().setPreferNativeTransport(true));
+    try {
+      NetServer nativeServer = nativeVertx.createNetServer(new NetServerOptions().setPort(1234).setHost("localhost")
+          .setReusePort(true).setTcpFastOpen(true).setTcpCork(true));
+      NetClient nativeClient = nativeVertx.createNetClient(new NetClientOptions().setReusePort(true).setTcpCork(true));
+      Buffer sent = TestUtils.randomBuffer(100);
+      nativeServer.connectHandler(sock -> sock.handler(sock::write)).listen(ar -> {
+        assertTrue(ar.succeeded());
+        nativeClient.connect(1234, "localhost", ar2 -> {
+          assertTrue(ar2.succeeded());
+          NetSocket sock = ar2.result();
+          Buffer received = Buffer.buffer();
+          sock.handler(buff -> {
+            received.appendBuffer(buff);
+            if (received.length() == sent.length()) {
+              assertEquals(sent, received);
+              testComplete();
+            }
+          });
+          sock.write(sent);
+        });
+      });
+      await();
+    } finally {
+      CountDownLatch latch = new CountDownLatch(1);
+      nativeVertx.close(ar -> latch.countDown());
+      awaitLatch(latch);
+    }
+  }
+
   void startEchoServer(Handler<AsyncResult<NetServer>> listenHandler) {
     Handler<NetSocket> serverHandler = socket -> socket.handler(socket::write);
     server.connectHandler(serverHandler).listen(listenHandler);
@@ -1329,6 +1397,61 @@ public class NetTest extends VertxTestBase {
     testSharedServersRoundRobin();
   }
 
+  @Test
+  public void testSharedServersLeastConnections() throws Exception {
+    int numServers = 2;
+    int numConnections = numServers * 2;
+    List<String> serverThreads = Collections.synchronizedList(new ArrayList<>());
+    AtomicInteger closed = new AtomicInteger();
+    CountDownLatch latchListen = new CountDownLatch(numServers);
+    for (int i = 0; i < numServers; i++) {
+      NetServer theServer = vertx.createNetServer(new NetServerOptions().setHost("localhost").setPort(1234)
+          .setEventLoopBalancingPolicy(EventLoopBalancingPolicy.LEAST_CONNECTIONS));
+      theServer.connectHandler(sock -> {
+        serverThreads.add(Thread.currentThread().getName());
+        sock.closeHandler(v -> closed.incrementAndGet());
+      }).listen(onSuccess(s -> latchListen.countDown()));
+    }
+    awaitLatch(latchListen);
+
+    // Connect one at a time so each connection is counted before the next one is accepted
+    List<NetSocket> sockets = new ArrayList<>();
+    for (int i = 0; i < numConnections; i++) {
+      sockets.add(connect());
+      int expected = i + 1;
+      waitUntil(() -> serverThreads.size() == expected);
+    }
+
+    // Close the connections of the first event loop, the next connections must be balanced to it
+    String thread = serverThreads.get(0);
+    int toClose = 0;
+    for (int i = 0; i < numConnections; i++) {
+      if (serverThreads.get(i).equals(thread)) {
+        sockets.get(i).close();
+        toClose++;
+      }
+    }
+    int expectedClosed = toClose;
+    waitUntil(() -> closed.get() == expectedClosed);
+    for (int i = 0; i < toClose; i++) {
+      connect();
+      int expected = numConnections + i + 1;
+      waitUntil(() -> serverThreads.size() == expected);
+      assertEquals(thread, serverThreads.get(expected - 1));
+    }
+  }
+
+  private NetSocket connect() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    AtomicReference<NetSocket> socket = new AtomicReference<>();
+    client.connect(1234, "localhost", onSuccess(so -> {
+      socket.set(so);
+      latch.countDown();
+    }));
+    awaitLatch(latch);
+    return socket.get();
+  }
+
   @Test
   // This tests using NetSocket.writeHandlerID (on the server side)
   // Send some data and make sure it is fanned out to all connections
@@ -20,9 +20,11 @@ import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Handler;
 import io.vertx.core.TimeoutStream;
 import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
 import io.vertx.core.streams.ReadStream;
 import org.junit.Test;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -294,6 +296,60 @@ public class TimerTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testTimerLongerThanWheelRotation() throws Exception {
+    // One rotation of the wheel covers 8 ms
+    Vertx wheelVertx = Vertx.vertx(new VertxOptions().setTimerWheelTick(2).setTimerWheelSize(4));
+    try {
+      waitFor(2);
+      long start = System.currentTimeMillis();
+      AtomicInteger count = new AtomicInteger();
+      wheelVertx.setPeriodic(5, id -> {
+        if (count.incrementAndGet() == 10) {
+          assertTrue(System.currentTimeMillis() - start >= 50);
+          wheelVertx.cancelTimer(id);
+          complete();
+        }
+      });
+      wheelVertx.setTimer(100, id -> {
+        assertTrue(System.currentTimeMillis() - start >= 100);
+        complete();
+      });
+      await();
+    } finally {
+      CountDownLatch latch = new CountDownLatch(1);
+      wheelVertx.close(ar -> latch.countDown());
+      awaitLatch(latch);
+    }
+  }
+
+  @Test
+  public void testTimerMaxDelay() throws Exception {
+    // The deadline must not overflow
+    long timerID = vertx.setTimer(Long.MAX_VALUE, id -> fail("Timer should not fire"));
+    long periodicID = vertx.setPeriodic(Long.MAX_VALUE, id -> fail("Timer should not fire"));
+    vertx.setTimer(100, id -> {
+      assertTrue(vertx.cancelTimer(timerID));
+      assertTrue(vertx.cancelTimer(periodicID));
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testCancelTimerFromAnotherThread() throws Exception {
+    vertx.runOnContext(v -> {
+      long id = vertx.setTimer(100, timerID -> fail("Timer should have been cancelled"));
+      vertx.executeBlocking(fut -> fut.complete(vertx.cancelTimer(id)), ar -> {
+        assertTrue(ar.succeeded());
+        assertTrue((Boolean) ar.result());
+        assertFalse(vertx.cancelTimer(id));
+        vertx.setTimer(200, timerID -> testComplete());
+      });
+    });
+    await();
+  }
+
   @Test
   public void testTimeoutStreamEndCallbackAsynchronously() {
     TimeoutStream stream = vertx.timerStream(200);
@@ -17,6 +17,7 @@
 package io.vertx.test.core;
 
 import io.vertx.core.VertxOptions;
+import io.vertx.core.eventbus.HandlerSelectionPolicy;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.metrics.MetricsOptions;
 import io.vertx.core.spi.cluster.ClusterManager;
@@ -198,6 +199,100 @@ public class VertxOptionsTest extends VertxTestBase {
     }
     assertEquals(options, options.setWarningExceptionTime(1000000000l));
     assertEquals(1000000000l, options.getWarningExceptionTime());
+
+    assertFalse(options.getPreferNativeTransport());
+    assertEquals(options, options.setPreferNativeTransport(true));
+    assertTrue(options.getPreferNativeTransport());
+
+    assertEquals(VertxOptions.DEFAULT_TIMER_WHEEL_TICK, options.getTimerWheelTick());
+    try {
+      options.setTimerWheelTick(0);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+    assertEquals(options, options.setTimerWheelTick(10));
+    assertEquals(10, options.getTimerWheelTick());
+
+    assertEquals(VertxOptions.DEFAULT_TIMER_WHEEL_SIZE, options.getTimerWheelSize());
+    try {
+      options.setTimerWheelSize(0);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+    assertEquals(options, options.setTimerWheelSize(1024));
+    assertEquals(1024, options.getTimerWheelSize());
+
+    assertEquals(VertxOptions.DEFAULT_WORKER_BATCH_SIZE, options.getWorkerBatchSize());
+    try {
+      options.setWorkerBatchSize(0);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+    assertEquals(options, options.setWorkerBatchSize(16));
+    assertEquals(16, options.getWorkerBatchSize());
+
+    assertEquals(VertxOptions.DEFAULT_BLOCKED_THREAD_SAMPLING_INTERVAL, options.getBlockedThreadSamplingInterval());
+    try {
+      options.setBlockedThreadSamplingInterval(-1);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+    assertEquals(options, options.setBlockedThreadSamplingInterval(10));
+    assertEquals(10, options.getBlockedThreadSamplingInterval());
+
+    assertEquals(VertxOptions.DEFAULT_CLUSTER_WRITE_LINGER_TIME, options.getClusterWriteLingerTime());
+    try {
+      options.setClusterWriteLingerTime(-1);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+    assertEquals(options, options.setClusterWriteLingerTime(5));
+    assertEquals(5, options.getClusterWriteLingerTime());
+
+    assertEquals(VertxOptions.DEFAULT_CLUSTER_WRITE_LINGER_BYTES, options.getClusterWriteLingerBytes());
+    try {
+      options.setClusterWriteLingerBytes(0);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+    assertEquals(options, options.setClusterWriteLingerBytes(1024));
+    assertEquals(1024, options.getClusterWriteLingerBytes());
+
+    assertEquals(VertxOptions.DEFAULT_CLUSTER_SYMBOL_TABLE_SIZE, options.getClusterSymbolTableSize());
+    try {
+      options.setClusterSymbolTableSize(-1);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+    assertEquals(options, options.setClusterSymbolTableSize(256));
+    assertEquals(256, options.getClusterSymbolTableSize());
+
+    assertEquals(VertxOptions.DEFAULT_CLUSTER_SUBSCRIPTION_CACHE_SIZE, options.getClusterSubscriptionCacheSize());
+    try {
+      options.setClusterSubscriptionCacheSize(-1);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+    assertEquals(options, options.setClusterSubscriptionCacheSize(1000));
+    assertEquals(1000, options.getClusterSubscriptionCacheSize());
+
+    assertEquals(VertxOptions.DEFAULT_CLUSTER_CONNECTION_CREDITS, options.getClusterConnectionCredits());
+    try {
+      options.setClusterConnectionCredits(-1);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+    assertEquals(options, options.setClusterConnectionCredits(1000));
+    assertEquals(1000, options.getClusterConnectionCredits());
   }
 
   @Test
@@ -222,6 +317,17 @@ public class VertxOptionsTest extends VertxTestBase {
     int quorumSize = 51214;
     String haGroup = TestUtils.randomAlphaString(100);
     long warningExceptionTime = TestUtils.randomPositiveLong();
+    long timerWheelTick = TestUtils.randomPositiveLong();
+    int timerWheelSize = 1 + TestUtils.randomPositiveInt() % 4096;
+    int workerBatchSize = TestUtils.randomPositiveInt();
+    long blockedThreadSamplingInterval = TestUtils.randomPositiveLong();
+    long clusterWriteLingerTime = TestUtils.randomPositiveLong();
+    int clusterWriteLingerBytes = TestUtils.randomPositiveInt();
+    int clusterSymbolTableSize = TestUtils.randomPositiveInt();
+    int clusterSubscriptionCacheSize = TestUtils.randomPositiveInt();
+    boolean clusterBinaryJson = TestUtils.randomBoolean();
+    int clusterConnectionCredits = TestUtils.randomPositiveInt();
+    HandlerSelectionPolicy handlerSelectionPolicy = HandlerSelectionPolicy.values()[TestUtils.randomPositiveInt() % HandlerSelectionPolicy.values().length];
     options.setClusterPort(clusterPort);
     options.setClusterPublicPort(clusterPublicPort);
     options.setEventLoopPoolSize(eventLoopPoolSize);
@@ -241,6 +347,17 @@ public class VertxOptionsTest extends VertxTestBase {
         new MetricsOptions().
             setEnabled(metricsEnabled));
     options.setWarningExceptionTime(warningExceptionTime);
+    options.setTimerWheelTick(timerWheelTick);
+    options.setTimerWheelSize(timerWheelSize);
+    options.setWorkerBatchSize(workerBatchSize);
+    options.setBlockedThreadSamplingInterval(blockedThreadSamplingInterval);
+    options.setClusterWriteLingerTime(clusterWriteLingerTime);
+    options.setClusterWriteLingerBytes(clusterWriteLingerBytes);
+    options.setClusterSymbolTableSize(clusterSymbolTableSize);
+    options.setClusterSubscriptionCacheSize(clusterSubscriptionCacheSize);
+    options.setClusterBinaryJson(clusterBinaryJson);
+    options.setHandlerSelectionPolicy(handlerSelectionPolicy);
+    options.setClusterConnectionCredits(clusterConnectionCredits);
     options = new VertxOptions(options);
     assertEquals(clusterPort, options.getClusterPort());
     assertEquals(clusterPublicPort, options.getClusterPublicPort());
@@ -261,6 +378,17 @@ public class VertxOptionsTest extends VertxTestBase {
     assertNotNull(metricsOptions);
     assertEquals(metricsEnabled, metricsOptions.isEnabled());
     assertEquals(warningExceptionTime, options.getWarningExceptionTime());
+    assertEquals(timerWheelTick, options.getTimerWheelTick());
+    assertEquals(timerWheelSize, options.getTimerWheelSize());
+    assertEquals(workerBatchSize, options.getWorkerBatchSize());
+    assertEquals(blockedThreadSamplingInterval, options.getBlockedThreadSamplingInterval());
+    assertEquals(clusterWriteLingerTime, options.getClusterWriteLingerTime());
+    assertEquals(clusterWriteLingerBytes, options.getClusterWriteLingerBytes());
+    assertEquals(clusterSymbolTableSize, options.getClusterSymbolTableSize());
+    assertEquals(clusterSubscriptionCacheSize, options.getClusterSubscriptionCacheSize());
+    assertEquals(clusterBinaryJson, options.isClusterBinaryJson());
+    assertEquals(handlerSelectionPolicy, options.getHandlerSelectionPolicy());
+    assertEquals(clusterConnectionCredits, options.getClusterConnectionCredits());
   }
 
   @Test
@@ -283,6 +411,18 @@ public class VertxOptionsTest extends VertxTestBase {
     assertEquals(def.getQuorumSize(), json.getQuorumSize());
     assertEquals(def.getHAGroup(), json.getHAGroup());
     assertEquals(def.getWarningExceptionTime(), json.getWarningExceptionTime());
+    assertEquals(def.getPreferNativeTransport(), json.getPreferNativeTransport());
+    assertEquals(def.getTimerWheelTick(), json.getTimerWheelTick());
+    assertEquals(def.getTimerWheelSize(), json.getTimerWheelSize());
+    assertEquals(def.getWorkerBatchSize(), json.getWorkerBatchSize());
+    assertEquals(def.getBlockedThreadSamplingInterval(), json.getBlockedThreadSamplingInterval());
+    assertEquals(def.getClusterWriteLingerTime(), json.getClusterWriteLingerTime());
+    assertEquals(def.getClusterWriteLingerBytes(), json.getClusterWriteLingerBytes());
+    assertEquals(def.getClusterSymbolTableSize(), json.getClusterSymbolTableSize());
+    assertEquals(def.getClusterSubscriptionCacheSize(), json.getClusterSubscriptionCacheSize());
+    assertEquals(def.isClusterBinaryJson(), json.isClusterBinaryJson());
+    assertEquals(def.getHandlerSelectionPolicy(), json.getHandlerSelectionPolicy());
+    assertEquals(def.getClusterConnectionCredits(), json.getClusterConnectionCredits());
   }
 
   @Test
@@ -321,6 +461,17 @@ public class VertxOptionsTest extends VertxTestBase {
     int maxWorkerExecuteTime = TestUtils.randomPositiveInt();
     int proxyOperationTimeout = TestUtils.randomPositiveInt();
     long warningExceptionTime = TestUtils.randomPositiveLong();
+    long timerWheelTick = TestUtils.randomPositiveLong();
+    int timerWheelSize = 1 + TestUtils.randomPositiveInt() % 4096;
+    int workerBatchSize = TestUtils.randomPositiveInt();
+    long blockedThreadSamplingInterval = TestUtils.randomPositiveLong();
+    long clusterWriteLingerTime = TestUtils.randomPositiveLong();
+    int clusterWriteLingerBytes = TestUtils.randomPositiveInt();
+    int clusterSymbolTableSize = TestUtils.randomPositiveInt();
+    int clusterSubscriptionCacheSize = TestUtils.randomPositiveInt();
+    boolean clusterBinaryJson = TestUtils.randomBoolean();
+    int clusterConnectionCredits = TestUtils.randomPositiveInt();
+    HandlerSelectionPolicy handlerSelectionPolicy = HandlerSelectionPolicy.values()[TestUtils.randomPositiveInt() % HandlerSelectionPolicy.values().length];
     Random rand = new Random();
     boolean haEnabled = rand.nextBoolean();
     int quorumSize = TestUtils.randomShort() + 1;
@@ -346,6 +497,17 @@ public class VertxOptionsTest extends VertxTestBase {
         put("quorumSize", quorumSize).
         put("haGroup", haGroup).
         put("warningExceptionTime", warningExceptionTime).
+        put("timerWheelTick", timerWheelTick).
+        put("timerWheelSize", timerWheelSize).
+        put("workerBatchSize", workerBatchSize).
+        put("blockedThreadSamplingInterval", blockedThreadSamplingInterval).
+        put("clusterWriteLingerTime", clusterWriteLingerTime).
+        put("clusterWriteLingerBytes", clusterWriteLingerBytes).
+        put("clusterSymbolTableSize", clusterSymbolTableSize).
+        put("clusterSubscriptionCacheSize", clusterSubscriptionCacheSize).
+        put("clusterBinaryJson", clusterBinaryJson).
+        put("handlerSelectionPolicy", handlerSelectionPolicy).
+        put("clusterConnectionCredits", clusterConnectionCredits).
         put("metricsOptions", new JsonObject().
             put("enabled", metricsEnabled).
             put("jmxEnabled", jmxEnabled).
@@ -370,5 +532,16 @@ public class VertxOptionsTest extends VertxTestBase {
     MetricsOptions metricsOptions = options.getMetricsOptions();
     assertEquals(metricsEnabled, metricsOptions.isEnabled());
     assertEquals(warningExceptionTime, options.getWarningExceptionTime());
+    assertEquals(timerWheelTick, options.getTimerWheelTick());
+    assertEquals(timerWheelSize, options.getTimerWheelSize());
+    assertEquals(workerBatchSize, options.getWorkerBatchSize());
+    assertEquals(blockedThreadSamplingInterval, options.getBlockedThreadSamplingInterval());
+    assertEquals(clusterWriteLingerTime, options.getClusterWriteLingerTime());
+    assertEquals(clusterWriteLingerBytes, options.getClusterWriteLingerBytes());
+    assertEquals(clusterSymbolTableSize, options.getClusterSymbolTableSize());
+    assertEquals(clusterSubscriptionCacheSize, options.getClusterSubscriptionCacheSize());
+    assertEquals(clusterBinaryJson, options.isClusterBinaryJson());
+    assertEquals(handlerSelectionPolicy, options.getHandlerSelectionPolicy());
+    assertEquals(clusterConnectionCredits, options.getClusterConnectionCredits());
   }
 }
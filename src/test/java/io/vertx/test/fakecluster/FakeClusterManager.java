@@ -41,12 +41,14 @@ public class FakeClusterManager implements ClusterManager {
   private static List<NodeListener> nodeListeners = new CopyOnWriteArrayList<>();
   private static ConcurrentMap<String, ConcurrentMap> asyncMaps = new ConcurrentHashMap<>();
   private static ConcurrentMap<String, ConcurrentMap> asyncMultiMaps = new ConcurrentHashMap<>();
+  private static ConcurrentMap<String, List<Handler>> asyncMultiMapChangeHandlers = new ConcurrentHashMap<>();
   private static ConcurrentMap<String, Map> syncMaps = new ConcurrentHashMap<>();
   private static ConcurrentMap<String, AsynchronousLock> locks = new ConcurrentHashMap<>();
   private static ConcurrentMap<String, AtomicLong> counters = new ConcurrentHashMap<>();
 
   private volatile String nodeID;
   private volatile NodeListener nodeListener;
+  private final List<Handler> changeHandlers = new CopyOnWriteArrayList<>();
   private volatile VertxInternal vertx;
 
   public void setVertx(Vertx vertx) {
@@ -96,7 +98,7 @@ public class FakeClusterManager implements ClusterManager {
       }
     }
     ConcurrentMap<K, ChoosableSet<V>> theMap = map;
-    vertx.runOnContext(v -> resultHandler.handle(Future.succeededFuture(new FakeAsyncMultiMap<>(theMap))));
+    vertx.runOnContext(v -> resultHandler.handle(Future.succeededFuture(new FakeAsyncMultiMap<>(name, theMap))));
   }
 
   @Override
@@ -182,6 +184,10 @@ public class FakeClusterManager implements ClusterManager {
         doRemoveNodeListener(nodeListener);
         nodeListener = null;
       }
+      for (List<Handler> handlers : asyncMultiMapChangeHandlers.values()) {
+        handlers.removeAll(changeHandlers);
+      }
+      changeHandlers.clear();
       doLeave(nodeID);
       this.nodeID = null;
     }
@@ -199,6 +205,7 @@ public class FakeClusterManager implements ClusterManager {
     nodeListeners.clear();
     asyncMaps.clear();
     asyncMultiMaps.clear();
+    asyncMultiMapChangeHandlers.clear();
     locks.clear();
     counters.clear();
     syncMaps.clear();
@@ -298,9 +305,11 @@ public class FakeClusterManager implements ClusterManager {
   private class FakeAsyncMultiMap<K, V> implements AsyncMultiMap<K, V> {
 
 
+    private final String name;
     private final ConcurrentMap<K, ChoosableSet<V>> map;
 
-    public FakeAsyncMultiMap(ConcurrentMap<K, ChoosableSet<V>> map) {
+    public FakeAsyncMultiMap(String name, ConcurrentMap<K, ChoosableSet<V>> map) {
+      this.name = name;
       this.map = map;
     }
 
@@ -316,6 +325,7 @@ public class FakeClusterManager implements ClusterManager {
           }
         }
         vals.add(v);
+        changed(k);
         fut.complete();
       }, completionHandler);
     }
@@ -342,6 +352,7 @@ public class FakeClusterManager implements ClusterManager {
               if (vals.isEmpty()) {
                 map.remove(k);
               }
+              changed(k);
               found = true;
             }
           }
@@ -367,8 +378,26 @@ public class FakeClusterManager implements ClusterManager {
             mapIter.remove();
           }
         }
+        changed(null);
         fut.complete();
       }, completionHandler);
     }
+
+    @Override
+    public boolean changeHandler(Handler<K> handler) {
+      List<Handler> handlers = asyncMultiMapChangeHandlers.computeIfAbsent(name, n -> new CopyOnWriteArrayList<>());
+      handlers.add(handler);
+      changeHandlers.add(handler);
+      return true;
+    }
+
+    private void changed(K k) {
+      List<Handler> handlers = asyncMultiMapChangeHandlers.get(name);
+      if (handlers != null) {
+        for (Handler handler : handlers) {
+          handler.handle(k);
+        }
+      }
+    }
   }
 }
@@ -39,6 +39,8 @@ public class FakeEventBusMetrics extends FakeMetricsBase implements EventBusMetr
   private final Map<String, AtomicInteger> decoded = new ConcurrentHashMap<>();
   private final List<String> replyFailureAddresses = Collections.synchronizedList(new ArrayList<>());
   private final List<ReplyFailure> replyFailures = Collections.synchronizedList(new ArrayList<>());
+  private final AtomicInteger subscriptionCacheHits = new AtomicInteger();
+  private final AtomicInteger subscriptionCacheMisses = new AtomicInteger();
 
   public FakeEventBusMetrics(EventBus eventBus) {
     super(eventBus);
@@ -72,6 +74,14 @@ public class FakeEventBusMetrics extends FakeMetricsBase implements EventBusMetr
     return replyFailures;
   }
 
+  public int getSubscriptionCacheHits() {
+    return subscriptionCacheHits.get();
+  }
+
+  public int getSubscriptionCacheMisses() {
+    return subscriptionCacheMisses.get();
+  }
+
   public int getEncodedBytes(String address) {
     AtomicInteger value = encoded.get(address);
     return value != null ? value.get() : 0;
@@ -143,6 +153,15 @@ public class FakeEventBusMetrics extends FakeMetricsBase implements EventBusMetr
     replyFailures.add(failure);
   }
 
+  @Override
+  public void subscriptionCacheLookup(String address, boolean hit) {
+    if (hit) {
+      subscriptionCacheHits.incrementAndGet();
+    } else {
+      subscriptionCacheMisses.incrementAndGet();
+    }
+  }
+
   public boolean isEnabled() {
     return true;
   }
@@ -25,6 +25,7 @@ import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.metrics.impl.HistogramPoolMetrics;
 import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetServer;
@@ -34,9 +35,12 @@ import io.vertx.core.spi.metrics.DatagramSocketMetrics;
 import io.vertx.core.spi.metrics.EventBusMetrics;
 import io.vertx.core.spi.metrics.HttpClientMetrics;
 import io.vertx.core.spi.metrics.HttpServerMetrics;
+import io.vertx.core.spi.metrics.PoolMetrics;
 import io.vertx.core.spi.metrics.TCPMetrics;
 import io.vertx.core.spi.metrics.VertxMetrics;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -46,6 +50,8 @@ public class FakeVertxMetrics extends FakeMetricsBase implements VertxMetrics {
 
   public static AtomicReference<EventBus> eventBus = new AtomicReference<>();
 
+  private final Map<String, HistogramPoolMetrics> poolMetrics = new ConcurrentHashMap<>();
+
   public FakeVertxMetrics(Vertx vertx) {
     super(vertx);
   }
@@ -139,6 +145,16 @@ public class FakeVertxMetrics extends FakeMetricsBase implements VertxMetrics {
     return new FakeDatagramSocketMetrics(socket);
   }
 
+  public PoolMetrics<?> createMetrics(Object pool, String poolType, String poolName, int maxPoolSize) {
+    HistogramPoolMetrics metrics = new HistogramPoolMetrics(poolType, poolName, maxPoolSize);
+    poolMetrics.put(poolName, metrics);
+    return metrics;
+  }
+
+  public HistogramPoolMetrics getPoolMetrics(String poolName) {
+    return poolMetrics.get(poolName);
+  }
+
   public boolean isEnabled() {
     throw new UnsupportedOperationException();
   }